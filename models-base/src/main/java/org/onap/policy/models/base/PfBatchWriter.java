@@ -0,0 +1,329 @@
+/*-
+ * ============LICENSE_START=======================================================
+ *  Copyright (C) 2026 Nordix Foundation.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.models.base;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import lombok.NonNull;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Writes records to the database in the background, so that callers do not wait for the database round-trip.
+ * Records are held in a bounded queue and are written in batches by a single thread, one transaction per batch. A
+ * batch is written as soon as it is full, or once its first record has waited for the flush interval. When the queue
+ * is full, callers wait up to the offer timeout for space, after which the record is rejected.
+ *
+ * <p>Stopping the writer writes every record that was accepted, including those from callers that were still
+ * offering records while the writer was being stopped.
+ *
+ * @param <T> type of record written
+ */
+public abstract class PfBatchWriter<T> {
+    private static final Logger LOGGER = LoggerFactory.getLogger(PfBatchWriter.class);
+
+    /**
+     * Maximum time, in milliseconds, that the writer thread waits before checking whether it should stop.
+     */
+    private static final long POLL_MS = 100;
+
+    /**
+     * Time, in nanoseconds, that {@link #stop()} waits between checks for offers that are still under way.
+     */
+    private static final long STOP_RETRY_NS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private final String name;
+    private final int maxBatchSize;
+    private final long flushIntervalMs;
+    private final long offerTimeoutMs;
+
+    private final BlockingQueue<T> queue;
+
+    /**
+     * Number of {@link #offer(Object)} calls that are under way. {@link #stop()} waits for these to finish before its
+     * final flush, so that no accepted record is left behind.
+     */
+    private final AtomicInteger offersInFlight = new AtomicInteger();
+
+    private final LongAdder writeCount = new LongAdder();
+    private final LongAdder rejectCount = new LongAdder();
+    private final LongAdder failCount = new LongAdder();
+
+    private volatile boolean running = false;
+    private Thread writerThread = null;
+
+    /**
+     * Constructs the object.
+     *
+     * @param name name of the writer, used for its thread and in log messages
+     * @param maxQueueSize maximum number of records waiting to be written
+     * @param maxBatchSize maximum number of records written in one transaction
+     * @param flushIntervalMs maximum time, in milliseconds, that a record waits for its batch to fill
+     * @param offerTimeoutMs maximum time, in milliseconds, that a caller waits for space in a full queue
+     */
+    protected PfBatchWriter(@NonNull String name, int maxQueueSize, int maxBatchSize, long flushIntervalMs,
+                    long offerTimeoutMs) {
+        if (maxQueueSize <= 0 || maxBatchSize <= 0 || flushIntervalMs < 0 || offerTimeoutMs < 0) {
+            throw new IllegalArgumentException("invalid parameters for " + name);
+        }
+
+        this.name = name;
+        this.maxBatchSize = maxBatchSize;
+        this.flushIntervalMs = flushIntervalMs;
+        this.offerTimeoutMs = offerTimeoutMs;
+        this.queue = new LinkedBlockingQueue<>(maxQueueSize);
+    }
+
+    /**
+     * Starts the background writer thread.
+     */
+    public synchronized void start() {
+        if (writerThread != null) {
+            return;
+        }
+
+        running = true;
+        writerThread = makeThread(this::run);
+        writerThread.start();
+    }
+
+    /**
+     * Stops the background writer thread, after all records that were accepted have been written.
+     *
+     * @throws InterruptedException if interrupted while waiting for the writer thread to finish
+     */
+    public synchronized void stop() throws InterruptedException {
+        if (writerThread == null) {
+            return;
+        }
+
+        running = false;
+
+        writerThread.join();
+        writerThread = null;
+
+        /*
+         * An offer that saw "running" before it was cleared may not have queued its record yet. Keep draining until
+         * no such offers remain, so that they are not blocked by a full queue, and then drain once more.
+         */
+        for (;;) {
+            var busy = (offersInFlight.get() > 0);
+            drain(new ArrayList<>(maxBatchSize));
+
+            if (!busy) {
+                break;
+            }
+
+            LockSupport.parkNanos(STOP_RETRY_NS);
+        }
+
+        LOGGER.info("{} stopped, {} records written, {} rejected, {} failed", name, writeCount.sum(),
+                        rejectCount.sum(), failCount.sum());
+    }
+
+    /**
+     * Queues a record to be written, waiting for space if the queue is full.
+     *
+     * @param rec record to be written
+     * @return {@code true} if the record was accepted, {@code false} if the writer is not running or no space became
+     *         available within the offer timeout
+     */
+    public boolean offer(@NonNull T rec) {
+        offersInFlight.incrementAndGet();
+
+        try {
+            if (running && queue.offer(rec, offerTimeoutMs, TimeUnit.MILLISECONDS)) {
+                return true;
+            }
+
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+
+        } finally {
+            offersInFlight.decrementAndGet();
+        }
+
+        rejectCount.increment();
+        LOGGER.debug("{} rejected a record", name);
+        return false;
+    }
+
+    /**
+     * Queues several records to be written. Each record is accepted or rejected individually.
+     *
+     * @param recs records to be written
+     * @return the number of records that were accepted
+     */
+    public int offerAll(@NonNull Collection<? extends T> recs) {
+        var accepted = 0;
+        for (T rec : recs) {
+            if (offer(rec)) {
+                ++accepted;
+            }
+        }
+        return accepted;
+    }
+
+    /**
+     * Gets the number of records waiting to be written.
+     *
+     * @return the number of records waiting to be written
+     */
+    public int getQueueSize() {
+        return queue.size();
+    }
+
+    /**
+     * Gets the number of records that have been written.
+     *
+     * @return the number of records that have been written
+     */
+    public long getWriteCount() {
+        return writeCount.sum();
+    }
+
+    /**
+     * Gets the number of records that were rejected, because the queue was full or the writer was not running.
+     *
+     * @return the number of records that were rejected
+     */
+    public long getRejectCount() {
+        return rejectCount.sum();
+    }
+
+    /**
+     * Gets the number of records that were discarded because the database write failed.
+     *
+     * @return the number of records that could not be written
+     */
+    public long getFailCount() {
+        return failCount.sum();
+    }
+
+    /**
+     * Writes a batch of records within a single transaction. The list is reused once this returns.
+     *
+     * @param batch records to be written
+     * @throws RuntimeException if the batch could not be written
+     */
+    protected abstract void write(List<T> batch);
+
+    /**
+     * Body of the writer thread.
+     */
+    private void run() {
+        List<T> batch = new ArrayList<>(maxBatchSize);
+
+        try {
+            while (running) {
+                var first = queue.poll(POLL_MS, TimeUnit.MILLISECONDS);
+                if (first != null) {
+                    batch.add(first);
+                    fill(batch);
+                    writeBatch(batch);
+                }
+            }
+
+        } catch (InterruptedException e) {
+            // the queue is no longer being drained, thus stop accepting records
+            LOGGER.warn("{} interrupted, no longer accepting records", name);
+            running = false;
+            Thread.currentThread().interrupt();
+        }
+
+        // write whatever was accepted before the writer was stopped
+        drain(batch);
+    }
+
+    /**
+     * Adds records to a batch until it is full or the flush interval, which starts when this is called, expires.
+     *
+     * @param batch batch to be filled
+     * @throws InterruptedException if the thread is interrupted while waiting for records
+     */
+    private void fill(List<T> batch) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(flushIntervalMs);
+
+        for (;;) {
+            queue.drainTo(batch, maxBatchSize - batch.size());
+
+            long remainingNs = deadline - System.nanoTime();
+            if (batch.size() >= maxBatchSize || remainingNs <= 0 || !running) {
+                return;
+            }
+
+            var next = queue.poll(Math.min(remainingNs, TimeUnit.MILLISECONDS.toNanos(POLL_MS)), TimeUnit.NANOSECONDS);
+            if (next != null) {
+                batch.add(next);
+            }
+        }
+    }
+
+    /**
+     * Writes the records in a batch, along with everything left in the queue, without waiting for more.
+     *
+     * @param batch batch, possibly containing records already
+     */
+    private void drain(List<T> batch) {
+        do {
+            queue.drainTo(batch, maxBatchSize - batch.size());
+            writeBatch(batch);
+        } while (!queue.isEmpty());
+    }
+
+    /**
+     * Writes a batch, if it isn't empty, and then clears it.
+     *
+     * @param batch records to be written
+     */
+    private void writeBatch(List<T> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        try {
+            write(batch);
+            writeCount.add(batch.size());
+            LOGGER.debug("{} wrote {} records", name, batch.size());
+
+        } catch (RuntimeException e) {
+            failCount.add(batch.size());
+            LOGGER.error("{} failed to write {} records", name, batch.size(), e);
+        }
+
+        batch.clear();
+    }
+
+    // these may be overridden by junit tests
+
+    protected Thread makeThread(Runnable runnable) {
+        var thread = new Thread(runnable, name);
+        thread.setDaemon(true);
+        return thread;
+    }
+}
@@ -0,0 +1,150 @@
+/*-
+ * ============LICENSE_START=======================================================
+ *  Copyright (C) 2026 Nordix Foundation.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.models.base;
+
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class PfBatchWriterTest {
+    private static final String NAME = "my-writer";
+
+    private MyWriter writer;
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        if (writer != null) {
+            writer.stop();
+        }
+    }
+
+    @Test
+    void testConstructor() {
+        assertThatThrownBy(() -> new MyWriter(null, 1, 1, 0)).isInstanceOf(NullPointerException.class);
+        assertThatIllegalArgumentException().isThrownBy(() -> new MyWriter(NAME, 0, 1, 0));
+        assertThatIllegalArgumentException().isThrownBy(() -> new MyWriter(NAME, 1, 0, 0));
+        assertThatIllegalArgumentException().isThrownBy(() -> new MyWriter(NAME, 1, 1, -1));
+    }
+
+    @Test
+    void testBatching() throws InterruptedException {
+        // the interval is long enough that only full batches are written while running
+        writer = new MyWriter(NAME, 100, 3, 600000);
+        writer.start();
+        writer.start();
+
+        assertEquals(7, writer.offerAll(List.of(1, 2, 3, 4, 5, 6, 7)));
+        waitForWrites(6);
+        assertEquals(List.of(List.of(1, 2, 3), List.of(4, 5, 6)), writer.getBatches());
+
+        // the partial batch is written on stop
+        writer.stop();
+        assertEquals(List.of(7), writer.getBatches().get(2));
+        assertEquals(7, writer.getWriteCount());
+        assertEquals(0, writer.getQueueSize());
+
+        // stopping again is harmless, and records are no longer accepted
+        writer.stop();
+        assertFalse(writer.offer(8));
+        assertEquals(1, writer.getRejectCount());
+    }
+
+    @Test
+    void testFlushInterval() {
+        writer = new MyWriter(NAME, 100, 100, 10);
+        writer.start();
+
+        assertTrue(writer.offer(1));
+        waitForWrites(1);
+    }
+
+    @Test
+    void testWriteFails() throws InterruptedException {
+        writer = new MyWriter(NAME, 100, 100, 0) {
+            @Override
+            protected void write(List<Integer> batch) {
+                throw new IllegalStateException("expected exception");
+            }
+        };
+        writer.start();
+
+        assertEquals(2, writer.offerAll(List.of(1, 2)));
+        writer.stop();
+
+        assertEquals(0, writer.getWriteCount());
+        assertEquals(2, writer.getFailCount());
+    }
+
+    @Test
+    void testInterrupted() throws InterruptedException {
+        List<Thread> threads = new ArrayList<>();
+        writer = new MyWriter(NAME, 100, 100, 0) {
+            @Override
+            protected Thread makeThread(Runnable runnable) {
+                var thread = super.makeThread(runnable);
+                threads.add(thread);
+                return thread;
+            }
+        };
+        writer.start();
+
+        threads.get(0).interrupt();
+        threads.get(0).join(TimeUnit.SECONDS.toMillis(10));
+        assertFalse(threads.get(0).isAlive());
+
+        // no longer draining, thus no longer accepting
+        assertFalse(writer.offer(1));
+    }
+
+    private void waitForWrites(long count) {
+        long deadline = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(10);
+        while (writer.getWriteCount() < count && System.currentTimeMillis() < deadline) {
+            Thread.onSpinWait();
+        }
+        assertEquals(count, writer.getWriteCount());
+    }
+
+    private static class MyWriter extends PfBatchWriter<Integer> {
+        private final List<List<Integer>> batches = Collections.synchronizedList(new ArrayList<>());
+
+        MyWriter(String name, int maxQueueSize, int maxBatchSize, long flushIntervalMs) {
+            super(name, maxQueueSize, maxBatchSize, flushIntervalMs, 0);
+        }
+
+        List<List<Integer>> getBatches() {
+            return batches;
+        }
+
+        @Override
+        protected void write(List<Integer> batch) {
+            batches.add(new ArrayList<>(batch));
+        }
+    }
+}
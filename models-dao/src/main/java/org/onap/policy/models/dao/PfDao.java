@@ -1,6 +1,6 @@
 /*-
  * ============LICENSE_START=======================================================
- *  Copyright (C) 2019-2021, 2024 Nordix Foundation.
+ *  Copyright (C) 2019-2021, 2024, 2026 Nordix Foundation.
  *  Modifications Copyright (C) 2021 AT&T Intellectual Property. All rights reserved.
  *  Modifications Copyright (C) 2022 Bell Canada. All rights reserved.
  * ================================================================================
@@ -49,6 +49,12 @@ public interface PfDao {
 
     String SELECT_FROM_TABLE = "SELECT c FROM __TABLE__ c";
 
+    String TIMESTAMP_TOKEN = "__TIMESTAMP__";
+
+    String SELECT_TIMESTAMP_FROM_TABLE = "SELECT __TIMESTAMP__ FROM __TABLE__ c";
+
+    String ORDER_BY_TIMESTAMP = " ORDER BY __TIMESTAMP__";
+
     String WHERE = " WHERE ";
     String AND = " AND ";
     String ORDER_BY = " ORDER BY c.";
@@ -185,6 +191,28 @@ public interface PfDao {
      */
     <T extends PfConcept> void deleteAll(Class<T> someClass);
 
+    /**
+     * Delete the objects of a given class that match the given filter, in chunks, oldest first. Each chunk is deleted
+     * with a single bulk statement, bounded by the time stamp of the last object of the chunk, thus a chunk may
+     * exceed the chunk size by the number of objects sharing that time stamp. The class must have a time stamp, as
+     * the time range filters require.
+     *
+     * <p>How the chunks map onto transactions depends on the implementation: {@link
+     * org.onap.policy.models.dao.impl.DefaultPfDao DefaultPfDao} deletes each chunk in its own transaction, so that
+     * purging a large time range does not hold locks on the whole range at once, whereas {@link
+     * org.onap.policy.models.dao.impl.ProxyDao ProxyDao} deletes every chunk within the caller's transaction, which
+     * only bounds the size of each statement. Being bulk deletes, they bypass the persistence context, so entities
+     * that are deleted while they are managed by the caller must not be used afterwards.
+     *
+     * @param <T>          the type of the objects to delete, a subclass of {@link PfConcept}
+     * @param someClass    the class of the objects to delete, a subclass of {@link PfConcept}
+     * @param filterParams filter parameters selecting the objects to delete, typically a time range
+     * @param chunkSize    the number of objects to delete with each statement
+     * @return the number of objects deleted
+     */
+    <T extends PfConcept> int deleteFiltered(Class<T> someClass, PfFilterParametersIntfc filterParams,
+        int chunkSize);
+
     /**
      * Get an object from the database, referred to by concept key.
      *
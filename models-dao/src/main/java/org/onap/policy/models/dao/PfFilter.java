@@ -1,6 +1,6 @@
 /*-
  * ============LICENSE_START=======================================================
- *  Copyright (C) 2021, 2023 Nordix Foundation.
+ *  Copyright (C) 2021, 2023, 2026 Nordix Foundation.
  *  Modifications Copyright (C) 2021 AT&T Intellectual Property. All rights reserved.
  * ================================================================================
  * Licensed under the Apache License, Version 2.0 (the "License");
@@ -21,6 +21,7 @@
 
 package org.onap.policy.models.dao;
 
+import jakarta.persistence.Query;
 import jakarta.persistence.TypedQuery;
 import java.sql.Timestamp;
 import java.util.Map;
@@ -37,6 +38,11 @@ public abstract class PfFilter {
     private static final String AND        = " AND ";
     private static final String ORDER      = " ORDER BY ";
 
+    /**
+     * Name of the query parameter that bounds a chunk, see {@link #genChunkEndClause(PfFilterParametersIntfc)}.
+     */
+    public static final String CHUNK_END_PARAMETER = "chunkEnd";
+
     private String nameFilter;
     private String timeStampStartFilter;
     private String timeStampEndFilter;
@@ -52,6 +58,21 @@ public abstract class PfFilter {
             return "";
         }
 
+        return genWhereConditions(parameters).toString();
+    }
+
+    /**
+     * Generates the "WHERE" clause for a JPA query that selects the objects matching the filter whose time stamp is
+     * no later than the {@link #CHUNK_END_PARAMETER} parameter. Deleting a chunk with this clause, bounded by the
+     * time stamp of the last object of the chunk, lets a chunk be deleted with a single statement.
+     */
+    public String genChunkEndClause(PfFilterParametersIntfc parameters) {
+        var builder = (parameters == null ? new ClauseBuilder(WHERE, AND) : genWhereConditions(parameters));
+        builder.addCondition(getTimeStampFilter().trim(), " <= :", CHUNK_END_PARAMETER);
+        return builder.toString();
+    }
+
+    private ClauseBuilder genWhereConditions(PfFilterParametersIntfc parameters) {
         var builder = new ClauseBuilder(WHERE, AND);
 
         if (parameters.getFilterMap() != null) {
@@ -72,7 +93,7 @@ public abstract class PfFilter {
             builder.addCondition(getTimeStampEndFilter());
         }
 
-        return builder.toString();
+        return builder;
     }
 
     /**
@@ -101,6 +122,24 @@ public abstract class PfFilter {
             return;
         }
 
+        setWhereParams(query, parameters);
+
+        if (parameters.getRecordNum() > 0) {
+            query.setMaxResults(parameters.getRecordNum());
+        }
+    }
+
+    /**
+     * Sets the JPA query parameters of the "WHERE" clause, based on the filter parameters. Unlike
+     * {@link #setParams(TypedQuery, PfFilterParametersIntfc)}, this does not limit the number of results, thus it
+     * may be used with bulk updates and deletes.
+     * @param query query to populate
+     */
+    public void setWhereParams(Query query, PfFilterParametersIntfc parameters) {
+        if (parameters == null) {
+            return;
+        }
+
         if (parameters.getFilterMap() != null) {
             for (Map.Entry<String, Object> entry : parameters.getFilterMap().entrySet()) {
                 query.setParameter(entry.getKey(), entry.getValue());
@@ -115,9 +154,6 @@ public abstract class PfFilter {
         if (parameters.getEndTime() != null) {
             query.setParameter("endTime", Timestamp.from(parameters.getEndTime()));
         }
-        if (parameters.getRecordNum() > 0) {
-            query.setMaxResults(parameters.getRecordNum());
-        }
     }
 
     private static class ClauseBuilder {
@@ -1,6 +1,6 @@
 /*-
  * ============LICENSE_START=======================================================
- *  Copyright (C) 2021, 2023-2024 Nordix Foundation.
+ *  Copyright (C) 2021, 2023-2024, 2026 Nordix Foundation.
  *  Modifications Copyright (C) 2022 Bell Canada. All rights reserved.
  * ================================================================================
  * Licensed under the Apache License, Version 2.0 (the "License");
@@ -192,6 +192,45 @@ public class ProxyDao implements PfDao {
         mg.createQuery(setQueryTable(DELETE_FROM_TABLE, someClass), someClass).executeUpdate();
     }
 
+    @Override
+    public <T extends PfConcept> int deleteFiltered(final Class<T> someClass,
+            final PfFilterParametersIntfc filterParams, final int chunkSize) {
+        if (someClass == null || chunkSize <= 0) {
+            return 0;
+        }
+
+        PfFilter filter = new PfFilterFactory().createFilter(someClass);
+        var whereClause = filter.genWhereClause(filterParams);
+        var chunkEndQueryString = setQueryTable(SELECT_TIMESTAMP_FROM_TABLE + whereClause + ORDER_BY_TIMESTAMP,
+                someClass).replace(TIMESTAMP_TOKEN, filter.getTimeStampFilter().trim());
+        var deleteChunkQueryString =
+                setQueryTable(DELETE_FROM_TABLE + filter.genChunkEndClause(filterParams), someClass);
+        var deleteRestQueryString = setQueryTable(DELETE_FROM_TABLE + whereClause, someClass);
+
+        /*
+         * The transaction belongs to the service, thus every chunk is deleted within it; the chunks only bound the
+         * size of each statement.
+         */
+        var deletedCount = 0;
+        Object chunkEnd;
+        do {
+            var chunkEndQuery = mg.createQuery(chunkEndQueryString);
+            filter.setWhereParams(chunkEndQuery, filterParams);
+            List<?> found = chunkEndQuery.setFirstResult(chunkSize - 1).setMaxResults(1).getResultList();
+            chunkEnd = (found.isEmpty() ? null : found.get(0));
+
+            // without a chunk end, what remains is less than a chunk, thus it is deleted all at once
+            var deleteQuery = mg.createQuery(chunkEnd == null ? deleteRestQueryString : deleteChunkQueryString);
+            filter.setWhereParams(deleteQuery, filterParams);
+            if (chunkEnd != null) {
+                deleteQuery.setParameter(PfFilter.CHUNK_END_PARAMETER, chunkEnd);
+            }
+            deletedCount += deleteQuery.executeUpdate();
+        } while (chunkEnd != null);
+
+        return deletedCount;
+    }
+
     @Override
     public <T extends PfConcept> List<T> getFiltered(final Class<T> someClass, final String name,
             final String version) {
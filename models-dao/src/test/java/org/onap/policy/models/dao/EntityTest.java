@@ -126,6 +126,8 @@ class EntityTest {
         testGetFilteredOps();
 
         testgetFilteredOps3();
+
+        testDeleteFilteredOps();
     }
 
     @Test
@@ -563,4 +565,26 @@ class EntityTest {
         assertThat(pfDao.getFiltered(DummyReferenceTimestampEntity.class,
                         PfFilterParameters.builder().filterMap(filterMap).build())).hasSize(1);
     }
+
+    private void testDeleteFilteredOps() {
+        assertEquals(0, pfDao.deleteFiltered(null, null, 10));
+        assertEquals(0, pfDao.deleteFiltered(DummyTimestampEntity.class, null, 0));
+
+        assertThat(pfDao.getAll(DummyTimestampEntity.class)).hasSize(3);
+
+        // nothing in the range
+        assertEquals(0, pfDao.deleteFiltered(DummyTimestampEntity.class,
+                        PfFilterParameters.builder().endTime(TIMESTAMP0.minusSeconds(1)).build(), 1));
+        assertThat(pfDao.getAll(DummyTimestampEntity.class)).hasSize(3);
+
+        // chunk smaller than the number of matches
+        assertEquals(2, pfDao.deleteFiltered(DummyTimestampEntity.class,
+                        PfFilterParameters.builder().endTime(TIMESTAMP1).build(), 1));
+        assertThat(pfDao.getAll(DummyTimestampEntity.class)).hasSize(1);
+
+        // chunk larger than the number of matches
+        assertEquals(1, pfDao.deleteFiltered(DummyTimestampEntity.class,
+                        PfFilterParameters.builder().startTime(TIMESTAMP0).build(), 100));
+        assertThat(pfDao.getAll(DummyTimestampEntity.class)).isEmpty();
+    }
 }
@@ -1,6 +1,6 @@
 /*-
  * ============LICENSE_START=======================================================
- *  Copyright (C) 2024 Nordix Foundation.
+ *  Copyright (C) 2024, 2026 Nordix Foundation.
  * ================================================================================
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -29,11 +29,13 @@ import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.TypedQuery;
+import java.sql.Timestamp;
 import java.time.LocalDateTime;
 import java.time.ZoneOffset;
 import java.util.Collection;
@@ -51,6 +53,7 @@ import org.onap.policy.models.base.PfReferenceKey;
 import org.onap.policy.models.base.PfReferenceTimestampKey;
 import org.onap.policy.models.base.PfTimestampKey;
 import org.onap.policy.models.dao.DaoParameters;
+import org.onap.policy.models.dao.PfFilter;
 import org.onap.policy.models.dao.PfFilterParameters;
 
 @ExtendWith(MockitoExtension.class)
@@ -396,6 +399,40 @@ class ProxyDaoTest {
         assertThat(result).isEqualTo(expectedResult);
     }
 
+    @Test
+    void testDeleteFiltered() {
+        assertEquals(0, proxyDaoUnderTest.deleteFiltered(null, null, 10));
+        assertEquals(0, proxyDaoUnderTest.deleteFiltered(PfConcept.class, null, 0));
+
+        final PfFilterParameters filterParams = PfFilterParameters.builder()
+            .endTime(LocalDateTime.of(2021, 1, 1, 0, 0).toInstant(ZoneOffset.UTC))
+            .build();
+        final Timestamp chunkEnd = Timestamp.from(filterParams.getEndTime().minusSeconds(60));
+
+        // the first chunk is bounded by the time stamp of its last record, the second is what remains
+        when(mockMg.createQuery(anyString())).thenReturn(mockQuery);
+        when(mockQuery.setFirstResult(1)).thenReturn(mockQuery);
+        when(mockQuery.setMaxResults(1)).thenReturn(mockQuery);
+        when(mockQuery.getResultList()).thenReturn(List.of(chunkEnd), List.of());
+        when(mockQuery.executeUpdate()).thenReturn(2, 1);
+
+        assertEquals(3, proxyDaoUnderTest.deleteFiltered(PfConcept.class, filterParams, 2));
+
+        final String chunkEndQuery =
+            "SELECT c.timeStamp FROM PfConcept c WHERE c.timeStamp <= :endTime ORDER BY c.timeStamp";
+        final ArgumentCaptor<String> captor = ArgumentCaptor.forClass(String.class);
+        verify(mockMg, times(4)).createQuery(captor.capture());
+        assertThat(captor.getAllValues()).containsExactly(chunkEndQuery,
+            "DELETE FROM PfConcept c WHERE c.timeStamp <= :endTime AND c.timeStamp <= :chunkEnd", chunkEndQuery,
+            "DELETE FROM PfConcept c WHERE c.timeStamp <= :endTime");
+        verify(mockQuery).setParameter(PfFilter.CHUNK_END_PARAMETER, chunkEnd);
+
+        // bulk deletes, within the caller's transaction
+        verify(mockMg, never()).remove(any());
+        verify(mockMg, never()).flush();
+        verify(mockMg, never()).getTransaction();
+    }
+
     @Test
     void testGet1() {
         final PfConceptKey key = new PfConceptKey("name", "1.0.0");
@@ -3,6 +3,7 @@
  * ONAP
  * ================================================================================
  * Copyright (C) 2020 AT&T Intellectual Property. All rights reserved.
+ * Modifications Copyright (C) 2026 Nordix Foundation.
  * ================================================================================
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -22,23 +23,21 @@ package org.onap.policy.controlloop.actor.aai;
 
 import org.onap.policy.aai.AaiConstants;
 import org.onap.policy.controlloop.actorserviceprovider.impl.HttpActor;
-import org.onap.policy.controlloop.actorserviceprovider.impl.HttpOperator;
-import org.onap.policy.controlloop.actorserviceprovider.parameters.HttpActorParams;
 
 /**
  * A&AI Actor.
  */
-public class AaiActor extends HttpActor<HttpActorParams> {
+public class AaiActor extends HttpActor<AaiActorParams> {
     public static final String NAME = AaiConstants.ACTOR_NAME;
 
     /**
      * Constructs the object.
      */
     public AaiActor() {
-        super(NAME, HttpActorParams.class);
+        super(NAME, AaiActorParams.class);
 
-        addOperator(new HttpOperator(NAME, AaiCustomQueryOperation.NAME, AaiCustomQueryOperation::new));
-        addOperator(new HttpOperator(NAME, AaiGetTenantOperation.NAME, AaiGetTenantOperation::new));
-        addOperator(new HttpOperator(NAME, AaiGetPnfOperation.NAME, AaiGetPnfOperation::new));
+        addOperator(new AaiOperator(NAME, AaiCustomQueryOperation.NAME, AaiCustomQueryOperation::new));
+        addOperator(new AaiOperator(NAME, AaiGetTenantOperation.NAME, AaiGetTenantOperation::new));
+        addOperator(new AaiOperator(NAME, AaiGetPnfOperation.NAME, AaiGetPnfOperation::new));
     }
 }
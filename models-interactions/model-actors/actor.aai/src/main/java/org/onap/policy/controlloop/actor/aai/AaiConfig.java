@@ -0,0 +1,99 @@
+/*-
+ * ============LICENSE_START=======================================================
+ *  Copyright (C) 2026 Nordix Foundation.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.controlloop.actor.aai;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import lombok.Getter;
+import org.onap.policy.aai.AaiCqResponse;
+import org.onap.policy.common.endpoints.http.client.HttpClient;
+import org.onap.policy.common.endpoints.http.client.HttpClientFactory;
+import org.onap.policy.common.utils.coder.StandardCoderObject;
+import org.onap.policy.controlloop.actorserviceprovider.OperationOutcome;
+import org.onap.policy.controlloop.actorserviceprovider.OperationResult;
+import org.onap.policy.controlloop.actorserviceprovider.ResponseCache;
+import org.onap.policy.controlloop.actorserviceprovider.parameters.HttpConfig;
+
+/**
+ * Configuration for A&AI Operators.
+ */
+@Getter
+public class AaiConfig extends HttpConfig {
+
+    /**
+     * Response cache shared by the operator's operations, or {@code null} if responses
+     * are not to be cached. Identical requests are coalesced, and only successful
+     * responses are cached. Each operation that is given a cached response gets its own
+     * copy of an {@link AaiCqResponse}; other responses, which are
+     * {@link StandardCoderObject}s, are read-only, thus they are shared.
+     */
+    private final ResponseCache cache;
+
+    /**
+     * Constructs the object.
+     *
+     * @param blockingExecutor executor to be used for tasks that may perform blocking I/O
+     * @param params operator parameters
+     * @param clientFactory factory from which to obtain the {@link HttpClient}
+     */
+    public AaiConfig(Executor blockingExecutor, AaiParams params, HttpClientFactory clientFactory) {
+        super(blockingExecutor, params, clientFactory);
+
+        if (params.getCacheTtlSec() > 0 && params.getCacheMaxEntries() > 0) {
+            cache = new ResponseCache(TimeUnit.SECONDS.toMillis(params.getCacheTtlSec()),
+                            params.getCacheMaxEntries(), true, AaiConfig::copyResponse);
+        } else {
+            cache = null;
+        }
+    }
+
+    /**
+     * Gets the outcome of a request, using the operation's cache, if it has one.
+     *
+     * @param config operation's configuration
+     * @param key key identifying the request
+     * @param outcome outcome to be populated
+     * @param requester function to issue the request, populating the given outcome
+     * @return a future for the outcome
+     */
+    public static CompletableFuture<OperationOutcome> process(HttpConfig config, String key,
+                    OperationOutcome outcome, Supplier<CompletableFuture<OperationOutcome>> requester) {
+
+        if (config instanceof AaiConfig aaiConfig && aaiConfig.getCache() != null) {
+            return aaiConfig.getCache().get(key, outcome, requester,
+                            result -> result.getResult() == OperationResult.SUCCESS);
+        }
+
+        return requester.get();
+    }
+
+    /**
+     * Copies a response, if it may be modified.
+     *
+     * @param response response to be copied
+     * @return a copy of the response, or the response itself, if it's read-only
+     */
+    private static Object copyResponse(Object response) {
+        return (response instanceof AaiCqResponse cq ? new AaiCqResponse(cq) : response);
+    }
+}
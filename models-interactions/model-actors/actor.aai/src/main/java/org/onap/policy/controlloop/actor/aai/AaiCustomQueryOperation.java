@@ -3,7 +3,7 @@
  * ONAP
  * ================================================================================
  * Copyright (C) 2020-2021 AT&T Intellectual Property. All rights reserved.
- * Modifications Copyright (C) 2023-2024 Nordix Foundation.
+ * Modifications Copyright (C) 2023-2024, 2026 Nordix Foundation.
  * ================================================================================
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -93,11 +93,14 @@ public class AaiCustomQueryOperation extends HttpOperation<String> {
         var url = str.toString();
 
         String strRequest = prettyPrint(request);
-        logMessage(EventType.OUT, CommInfrastructure.REST, url, strRequest);
 
-        Entity<String> entity = Entity.entity(strRequest, MediaType.APPLICATION_JSON);
+        return AaiConfig.process(getConfig(), url + " " + strRequest, outcome, () -> {
+            logMessage(EventType.OUT, CommInfrastructure.REST, url, strRequest);
 
-        return handleResponse(outcome, url, callback -> webldr.async().put(entity, callback));
+            Entity<String> entity = Entity.entity(strRequest, MediaType.APPLICATION_JSON);
+
+            return handleResponse(outcome, url, callback -> webldr.async().put(entity, callback));
+        });
     }
 
     private WebTarget addQuery(WebTarget web, StringBuilder str) {
@@ -3,7 +3,7 @@
  * ONAP
  * ================================================================================
  * Copyright (C) 2020 AT&T Intellectual Property. All rights reserved.
- * Modifications Copyright (C) 2023 Nordix Foundation.
+ * Modifications Copyright (C) 2023, 2026 Nordix Foundation.
  * ================================================================================
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -100,4 +100,12 @@ public class AaiGetOperation extends HttpOperation<StandardCoderObject> {
     protected int getRetry(Integer retry) {
         return (retry == null ? DEFAULT_RETRY : retry);
     }
+
+    /**
+     * A&AI "get" requests are read-only, thus they may be hedged.
+     */
+    @Override
+    protected boolean isIdempotent() {
+        return true;
+    }
 }
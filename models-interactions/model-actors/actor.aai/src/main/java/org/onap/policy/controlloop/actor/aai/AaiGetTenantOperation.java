@@ -3,7 +3,7 @@
  * ONAP
  * ================================================================================
  * Copyright (C) 2020-2021 AT&T Intellectual Property. All rights reserved.
- * Modifications Copyright (C) 2023-2024 Nordix Foundation.
+ * Modifications Copyright (C) 2023-2024, 2026 Nordix Foundation.
  * ================================================================================
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -84,8 +84,10 @@ public class AaiGetTenantOperation extends AaiGetOperation {
 
         var url = str.toString();
 
-        logMessage(EventType.OUT, CommInfrastructure.REST, url, null);
+        return AaiConfig.process(getConfig(), url, outcome, () -> {
+            logMessage(EventType.OUT, CommInfrastructure.REST, url, null);
 
-        return handleResponse(outcome, url, callback -> webldr.async().get(callback));
+            return handleResponse(outcome, url, callback -> webldr.async().get(callback));
+        });
     }
 }
@@ -0,0 +1,144 @@
+/*-
+ * ============LICENSE_START=======================================================
+ *  Copyright (C) 2026 Nordix Foundation.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.controlloop.actor.aai;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.onap.policy.aai.AaiCqResponse;
+import org.onap.policy.common.endpoints.http.client.HttpClientFactory;
+import org.onap.policy.controlloop.actorserviceprovider.OperationOutcome;
+import org.onap.policy.controlloop.actorserviceprovider.OperationResult;
+import org.onap.policy.controlloop.actorserviceprovider.ResponseCache;
+import org.onap.policy.controlloop.actorserviceprovider.parameters.HttpConfig;
+
+class AaiConfigTest {
+    private static final String KEY = "my-key";
+    private static final String CQ_RESPONSE = "{\"results\": [{\"vserver\": {\"vserver-id\": \"my-vserver\"}}]}";
+
+    private AtomicInteger requests;
+    private CompletableFuture<OperationOutcome> pending;
+    private OperationOutcome outcome;
+
+    /**
+     * Sets up.
+     */
+    @BeforeEach
+    void setUp() {
+        requests = new AtomicInteger();
+        pending = new CompletableFuture<>();
+        outcome = new OperationOutcome();
+    }
+
+    @Test
+    void testProcessNoCache() {
+        // plain config
+        HttpConfig config = new HttpConfig(Runnable::run, AaiParams.builder().clientName("my-client").path("my-path")
+                        .build(), mock(HttpClientFactory.class));
+        assertSame(pending, AaiConfig.process(config, KEY, outcome, makeRequester()));
+        assertSame(pending, AaiConfig.process(config, KEY, outcome, makeRequester()));
+        assertEquals(2, requests.get());
+
+        // caching disabled
+        AaiConfig aaiConfig = makeConfig(0);
+        assertNull(aaiConfig.getCache());
+        assertSame(pending, AaiConfig.process(aaiConfig, KEY, outcome, makeRequester()));
+        assertEquals(3, requests.get());
+    }
+
+    @Test
+    void testProcess() {
+        AaiConfig config = makeConfig(10);
+        ResponseCache cache = config.getCache();
+
+        // identical requests are coalesced
+        AaiConfig.process(config, KEY, outcome, makeRequester());
+        AaiConfig.process(config, KEY, new OperationOutcome(), makeRequester());
+        assertEquals(1, requests.get());
+        assertEquals(1, cache.getMissCount());
+        assertEquals(1, cache.getCoalesceCount());
+
+        // failures are not cached
+        outcome.setResult(OperationResult.FAILURE);
+        pending.complete(outcome);
+        assertEquals(0, cache.size());
+
+        // successes are
+        pending = new CompletableFuture<>();
+        outcome = new OperationOutcome();
+        AaiConfig.process(config, KEY, outcome, makeRequester());
+        outcome.setResult(OperationResult.SUCCESS);
+        pending.complete(outcome);
+
+        assertTrue(AaiConfig.process(config, KEY, new OperationOutcome(), makeRequester()).isDone());
+        assertEquals(2, requests.get());
+        assertEquals(1, cache.getHitCount());
+    }
+
+    @Test
+    void testProcessCopiesCqResponse() throws Exception {
+        AaiConfig config = makeConfig(10);
+
+        // populate the cache
+        outcome.setResult(OperationResult.SUCCESS);
+        outcome.setResponse(new AaiCqResponse(CQ_RESPONSE));
+        pending.complete(outcome);
+        AaiConfig.process(config, KEY, outcome, makeRequester());
+
+        OperationOutcome outcome2 = AaiConfig.process(config, KEY, new OperationOutcome(), makeRequester()).get();
+        OperationOutcome outcome3 = AaiConfig.process(config, KEY, new OperationOutcome(), makeRequester()).get();
+        assertEquals(1, requests.get());
+
+        // each caller gets its own copy
+        AaiCqResponse response1 = outcome.getResponse();
+        AaiCqResponse response2 = outcome2.getResponse();
+        AaiCqResponse response3 = outcome3.getResponse();
+        assertNotSame(response1, response2);
+        assertNotSame(response2, response3);
+
+        response2.getInventoryResponseItems().clear();
+        assertNull(response2.getVserver());
+        assertEquals("my-vserver", response1.getVserver().getVserverId());
+        assertEquals("my-vserver", response3.getVserver().getVserverId());
+    }
+
+    private AaiConfig makeConfig(int ttlSec) {
+        AaiParams params = AaiParams.builder().clientName("my-client").path("my-path").cacheTtlSec(ttlSec)
+                        .cacheMaxEntries(10).build();
+        return new AaiConfig(Runnable::run, params, mock(HttpClientFactory.class));
+    }
+
+    private Supplier<CompletableFuture<OperationOutcome>> makeRequester() {
+        return () -> {
+            requests.incrementAndGet();
+            return pending;
+        };
+    }
+}
@@ -1,6 +1,7 @@
 /*-
  * ============LICENSE_START=======================================================
  * Copyright (C) 2020 Bell Canada. All rights reserved.
+ * Modifications Copyright (C) 2026 Nordix Foundation.
  * ================================================================================
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -18,6 +19,7 @@
 
 package org.onap.policy.controlloop.actor.cds;
 
+import io.grpc.ManagedChannel;
 import java.util.concurrent.Executor;
 import java.util.concurrent.TimeUnit;
 import lombok.Getter;
@@ -37,6 +39,12 @@ public class GrpcConfig extends OperatorConfig {
 
     private CdsServerProperties cdsServerProperties;
 
+    /**
+     * Channel shared by all operations using this configuration, or {@code null} if each
+     * operation should open its own.
+     */
+    private final ManagedChannel channel;
+
     /**
      * Constructs the object.
      *
@@ -44,8 +52,20 @@ public class GrpcConfig extends OperatorConfig {
      * @param params operator parameters
      */
     public GrpcConfig(Executor blockingExecutor, CdsServerProperties params) {
+        this(blockingExecutor, params, null);
+    }
+
+    /**
+     * Constructs the object.
+     *
+     * @param blockingExecutor executor to be used for tasks that may perform blocking I/O
+     * @param params operator parameters
+     * @param channel channel to be shared by all operations, or {@code null}
+     */
+    public GrpcConfig(Executor blockingExecutor, CdsServerProperties params, ManagedChannel channel) {
         super(blockingExecutor);
         cdsServerProperties = params;
         timeoutMs = TimeUnit.MILLISECONDS.convert(params.getTimeout(), TimeUnit.SECONDS);
+        this.channel = channel;
     }
 }
@@ -111,12 +111,16 @@ public class GrpcOperation extends OperationPartial {
 
         CompletableFuture<OperationOutcome> future = new CompletableFuture<>();
 
-        client = new CdsProcessorGrpcClient(new CdsActorServiceManager(outcome, future),
-                        config.getCdsServerProperties());
+        var listener = new CdsActorServiceManager(outcome, future);
+        if (config.getChannel() == null) {
+            client = new CdsProcessorGrpcClient(listener, config.getCdsServerProperties());
+        } else {
+            client = new CdsProcessorGrpcClient(listener, config.getCdsServerProperties(), config.getChannel());
+        }
 
         client.sendRequest(request);
 
-        // arrange to shutdown the client when the request completes
+        // arrange to shutdown the client when the request completes (a shared channel is left open)
         PipelineControllerFuture<OperationOutcome> controller = new PipelineControllerFuture<>();
 
         controller.wrap(future).whenCompleteAsync(controller.delayedComplete(), params.getExecutor())
@@ -1,6 +1,7 @@
 /*-
  * ============LICENSE_START=======================================================
  * Copyright (C) 2020 Bell Canada. All rights reserved.
+ * Modifications Copyright (C) 2026 Nordix Foundation.
  * ================================================================================
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -18,8 +19,10 @@
 
 package org.onap.policy.controlloop.actor.cds;
 
+import io.grpc.ManagedChannel;
 import java.util.Map;
 import lombok.Getter;
+import org.onap.policy.cds.client.CdsProcessorGrpcClient;
 import org.onap.policy.cds.properties.CdsServerProperties;
 import org.onap.policy.common.parameters.ValidationResult;
 import org.onap.policy.controlloop.actorserviceprovider.Operation;
@@ -31,7 +34,9 @@ import org.onap.policy.controlloop.actorserviceprovider.parameters.ParameterVali
 
 /**
  * Operator that uses gRPC. The operator's parameters must be a
- * {@link CdsServerProperties}.
+ * {@link CdsServerProperties}. The operator owns a single channel to the CDS server,
+ * over which the requests of all of its operations are multiplexed. The channel is
+ * replaced when the operator is reconfigured and shut down with the operator.
  */
 @Getter
 public class GrpcOperator extends OperatorPartial {
@@ -74,7 +79,25 @@ public class GrpcOperator extends OperatorPartial {
      */
     @Override
     protected void doConfigure(Map<String, Object> parameters) {
+        GrpcConfig oldConfig = currentConfig;
         currentConfig = makeConfiguration(parameters);
+
+        // requests already using the old channel are allowed to complete
+        shutdownChannel(oldConfig);
+    }
+
+    /**
+     * Shuts down the channel.
+     */
+    @Override
+    protected void doShutdown() {
+        shutdownChannel(currentConfig);
+    }
+
+    private void shutdownChannel(GrpcConfig config) {
+        if (config != null && config.getChannel() != null) {
+            config.getChannel().shutdown();
+        }
     }
 
     /**
@@ -89,7 +112,7 @@ public class GrpcOperator extends OperatorPartial {
         if (!result.isValid()) {
             throw new ParameterValidationRuntimeException("invalid parameters", result);
         }
-        return new GrpcConfig(getBlockingExecutor(), params);
+        return new GrpcConfig(getBlockingExecutor(), params, makeChannel(params));
     }
 
     /**
@@ -103,4 +126,10 @@ public class GrpcOperator extends OperatorPartial {
         verifyRunning();
         return operationMaker.apply(params, currentConfig);
     }
+
+    // these may be overridden by junit tests
+
+    protected ManagedChannel makeChannel(CdsServerProperties params) {
+        return CdsProcessorGrpcClient.buildChannel(params);
+    }
 }
@@ -2,7 +2,7 @@
  * ============LICENSE_START=======================================================
  * Copyright (C) 2020 Bell Canada. All rights reserved.
  * Modifications Copyright (C) 2020-2022 AT&T Intellectual Property. All rights reserved.
- * Modifications Copyright (C) 2024-2025 Nordix Foundation
+ * Modifications Copyright (C) 2024-2026 Nordix Foundation
  * ================================================================================
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -24,11 +24,13 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
 import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertInstanceOf;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.mockito.Mockito.any;
 import static org.mockito.Mockito.when;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
@@ -48,6 +50,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.onap.aai.domain.yang.GenericVnf;
 import org.onap.aai.domain.yang.ServiceInstance;
 import org.onap.ccsdk.cds.controllerblueprints.processing.api.ExecutionServiceOutput;
+import org.onap.policy.cds.client.CdsProcessorGrpcClient;
 import org.onap.policy.cds.properties.CdsServerProperties;
 import org.onap.policy.common.utils.coder.Coder;
 import org.onap.policy.common.utils.coder.CoderException;
@@ -154,6 +157,45 @@ class GrpcOperationTest {
         assertInstanceOf(ExecutionServiceOutput.class, outcome.getResponse());
     }
 
+    /**
+     * Tests "success" case with simulator, with several operations sharing a channel.
+     */
+    @Test
+    void testSuccessSharedChannel() throws Exception {
+        Map<String, Object> payload = Map.of("artifact_name", "my_artifact", "artifact_version", "1.0");
+
+        params = ControlLoopOperationParams.builder().actor(CdsActorConstants.CDS_ACTOR).operation("subscribe")
+            .requestId(REQUEST_ID).actorService(new ActorService())
+            .retry(0).timeoutSec(5).executor(blockingExecutor).payload(payload)
+            .build();
+
+        cdsProps.setHost("localhost");
+        cdsProps.setPort(sim.getPort());
+        cdsProps.setTimeout(3);
+
+        var channel = CdsProcessorGrpcClient.buildChannel(cdsProps);
+        GrpcConfig grpcConfig = new GrpcConfig(blockingExecutor, cdsProps, channel);
+
+        try {
+            List<CompletableFuture<OperationOutcome>> futures = new ArrayList<>();
+            for (var count = 0; count < 3; ++count) {
+                GrpcOperation oper = new GrpcOperation(params, grpcConfig);
+                oper.setProperty(OperationProperties.OPT_CDS_GRPC_AAI_PROPERTIES, Collections.emptyMap());
+                futures.add(oper.start());
+            }
+
+            for (CompletableFuture<OperationOutcome> future : futures) {
+                assertEquals(OperationResult.SUCCESS, future.get().getResult());
+            }
+
+            // the shared channel is not shut down by the operations
+            assertFalse(channel.isShutdown());
+
+        } finally {
+            channel.shutdownNow();
+        }
+    }
+
     @Test
     void testGetPropertyNames() {
         /*
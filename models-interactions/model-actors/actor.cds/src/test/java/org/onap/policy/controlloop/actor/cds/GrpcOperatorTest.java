@@ -2,7 +2,7 @@
  * ============LICENSE_START=======================================================
  * Copyright (C) 2020 Bell Canada. All rights reserved.
  * Modifications Copyright (C) 2020-2021 AT&T Intellectual Property. All rights reserved.
- * Modifications Copyright (C) 2024 Nordix Foundation
+ * Modifications Copyright (C) 2024, 2026 Nordix Foundation
  * ================================================================================
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -24,7 +24,11 @@ import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import io.grpc.ManagedChannel;
 import java.util.Map;
 import java.util.UUID;
 import org.junit.jupiter.api.BeforeEach;
@@ -78,6 +82,15 @@ import org.onap.policy.controlloop.actorserviceprovider.parameters.ParameterVali
         operation.doConfigure(paramMap);
         assertEquals(30000, operation.getCurrentConfig().getTimeoutMs());
 
+        // reconfiguring replaces the channel
+        ManagedChannel channel = operation.getCurrentConfig().getChannel();
+        assertFalse(channel.isShutdown());
+
+        operation.doConfigure(paramMap);
+        assertNotSame(channel, operation.getCurrentConfig().getChannel());
+        assertTrue(channel.isShutdown());
+        assertFalse(operation.getCurrentConfig().getChannel().isShutdown());
+
         // use invalidParamsMap
         assertThatExceptionOfType(ParameterValidationRuntimeException.class)
                         .isThrownBy(() -> operation.makeConfiguration(invalidParamMap));
@@ -100,6 +113,13 @@ import org.onap.policy.controlloop.actorserviceprovider.parameters.ParameterVali
         Operation operation1 = operation.buildOperation(params);
         assertEquals(GrpcOperation.NAME, operation1.getName());
 
+        // shared by all operations
+        assertEquals(operation.getCurrentConfig().getChannel(),
+                        ((GrpcOperation) operation1).getConfig().getChannel());
+
+        operation.shutdown();
+        assertTrue(operation.getCurrentConfig().getChannel().isShutdown());
+
         // with no operation-maker
         GrpcOperator oper2 = new GrpcOperator(CdsActorConstants.CDS_ACTOR, GrpcOperation.NAME);
         assertThatThrownBy(() -> oper2.buildOperation(params)).isInstanceOf(UnsupportedOperationException.class);
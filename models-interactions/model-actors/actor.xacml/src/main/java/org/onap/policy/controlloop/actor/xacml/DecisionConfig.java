@@ -3,6 +3,7 @@
  * ONAP
  * ================================================================================
  * Copyright (C) 2020-2021 AT&T Intellectual Property. All rights reserved.
+ * Modifications Copyright (C) 2026 Nordix Foundation.
  * ================================================================================
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -21,9 +22,11 @@
 package org.onap.policy.controlloop.actor.xacml;
 
 import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
 import lombok.Getter;
 import org.onap.policy.common.endpoints.http.client.HttpClient;
 import org.onap.policy.common.endpoints.http.client.HttpClientFactory;
+import org.onap.policy.controlloop.actorserviceprovider.ResponseCache;
 import org.onap.policy.controlloop.actorserviceprovider.parameters.HttpConfig;
 import org.onap.policy.models.decisions.concepts.DecisionRequest;
 
@@ -39,6 +42,14 @@ public class DecisionConfig extends HttpConfig {
     @Getter
     private boolean disabled;
 
+    /**
+     * Decision cache shared by the operator's operations, or {@code null} if decisions
+     * are not to be cached. Requests are not coalesced, as every decision that the
+     * operation does not deem cacheable, such as a "Permit", must come from the PDP.
+     */
+    @Getter
+    private final ResponseCache cache;
+
     /**
      * Constructs the object.
      *
@@ -55,6 +66,13 @@ public class DecisionConfig extends HttpConfig {
         defaultRequest.setAction(params.getAction());
 
         this.disabled = params.isDisabled();
+
+        if (params.getCacheTtlSec() > 0 && params.getCacheMaxEntries() > 0) {
+            this.cache = new ResponseCache(TimeUnit.SECONDS.toMillis(params.getCacheTtlSec()),
+                            params.getCacheMaxEntries(), false);
+        } else {
+            this.cache = null;
+        }
     }
 
     /**
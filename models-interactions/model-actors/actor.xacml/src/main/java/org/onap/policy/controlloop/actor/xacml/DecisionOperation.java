@@ -3,7 +3,7 @@
  * ONAP
  * ================================================================================
  * Copyright (C) 2020-2021 AT&T Intellectual Property. All rights reserved.
- * Modifications Copyright (C) 2023-2024 Nordix Foundation.
+ * Modifications Copyright (C) 2023-2024, 2026 Nordix Foundation.
  * ================================================================================
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -28,8 +28,10 @@ import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 import org.onap.policy.common.message.bus.event.Topic.CommInfrastructure;
 import org.onap.policy.common.message.bus.utils.NetLoggerUtil.EventType;
+import org.onap.policy.common.utils.coder.CoderException;
 import org.onap.policy.controlloop.actorserviceprovider.CallbackManager;
 import org.onap.policy.controlloop.actorserviceprovider.OperationOutcome;
+import org.onap.policy.controlloop.actorserviceprovider.ResponseCache;
 import org.onap.policy.controlloop.actorserviceprovider.impl.HttpOperation;
 import org.onap.policy.controlloop.actorserviceprovider.parameters.ControlLoopOperationParams;
 import org.onap.policy.controlloop.actorserviceprovider.parameters.HttpConfig;
@@ -82,12 +84,35 @@ public abstract class DecisionOperation extends HttpOperation<DecisionResponse>
     protected CompletableFuture<OperationOutcome> startOperationAsync(int attempt, OperationOutcome outcome) {
         DecisionRequest request = makeRequest();
 
+        ResponseCache cache = config.getCache();
+        String key = (cache == null ? null : makeCacheKey(request));
+        if (key == null) {
+            return post(outcome, request);
+        }
+
+        return cache.get(key, outcome, () -> post(outcome, request), this::isCacheable);
+    }
+
+    /**
+     * Posts a request to the decision API.
+     *
+     * @param outcome outcome to be populated
+     * @param request request to be posted
+     * @return a future for the outcome
+     */
+    private CompletableFuture<OperationOutcome> post(OperationOutcome outcome, DecisionRequest request) {
         Map<String, Object> headers = makeHeaders();
 
         headers.put("Accept", MediaType.APPLICATION_JSON);
         String url = getUrl();
 
-        String strRequest = prettyPrint(request);
+        String strRequest;
+        try {
+            strRequest = getCoder().encode(request);
+        } catch (CoderException e) {
+            throw new IllegalArgumentException("cannot encode request", e);
+        }
+
         logMessage(EventType.OUT, CommInfrastructure.REST, url, strRequest);
 
         Entity<String> entity = Entity.entity(strRequest, MediaType.APPLICATION_JSON);
@@ -104,4 +129,26 @@ public abstract class DecisionOperation extends HttpOperation<DecisionResponse>
      * @return a new request
      */
     protected abstract DecisionRequest makeRequest();
+
+    /**
+     * Makes the key under which a request's decision is cached. Requests having the same
+     * key must yield the same decision.
+     *
+     * @param request request that is to be sent
+     * @return the key for the request, or {@code null} if its decision is not to be
+     *         cached
+     */
+    protected String makeCacheKey(DecisionRequest request) {
+        return null;
+    }
+
+    /**
+     * Determines if an outcome may be reused by identical requests.
+     *
+     * @param outcome outcome of a request
+     * @return {@code true} if the outcome may be reused, {@code false} otherwise
+     */
+    protected boolean isCacheable(OperationOutcome outcome) {
+        return false;
+    }
 }
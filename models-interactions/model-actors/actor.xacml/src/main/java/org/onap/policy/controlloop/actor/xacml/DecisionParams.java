@@ -3,6 +3,7 @@
  * ONAP
  * ================================================================================
  * Copyright (C) 2020-2021 AT&T Intellectual Property. All rights reserved.
+ * Modifications Copyright (C) 2026 Nordix Foundation.
  * ================================================================================
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -23,6 +24,7 @@ package org.onap.policy.controlloop.actor.xacml;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
 import lombok.experimental.SuperBuilder;
+import org.onap.policy.common.parameters.annotations.Min;
 import org.onap.policy.common.parameters.annotations.NotBlank;
 import org.onap.policy.common.parameters.annotations.NotNull;
 import org.onap.policy.controlloop.actorserviceprovider.parameters.HttpParams;
@@ -45,4 +47,17 @@ public class DecisionParams extends HttpParams {
      * {@code True} if the associated decision operation is disabled.
      */
     private boolean disabled;
+
+    /**
+     * Time, in seconds, for which a decision may be reused by identical requests, or 0 if
+     * decisions are not to be cached.
+     */
+    @Min(0)
+    private int cacheTtlSec;
+
+    /**
+     * Maximum number of decisions to be cached.
+     */
+    @Min(0)
+    private int cacheMaxEntries;
 }
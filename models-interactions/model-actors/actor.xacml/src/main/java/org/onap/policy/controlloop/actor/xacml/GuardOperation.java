@@ -3,7 +3,7 @@
  * ONAP
  * ================================================================================
  * Copyright (C) 2020-2021 AT&T Intellectual Property. All rights reserved.
- * Modifications Copyright (C) 2023 Nordix Foundation.
+ * Modifications Copyright (C) 2023, 2026 Nordix Foundation.
  * ================================================================================
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -24,13 +24,17 @@ package org.onap.policy.controlloop.actor.xacml;
 import jakarta.ws.rs.core.Response;
 import java.util.Collections;
 import java.util.Map;
+import java.util.TreeMap;
 import java.util.concurrent.CompletableFuture;
+import org.onap.policy.common.utils.coder.CoderException;
 import org.onap.policy.controlloop.actorserviceprovider.OperationOutcome;
 import org.onap.policy.controlloop.actorserviceprovider.OperationResult;
 import org.onap.policy.controlloop.actorserviceprovider.parameters.ControlLoopOperationParams;
 import org.onap.policy.controlloop.actorserviceprovider.parameters.HttpConfig;
 import org.onap.policy.models.decisions.concepts.DecisionRequest;
 import org.onap.policy.models.decisions.concepts.DecisionResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 /**
  * Guard Operation. The outcome message is set to the guard response. If the guard is
@@ -46,8 +50,16 @@ import org.onap.policy.models.decisions.concepts.DecisionResponse;
  * <dt>request ID</dt>
  * <dd>generated</dd>
  * </dl>
+ * <p/>
+ * If the operator has a decision cache, then "Deny" decisions that carry neither
+ * obligations nor advice are reused by requests having the same payload, ignoring the
+ * payload's request ID, until they expire. Requests that specify the current date or
+ * time are never cached. "Permit" decisions are never reused, as the PDP must see every
+ * permitted operation in order to enforce its frequency limits.
  */
 public class GuardOperation extends DecisionOperation {
+    private static final Logger logger = LoggerFactory.getLogger(GuardOperation.class);
+
     // operation name
     public static final String NAME = "Guard";
 
@@ -55,6 +67,8 @@ public class GuardOperation extends DecisionOperation {
     public static final String DENY = "Deny";
     public static final String INDETERMINATE = "Indeterminate";
 
+    private static final String REQUEST_ID_FIELD = "requestId";
+
 
     /**
      * Constructs the object.
@@ -83,6 +97,46 @@ public class GuardOperation extends DecisionOperation {
         return req;
     }
 
+    /**
+     * Guard queries have no side effects, thus they may be hedged.
+     */
+    @Override
+    protected boolean isIdempotent() {
+        return true;
+    }
+
+    @Override
+    protected String makeCacheKey(DecisionRequest request) {
+        if (request.getCurrentDateTime() != null || request.getCurrentDate() != null
+                        || request.getCurrentTime() != null || request.getTimeZone() != null) {
+            return null;
+        }
+
+        Map<String, Object> guard = new TreeMap<>(params.getPayload());
+        guard.remove(REQUEST_ID_FIELD);
+
+        try {
+            return getCoder().encode(guard);
+        } catch (CoderException e) {
+            logger.warn("{}: cannot make cache key for {}", getFullName(), params.getRequestId(), e);
+            return null;
+        }
+    }
+
+    @Override
+    protected boolean isCacheable(OperationOutcome outcome) {
+        if (!(outcome.getResponse() instanceof DecisionResponse response)) {
+            return false;
+        }
+
+        return DENY.equalsIgnoreCase(response.getStatus()) && isEmpty(response.getObligations())
+                        && isEmpty(response.getAdvice());
+    }
+
+    private static boolean isEmpty(Map<String, Object> map) {
+        return (map == null || map.isEmpty());
+    }
+
     @Override
     protected CompletableFuture<OperationOutcome> postProcessResponse(OperationOutcome outcome, String url,
                     Response rawResponse, DecisionResponse response) {
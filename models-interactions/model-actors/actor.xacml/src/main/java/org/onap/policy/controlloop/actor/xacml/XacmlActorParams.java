@@ -3,6 +3,7 @@
  * ONAP
  * ================================================================================
  * Copyright (C) 2020-2021 AT&T Intellectual Property. All rights reserved.
+ * Modifications Copyright (C) 2026 Nordix Foundation.
  * ================================================================================
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -23,6 +24,7 @@ package org.onap.policy.controlloop.actor.xacml;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.Setter;
+import org.onap.policy.common.parameters.annotations.Min;
 import org.onap.policy.controlloop.actorserviceprovider.parameters.HttpActorParams;
 
 @Getter
@@ -45,4 +47,17 @@ public class XacmlActorParams extends HttpActorParams {
      * {@code True} if xacml operations are disabled.
      */
     private boolean disabled = false;
+
+    /**
+     * Time, in seconds, for which a guard decision may be reused by identical requests.
+     * Defaults to 0, which disables the cache.
+     */
+    @Min(0)
+    private int cacheTtlSec = 0;
+
+    /**
+     * Maximum number of guard decisions to be cached.
+     */
+    @Min(0)
+    private int cacheMaxEntries = 1000;
 }
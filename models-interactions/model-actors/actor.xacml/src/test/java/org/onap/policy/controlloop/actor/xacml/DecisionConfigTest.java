@@ -23,6 +23,8 @@ package org.onap.policy.controlloop.actor.xacml;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.when;
@@ -97,4 +99,18 @@ import org.onap.policy.models.decisions.concepts.DecisionRequest;
         config = new DecisionConfig(executor, params, factory);
         assertTrue(config.isDisabled());
     }
+
+    @Test
+    void testCache() {
+        assertNull(config.getCache());
+
+        params = params.toBuilder().cacheTtlSec(1).cacheMaxEntries(10).build();
+        config = new DecisionConfig(executor, params, factory);
+        assertNotNull(config.getCache());
+
+        // both must be set
+        params = params.toBuilder().cacheTtlSec(1).cacheMaxEntries(0).build();
+        config = new DecisionConfig(executor, params, factory);
+        assertNull(config.getCache());
+    }
 }
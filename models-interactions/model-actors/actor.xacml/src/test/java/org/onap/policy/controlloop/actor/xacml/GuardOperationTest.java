@@ -24,11 +24,16 @@ package org.onap.policy.controlloop.actor.xacml;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.mock;
 
+import java.time.OffsetTime;
 import java.util.Map;
 import java.util.TreeMap;
 import java.util.function.Consumer;
@@ -141,6 +146,100 @@ class GuardOperationTest extends BasicHttpOperation {
         assertInstanceOf(DecisionResponse.class, outcome.getResponse());
     }
 
+    /**
+     * Tests the decision cache with simulator.
+     */
+    @Test
+    void testCache() throws Exception {
+        DecisionParams opParams = DecisionParams.builder().clientName(MY_CLIENT).path("decision").action("guard")
+                        .cacheTtlSec(60).cacheMaxEntries(10).build();
+        DecisionConfig cacheConfig =
+                        new DecisionConfig(blockingExecutor, opParams, HttpClientFactoryInstance.getClientFactory());
+
+        params = params.toBuilder().retry(0).timeoutSec(5).executor(blockingExecutor)
+            .payload(Map.of("clname", XacmlSimulatorJaxRs.DENY_CLNAME, "requestId", "request-A")).build();
+        outcome = new GuardOperation(params, cacheConfig).start().get();
+        assertEquals(OperationResult.FAILURE, outcome.getResult());
+
+        // same guard, different request ID
+        params = params.toBuilder()
+            .payload(Map.of("clname", XacmlSimulatorJaxRs.DENY_CLNAME, "requestId", "request-B")).build();
+        outcome = new GuardOperation(params, cacheConfig).start().get();
+        assertEquals(OperationResult.FAILURE, outcome.getResult());
+        assertEquals(GuardOperation.DENY, outcome.getMessage());
+        assertInstanceOf(DecisionResponse.class, outcome.getResponse());
+
+        assertEquals(1, cacheConfig.getCache().getMissCount());
+        assertEquals(1, cacheConfig.getCache().getHitCount());
+
+        // a Permit is never reused, thus each request goes to the PDP
+        params = params.toBuilder().payload(Map.of("clname", "my-clname", "requestId", "request-C")).build();
+        outcome = new GuardOperation(params, cacheConfig).start().get();
+        assertEquals(OperationResult.SUCCESS, outcome.getResult());
+
+        params = params.toBuilder().payload(Map.of("clname", "my-clname", "requestId", "request-D")).build();
+        outcome = new GuardOperation(params, cacheConfig).start().get();
+        assertEquals(OperationResult.SUCCESS, outcome.getResult());
+        assertEquals(GuardOperation.PERMIT, outcome.getMessage());
+
+        assertEquals(3, cacheConfig.getCache().getMissCount());
+        assertEquals(1, cacheConfig.getCache().getHitCount());
+    }
+
+    @Test
+    void testMakeCacheKey() {
+        params.getPayload().put("requestId", "request-A");
+        String key = oper.makeCacheKey(oper.makeRequest());
+        assertNotNull(key);
+
+        // request ID is ignored
+        params.getPayload().put("requestId", "request-B");
+        assertEquals(key, oper.makeCacheKey(oper.makeRequest()));
+
+        // other fields are not
+        params.getPayload().put("target", "my-target");
+        assertNotEquals(key, oper.makeCacheKey(oper.makeRequest()));
+
+        // time-sensitive requests are not cached
+        DecisionRequest request = oper.makeRequest();
+        request.setCurrentTime(OffsetTime.now());
+        assertNull(oper.makeCacheKey(request));
+    }
+
+    @Test
+    void testIsCacheable() {
+        assertFalse(oper.isCacheable(outcome));
+
+        DecisionResponse response = new DecisionResponse();
+        outcome.setResponse(response);
+
+        // a Permit must always come from the PDP
+        response.setStatus(GuardOperation.PERMIT);
+        assertFalse(oper.isCacheable(outcome));
+
+        response.setStatus("dEny");
+        assertTrue(oper.isCacheable(outcome));
+
+        response.setStatus(GuardOperation.INDETERMINATE);
+        assertFalse(oper.isCacheable(outcome));
+
+        response.setStatus(null);
+        assertFalse(oper.isCacheable(outcome));
+
+        // empty obligations and advice are allowed
+        response.setStatus(GuardOperation.DENY);
+        response.setObligations(Map.of());
+        response.setAdvice(Map.of());
+        assertTrue(oper.isCacheable(outcome));
+
+        response.setObligations(Map.of("obligation", "value"));
+        assertFalse(oper.isCacheable(outcome));
+
+        response.setObligations(null);
+        response.setAdvice(Map.of("advice", "value"));
+        assertFalse(oper.isCacheable(outcome));
+    }
+
     @Test
     void testConstructor() {
         assertEquals(DEFAULT_ACTOR, oper.getActorName());
@@ -0,0 +1,164 @@
+/*-
+ * ============LICENSE_START=======================================================
+ *  Copyright (C) 2026 Nordix Foundation.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.controlloop.actorserviceprovider;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.Getter;
+import lombok.NonNull;
+import org.onap.policy.controlloop.actorserviceprovider.parameters.ExecutorParams;
+import org.onap.policy.controlloop.actorserviceprovider.parameters.ExecutorParams.BlockingType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Executors used by the actors: one for tasks that may perform blocking I/O (e.g.,
+ * {@code doOperation()}), and a separate one for the non-blocking continuations of the
+ * operation pipelines, so that slow requests cannot starve the pipelines.
+ */
+public class ActorExecutors {
+    private static final Logger logger = LoggerFactory.getLogger(ActorExecutors.class);
+
+    /**
+     * Executor that starts a new daemon thread for each task.
+     */
+    public static final Executor THREAD_PER_TASK = command -> {
+        var thread = new Thread(command);
+        thread.setDaemon(true);
+        thread.start();
+    };
+
+    /**
+     * Executor to be used for tasks that may perform blocking I/O.
+     */
+    @Getter
+    private final Executor blockingExecutor;
+
+    /**
+     * Executor to be used for pipeline continuations.
+     */
+    @Getter
+    private final Executor pipelineExecutor;
+
+    /**
+     * Executors created by this object, which must be shut down.
+     */
+    private final List<ExecutorService> owned = new ArrayList<>(2);
+
+    /**
+     * Constructs the object.
+     *
+     * @param params executor parameters
+     */
+    public ActorExecutors(@NonNull ExecutorParams params) {
+        this.blockingExecutor = makeBlockingExecutor(params);
+
+        if (params.getPipelinePoolSize() > 0) {
+            this.pipelineExecutor = own(Executors.newFixedThreadPool(params.getPipelinePoolSize(),
+                            makeThreadFactory("actor-pipeline")));
+        } else {
+            this.pipelineExecutor = ForkJoinPool.commonPool();
+        }
+    }
+
+    /**
+     * Shuts down the executors that were created by this object. Tasks that have already
+     * been submitted are allowed to complete.
+     */
+    public void shutdown() {
+        owned.forEach(ExecutorService::shutdown);
+    }
+
+    private Executor makeBlockingExecutor(ExecutorParams params) {
+        switch (params.getBlockingType()) {
+            case VIRTUAL_THREAD:
+                ExecutorService virtual = makeVirtualExecutor();
+                if (virtual != null) {
+                    return own(virtual);
+                }
+
+                logger.warn("virtual threads are not supported by this JVM; using {}", BlockingType.THREAD_PER_TASK);
+                return THREAD_PER_TASK;
+
+            case FIXED_POOL:
+                return own(Executors.newFixedThreadPool(params.getBlockingPoolSize(),
+                                makeThreadFactory("actor-blocking")));
+
+            case THREAD_PER_TASK:
+            default:
+                return THREAD_PER_TASK;
+        }
+    }
+
+    private ExecutorService own(ExecutorService executor) {
+        owned.add(executor);
+        return executor;
+    }
+
+    /**
+     * Makes a factory for daemon threads, numbered sequentially.
+     *
+     * @param prefix thread name prefix
+     * @return a new thread factory
+     */
+    static ThreadFactory makeThreadFactory(String prefix) {
+        var count = new AtomicInteger();
+
+        return runnable -> {
+            var thread = new Thread(runnable, prefix + "-" + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    // these may be overridden by junit tests
+
+    /**
+     * Makes an executor that starts a new virtual thread for each task. Looked up
+     * reflectively, as virtual threads are not available in all supported JVMs.
+     *
+     * @return a new executor, or {@code null} if virtual threads are not supported
+     */
+    protected ExecutorService makeVirtualExecutor() {
+        try {
+            return (ExecutorService) MethodHandles.publicLookup()
+                            .findStatic(Executors.class, "newVirtualThreadPerTaskExecutor",
+                                            MethodType.methodType(ExecutorService.class))
+                            .invoke();
+
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            logger.debug("virtual threads are not available", e);
+            return null;
+
+        } catch (Throwable e) {
+            logger.warn("cannot create virtual thread executor", e);
+            return null;
+        }
+    }
+}
@@ -21,6 +21,7 @@
 
 package org.onap.policy.controlloop.actorserviceprovider;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.Iterator;
@@ -30,8 +31,21 @@ import java.util.Map;
 import java.util.ServiceConfigurationError;
 import java.util.ServiceLoader;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import org.onap.policy.controlloop.actorserviceprovider.impl.BidirectionalTopicActor;
+import org.onap.policy.controlloop.actorserviceprovider.impl.OperatorPartial;
 import org.onap.policy.controlloop.actorserviceprovider.impl.StartConfigPartial;
+import org.onap.policy.controlloop.actorserviceprovider.parameters.CircuitBreakerParams;
+import org.onap.policy.controlloop.actorserviceprovider.parameters.ExecutorParams;
+import org.onap.policy.controlloop.actorserviceprovider.parameters.NetworkLogParams;
 import org.onap.policy.controlloop.actorserviceprovider.parameters.ParameterValidationRuntimeException;
+import org.onap.policy.controlloop.actorserviceprovider.parameters.SchedulingParams;
 import org.onap.policy.controlloop.actorserviceprovider.spi.Actor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -41,12 +55,85 @@ import org.slf4j.LoggerFactory;
  * {@link #configure(Map)} to configure all of the actors, and then invoke
  * {@link #start()} to start all of the actors. When finished using the actor service,
  * invoke {@link #stop()} or {@link #shutdown()}.
+ * <p/>
+ * The parameters may also contain an "executors" entry, containing
+ * {@link ExecutorParams}, which selects the executors used for blocking tasks and for
+ * pipeline continuations, and whether the operations use the fused pipeline, a
+ * "circuitBreaker" entry, containing {@link CircuitBreakerParams}, which enables the
+ * circuit breakers guarding the southbound endpoints, a "scheduling" entry, containing
+ * {@link SchedulingParams}, which enables the fair scheduling of operations by priority
+ * class, and a "networkLog" entry, containing {@link NetworkLogParams}, which controls
+ * the logging of the messages that operations exchange with other components.
+ * <p/>
+ * The operators, and the operations, are given executors that forward to the executors
+ * that are currently configured, so that a new configuration applies to every actor,
+ * whether or not the actor itself is reconfigured. Executors that are replaced may still
+ * be running tasks of operations that are in flight, thus they are only shut down when
+ * the service is shut down.
+ * <p/>
+ * The actors are configured, and started, concurrently, using a small pool of threads
+ * whose size is given by {@link ExecutorParams#getStartupParallelism()}.
  */
 public class ActorService extends StartConfigPartial<Map<String, Object>> {
     private static final Logger logger = LoggerFactory.getLogger(ActorService.class);
 
+    /**
+     * Name of the "executors" field contained within the service parameters.
+     */
+    public static final String EXECUTORS_FIELD = "executors";
+
+    /**
+     * Name of the "circuitBreaker" field contained within the service parameters.
+     */
+    public static final String CIRCUIT_BREAKER_FIELD = "circuitBreaker";
+
+    /**
+     * Name of the "scheduling" field contained within the service parameters.
+     */
+    public static final String SCHEDULING_FIELD = "scheduling";
+
+    /**
+     * Name of the "networkLog" field contained within the service parameters.
+     */
+    public static final String NETWORK_LOG_FIELD = "networkLog";
+
     private final Map<String, Actor> name2actor;
 
+    /**
+     * Executors built from the "executors" parameters, or {@code null} if they have not
+     * been configured.
+     */
+    private volatile ActorExecutors executors;
+
+    /**
+     * Executors that have been replaced by a later configuration. These are shut down
+     * when the service is shut down.
+     */
+    private final List<ActorExecutors> retired = new ArrayList<>();
+
+    /**
+     * Executor given to the operators for blocking tasks, which forwards to the current
+     * blocking executor.
+     */
+    private final Executor blockingExecutor = command -> {
+        var current = executors;
+        (current != null ? current.getBlockingExecutor() : ActorExecutors.THREAD_PER_TASK).execute(command);
+    };
+
+    /**
+     * Executor given to the operations for pipeline continuations, which forwards to the
+     * current pipeline executor.
+     */
+    private final Executor pipelineExecutor = command -> {
+        var current = executors;
+        (current != null ? current.getPipelineExecutor() : ForkJoinPool.commonPool()).execute(command);
+    };
+
+    /**
+     * Maximum number of actors that are configured, or started, concurrently.
+     */
+    private volatile int startupParallelism = ExecutorParams.DEFAULT_STARTUP_PARALLELISM;
+
     /**
      * Constructs the object and loads the list of actors.
      */
@@ -133,27 +220,46 @@ public class ActorService extends StartConfigPartial<Map<String, Object>> {
         return name2actor.keySet();
     }
 
+    /**
+     * Gets the executor that should be used to run operation pipelines, i.e., the
+     * executor to be placed into the operation parameters.
+     *
+     * @return an executor that runs tasks via the pipeline executor that is currently
+     *         configured, or via {@link ForkJoinPool#commonPool()} if no executors have
+     *         been configured
+     */
+    public Executor getExecutor() {
+        return pipelineExecutor;
+    }
+
+    /**
+     * Gets the executor that the operators use for tasks that may perform blocking I/O.
+     *
+     * @return an executor that runs tasks via the blocking executor that is currently
+     *         configured, or via {@link ActorExecutors#THREAD_PER_TASK} if no executors
+     *         have been configured
+     */
+    public Executor getBlockingExecutor() {
+        return blockingExecutor;
+    }
+
     @Override
     protected void doConfigure(Map<String, Object> parameters) {
         logger.info("configuring actors");
 
-        for (Actor actor : name2actor.values()) {
-            String actorName = actor.getName();
-            Object paramValue = parameters.get(actorName);
+        configureExecutors(parameters.get(EXECUTORS_FIELD));
+        setBlockingExecutors();
+        configureCircuitBreakers(parameters.get(CIRCUIT_BREAKER_FIELD));
+        configureScheduling(parameters.get(SCHEDULING_FIELD));
+        configureNetworkLog(parameters.get(NETWORK_LOG_FIELD));
 
-            if (paramValue instanceof Map) {
-                @SuppressWarnings("unchecked")
-                Map<String, Object> subparams = (Map<String, Object>) paramValue;
+        List<Actor> actors = new ArrayList<>(name2actor.size());
 
-                try {
-                    actor.configure(subparams);
+        for (Actor actor : name2actor.values()) {
+            String actorName = actor.getName();
 
-                } catch (ParameterValidationRuntimeException e) {
-                    logger.warn("failed to configure actor {} because:\n{}", actorName, e.getResult().getResult(), e);
-
-                } catch (RuntimeException e) {
-                    logger.warn("failed to configure actor {}", actorName, e);
-                }
+            if (parameters.get(actorName) instanceof Map) {
+                actors.add(actor);
 
             } else if (actor.isConfigured()) {
                 logger.warn("missing configuration parameters for actor {}; using previous parameters", actorName);
@@ -162,20 +268,240 @@ public class ActorService extends StartConfigPartial<Map<String, Object>> {
                 logger.warn("missing configuration parameters for actor {}; actor cannot be started", actorName);
             }
         }
+
+        runAll("configure", actors, actor -> {
+            @SuppressWarnings("unchecked")
+            Map<String, Object> subparams = (Map<String, Object>) parameters.get(actor.getName());
+            actor.configure(subparams);
+        });
     }
 
     @Override
     protected void doStart() {
         logger.info("starting actors");
 
+        List<Actor> actors = new ArrayList<>(name2actor.size());
+
         for (Actor actor : name2actor.values()) {
             if (actor.isConfigured()) {
-                Util.runFunction(actor::start, "failed to start actor {}", actor.getName());
+                actors.add(actor);
 
             } else {
                 logger.warn("not starting unconfigured actor {}", actor.getName());
             }
         }
+
+        runAll("start", actors, Actor::start);
+    }
+
+    /**
+     * Applies an action to each of the given actors, running up to
+     * {@link ExecutorParams#getStartupParallelism()} of them concurrently, and waiting
+     * for all of them to complete. A failure of one actor does not prevent the action
+     * from being applied to the others; the failures are reported together at the end.
+     *
+     * @param action name of the action, used in log messages
+     * @param actors actors to which to apply the action
+     * @param task task that applies the action to an actor
+     */
+    private void runAll(String action, List<Actor> actors, Consumer<Actor> task) {
+        if (actors.isEmpty()) {
+            return;
+        }
+
+        final long begin = System.nanoTime();
+        final Set<String> failed = new ConcurrentSkipListSet<>();
+        final var nthreads = Math.min(startupParallelism, actors.size());
+        final var pool = Executors.newFixedThreadPool(nthreads, ActorExecutors.makeThreadFactory("actor-" + action));
+
+        try {
+            var futures = actors.stream()
+                            .map(actor -> CompletableFuture.runAsync(() -> runOne(action, actor, task, failed), pool))
+                            .toArray(CompletableFuture<?>[]::new);
+
+            CompletableFuture.allOf(futures).join();
+
+        } finally {
+            pool.shutdown();
+        }
+
+        long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - begin);
+
+        if (failed.isEmpty()) {
+            logger.info("{} {} actors: done in {} ms", action, actors.size(), elapsedMs);
+        } else {
+            logger.warn("{} {} actors: done in {} ms, failed {}", action, actors.size(), elapsedMs, failed);
+        }
+    }
+
+    /**
+     * Applies an action to an actor, logging how long it took.
+     *
+     * @param action name of the action, used in log messages
+     * @param actor actor to which to apply the action
+     * @param task task that applies the action to the actor
+     * @param failed names of the actors for which the action failed; the actor's name is
+     *        added if the task throws an exception
+     */
+    private void runOne(String action, Actor actor, Consumer<Actor> task, Set<String> failed) {
+        final String actorName = actor.getName();
+        final long begin = System.nanoTime();
+
+        try {
+            task.accept(actor);
+
+        } catch (ParameterValidationRuntimeException e) {
+            failed.add(actorName);
+            logger.warn("failed to {} actor {} because:\n{}", action, actorName, e.getResult().getResult(), e);
+
+        } catch (RuntimeException e) {
+            failed.add(actorName);
+            logger.warn("failed to {} actor {}", action, actorName, e);
+        }
+
+        logger.info("{} actor {} took {} ms", action, actorName,
+                        TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - begin));
+    }
+
+    /**
+     * Configures the executors, if parameters were provided for them. The executors that
+     * they replace are retired, rather than shut down, as operations that are in flight
+     * may still be using them.
+     *
+     * @param paramValue executor parameters, or {@code null}
+     */
+    private void configureExecutors(Object paramValue) {
+        if (paramValue == null) {
+            return;
+        }
+
+        try {
+            var params = Util.translate(EXECUTORS_FIELD, paramValue, ExecutorParams.class);
+
+            var result = params.validate(EXECUTORS_FIELD);
+            if (!result.isValid()) {
+                throw new ParameterValidationRuntimeException("invalid parameters", result);
+            }
+
+            var old = executors;
+            executors = makeExecutors(params);
+            startupParallelism = params.getStartupParallelism();
+            OperationPartial.setFusedPipelineDefault(params.isFusedPipeline());
+
+            if (old != null) {
+                retired.add(old);
+            }
+
+        } catch (ParameterValidationRuntimeException e) {
+            logger.warn("failed to configure executors because:\n{}", e.getResult().getResult(), e);
+
+        } catch (RuntimeException e) {
+            logger.warn("failed to configure executors", e);
+        }
+    }
+
+    /**
+     * Passes the blocking executor to the operators, so that they use it when they're
+     * configured, and the pipeline executor to the bidirectional topic actors, which use
+     * it for asynchronous forwarding. As these forward to the current executors, operators
+     * that are not reconfigured still use the executors of the latest configuration.
+     */
+    private void setBlockingExecutors() {
+        for (Actor actor : name2actor.values()) {
+            if (actor instanceof BidirectionalTopicActor<?> topicActor) {
+                topicActor.setForwardingExecutor(pipelineExecutor);
+            }
+
+            for (Operator operator : actor.getOperators()) {
+                if (operator instanceof OperatorPartial partial) {
+                    partial.setBlockingExecutor(blockingExecutor);
+                }
+            }
+        }
+    }
+
+    /**
+     * Configures the circuit breakers, if parameters were provided for them.
+     *
+     * @param paramValue circuit breaker parameters, or {@code null}
+     */
+    private void configureCircuitBreakers(Object paramValue) {
+        if (paramValue == null) {
+            return;
+        }
+
+        try {
+            var params = Util.translate(CIRCUIT_BREAKER_FIELD, paramValue, CircuitBreakerParams.class);
+
+            var result = params.validate(CIRCUIT_BREAKER_FIELD);
+            if (!result.isValid()) {
+                throw new ParameterValidationRuntimeException("invalid parameters", result);
+            }
+
+            getCircuitBreakers().configure(params);
+
+        } catch (ParameterValidationRuntimeException e) {
+            logger.warn("failed to configure circuit breakers because:\n{}", e.getResult().getResult(), e);
+
+        } catch (RuntimeException e) {
+            logger.warn("failed to configure circuit breakers", e);
+        }
+    }
+
+    /**
+     * Configures the fair scheduler, if parameters were provided for it.
+     *
+     * @param paramValue scheduling parameters, or {@code null}
+     */
+    private void configureScheduling(Object paramValue) {
+        if (paramValue == null) {
+            return;
+        }
+
+        try {
+            var params = Util.translate(SCHEDULING_FIELD, paramValue, SchedulingParams.class);
+
+            var result = params.validate(SCHEDULING_FIELD);
+            if (!result.isValid()) {
+                throw new ParameterValidationRuntimeException("invalid parameters", result);
+            }
+
+            getScheduler().configure(params);
+
+        } catch (ParameterValidationRuntimeException e) {
+            logger.warn("failed to configure scheduling because:\n{}", e.getResult().getResult(), e);
+
+        } catch (RuntimeException e) {
+            logger.warn("failed to configure scheduling", e);
+        }
+    }
+
+    /**
+     * Configures the network logger, if parameters were provided for it.
+     *
+     * @param paramValue network logging parameters, or {@code null}
+     */
+    private void configureNetworkLog(Object paramValue) {
+        if (paramValue == null) {
+            return;
+        }
+
+        try {
+            var params = Util.translate(NETWORK_LOG_FIELD, paramValue, NetworkLogParams.class);
+
+            var result = params.validate(NETWORK_LOG_FIELD);
+            if (!result.isValid()) {
+                throw new ParameterValidationRuntimeException("invalid parameters", result);
+            }
+
+            getNetworkLogger().configure(params);
+
+        } catch (ParameterValidationRuntimeException e) {
+            logger.warn("failed to configure network logging because:\n{}", e.getResult().getResult(), e);
+
+        } catch (RuntimeException e) {
+            logger.warn("failed to configure network logging", e);
+        }
     }
 
     @Override
@@ -193,10 +519,34 @@ public class ActorService extends StartConfigPartial<Map<String, Object>> {
             actor -> Util.runFunction(actor::shutdown, "failed to shutdown actor {}", actor.getName()));
 
         // @formatter:on
+
+        retired.forEach(ActorExecutors::shutdown);
+        retired.clear();
+
+        var current = executors;
+        if (current != null) {
+            current.shutdown();
+        }
     }
 
     // the following methods may be overridden by junit tests
 
+    protected ActorExecutors makeExecutors(ExecutorParams params) {
+        return new ActorExecutors(params);
+    }
+
+    protected CircuitBreakerRegistry getCircuitBreakers() {
+        return CircuitBreakerRegistry.getInstance();
+    }
+
+    protected FairScheduler getScheduler() {
+        return FairScheduler.getInstance();
+    }
+
+    protected NetworkLogger getNetworkLogger() {
+        return NetworkLogger.getInstance();
+    }
+
     protected Iterable<Actor> loadActors() {
         return ServiceLoader.load(Actor.class);
     }
@@ -0,0 +1,331 @@
+/*-
+ * ============LICENSE_START=======================================================
+ *  Copyright (C) 2026 Nordix Foundation.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.controlloop.actorserviceprovider;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import lombok.Getter;
+import org.onap.policy.controlloop.actorserviceprovider.parameters.CircuitBreakerParams;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Circuit breaker guarding a southbound endpoint. While closed, calls are allowed
+ * through and their results are recorded in a ring buffer holding the most recent calls.
+ * Once enough calls have been seen and the failure rate or the slow-call rate reaches
+ * its threshold, the breaker opens, rejecting all calls. After a while it becomes
+ * half-open, allowing a few trial calls through; it closes again if they succeed, and
+ * re-opens otherwise.
+ * <p/>
+ * The breaker is lock-free. Each state change starts a new "generation", so that results
+ * of calls that were allowed through in an earlier state are ignored.
+ */
+public class CircuitBreaker {
+    private static final Logger logger = LoggerFactory.getLogger(CircuitBreaker.class);
+
+    /**
+     * Breaker states.
+     */
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    // bits within a ring buffer slot
+    private static final int OCCUPIED = 1;
+    private static final int FAILED = 2;
+    private static final int SLOW = 4;
+
+    /**
+     * Call that is not guarded by any breaker, and whose result is not recorded.
+     */
+    public static final Call UNGUARDED = new Call(null, 0, 0);
+
+    @Getter
+    private final String name;
+
+    private final int windowSize;
+    private final int minimumCalls;
+    private final int failureRateThreshold;
+    private final int slowCallRateThreshold;
+    private final long slowCallNs;
+    private final long openNs;
+    private final int halfOpenCalls;
+
+    /**
+     * Current phase, replaced with each state change.
+     */
+    private final AtomicReference<Phase> phase;
+
+    /**
+     * Number of calls rejected because the breaker was open.
+     */
+    private final LongAdder rejected = new LongAdder();
+
+
+    /**
+     * Constructs the object.
+     *
+     * @param name name of the endpoint guarded by this breaker
+     * @param params breaker parameters
+     */
+    public CircuitBreaker(String name, CircuitBreakerParams params) {
+        this.name = name;
+        this.windowSize = params.getWindowSize();
+        this.minimumCalls = params.getMinimumCalls();
+        this.failureRateThreshold = params.getFailureRateThreshold();
+        this.slowCallRateThreshold = params.getSlowCallRateThreshold();
+        this.slowCallNs = TimeUnit.MILLISECONDS.toNanos(params.getSlowCallDurationMs());
+        this.openNs = TimeUnit.SECONDS.toNanos(params.getOpenDurationSec());
+        this.halfOpenCalls = params.getHalfOpenCalls();
+
+        this.phase = new AtomicReference<>(new Phase(State.CLOSED, 0, currentTimeNs(), windowSize));
+    }
+
+    public State getState() {
+        return phase.get().state;
+    }
+
+    /**
+     * Gets the percentage of calls, within the current window, that failed.
+     *
+     * @return the failure rate
+     */
+    public int getFailureRate() {
+        return phase.get().window.getFailureRate();
+    }
+
+    /**
+     * Gets the percentage of calls, within the current window, that were slow.
+     *
+     * @return the slow-call rate
+     */
+    public int getSlowCallRate() {
+        return phase.get().window.getSlowCallRate();
+    }
+
+    public long getRejected() {
+        return rejected.sum();
+    }
+
+    /**
+     * Asks for permission to make a call.
+     *
+     * @return the call, whose result must be recorded when it completes, or {@code null}
+     *         if the breaker is open
+     */
+    public Call tryAcquire() {
+        for (;;) {
+            var current = phase.get();
+
+            switch (current.state) {
+                case CLOSED:
+                    return new Call(this, current.generation, currentTimeNs());
+
+                case HALF_OPEN:
+                    if (current.permits.getAndDecrement() > 0) {
+                        return new Call(this, current.generation, currentTimeNs());
+                    }
+
+                    if (currentTimeNs() - current.sinceNs < openNs) {
+                        rejected.increment();
+                        return null;
+                    }
+
+                    // trial calls never completed - start a new trial
+                    transition(current, State.HALF_OPEN);
+                    break;
+
+                case OPEN:
+                default:
+                    if (currentTimeNs() - current.sinceNs < openNs) {
+                        rejected.increment();
+                        return null;
+                    }
+
+                    transition(current, State.HALF_OPEN);
+                    break;
+            }
+        }
+    }
+
+    /**
+     * Records the result of a call, possibly changing the state.
+     *
+     * @param generation generation in which the call was allowed through
+     * @param failed {@code true} if the call failed
+     * @param durationNs time, in nanoseconds, that the call took
+     */
+    private void record(long generation, boolean failed, long durationNs) {
+        var current = phase.get();
+        if (current.generation != generation || current.state == State.OPEN) {
+            // allowed through in an earlier state - ignore it
+            return;
+        }
+
+        var window = current.window;
+        window.record(failed, durationNs >= slowCallNs);
+
+        var calls = window.calls.get();
+        var exceeded = (window.getFailureRate() >= failureRateThreshold
+                        || window.getSlowCallRate() >= slowCallRateThreshold);
+
+        if (current.state == State.CLOSED) {
+            if (calls >= minimumCalls && exceeded) {
+                transition(current, State.OPEN);
+            }
+
+        } else if (calls >= halfOpenCalls) {
+            transition(current, exceeded ? State.OPEN : State.CLOSED);
+        }
+    }
+
+    private void transition(Phase current, State newState) {
+        var size = (newState == State.CLOSED ? windowSize : halfOpenCalls);
+        var next = new Phase(newState, current.generation + 1, currentTimeNs(), size);
+
+        if (newState == State.HALF_OPEN) {
+            next.permits.set(halfOpenCalls);
+        }
+
+        if (phase.compareAndSet(current, next) && newState != current.state) {
+            logger.info("circuit breaker {} changed from {} to {}, failure rate {}%, slow-call rate {}%", name,
+                            current.state, newState, current.window.getFailureRate(),
+                            current.window.getSlowCallRate());
+        }
+    }
+
+    // these may be overridden by junit tests
+
+    protected long currentTimeNs() {
+        return System.nanoTime();
+    }
+
+    /**
+     * A call that was allowed through by a breaker. Only the first result recorded for
+     * the call has any effect.
+     */
+    public static class Call {
+        private final CircuitBreaker breaker;
+        private final long generation;
+        private final long startNs;
+        private final AtomicBoolean done = new AtomicBoolean(false);
+
+        private Call(CircuitBreaker breaker, long generation, long startNs) {
+            this.breaker = breaker;
+            this.generation = generation;
+            this.startNs = startNs;
+        }
+
+        /**
+         * Records the result of the call.
+         *
+         * @param failed {@code true} if the call failed
+         */
+        public void completed(boolean failed) {
+            if (breaker != null && done.compareAndSet(false, true)) {
+                breaker.record(generation, failed, breaker.currentTimeNs() - startNs);
+            }
+        }
+
+        /**
+         * Records that the call was abandoned before it completed (e.g., canceled or
+         * timed out). It does not count as a failure, though it may count as slow.
+         */
+        public void abandoned() {
+            completed(false);
+        }
+    }
+
+    /**
+     * Breaker state, along with the calls recorded while in that state.
+     */
+    private static class Phase {
+        private final State state;
+        private final long generation;
+        private final long sinceNs;
+        private final Window window;
+
+        /**
+         * Number of trial calls that may still be allowed through, when half-open.
+         */
+        private final AtomicInteger permits = new AtomicInteger(0);
+
+        private Phase(State state, long generation, long sinceNs, int windowSize) {
+            this.state = state;
+            this.generation = generation;
+            this.sinceNs = sinceNs;
+            this.window = new Window(windowSize);
+        }
+    }
+
+    /**
+     * Ring buffer holding the results of the most recent calls, with running counts.
+     */
+    private static class Window {
+        private final AtomicIntegerArray slots;
+        private final AtomicLong next = new AtomicLong();
+
+        private final AtomicInteger calls = new AtomicInteger();
+        private final AtomicInteger failures = new AtomicInteger();
+        private final AtomicInteger slowCalls = new AtomicInteger();
+
+        private Window(int size) {
+            slots = new AtomicIntegerArray(size);
+        }
+
+        private void record(boolean failed, boolean slow) {
+            int value = OCCUPIED | (failed ? FAILED : 0) | (slow ? SLOW : 0);
+
+            int index = (int) (next.getAndIncrement() % slots.length());
+            int old = slots.getAndSet(index, value);
+
+            // adjust the counts for the call being added and the call being displaced
+            if ((old & OCCUPIED) == 0) {
+                calls.incrementAndGet();
+            }
+
+            failures.addAndGet(bit(value, FAILED) - bit(old, FAILED));
+            slowCalls.addAndGet(bit(value, SLOW) - bit(old, SLOW));
+        }
+
+        private int getFailureRate() {
+            return rate(failures.get());
+        }
+
+        private int getSlowCallRate() {
+            return rate(slowCalls.get());
+        }
+
+        private int rate(int count) {
+            int total = calls.get();
+            return (total == 0 ? 0 : count * 100 / total);
+        }
+
+        private static int bit(int value, int mask) {
+            return ((value & mask) != 0 ? 1 : 0);
+        }
+    }
+}
@@ -0,0 +1,111 @@
+/*-
+ * ============LICENSE_START=======================================================
+ *  Copyright (C) 2026 Nordix Foundation.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.controlloop.actorserviceprovider;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import org.onap.policy.controlloop.actorserviceprovider.parameters.CircuitBreakerParams;
+
+/**
+ * Circuit breakers for the southbound endpoints, one per endpoint, created on first use.
+ * Circuit breakers are disabled until the registry is configured.
+ */
+public class CircuitBreakerRegistry {
+
+    private static final CircuitBreakerRegistry INSTANCE = new CircuitBreakerRegistry();
+
+    /**
+     * Parameters used to create new breakers, or {@code null} if breakers are disabled.
+     */
+    private volatile CircuitBreakerParams params;
+
+    private final ConcurrentMap<String, CircuitBreaker> name2breaker = new ConcurrentHashMap<>();
+
+    /**
+     * Gets the default instance.
+     *
+     * @return the default instance
+     */
+    public static CircuitBreakerRegistry getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Configures the registry, discarding any existing breakers.
+     *
+     * @param params parameters used to create the breakers, or {@code null} to disable
+     *        the breakers
+     */
+    public void configure(CircuitBreakerParams params) {
+        this.params = params;
+        name2breaker.clear();
+    }
+
+    /**
+     * Determines if breakers are enabled.
+     *
+     * @return {@code true} if the registry has been configured, {@code false} otherwise
+     */
+    public boolean isEnabled() {
+        return (params != null);
+    }
+
+    /**
+     * Gets the breaker for an endpoint, creating it if necessary.
+     *
+     * @param name name of the endpoint
+     * @return the endpoint's breaker, or {@code null} if breakers are disabled
+     */
+    public CircuitBreaker getBreaker(String name) {
+        var current = params;
+        if (current == null) {
+            return null;
+        }
+
+        // avoid the lock within computeIfAbsent() for the common case
+        var breaker = name2breaker.get(name);
+        if (breaker != null) {
+            return breaker;
+        }
+
+        return name2breaker.computeIfAbsent(name, key -> makeBreaker(key, current));
+    }
+
+    /**
+     * Gets the breakers that have been created, sorted by name.
+     *
+     * @return the breakers
+     */
+    public List<CircuitBreaker> getBreakers() {
+        List<CircuitBreaker> breakers = new ArrayList<>(name2breaker.values());
+        breakers.sort(Comparator.comparing(CircuitBreaker::getName));
+        return breakers;
+    }
+
+    // these may be overridden by junit tests
+
+    protected CircuitBreaker makeBreaker(String name, CircuitBreakerParams params) {
+        return new CircuitBreaker(name, params);
+    }
+}
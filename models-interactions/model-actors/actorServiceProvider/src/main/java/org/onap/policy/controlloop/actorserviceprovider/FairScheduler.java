@@ -0,0 +1,397 @@
+/*-
+ * ============LICENSE_START=======================================================
+ *  Copyright (C) 2026 Nordix Foundation.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.controlloop.actorserviceprovider;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.onap.policy.controlloop.actorserviceprovider.parameters.SchedulingParams;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Schedules the tasks of operations fairly, by priority class (e.g., closed loop name).
+ * At most {@link SchedulingParams#getMaxConcurrent()} tasks are running on the executors
+ * at once; beyond that, tasks wait in a queue for their class. As each task completes,
+ * the next one is taken from the queues using smooth weighted round-robin, so that each
+ * class with waiting tasks receives a share of the slots in proportion to its weight,
+ * regardless of how many tasks the other classes have queued. Within a class, tasks run
+ * in FIFO order.
+ * <p/>
+ * The tasks handed to a class's executor are never rejected, as they are typically
+ * the continuations of operations that are already in progress, and rejecting them
+ * would leave those operations hanging. Instead, the queue limit is applied when an
+ * operation is started, via {@link #admit(String)}; as an admitted operation may still
+ * queue a few more tasks, a queue may briefly exceed its limit.
+ * <p/>
+ * Scheduling is disabled until the scheduler is configured, in which case tasks are
+ * handed directly to their executors.
+ */
+public class FairScheduler {
+    private static final Logger logger = LoggerFactory.getLogger(FairScheduler.class);
+
+    private static final FairScheduler INSTANCE = new FairScheduler();
+
+    /**
+     * Current parameters, or {@code null} if scheduling is disabled.
+     */
+    private volatile SchedulingParams params;
+
+    /**
+     * Maps a class name to its queue. Queues are retained once created, so that their
+     * counts survive idle periods. Access is guarded by "this".
+     */
+    private final Map<String, ClassQueue> name2queue = new HashMap<>();
+
+    /**
+     * Number of tasks that are currently running, or have been handed to an executor.
+     * Guarded by "this".
+     */
+    private int active = 0;
+
+    /**
+     * Snapshot of the state of a single priority class.
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class ClassSnapshot {
+        private final String name;
+        private final int weight;
+        private final int queueDepth;
+        private final long dispatched;
+        private final long rejected;
+    }
+
+    /**
+     * Gets the default instance.
+     *
+     * @return the default instance
+     */
+    public static FairScheduler getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Determines if scheduling is enabled.
+     *
+     * @return {@code true} if scheduling is enabled, {@code false} otherwise
+     */
+    public boolean isEnabled() {
+        return (params != null);
+    }
+
+    /**
+     * Configures the scheduler. Tasks that are already queued remain queued, but are
+     * dispatched using the new weights.
+     *
+     * @param params new parameters, or {@code null} to disable scheduling, in which case
+     *        queued tasks are still dispatched, but new tasks are handed directly to
+     *        their executors
+     */
+    public void configure(SchedulingParams params) {
+        List<Task> tasks = new ArrayList<>();
+
+        synchronized (this) {
+            this.params = params;
+
+            for (ClassQueue queue : name2queue.values()) {
+                queue.weight = (params == null ? 1 : params.getWeight(queue.name));
+            }
+
+            // the limit may have been raised
+            Task next;
+            while (active < getMaxConcurrent() && (next = select()) != null) {
+                ++active;
+                tasks.add(next);
+            }
+        }
+
+        for (Task task : tasks) {
+            if (!submit(task)) {
+                runNext();
+            }
+        }
+    }
+
+    /**
+     * Gets an executor that schedules its tasks within a class, handing them to the
+     * given executor once they're dispatched.
+     *
+     * @param className name of the class, or {@code null} if the tasks are not
+     *        associated with a class
+     * @param executor executor to which the tasks are to be handed; if this was itself
+     *        returned by this method, then the executor to which it hands its tasks is
+     *        used instead
+     * @return an executor for the class, or the given executor, if the class is
+     *         {@code null} or scheduling is disabled
+     */
+    public Executor forClass(String className, Executor executor) {
+        Executor delegate = executor;
+
+        if (executor instanceof ClassExecutor classExecutor && classExecutor.getScheduler() == this) {
+            if (classExecutor.getClassName().equals(className) && isEnabled()) {
+                return executor;
+            }
+
+            delegate = classExecutor.getDelegate();
+        }
+
+        return (className == null || !isEnabled() ? delegate : new ClassExecutor(this, className, delegate));
+    }
+
+    /**
+     * Determines if a new operation may be started within a class. An operation is
+     * rejected if its class already has {@link SchedulingParams#getMaxQueued()} tasks
+     * waiting.
+     *
+     * @param className name of the class, or {@code null} if the operation is not
+     *        associated with a class
+     * @return {@code true} if the operation may be started, {@code false} if it was
+     *         rejected
+     */
+    public boolean admit(String className) {
+        var current = params;
+        if (current == null || className == null) {
+            return true;
+        }
+
+        synchronized (this) {
+            var queue = name2queue.computeIfAbsent(className, key -> new ClassQueue(key, current.getWeight(key)));
+
+            if (queue.tasks.size() < current.getMaxQueued()) {
+                return true;
+            }
+
+            ++queue.rejected;
+            return false;
+        }
+    }
+
+    /**
+     * Gets a snapshot of the state of each class, sorted by class name.
+     *
+     * @return a snapshot of each class
+     */
+    public synchronized List<ClassSnapshot> getSnapshot() {
+        List<ClassSnapshot> snapshots = new ArrayList<>(name2queue.size());
+
+        for (ClassQueue queue : name2queue.values()) {
+            snapshots.add(new ClassSnapshot(queue.name, queue.weight, queue.tasks.size(), queue.dispatched,
+                            queue.rejected));
+        }
+
+        snapshots.sort(Comparator.comparing(ClassSnapshot::getName));
+        return snapshots;
+    }
+
+    /**
+     * Gets the number of tasks that are currently running, or have been handed to an
+     * executor.
+     *
+     * @return the number of active tasks
+     */
+    public synchronized int getActive() {
+        return active;
+    }
+
+    /**
+     * Executes a task within a class, queuing it if the maximum number of tasks is
+     * already running. The task is queued even if the class's queue is full, as
+     * rejecting it would leave its operation hanging.
+     *
+     * @param className name of the class
+     * @param delegate executor to which the task is to be handed
+     * @param command task to be executed
+     */
+    private void execute(String className, Executor delegate, Runnable command) {
+        var current = params;
+        if (current == null) {
+            // disabled since the executor was created
+            delegate.execute(command);
+            return;
+        }
+
+        synchronized (this) {
+            var queue = name2queue.computeIfAbsent(className,
+                            key -> new ClassQueue(key, current.getWeight(key)));
+
+            if (active >= current.getMaxConcurrent()) {
+                queue.tasks.add(new Task(delegate, command));
+                return;
+            }
+
+            ++active;
+            ++queue.dispatched;
+        }
+
+        try {
+            delegate.execute(() -> run(command));
+
+        } catch (RuntimeException e) {
+            // never ran, thus give up the slot
+            runNext();
+            throw e;
+        }
+    }
+
+    /**
+     * Runs a task, and then dispatches the next queued task in its slot.
+     *
+     * @param command task to be run
+     */
+    private void run(Runnable command) {
+        try {
+            command.run();
+        } finally {
+            runNext();
+        }
+    }
+
+    /**
+     * Dispatches the next queued task in the slot that has just been freed, or releases
+     * the slot if there are no queued tasks.
+     */
+    private void runNext() {
+        for (;;) {
+            Task task;
+
+            synchronized (this) {
+                if (active > getMaxConcurrent() || (task = select()) == null) {
+                    --active;
+                    return;
+                }
+            }
+
+            if (submit(task)) {
+                return;
+            }
+
+            // that task was rejected by its executor - try the next one
+        }
+    }
+
+    /**
+     * Hands a dispatched task to its executor.
+     *
+     * @param task task to be handed off
+     * @return {@code true} if the executor accepted the task, {@code false} otherwise
+     */
+    private boolean submit(Task task) {
+        try {
+            task.delegate.execute(() -> run(task.command));
+            return true;
+
+        } catch (RuntimeException e) {
+            logger.warn("executor rejected a scheduled task", e);
+            return false;
+        }
+    }
+
+    private int getMaxConcurrent() {
+        var current = params;
+        return (current == null ? Integer.MAX_VALUE : current.getMaxConcurrent());
+    }
+
+    /**
+     * Selects the next task to be dispatched, using smooth weighted round-robin among the
+     * classes having queued tasks. Must be invoked while holding the lock.
+     *
+     * @return the next task, or {@code null} if no tasks are queued
+     */
+    private Task select() {
+        ClassQueue best = null;
+        var total = 0;
+
+        for (ClassQueue queue : name2queue.values()) {
+            if (queue.tasks.isEmpty()) {
+                continue;
+            }
+
+            queue.credit += queue.weight;
+            total += queue.weight;
+
+            if (best == null || queue.credit > best.credit) {
+                best = queue;
+            }
+        }
+
+        if (best == null) {
+            return null;
+        }
+
+        best.credit -= total;
+        ++best.dispatched;
+
+        var task = best.tasks.poll();
+        if (best.tasks.isEmpty()) {
+            // an idle class does not accumulate credit
+            best.credit = 0;
+        }
+
+        return task;
+    }
+
+    /**
+     * Tasks waiting to be dispatched for a single class. Guarded by the scheduler's lock.
+     */
+    private static class ClassQueue {
+        private final String name;
+        private final Deque<Task> tasks = new ArrayDeque<>();
+        private int weight;
+        private int credit = 0;
+        private long dispatched = 0;
+        private long rejected = 0;
+
+        private ClassQueue(String name, int weight) {
+            this.name = name;
+            this.weight = weight;
+        }
+    }
+
+    @AllArgsConstructor
+    private static class Task {
+        private final Executor delegate;
+        private final Runnable command;
+    }
+
+    /**
+     * Executor that schedules its tasks within a class.
+     */
+    @Getter
+    @AllArgsConstructor
+    private static class ClassExecutor implements Executor {
+        private final FairScheduler scheduler;
+        private final String className;
+        private final Executor delegate;
+
+        @Override
+        public void execute(Runnable command) {
+            scheduler.execute(className, delegate, command);
+        }
+    }
+}
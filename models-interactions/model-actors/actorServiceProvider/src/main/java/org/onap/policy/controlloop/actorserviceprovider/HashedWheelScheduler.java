@@ -0,0 +1,445 @@
+/*-
+ * ============LICENSE_START=======================================================
+ *  Copyright (C) 2026 Nordix Foundation.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.controlloop.actorserviceprovider;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import lombok.NonNull;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * {@link OperationScheduler} implemented as a hashed timing wheel. Scheduling and
+ * canceling are O(1) and lock-free; timers are only placed into, and removed from, the
+ * wheel by a single background thread, which advances the wheel once per tick and runs
+ * the tasks that have expired. Tasks therefore run up to one tick late.
+ * <p/>
+ * The settings of the default instance may be changed via system properties:
+ * <dl>
+ * <dt>{@value #TICK_PROPERTY}</dt>
+ * <dd>tick duration, in milliseconds (default {@value #DEFAULT_TICK_MS})</dd>
+ * <dt>{@value #WHEEL_PROPERTY}</dt>
+ * <dd>number of buckets in the wheel, rounded up to a power of two (default
+ * {@value #DEFAULT_WHEEL_SIZE})</dd>
+ * </dl>
+ */
+public class HashedWheelScheduler implements OperationScheduler {
+    private static final Logger logger = LoggerFactory.getLogger(HashedWheelScheduler.class);
+
+    public static final String TICK_PROPERTY = "org.onap.policy.controlloop.timer.tickMs";
+    public static final String WHEEL_PROPERTY = "org.onap.policy.controlloop.timer.wheelSize";
+
+    public static final long DEFAULT_TICK_MS = 10;
+    public static final int DEFAULT_WHEEL_SIZE = 512;
+
+    /**
+     * Maximum number of newly scheduled timers to move into the wheel per tick, so that a
+     * burst of new timers cannot delay the expiration of others.
+     */
+    private static final int MAX_TRANSFERS_PER_TICK = 100000;
+
+    private static final int MAX_WHEEL_SIZE = 1 << 20;
+
+    private static final int STATE_INIT = 0;
+    private static final int STATE_RUNNING = 1;
+    private static final int STATE_STOPPED = 2;
+
+    private static final HashedWheelScheduler INSTANCE = makeDefault();
+
+    private final long tickNs;
+    private final Bucket[] wheel;
+    private final int mask;
+
+    /**
+     * Timers that have been scheduled, but not yet placed into the wheel.
+     */
+    private final Queue<Entry> newTimers = new ConcurrentLinkedQueue<>();
+
+    /**
+     * Timers that have been canceled, but may still be in the wheel.
+     */
+    private final Queue<Entry> canceledTimers = new ConcurrentLinkedQueue<>();
+
+    private final AtomicLong scheduledCount = new AtomicLong();
+    private final AtomicLong cancelledCount = new AtomicLong();
+    private final AtomicLong expiredCount = new AtomicLong();
+    private final AtomicLong pendingCount = new AtomicLong();
+
+    /**
+     * State of the scheduler: not started, running, or stopped.
+     */
+    private final AtomicInteger state = new AtomicInteger(STATE_INIT);
+
+    private volatile Thread worker;
+
+    /**
+     * Time, from {@link #currentTimeNs()}, at which the worker started; tick deadlines
+     * are relative to this.
+     */
+    private volatile long startNs;
+
+    /**
+     * Constructs the object.
+     *
+     * @param tick duration of each tick
+     * @param unit tick units
+     * @param wheelSize number of buckets in the wheel; rounded up to a power of two
+     */
+    public HashedWheelScheduler(long tick, @NonNull TimeUnit unit, int wheelSize) {
+        if (tick <= 0) {
+            throw new IllegalArgumentException("tick must be positive");
+        }
+
+        if (wheelSize <= 0 || wheelSize > MAX_WHEEL_SIZE) {
+            throw new IllegalArgumentException("wheel size must be between 1 and " + MAX_WHEEL_SIZE);
+        }
+
+        this.tickNs = unit.toNanos(tick);
+
+        var size = Integer.highestOneBit(wheelSize);
+        if (size < wheelSize) {
+            size <<= 1;
+        }
+
+        this.wheel = new Bucket[size];
+        for (var index = 0; index < size; ++index) {
+            wheel[index] = new Bucket();
+        }
+
+        this.mask = size - 1;
+    }
+
+    /**
+     * Gets the default instance.
+     *
+     * @return the default instance
+     */
+    public static HashedWheelScheduler getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Gets the number of timers that have been scheduled.
+     *
+     * @return the number of timers that have been scheduled
+     */
+    public long getScheduledCount() {
+        return scheduledCount.get();
+    }
+
+    /**
+     * Gets the number of timers that were canceled before they expired.
+     *
+     * @return the number of timers that were canceled
+     */
+    public long getCancelledCount() {
+        return cancelledCount.get();
+    }
+
+    /**
+     * Gets the number of timers that have expired.
+     *
+     * @return the number of timers that have expired
+     */
+    public long getExpiredCount() {
+        return expiredCount.get();
+    }
+
+    /**
+     * Gets the number of timers that have neither expired nor been canceled.
+     *
+     * @return the number of timers that are pending
+     */
+    public long getPendingCount() {
+        return pendingCount.get();
+    }
+
+    /**
+     * Gets the number of buckets in the wheel.
+     *
+     * @return the number of buckets in the wheel
+     */
+    public int getWheelSize() {
+        return wheel.length;
+    }
+
+    /**
+     * Schedules a task. Starts the background thread, if it isn't already running.
+     *
+     * @throws IllegalStateException if the scheduler has been stopped
+     */
+    @Override
+    public Timeout schedule(@NonNull Runnable task, long delay, @NonNull TimeUnit unit) {
+        start();
+
+        var entry = new Entry(task, currentTimeNs() + Math.max(0, unit.toNanos(delay)));
+
+        scheduledCount.incrementAndGet();
+        pendingCount.incrementAndGet();
+        newTimers.add(entry);
+
+        return entry;
+    }
+
+    /**
+     * Stops the background thread. Pending timers are discarded without being run.
+     *
+     * @throws InterruptedException if interrupted while waiting for the thread to stop
+     */
+    public void stop() throws InterruptedException {
+        if (state.getAndSet(STATE_STOPPED) != STATE_RUNNING) {
+            return;
+        }
+
+        var thread = worker;
+        LockSupport.unpark(thread);
+        thread.join();
+
+        pendingCount.set(0);
+    }
+
+    /**
+     * Starts the background thread, if it isn't already running.
+     */
+    private void start() {
+        if (state.get() == STATE_INIT) {
+            synchronized (this) {
+                if (state.get() == STATE_INIT) {
+                    startNs = currentTimeNs();
+                    worker = makeThread(this::run);
+                    state.set(STATE_RUNNING);
+                    worker.start();
+                }
+            }
+        }
+
+        if (state.get() == STATE_STOPPED) {
+            throw new IllegalStateException("scheduler has been stopped");
+        }
+    }
+
+    /**
+     * Body of the background thread.
+     */
+    private void run() {
+        long tick = 0;
+
+        while (state.get() == STATE_RUNNING) {
+            long deadline = startNs + (tick + 1) * tickNs;
+
+            long waitNs = deadline - currentTimeNs();
+            if (waitNs > 0) {
+                LockSupport.parkNanos(this, waitNs);
+                continue;
+            }
+
+            removeCanceled();
+            transferNewTimers(tick);
+            wheel[(int) (tick & mask)].expire(deadline);
+
+            ++tick;
+        }
+
+        logger.info("timer stopped, {} scheduled, {} expired, {} canceled", scheduledCount.get(), expiredCount.get(),
+                        cancelledCount.get());
+    }
+
+    private void removeCanceled() {
+        Entry entry;
+        while ((entry = canceledTimers.poll()) != null) {
+            if (entry.bucket != null) {
+                entry.bucket.remove(entry);
+            }
+        }
+    }
+
+    /**
+     * Moves newly scheduled timers into the wheel.
+     *
+     * @param tick current tick
+     */
+    private void transferNewTimers(long tick) {
+        for (var count = 0; count < MAX_TRANSFERS_PER_TICK; ++count) {
+            var entry = newTimers.poll();
+            if (entry == null) {
+                return;
+            }
+
+            if (entry.isCancelled()) {
+                continue;
+            }
+
+            // round up, so the timer never fires early
+            long expireTick = Math.max(tick, (entry.deadline - startNs + tickNs - 1) / tickNs - 1);
+            entry.remainingRounds = (expireTick - tick) / wheel.length;
+
+            wheel[(int) (expireTick & mask)].add(entry);
+        }
+    }
+
+    /**
+     * Timer entry. Its links are only touched by the background thread.
+     */
+    private class Entry implements Timeout {
+        private static final int ENTRY_INIT = 0;
+        private static final int ENTRY_CANCELLED = 1;
+        private static final int ENTRY_EXPIRED = 2;
+
+        private final Runnable task;
+        private final long deadline;
+        private final AtomicInteger entryState = new AtomicInteger(ENTRY_INIT);
+
+        private long remainingRounds;
+        private Bucket bucket;
+        private Entry next;
+        private Entry prev;
+
+        private Entry(Runnable task, long deadline) {
+            this.task = task;
+            this.deadline = deadline;
+        }
+
+        @Override
+        public boolean cancel() {
+            if (!entryState.compareAndSet(ENTRY_INIT, ENTRY_CANCELLED)) {
+                return false;
+            }
+
+            cancelledCount.incrementAndGet();
+            pendingCount.decrementAndGet();
+            canceledTimers.add(this);
+
+            return true;
+        }
+
+        @Override
+        public boolean isCancelled() {
+            return (entryState.get() == ENTRY_CANCELLED);
+        }
+
+        @Override
+        public boolean isExpired() {
+            return (entryState.get() == ENTRY_EXPIRED);
+        }
+
+        private void expire() {
+            if (!entryState.compareAndSet(ENTRY_INIT, ENTRY_EXPIRED)) {
+                return;
+            }
+
+            expiredCount.incrementAndGet();
+            pendingCount.decrementAndGet();
+
+            try {
+                task.run();
+
+            } catch (Throwable e) {     // NOSONAR - the timer thread must survive any task failure
+                logger.warn("timer task threw an exception", e);
+            }
+        }
+    }
+
+    /**
+     * Doubly-linked list of the timers within one slot of the wheel.
+     */
+    private static class Bucket {
+        private Entry head;
+        private Entry tail;
+
+        private void add(Entry entry) {
+            entry.bucket = this;
+
+            if (head == null) {
+                head = entry;
+            } else {
+                tail.next = entry;
+                entry.prev = tail;
+            }
+
+            tail = entry;
+        }
+
+        private void remove(Entry entry) {
+            if (entry.prev != null) {
+                entry.prev.next = entry.next;
+            } else {
+                head = entry.next;
+            }
+
+            if (entry.next != null) {
+                entry.next.prev = entry.prev;
+            } else {
+                tail = entry.prev;
+            }
+
+            entry.bucket = null;
+            entry.next = null;
+            entry.prev = null;
+        }
+
+        /**
+         * Runs the timers whose final round has arrived, and moves the others one round
+         * closer.
+         *
+         * @param deadline deadline of the current tick
+         */
+        private void expire(long deadline) {
+            var entry = head;
+            while (entry != null) {
+                var next = entry.next;
+
+                if (entry.isCancelled()) {
+                    remove(entry);
+
+                } else if (entry.remainingRounds <= 0 && entry.deadline <= deadline) {
+                    remove(entry);
+                    entry.expire();
+
+                } else {
+                    --entry.remainingRounds;
+                }
+
+                entry = next;
+            }
+        }
+    }
+
+    private static HashedWheelScheduler makeDefault() {
+        return new HashedWheelScheduler(Long.getLong(TICK_PROPERTY, DEFAULT_TICK_MS), TimeUnit.MILLISECONDS,
+                        Integer.getInteger(WHEEL_PROPERTY, DEFAULT_WHEEL_SIZE));
+    }
+
+    // these may be overridden by junit tests
+
+    protected Thread makeThread(Runnable runnable) {
+        var thread = new Thread(runnable, "operation-timer");
+        thread.setDaemon(true);
+        return thread;
+    }
+
+    protected long currentTimeNs() {
+        return System.nanoTime();
+    }
+}
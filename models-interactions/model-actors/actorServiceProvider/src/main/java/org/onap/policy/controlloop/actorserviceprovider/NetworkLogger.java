@@ -0,0 +1,301 @@
+/*-
+ * ============LICENSE_START=======================================================
+ *  Copyright (C) 2026 Nordix Foundation.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.controlloop.actorserviceprovider;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import lombok.NonNull;
+import org.onap.policy.common.message.bus.event.Topic.CommInfrastructure;
+import org.onap.policy.common.message.bus.utils.NetLoggerUtil;
+import org.onap.policy.common.message.bus.utils.NetLoggerUtil.EventType;
+import org.onap.policy.controlloop.actorserviceprovider.parameters.NetworkLogParams;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Logs the messages that operations exchange with other components. Depending on the
+ * {@link Level}, either the full body of each message, a one-line summary of it, or a
+ * sample of full bodies is logged. A message body is only rendered (e.g., encoded as
+ * JSON) if it is actually going to be logged.
+ * <p/>
+ * By default, messages are written on the calling thread. If a queue size is
+ * configured, they are instead handed to a background thread via a bounded queue;
+ * messages that arrive while the queue is full are dropped and counted, rather than
+ * blocking the operation.
+ * <p/>
+ * The default instance logs full message bodies on the calling thread, until it is
+ * configured via the "networkLog" entry of the actor service's parameters, see
+ * {@link NetworkLogParams}. When the logger is reconfigured, messages that are already
+ * queued are still written by the old background thread, which then exits.
+ */
+public class NetworkLogger {
+    private static final Logger logger = LoggerFactory.getLogger(NetworkLogger.class);
+
+    public static final int DEFAULT_SAMPLE_RATE = 100;
+
+    /**
+     * Amount of detail to be logged.
+     */
+    public enum Level {
+        /**
+         * Nothing is logged.
+         */
+        OFF,
+
+        /**
+         * Only the direction, infrastructure, source, and size of each message is logged.
+         */
+        SUMMARY,
+
+        /**
+         * The full body of each message is logged.
+         */
+        FULL,
+
+        /**
+         * The full body of one message in every "sample rate" messages is logged; a
+         * summary is logged for the others.
+         */
+        SAMPLED
+    }
+
+    private static final NetworkLogger INSTANCE = new NetworkLogger(Level.FULL, DEFAULT_SAMPLE_RATE, 0);
+
+    /**
+     * Current settings, replaced whenever the logger is reconfigured.
+     */
+    private volatile Settings settings;
+
+    private final AtomicLong messageCount = new AtomicLong();
+    private final AtomicLong dropCount = new AtomicLong();
+
+    /**
+     * Constructs the object.
+     *
+     * @param level amount of detail to be logged
+     * @param sampleRate with {@link Level#SAMPLED}, one message in this many is logged
+     *        in full
+     * @param queueSize size of the queue of messages waiting to be written, or 0 to
+     *        write them on the calling thread
+     */
+    public NetworkLogger(@NonNull Level level, int sampleRate, int queueSize) {
+        this.settings = new Settings(level, sampleRate, queueSize);
+    }
+
+    /**
+     * Reconfigures the logger. Messages that are already queued are still written.
+     *
+     * @param params new parameters
+     */
+    public synchronized void configure(@NonNull NetworkLogParams params) {
+        var old = settings;
+        settings = new Settings(params.getLevel(), params.getSampleRate(), params.getQueueSize());
+        old.close();
+    }
+
+    /**
+     * Gets the default instance.
+     *
+     * @return the default instance
+     */
+    public static NetworkLogger getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Gets the amount of detail that is currently logged.
+     *
+     * @return the amount of detail that is currently logged
+     */
+    public Level getLevel() {
+        return settings.level;
+    }
+
+    /**
+     * Logs a message.
+     *
+     * @param opLogger logger of the operation that sent or received the message
+     * @param network {@code true} if the message should also be written to the
+     *        {@link NetLoggerUtil network log}
+     * @param direction IN or OUT
+     * @param infra communication infrastructure on which it was published
+     * @param source source name (e.g., the URL or Topic name)
+     * @param message message to be logged
+     * @param renderer function to convert the message to text, invoked on the calling
+     *        thread, but only if the message body is to be logged
+     * @return the rendered message, or {@code null} if the message body was not rendered
+     */
+    public <T> String log(Logger opLogger, boolean network, EventType direction, CommInfrastructure infra,
+                    String source, T message, Function<T, String> renderer) {
+
+        var current = settings;
+        var level = current.level;
+
+        if (level == Level.OFF
+                        || !(opLogger.isInfoEnabled() || network && NetLoggerUtil.getNetworkLogger().isInfoEnabled())) {
+            return null;
+        }
+
+        final String text;
+        final String rendered;
+        if (level == Level.FULL
+                        || (level == Level.SAMPLED && messageCount.getAndIncrement() % current.sampleRate == 0)) {
+            rendered = renderer.apply(message);
+            text = rendered;
+        } else {
+            rendered = null;
+            text = summarize(message);
+        }
+
+        Runnable writer = () -> {
+            opLogger.info("[{}|{}|{}|]{}{}", direction, infra, source, NetLoggerUtil.SYSTEM_LS, text);
+            if (network) {
+                NetLoggerUtil.log(direction, infra, source, text);
+            }
+        };
+
+        if (current.queue == null) {
+            writer.run();
+
+        } else if (!current.queue.offer(writer)) {
+            dropCount.incrementAndGet();
+        }
+
+        return rendered;
+    }
+
+    /**
+     * Gets the number of messages that were dropped because the queue was full.
+     *
+     * @return the number of messages that were dropped
+     */
+    public long getDropCount() {
+        return dropCount.get();
+    }
+
+    /**
+     * Summarizes a message, without rendering it.
+     *
+     * @param message message to be summarized
+     * @return a summary of the message
+     */
+    private static String summarize(Object message) {
+        if (message == null) {
+            return "null";
+
+        } else if (message instanceof String text) {
+            return "<" + text.length() + " characters>";
+
+        } else {
+            return "<" + message.getClass().getSimpleName() + ">";
+        }
+    }
+
+    /**
+     * Settings of the logger, along with the queue and thread used to write messages in
+     * the background, if configured.
+     */
+    private class Settings {
+        private final Level level;
+        private final int sampleRate;
+
+        /**
+         * Messages waiting to be written, or {@code null} if messages are written on the
+         * calling thread.
+         */
+        private final BlockingQueue<Runnable> queue;
+
+        private final Thread thread;
+
+        /**
+         * Set when these settings have been replaced, just before the thread is
+         * interrupted.
+         */
+        private volatile boolean closed = false;
+
+        Settings(Level level, int sampleRate, int queueSize) {
+            this.level = level;
+            this.sampleRate = Math.max(1, sampleRate);
+
+            if (queueSize <= 0) {
+                this.queue = null;
+                this.thread = null;
+
+            } else {
+                this.queue = new ArrayBlockingQueue<>(queueSize);
+
+                this.thread = makeThread(this::run);
+                this.thread.setDaemon(true);
+                this.thread.start();
+            }
+        }
+
+        /**
+         * Stops the writer thread, once it has written the messages that are queued.
+         */
+        void close() {
+            if (thread != null) {
+                closed = true;
+                thread.interrupt();
+            }
+        }
+
+        /**
+         * Body of the writer thread.
+         */
+        private void run() {
+            try {
+                for (;;) {
+                    write(queue.take());
+                }
+
+            } catch (InterruptedException e) {
+                if (!closed) {
+                    logger.warn("network logger interrupted");
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+
+            // replaced by new settings - write whatever remains in the queue
+            for (var writer = queue.poll(); writer != null; writer = queue.poll()) {
+                write(writer);
+            }
+        }
+
+        private void write(Runnable writer) {
+            try {
+                writer.run();
+
+            } catch (RuntimeException e) {
+                logger.warn("cannot log network message", e);
+            }
+        }
+    }
+
+    // these may be overridden by junit tests
+
+    protected Thread makeThread(Runnable runnable) {
+        return new Thread(runnable, "network-logger");
+    }
+}
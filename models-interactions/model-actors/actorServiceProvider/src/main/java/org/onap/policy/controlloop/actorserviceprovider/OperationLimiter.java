@@ -0,0 +1,336 @@
+/*-
+ * ============LICENSE_START=======================================================
+ *  Copyright (C) 2026 Nordix Foundation.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.controlloop.actorserviceprovider;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.onap.policy.controlloop.actorserviceprovider.parameters.BulkheadParams;
+
+/**
+ * Limits the number of operations that may run concurrently, per actor and operation,
+ * and per target entity. Requests that exceed a limit are queued, in FIFO order, until a
+ * running operation releases its permit. Requests are rejected, with a
+ * {@link RejectedExecutionException}, when the queue is full, or with a
+ * {@link java.util.concurrent.TimeoutException TimeoutException}, when they have waited
+ * too long.
+ */
+public class OperationLimiter {
+
+    /**
+     * Permit used when there is no limit.
+     */
+    private static final Permit UNLIMITED = () -> { };
+
+    private static final OperationLimiter INSTANCE = new OperationLimiter();
+
+    /**
+     * Maps "actor.operation" to its limits. Operations that do not appear are unlimited.
+     */
+    private final ConcurrentMap<String, Limits> name2limits = new ConcurrentHashMap<>();
+
+    /**
+     * Scheduler used to time out requests that have been queued too long.
+     */
+    private final OperationScheduler scheduler;
+
+    /**
+     * Permit to run an operation, which must be released when the operation completes.
+     * Releasing a permit more than once has no effect.
+     */
+    @FunctionalInterface
+    public interface Permit {
+        void release();
+    }
+
+    /**
+     * Constructs the object, using the default scheduler.
+     */
+    public OperationLimiter() {
+        this(HashedWheelScheduler.getInstance());
+    }
+
+    /**
+     * Constructs the object.
+     *
+     * @param scheduler scheduler used to time out queued requests
+     */
+    public OperationLimiter(OperationScheduler scheduler) {
+        this.scheduler = scheduler;
+    }
+
+    /**
+     * Gets the default instance.
+     *
+     * @return the default instance
+     */
+    public static OperationLimiter getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Configures the limits for an operation, replacing any previous limits. Permits
+     * granted under the previous limits are still released against them.
+     *
+     * @param actor actor name
+     * @param operation operation name
+     * @param params new limits, or {@code null} if the operation is unlimited
+     */
+    public void configure(String actor, String operation, BulkheadParams params) {
+        var name = actor + "." + operation;
+
+        if (params == null || !params.isLimited()) {
+            name2limits.remove(name);
+        } else {
+            name2limits.put(name, new Limits(params));
+        }
+    }
+
+    /**
+     * Acquires a permit to run an operation.
+     *
+     * @param actor actor name
+     * @param operation operation name
+     * @param target target entity, or {@code null} if unknown, in which case the
+     *        per-target limit does not apply
+     * @return {@code null} if the operation is unlimited, otherwise a future that
+     *         completes with the permit once the operation may run
+     */
+    public CompletableFuture<Permit> acquire(String actor, String operation, String target) {
+        var limits = name2limits.get(actor + "." + operation);
+        return (limits == null ? null : limits.acquire(target));
+    }
+
+    /**
+     * Limits for a single actor and operation.
+     */
+    private class Limits {
+        private final BulkheadParams params;
+
+        /**
+         * Limits the operation across all targets, or {@code null} if unlimited.
+         */
+        private final Bulkhead bulkhead;
+
+        /**
+         * Maps a target entity to its limit. Entries are removed once they are idle.
+         */
+        private final ConcurrentMap<String, Bulkhead> target2bulkhead = new ConcurrentHashMap<>();
+
+        private Limits(BulkheadParams params) {
+            this.params = params;
+            this.bulkhead = (params.getMaxConcurrent() > 0
+                            ? new Bulkhead(params.getMaxConcurrent(), params.getMaxQueued(), null, null)
+                            : null);
+        }
+
+        private CompletableFuture<Permit> acquire(String target) {
+            final var result = new CompletableFuture<Permit>();
+
+            // wait for the target first, so that a busy target doesn't tie up the others
+            final CompletableFuture<Permit> targetWait = acquireTarget(target);
+
+            CompletableFuture<Permit> both = targetWait.thenCompose(first -> {
+                CompletableFuture<Permit> second = acquireFrom(bulkhead);
+
+                // stop waiting if the request is rejected or canceled
+                result.whenComplete((permit, thrown) -> second.cancel(false));
+
+                return second.handle((permit, thrown) -> {
+                    if (thrown != null) {
+                        first.release();
+                        throw new CompletionException(thrown);
+                    }
+
+                    Permit combined = () -> {
+                        permit.release();
+                        first.release();
+                    };
+
+                    return combined;
+                });
+            });
+
+            result.whenComplete((permit, thrown) -> targetWait.cancel(false));
+
+            both.whenComplete((permit, thrown) -> {
+                if (thrown != null) {
+                    result.completeExceptionally(thrown instanceof CompletionException ? thrown.getCause() : thrown);
+
+                } else if (!result.complete(permit)) {
+                    // no longer wanted
+                    permit.release();
+                }
+            });
+
+            if (!result.isDone()) {
+                scheduler.orTimeout(result, params.getQueueTimeoutSec(), TimeUnit.SECONDS);
+            }
+
+            return result;
+        }
+
+        private CompletableFuture<Permit> acquireTarget(String target) {
+            if (target == null || params.getMaxConcurrentPerTarget() <= 0) {
+                return acquireFrom(null);
+            }
+
+            for (;;) {
+                var targetBulkhead = target2bulkhead.computeIfAbsent(target, key -> new Bulkhead(
+                                params.getMaxConcurrentPerTarget(), params.getMaxQueued(), target2bulkhead, key));
+
+                var future = targetBulkhead.acquire();
+                if (future != null) {
+                    return future;
+                }
+
+                // that one was just retired - try again
+            }
+        }
+
+        private CompletableFuture<Permit> acquireFrom(Bulkhead bulkhead) {
+            return (bulkhead == null ? CompletableFuture.completedFuture(UNLIMITED) : bulkhead.acquire());
+        }
+    }
+
+    /**
+     * Limits the number of permits that may be held at once, queuing requests once the
+     * limit is reached.
+     */
+    private static class Bulkhead {
+        private final int maxConcurrent;
+        private final int maxQueued;
+
+        /**
+         * Map that contains this bulkhead, from which it is removed once it's idle, or
+         * {@code null} if it should not be removed.
+         */
+        private final ConcurrentMap<String, Bulkhead> owner;
+        private final String key;
+
+        /**
+         * Requests waiting for a permit, in arrival order.
+         */
+        private final Deque<CompletableFuture<Permit>> waiters = new ArrayDeque<>();
+
+        /**
+         * Number of permits that are currently held.
+         */
+        private int active = 0;
+
+        /**
+         * {@code true} if the bulkhead has been removed from its owner, in which case it
+         * no longer grants permits.
+         */
+        private boolean retired = false;
+
+        private Bulkhead(int maxConcurrent, int maxQueued, ConcurrentMap<String, Bulkhead> owner, String key) {
+            this.maxConcurrent = maxConcurrent;
+            this.maxQueued = maxQueued;
+            this.owner = owner;
+            this.key = key;
+        }
+
+        /**
+         * Acquires a permit.
+         *
+         * @return a future that completes with the permit, or {@code null} if the
+         *         bulkhead has been retired
+         */
+        private CompletableFuture<Permit> acquire() {
+            final var waiter = new CompletableFuture<Permit>();
+
+            synchronized (this) {
+                if (retired) {
+                    return null;
+                }
+
+                if (active < maxConcurrent) {
+                    ++active;
+                    return CompletableFuture.completedFuture(makePermit());
+                }
+
+                if (waiters.size() >= maxQueued) {
+                    return CompletableFuture.failedFuture(new RejectedExecutionException("operation queue is full"));
+                }
+
+                waiters.add(waiter);
+            }
+
+            // discard the request if it's rejected or canceled while waiting
+            waiter.whenComplete((permit, thrown) -> {
+                if (thrown != null) {
+                    removeWaiter(waiter);
+                }
+            });
+
+            return waiter;
+        }
+
+        private synchronized void removeWaiter(CompletableFuture<Permit> waiter) {
+            waiters.remove(waiter);
+        }
+
+        /**
+         * Releases a permit, handing it to the next waiting request, if any.
+         */
+        private void release() {
+            for (;;) {
+                CompletableFuture<Permit> waiter;
+
+                synchronized (this) {
+                    waiter = waiters.poll();
+
+                    if (waiter == null) {
+                        if (--active == 0 && owner != null) {
+                            retired = true;
+                            owner.remove(key, this);
+                        }
+
+                        return;
+                    }
+                }
+
+                if (waiter.complete(makePermit())) {
+                    return;
+                }
+
+                // that request is no longer waiting - try the next one
+            }
+        }
+
+        private Permit makePermit() {
+            var released = new AtomicBoolean(false);
+
+            return () -> {
+                if (released.compareAndSet(false, true)) {
+                    release();
+                }
+            };
+        }
+    }
+}
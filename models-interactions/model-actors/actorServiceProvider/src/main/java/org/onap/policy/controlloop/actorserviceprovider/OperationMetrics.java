@@ -0,0 +1,627 @@
+/*-
+ * ============LICENSE_START=======================================================
+ *  Copyright (C) 2026 Nordix Foundation.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.controlloop.actorserviceprovider;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.ToLongFunction;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Metrics for the operations performed by the actors, recorded per actor and operation:
+ * latency histograms (per result), the number of operations in flight, and counts of
+ * starts, cancellations, retries, polls, hedges, and timeouts. Recording is lock-free;
+ * the metrics may be read via {@link #getSnapshot()} or {@link #toPrometheus()}. The
+ * latter also includes the state of the circuit breakers guarding the southbound
+ * endpoints, and the queues of the fair scheduler.
+ */
+public class OperationMetrics {
+
+    /**
+     * Upper bounds, in milliseconds, of the latency histogram buckets. A final bucket,
+     * without an upper bound, holds everything else.
+     */
+    private static final long[] BUCKET_BOUNDS_MS =
+        {5, 10, 25, 50, 100, 250, 500, 1000, 2500, 5000, 10000, 30000, 60000, 120000, 300000};
+
+    private static final String PREFIX = "controlloop_operation_";
+    private static final String BREAKER_PREFIX = "controlloop_circuit_breaker_";
+    private static final String SCHEDULER_PREFIX = "controlloop_scheduler_";
+
+    private static final OperationResult[] RESULTS = OperationResult.values();
+
+    /**
+     * Minimum number of samples needed before a percentile is estimated.
+     */
+    private static final long MIN_PERCENTILE_COUNT = 20;
+
+    /**
+     * Length, in milliseconds, of each slice of the window over which latency percentiles
+     * are estimated.
+     */
+    private static final long SLICE_MS = 30000;
+
+    /**
+     * Number of slices in the percentile window, which thus covers the last four and a
+     * half to five minutes.
+     */
+    private static final int SLICES = 10;
+
+    private static final OperationMetrics INSTANCE = new OperationMetrics();
+
+    /**
+     * Maps "actor.operation" to its statistics.
+     */
+    private final ConcurrentMap<String, Stats> name2stats = new ConcurrentHashMap<>();
+
+    /**
+     * Circuit breakers whose state is included in the Prometheus output.
+     */
+    private final CircuitBreakerRegistry breakers;
+
+    /**
+     * Scheduler whose queues are included in the Prometheus output.
+     */
+    private final FairScheduler scheduler;
+
+    /**
+     * Constructs the object, using the default circuit breaker registry and scheduler.
+     */
+    public OperationMetrics() {
+        this(CircuitBreakerRegistry.getInstance());
+    }
+
+    /**
+     * Constructs the object, using the default scheduler.
+     *
+     * @param breakers circuit breakers whose state is to be included in the Prometheus
+     *        output
+     */
+    public OperationMetrics(CircuitBreakerRegistry breakers) {
+        this(breakers, FairScheduler.getInstance());
+    }
+
+    /**
+     * Constructs the object.
+     *
+     * @param breakers circuit breakers whose state is to be included in the Prometheus
+     *        output
+     * @param scheduler scheduler whose queues are to be included in the Prometheus output
+     */
+    public OperationMetrics(CircuitBreakerRegistry breakers, FairScheduler scheduler) {
+        this.breakers = breakers;
+        this.scheduler = scheduler;
+    }
+
+    /**
+     * Gets the default instance.
+     *
+     * @return the default instance
+     */
+    public static OperationMetrics getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Gets the upper bounds, in milliseconds, of the latency histogram buckets.
+     *
+     * @return the bucket bounds
+     */
+    public static long[] getBucketBoundsMs() {
+        return BUCKET_BOUNDS_MS.clone();
+    }
+
+    /**
+     * Records the start of an operation.
+     *
+     * @param actor actor name
+     * @param operation operation name
+     */
+    public void started(String actor, String operation) {
+        var stats = getStats(actor, operation);
+        stats.started.increment();
+        stats.inFlight.increment();
+    }
+
+    /**
+     * Records the completion of an operation that was previously started.
+     *
+     * @param actor actor name
+     * @param operation operation name
+     * @param result operation result, or {@code null} if unknown, in which case the
+     *        latency is not recorded
+     * @param durationMs time, in milliseconds, from the start of the operation until it
+     *        completed
+     */
+    public void completed(String actor, String operation, OperationResult result, long durationMs) {
+        var stats = getStats(actor, operation);
+        stats.inFlight.decrement();
+
+        if (result == null) {
+            return;
+        }
+
+        if (result == OperationResult.FAILURE_TIMEOUT) {
+            stats.timeouts.increment();
+        }
+
+        stats.getHistogram(result).record(durationMs, currentTimeMs());
+    }
+
+    /**
+     * Records the cancellation of an operation that was previously started.
+     *
+     * @param actor actor name
+     * @param operation operation name
+     */
+    public void cancelled(String actor, String operation) {
+        var stats = getStats(actor, operation);
+        stats.inFlight.decrement();
+        stats.cancelled.increment();
+    }
+
+    /**
+     * Records a retry of an operation.
+     *
+     * @param actor actor name
+     * @param operation operation name
+     */
+    public void retried(String actor, String operation) {
+        getStats(actor, operation).retries.increment();
+    }
+
+    /**
+     * Records a poll issued by an operation.
+     *
+     * @param actor actor name
+     * @param operation operation name
+     */
+    public void polled(String actor, String operation) {
+        getStats(actor, operation).polls.increment();
+    }
+
+    /**
+     * Records a duplicate request sent by an operation, to hedge against a slow response.
+     *
+     * @param actor actor name
+     * @param operation operation name
+     */
+    public void hedged(String actor, String operation) {
+        getStats(actor, operation).hedges.increment();
+    }
+
+    /**
+     * Estimates a latency percentile for an operation, from the operations that completed
+     * within the last five minutes, so that the estimate follows changes in latency. The
+     * estimate is only as fine as the histogram buckets: it is the upper bound of the
+     * bucket containing the percentile, and it is never more than the largest bound (300
+     * seconds).
+     *
+     * @param actor actor name
+     * @param operation operation name
+     * @param result result whose latencies are to be examined
+     * @param percentile desired percentile
+     * @return the upper bound, in milliseconds, of the bucket containing the percentile,
+     *         or {@code -1} if too few operations have recently completed with the given
+     *         result
+     */
+    public long getLatencyPercentileMs(String actor, String operation, OperationResult result, int percentile) {
+        var stats = name2stats.get(actor + "." + operation);
+        if (stats == null) {
+            return -1;
+        }
+
+        var histogram = stats.histograms.get(result.ordinal());
+        if (histogram == null) {
+            return -1;
+        }
+
+        long[] bucketCounts = histogram.recentCounts(currentTimeMs());
+
+        long count = 0;
+        for (long bucketCount : bucketCounts) {
+            count += bucketCount;
+        }
+
+        if (count < MIN_PERCENTILE_COUNT) {
+            return -1;
+        }
+
+        // number of operations that must be within the bucket or below it
+        long needed = (count * percentile + 99) / 100;
+
+        long cumulative = 0;
+        for (var index = 0; index < BUCKET_BOUNDS_MS.length; ++index) {
+            cumulative += bucketCounts[index];
+            if (cumulative >= needed) {
+                return BUCKET_BOUNDS_MS[index];
+            }
+        }
+
+        // beyond the largest bucket
+        return BUCKET_BOUNDS_MS[BUCKET_BOUNDS_MS.length - 1];
+    }
+
+    /**
+     * Gets a snapshot of the metrics, sorted by actor and operation.
+     *
+     * @return a snapshot of the metrics
+     */
+    public List<Snapshot> getSnapshot() {
+        List<Snapshot> snapshots = new ArrayList<>(name2stats.size());
+
+        for (Stats stats : name2stats.values()) {
+            Map<OperationResult, HistogramSnapshot> latencies = new EnumMap<>(OperationResult.class);
+
+            for (OperationResult result : RESULTS) {
+                var histogram = stats.histograms.get(result.ordinal());
+                if (histogram != null) {
+                    latencies.put(result, histogram.snapshot());
+                }
+            }
+
+            snapshots.add(new Snapshot(stats.actor, stats.operation, stats.inFlight.sum(), stats.started.sum(),
+                            stats.cancelled.sum(), stats.retries.sum(), stats.polls.sum(), stats.timeouts.sum(),
+                            stats.hedges.sum(), Collections.unmodifiableMap(latencies)));
+        }
+
+        snapshots.sort(Comparator.comparing(Snapshot::getActor).thenComparing(Snapshot::getOperation));
+
+        return snapshots;
+    }
+
+    /**
+     * Renders the metrics in the Prometheus text exposition format.
+     *
+     * @return the metrics, in Prometheus text format
+     */
+    public String toPrometheus() {
+        List<Snapshot> snapshots = getSnapshot();
+        var text = new StringBuilder();
+
+        writeGauge(text, snapshots, "in_flight", "Operations that have started, but not completed.");
+        writeCounter(text, snapshots, "started", "Operations that have started.", Snapshot::getStarted);
+        writeCounter(text, snapshots, "cancelled", "Operations that were canceled.", Snapshot::getCancelled);
+        writeCounter(text, snapshots, "retries", "Operation retries.", Snapshot::getRetries);
+        writeCounter(text, snapshots, "polls", "Polls issued by operations.", Snapshot::getPolls);
+        writeCounter(text, snapshots, "timeouts", "Operations that timed out.", Snapshot::getTimeouts);
+        writeCounter(text, snapshots, "hedges", "Duplicate requests sent to hedge slow responses.",
+                        Snapshot::getHedges);
+
+        var name = PREFIX + "duration_seconds";
+        text.append("# HELP ").append(name).append(" Operation latency, by result.\n");
+        text.append("# TYPE ").append(name).append(" histogram\n");
+
+        for (Snapshot snapshot : snapshots) {
+            for (Map.Entry<OperationResult, HistogramSnapshot> ent : snapshot.getLatencies().entrySet()) {
+                var labels = makeLabels(snapshot) + ",result=\"" + ent.getKey().name() + "\"";
+                var histogram = ent.getValue();
+
+                long cumulative = 0;
+                for (var index = 0; index < BUCKET_BOUNDS_MS.length; ++index) {
+                    cumulative += histogram.getBucketCounts()[index];
+                    text.append(name).append("_bucket{").append(labels).append(",le=\"")
+                                    .append(BUCKET_BOUNDS_MS[index] / 1000.0).append("\"} ").append(cumulative)
+                                    .append('\n');
+                }
+
+                text.append(name).append("_bucket{").append(labels).append(",le=\"+Inf\"} ")
+                                .append(histogram.getCount()).append('\n');
+                text.append(name).append("_sum{").append(labels).append("} ")
+                                .append(histogram.getSumMs() / 1000.0).append('\n');
+                text.append(name).append("_count{").append(labels).append("} ").append(histogram.getCount())
+                                .append('\n');
+            }
+        }
+
+        writeBreakers(text);
+        writeScheduler(text);
+
+        return text.toString();
+    }
+
+    private void writeBreakers(StringBuilder text) {
+        List<CircuitBreaker> list = breakers.getBreakers();
+
+        var name = BREAKER_PREFIX + "state";
+        text.append("# HELP ").append(name).append(" Circuit breaker state: 0=closed, 1=open, 2=half-open.\n");
+        text.append("# TYPE ").append(name).append(" gauge\n");
+
+        for (CircuitBreaker breaker : list) {
+            text.append(name).append("{endpoint=\"").append(escape(breaker.getName())).append("\"} ")
+                            .append(breaker.getState().ordinal()).append('\n');
+        }
+
+        name = BREAKER_PREFIX + "rejected_total";
+        text.append("# HELP ").append(name).append(" Calls rejected because the circuit breaker was open.\n");
+        text.append("# TYPE ").append(name).append(" counter\n");
+
+        for (CircuitBreaker breaker : list) {
+            text.append(name).append("{endpoint=\"").append(escape(breaker.getName())).append("\"} ")
+                            .append(breaker.getRejected()).append('\n');
+        }
+    }
+
+    private void writeScheduler(StringBuilder text) {
+        List<FairScheduler.ClassSnapshot> list = scheduler.getSnapshot();
+
+        var name = SCHEDULER_PREFIX + "queue_depth";
+        text.append("# HELP ").append(name).append(" Tasks waiting to be dispatched, by priority class.\n");
+        text.append("# TYPE ").append(name).append(" gauge\n");
+
+        for (FairScheduler.ClassSnapshot snapshot : list) {
+            text.append(name).append("{class=\"").append(escape(snapshot.getName())).append("\"} ")
+                            .append(snapshot.getQueueDepth()).append('\n');
+        }
+
+        name = SCHEDULER_PREFIX + "dispatched_total";
+        text.append("# HELP ").append(name).append(" Tasks dispatched to the executors, by priority class.\n");
+        text.append("# TYPE ").append(name).append(" counter\n");
+
+        for (FairScheduler.ClassSnapshot snapshot : list) {
+            text.append(name).append("{class=\"").append(escape(snapshot.getName())).append("\"} ")
+                            .append(snapshot.getDispatched()).append('\n');
+        }
+
+        name = SCHEDULER_PREFIX + "rejected_total";
+        text.append("# HELP ").append(name).append(" Operations rejected because the class's queue was full.\n");
+        text.append("# TYPE ").append(name).append(" counter\n");
+
+        for (FairScheduler.ClassSnapshot snapshot : list) {
+            text.append(name).append("{class=\"").append(escape(snapshot.getName())).append("\"} ")
+                            .append(snapshot.getRejected()).append('\n');
+        }
+    }
+
+    private void writeGauge(StringBuilder text, List<Snapshot> snapshots, String suffix, String help) {
+        var name = PREFIX + suffix;
+        text.append("# HELP ").append(name).append(' ').append(help).append('\n');
+        text.append("# TYPE ").append(name).append(" gauge\n");
+
+        for (Snapshot snapshot : snapshots) {
+            text.append(name).append('{').append(makeLabels(snapshot)).append("} ").append(snapshot.getInFlight())
+                            .append('\n');
+        }
+    }
+
+    private void writeCounter(StringBuilder text, List<Snapshot> snapshots, String suffix, String help,
+                    ToLongFunction<Snapshot> getter) {
+        var name = PREFIX + suffix + "_total";
+        text.append("# HELP ").append(name).append(' ').append(help).append('\n');
+        text.append("# TYPE ").append(name).append(" counter\n");
+
+        for (Snapshot snapshot : snapshots) {
+            text.append(name).append('{').append(makeLabels(snapshot)).append("} ")
+                            .append(getter.applyAsLong(snapshot)).append('\n');
+        }
+    }
+
+    private static String makeLabels(Snapshot snapshot) {
+        return "actor=\"" + escape(snapshot.getActor()) + "\",operation=\"" + escape(snapshot.getOperation()) + "\"";
+    }
+
+    private static String escape(String value) {
+        return value.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n");
+    }
+
+    // these may be overridden by junit tests
+
+    protected long currentTimeMs() {
+        return System.currentTimeMillis();
+    }
+
+    private Stats getStats(String actor, String operation) {
+        var name = actor + "." + operation;
+
+        // avoid the lock within computeIfAbsent() for the common case
+        var stats = name2stats.get(name);
+        if (stats != null) {
+            return stats;
+        }
+
+        return name2stats.computeIfAbsent(name, key -> new Stats(actor, operation));
+    }
+
+    /**
+     * Statistics for a single actor and operation.
+     */
+    private static class Stats {
+        private final String actor;
+        private final String operation;
+
+        private final LongAdder inFlight = new LongAdder();
+        private final LongAdder started = new LongAdder();
+        private final LongAdder cancelled = new LongAdder();
+        private final LongAdder retries = new LongAdder();
+        private final LongAdder polls = new LongAdder();
+        private final LongAdder timeouts = new LongAdder();
+        private final LongAdder hedges = new LongAdder();
+
+        /**
+         * Latency histograms, indexed by result ordinal, created on first use.
+         */
+        private final AtomicReferenceArray<Histogram> histograms = new AtomicReferenceArray<>(RESULTS.length);
+
+        private Stats(String actor, String operation) {
+            this.actor = actor;
+            this.operation = operation;
+        }
+
+        private Histogram getHistogram(OperationResult result) {
+            var index = result.ordinal();
+
+            var histogram = histograms.get(index);
+            if (histogram == null) {
+                histograms.compareAndSet(index, null, new Histogram());
+                histogram = histograms.get(index);
+            }
+
+            return histogram;
+        }
+    }
+
+    /**
+     * Latency histogram. Besides the counts since the histogram was created, it keeps the
+     * counts of the last few time slices, from which percentiles are estimated.
+     */
+    private static class Histogram {
+        private final LongAdder[] counts = makeCounts();
+        private final LongAdder sumMs = new LongAdder();
+        private final Slice[] slices = new Slice[SLICES];
+
+        private Histogram() {
+            for (var index = 0; index < slices.length; ++index) {
+                slices[index] = new Slice();
+            }
+        }
+
+        private void record(long durationMs, long nowMs) {
+            var index = 0;
+            while (index < BUCKET_BOUNDS_MS.length && durationMs > BUCKET_BOUNDS_MS[index]) {
+                ++index;
+            }
+
+            counts[index].increment();
+            sumMs.add(Math.max(0, durationMs));
+
+            long sliceNum = nowMs / SLICE_MS;
+            var slice = slices[(int) (sliceNum % SLICES)];
+
+            if (slice.sliceNum < sliceNum) {
+                synchronized (slice) {
+                    if (slice.sliceNum < sliceNum) {
+                        for (LongAdder count : slice.counts) {
+                            count.reset();
+                        }
+                        slice.sliceNum = sliceNum;
+                    }
+                }
+            }
+
+            // a sample from a slice that has already been reused is dropped
+            if (slice.sliceNum == sliceNum) {
+                slice.counts[index].increment();
+            }
+        }
+
+        /**
+         * Gets the number of operations within each bucket, over the slices that are
+         * still within the window.
+         *
+         * @param nowMs current time, in milliseconds
+         * @return the number of operations within each bucket (not cumulative)
+         */
+        private long[] recentCounts(long nowMs) {
+            long sliceNum = nowMs / SLICE_MS;
+            var bucketCounts = new long[BUCKET_BOUNDS_MS.length + 1];
+
+            for (Slice slice : slices) {
+                if (slice.sliceNum > sliceNum - SLICES && slice.sliceNum <= sliceNum) {
+                    for (var index = 0; index < bucketCounts.length; ++index) {
+                        bucketCounts[index] += slice.counts[index].sum();
+                    }
+                }
+            }
+
+            return bucketCounts;
+        }
+
+        private HistogramSnapshot snapshot() {
+            var bucketCounts = new long[counts.length];
+            long count = 0;
+
+            for (var index = 0; index < counts.length; ++index) {
+                bucketCounts[index] = counts[index].sum();
+                count += bucketCounts[index];
+            }
+
+            return new HistogramSnapshot(bucketCounts, count, sumMs.sum());
+        }
+
+        private static LongAdder[] makeCounts() {
+            var counts = new LongAdder[BUCKET_BOUNDS_MS.length + 1];
+            for (var index = 0; index < counts.length; ++index) {
+                counts[index] = new LongAdder();
+            }
+            return counts;
+        }
+    }
+
+    /**
+     * Counts of the operations that completed within one time slice.
+     */
+    private static class Slice {
+        /**
+         * Number of the slice whose counts are held, that is, its start time divided by
+         * {@link #SLICE_MS}.
+         */
+        private volatile long sliceNum = -1;
+
+        private final LongAdder[] counts = Histogram.makeCounts();
+    }
+
+    /**
+     * Snapshot of the metrics for a single actor and operation.
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class Snapshot {
+        private final String actor;
+        private final String operation;
+        private final long inFlight;
+        private final long started;
+        private final long cancelled;
+        private final long retries;
+        private final long polls;
+        private final long timeouts;
+        private final long hedges;
+
+        /**
+         * Latency histograms, for the results that have been seen.
+         */
+        private final Map<OperationResult, HistogramSnapshot> latencies;
+    }
+
+    /**
+     * Snapshot of a latency histogram.
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class HistogramSnapshot {
+        /**
+         * Number of operations within each bucket (not cumulative). The last bucket holds
+         * the operations that exceeded the largest bound.
+         */
+        private final long[] bucketCounts;
+
+        private final long count;
+        private final long sumMs;
+    }
+}
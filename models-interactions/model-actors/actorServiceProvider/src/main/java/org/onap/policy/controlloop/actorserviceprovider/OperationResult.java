@@ -3,6 +3,7 @@
  * ONAP
  * ================================================================================
  * Copyright (C) 2020 AT&T Intellectual Property. All rights reserved.
+ * Modifications Copyright (C) 2026 Nordix Foundation.
  * ================================================================================
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -44,7 +45,11 @@ public enum OperationResult {
     /**
      * Operation failed since Guard did not permit.
      */
-    FAILURE_GUARD("Failure_Guard")
+    FAILURE_GUARD("Failure_Guard"),
+    /**
+     * Operation was not attempted since the circuit breaker for its endpoint was open.
+     */
+    FAILURE_CIRCUIT_OPEN("Failure_Circuit_Open")
     ;
 
     private String result;
@@ -83,6 +88,9 @@ public enum OperationResult {
         if (result.equalsIgnoreCase(FAILURE_GUARD.toString())) {
             return FAILURE_GUARD;
         }
+        if (result.equalsIgnoreCase(FAILURE_CIRCUIT_OPEN.toString())) {
+            return FAILURE_CIRCUIT_OPEN;
+        }
         return null;
     }
 }
@@ -0,0 +1,108 @@
+/*-
+ * ============LICENSE_START=======================================================
+ *  Copyright (C) 2026 Nordix Foundation.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.controlloop.actorserviceprovider;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Schedules the timers used by operations, such as timeouts, retry waits, and poll
+ * waits. Scheduled tasks are expected to be short (e.g., completing a future); anything
+ * else should be handed off to an executor.
+ */
+public interface OperationScheduler {
+
+    /**
+     * Handle for a scheduled task.
+     */
+    interface Timeout {
+
+        /**
+         * Cancels the task, if it has not already run.
+         *
+         * @return {@code true} if the task was canceled, {@code false} if it had already
+         *         run or been canceled
+         */
+        boolean cancel();
+
+        /**
+         * Determines if the task has been canceled.
+         *
+         * @return {@code true} if the task has been canceled
+         */
+        boolean isCancelled();
+
+        /**
+         * Determines if the task has run.
+         *
+         * @return {@code true} if the task has run
+         */
+        boolean isExpired();
+    }
+
+    /**
+     * Schedules a task to be run once, after a delay.
+     *
+     * @param task task to be run
+     * @param delay time to wait before running the task
+     * @param unit delay units
+     * @return a handle that can be used to cancel the task
+     */
+    Timeout schedule(Runnable task, long delay, TimeUnit unit);
+
+    /**
+     * Arranges for a future to be completed with a {@link TimeoutException} if it has
+     * not completed before the timeout expires. Similar to
+     * {@link CompletableFuture#orTimeout(long, TimeUnit)}, except that the timer is
+     * canceled as soon as the future completes.
+     *
+     * @param <T> type of value returned by the future
+     * @param future future to be timed
+     * @param timeout time to wait for the future to complete
+     * @param unit timeout units
+     * @return the future
+     */
+    default <T> CompletableFuture<T> orTimeout(CompletableFuture<T> future, long timeout, TimeUnit unit) {
+        if (!future.isDone()) {
+            var timer = schedule(() -> future.completeExceptionally(new TimeoutException()), timeout, unit);
+            future.whenComplete((value, thrown) -> timer.cancel());
+        }
+
+        return future;
+    }
+
+    /**
+     * Makes a future that completes after a delay. Canceling the future cancels the
+     * timer.
+     *
+     * @param delay time to wait before completing the future
+     * @param unit delay units
+     * @return a future that will complete when the delay expires
+     */
+    default CompletableFuture<Void> sleep(long delay, TimeUnit unit) {
+        var future = new CompletableFuture<Void>();
+        var timer = schedule(() -> future.complete(null), delay, unit);
+        future.whenComplete((value, thrown) -> timer.cancel());
+
+        return future;
+    }
+}
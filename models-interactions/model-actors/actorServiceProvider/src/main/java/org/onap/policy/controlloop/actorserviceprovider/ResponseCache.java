@@ -0,0 +1,376 @@
+/*-
+ * ============LICENSE_START=======================================================
+ *  Copyright (C) 2026 Nordix Foundation.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.controlloop.actorserviceprovider;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+import lombok.NonNull;
+
+/**
+ * Cache of operation outcomes, shared by the operations of an operator. Outcomes that
+ * the operation deems cacheable are reused by identical requests until they expire.
+ * When the cache is full, expired entries are discarded first, followed by those that
+ * expire soonest.
+ * <p/>
+ * If the cache coalesces requests, then identical requests that are issued while a
+ * request is outstanding wait for, and share, its outcome, whether or not it is
+ * cacheable. Each caller gets its own future, which it may cancel without affecting the
+ * others; the outstanding request is only canceled once all of them have canceled.
+ * Otherwise, every request that is not satisfied by a cached outcome is issued.
+ * <p/>
+ * The cache keeps its own copy of each response that it shares, and each caller that is
+ * given a cached, or coalesced, outcome gets its own copy of that response, made by the
+ * cache's copier. A caller may thus modify its response without affecting the others.
+ * With the default copier, which does not copy, responses are shared by every caller,
+ * and must be treated as read-only.
+ */
+public class ResponseCache {
+
+    private final long ttlNs;
+    private final int maxEntries;
+    private final boolean coalesce;
+    private final UnaryOperator<Object> copier;
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+    private final AtomicLong hitCount = new AtomicLong();
+    private final AtomicLong missCount = new AtomicLong();
+    private final AtomicLong coalesceCount = new AtomicLong();
+
+    /**
+     * Constructs the object.
+     *
+     * @param ttlMs time, in milliseconds, for which a cacheable outcome is reused
+     * @param maxEntries maximum number of entries
+     * @param coalesce {@code true} if identical requests are to wait for an outstanding
+     *        request, {@code false} if they are to be issued
+     */
+    public ResponseCache(long ttlMs, int maxEntries, boolean coalesce) {
+        this(ttlMs, maxEntries, coalesce, UnaryOperator.identity());
+    }
+
+    /**
+     * Constructs the object.
+     *
+     * @param ttlMs time, in milliseconds, for which a cacheable outcome is reused
+     * @param maxEntries maximum number of entries
+     * @param coalesce {@code true} if identical requests are to wait for an outstanding
+     *        request, {@code false} if they are to be issued
+     * @param copier function to copy a response, which is also given {@code null}
+     *        responses
+     */
+    public ResponseCache(long ttlMs, int maxEntries, boolean coalesce, @NonNull UnaryOperator<Object> copier) {
+        this.ttlNs = TimeUnit.MILLISECONDS.toNanos(ttlMs);
+        this.maxEntries = maxEntries;
+        this.coalesce = coalesce;
+        this.copier = copier;
+    }
+
+    /**
+     * Gets the outcome of a request, issuing the request only if there is neither an
+     * unexpired outcome for it nor, if coalescing, an identical request outstanding.
+     *
+     * @param key key identifying the request
+     * @param outcome outcome to be populated
+     * @param requester function to issue the request, populating the given outcome
+     * @param cacheable determines if an outcome may be reused by later requests
+     * @return a future for the outcome
+     */
+    public CompletableFuture<OperationOutcome> get(String key, OperationOutcome outcome,
+                    Supplier<CompletableFuture<OperationOutcome>> requester, Predicate<OperationOutcome> cacheable) {
+
+        for (;;) {
+            var entry = entries.get(key);
+            if (entry != null) {
+                if (!entry.future.isDone()) {
+                    var waiter = join(key, entry, outcome);
+                    if (waiter != null) {
+                        coalesceCount.incrementAndGet();
+                        return waiter;
+                    }
+
+                    // every caller waiting for it was canceled
+                    entries.remove(key, entry);
+
+                } else if (currentTimeNs() - entry.expiresNs < 0) {
+                    hitCount.incrementAndGet();
+                    return entry.future.thenApply(shared -> copyOutcome(shared, outcome));
+
+                } else {
+                    entries.remove(key, entry);
+                }
+            }
+
+            if (!coalesce) {
+                return request(key, requester, cacheable);
+            }
+
+            var newEntry = new Entry();
+            if (entries.putIfAbsent(key, newEntry) == null) {
+                return issue(key, newEntry, requester, cacheable);
+            }
+
+            // another thread added an entry first - try again
+        }
+    }
+
+    /**
+     * Issues a request on behalf of the callers that will wait for it. Each caller,
+     * including this one, gets its own future, so that a caller that cancels its future
+     * does not cancel the others. The request itself is only canceled once every caller
+     * has canceled.
+     *
+     * @param key key identifying the request
+     * @param entry newly added entry, to be completed when the request completes
+     * @param requester function to issue the request
+     * @param cacheable determines if an outcome may be reused by later requests
+     * @return a future for the outcome
+     */
+    private CompletableFuture<OperationOutcome> issue(String key, Entry entry,
+                    Supplier<CompletableFuture<OperationOutcome>> requester, Predicate<OperationOutcome> cacheable) {
+
+        missCount.incrementAndGet();
+
+        if (entries.size() > maxEntries) {
+            evict();
+        }
+
+        final CompletableFuture<OperationOutcome> future;
+        try {
+            future = requester.get();
+
+        } catch (RuntimeException e) {
+            entries.remove(key, entry);
+            entry.future.completeExceptionally(e);
+            throw e;
+        }
+
+        entry.request = future;
+
+        future.whenComplete((result, thrown) -> {
+            if (thrown != null) {
+                entries.remove(key, entry);
+                entry.future.completeExceptionally(thrown);
+                return;
+            }
+
+            if (cacheable.test(result)) {
+                entry.expiresNs = currentTimeNs() + ttlNs;
+            } else {
+                entries.remove(key, entry);
+            }
+
+            entry.future.complete(snapshot(result));
+        });
+
+        // the requester populates this caller's outcome, thus it's returned as is
+        return watch(key, entry, entry.future.thenCompose(shared -> future));
+    }
+
+    /**
+     * Adds a caller to those waiting for an outstanding request.
+     *
+     * @param key key identifying the request
+     * @param entry entry of the outstanding request
+     * @param outcome caller's outcome, to be populated from the shared outcome
+     * @return a future for the caller's outcome, or {@code null} if every caller waiting
+     *         for the request has already canceled
+     */
+    private CompletableFuture<OperationOutcome> join(String key, Entry entry, OperationOutcome outcome) {
+        if (entry.waiters.getAndUpdate(count -> (count == 0 ? 0 : count + 1)) == 0) {
+            return null;
+        }
+
+        return watch(key, entry, entry.future.thenApply(shared -> copyOutcome(shared, outcome)));
+    }
+
+    /**
+     * Arranges for the outstanding request to be canceled, and its entry removed, if a
+     * caller cancels its future and no other caller is waiting for the request.
+     *
+     * @param key key identifying the request
+     * @param entry entry of the outstanding request
+     * @param waiter caller's future
+     * @return the caller's future
+     */
+    private CompletableFuture<OperationOutcome> watch(String key, Entry entry,
+                    CompletableFuture<OperationOutcome> waiter) {
+
+        waiter.whenComplete((result, thrown) -> {
+            if (waiter.isCancelled() && !entry.future.isDone() && entry.waiters.decrementAndGet() == 0) {
+                entries.remove(key, entry);
+                entry.request.cancel(false);
+            }
+        });
+
+        return waiter;
+    }
+
+    /**
+     * Issues a request without coalescing, adding its outcome to the cache once it
+     * completes, if the outcome is cacheable.
+     *
+     * @param key key identifying the request
+     * @param requester function to issue the request
+     * @param cacheable determines if an outcome may be reused by later requests
+     * @return a future for the outcome
+     */
+    private CompletableFuture<OperationOutcome> request(String key,
+                    Supplier<CompletableFuture<OperationOutcome>> requester, Predicate<OperationOutcome> cacheable) {
+
+        missCount.incrementAndGet();
+
+        CompletableFuture<OperationOutcome> future = requester.get();
+
+        future.whenComplete((result, thrown) -> {
+            if (thrown == null && cacheable.test(result)) {
+                var newEntry = new Entry();
+                newEntry.expiresNs = currentTimeNs() + ttlNs;
+                newEntry.future.complete(snapshot(result));
+                entries.put(key, newEntry);
+
+                if (entries.size() > maxEntries) {
+                    evict();
+                }
+            }
+        });
+
+        return future;
+    }
+
+    /**
+     * Gets the number of requests that were satisfied by an unexpired outcome.
+     *
+     * @return the number of cache hits
+     */
+    public long getHitCount() {
+        return hitCount.get();
+    }
+
+    /**
+     * Gets the number of requests that were actually issued.
+     *
+     * @return the number of cache misses
+     */
+    public long getMissCount() {
+        return missCount.get();
+    }
+
+    /**
+     * Gets the number of requests that waited for an identical, outstanding request.
+     *
+     * @return the number of coalesced requests
+     */
+    public long getCoalesceCount() {
+        return coalesceCount.get();
+    }
+
+    /**
+     * Gets the number of entries, including outstanding requests.
+     *
+     * @return the number of entries
+     */
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * Discards expired entries and, if the cache is still too large, the completed
+     * entries that expire soonest, leaving some room so that this is not done on every
+     * request. Outstanding requests are never discarded.
+     */
+    private void evict() {
+        long now = currentTimeNs();
+        List<Map.Entry<String, Entry>> completed = new ArrayList<>();
+
+        for (Map.Entry<String, Entry> ent : entries.entrySet()) {
+            if (ent.getValue().future.isDone()) {
+                if (now - ent.getValue().expiresNs >= 0) {
+                    entries.remove(ent.getKey(), ent.getValue());
+                } else {
+                    completed.add(ent);
+                }
+            }
+        }
+
+        int excess = entries.size() - maxEntries * 9 / 10;
+        if (excess <= 0) {
+            return;
+        }
+
+        completed.sort(Comparator.comparingLong(ent -> ent.getValue().expiresNs));
+        for (var index = 0; index < excess && index < completed.size(); ++index) {
+            entries.remove(completed.get(index).getKey(), completed.get(index).getValue());
+        }
+    }
+
+    /**
+     * Makes a copy of an outcome, to be shared by the callers, before any of them sees it.
+     *
+     * @param result outcome populated by the requester
+     * @return a copy of the outcome
+     */
+    private OperationOutcome snapshot(OperationOutcome result) {
+        return copyOutcome(result, new OperationOutcome());
+    }
+
+    private OperationOutcome copyOutcome(OperationOutcome source, OperationOutcome target) {
+        target.setResult(source.getResult());
+        target.setMessage(source.getMessage());
+        target.setResponse(copier.apply(source.getResponse()));
+        return target;
+    }
+
+    /**
+     * Outcome of a request, which is complete once the request completes.
+     */
+    private static class Entry {
+        private final CompletableFuture<OperationOutcome> future = new CompletableFuture<>();
+        private volatile long expiresNs;
+
+        /**
+         * Request whose outcome is awaited, set once the request has been issued.
+         */
+        private volatile CompletableFuture<OperationOutcome> request;
+
+        /**
+         * Number of callers waiting for the request that have not canceled, starting with
+         * the caller that issued it. Once this drops to zero, no more callers may wait.
+         */
+        private final AtomicInteger waiters = new AtomicInteger(1);
+    }
+
+    // these may be overridden by junit tests
+
+    protected long currentTimeNs() {
+        return System.nanoTime();
+    }
+}
@@ -0,0 +1,240 @@
+/*-
+ * ============LICENSE_START=======================================================
+ *  Copyright (C) 2026 Nordix Foundation.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.controlloop.actorserviceprovider;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import org.onap.policy.controlloop.actorserviceprovider.OperationScheduler.Timeout;
+
+/**
+ * Schedules polls, coalescing those directed at the same server. Time is divided into
+ * fixed-size slots; a poll is due at the end of the slot in which its delay expires, and
+ * all polls to the same base URL that are due in the same slot share a single timer.
+ * Thus, no matter how many operations are polling a server, at most one timer per slot
+ * is pending for it, and its polls are issued together rather than as a steady stream.
+ * <p/>
+ * Coalescing undoes any jitter that was added to the delays, as polls whose delays differ
+ * by less than a slot are issued together. Thus callers that jitter their delays should
+ * not coalesce them; such polls get a timer of their own.
+ */
+public class SharedPollScheduler {
+
+    /**
+     * Default slot size, in milliseconds.
+     */
+    public static final long DEFAULT_SLOT_MS = 100;
+
+    private static final SharedPollScheduler INSTANCE = new SharedPollScheduler();
+
+    /**
+     * Scheduler used to fire the slots.
+     */
+    private final OperationScheduler scheduler;
+
+    private final long slotMs;
+
+    /**
+     * Maps a base URL and slot number to the slot. Entries are removed when their slot
+     * fires, or when every poll waiting for it has been canceled.
+     */
+    private final ConcurrentMap<String, Slot> slots = new ConcurrentHashMap<>();
+
+    private final LongAdder polls = new LongAdder();
+    private final LongAdder timers = new LongAdder();
+
+
+    /**
+     * Constructs the object, using the default scheduler and slot size.
+     */
+    public SharedPollScheduler() {
+        this(HashedWheelScheduler.getInstance(), DEFAULT_SLOT_MS);
+    }
+
+    /**
+     * Constructs the object.
+     *
+     * @param scheduler scheduler used to fire the slots
+     * @param slotMs slot size, in milliseconds
+     */
+    public SharedPollScheduler(OperationScheduler scheduler, long slotMs) {
+        if (slotMs <= 0) {
+            throw new IllegalArgumentException("invalid slot size: " + slotMs);
+        }
+
+        this.scheduler = scheduler;
+        this.slotMs = slotMs;
+    }
+
+    /**
+     * Gets the default instance.
+     *
+     * @return the default instance
+     */
+    public static SharedPollScheduler getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Gets the number of polls that have been scheduled.
+     *
+     * @return the number of polls that have been scheduled
+     */
+    public long getPollCount() {
+        return polls.sum();
+    }
+
+    /**
+     * Gets the number of timers that have been used to fire the polls. When polls are
+     * being coalesced, this is less than the number of polls.
+     *
+     * @return the number of timers that have been scheduled
+     */
+    public long getTimerCount() {
+        return timers.sum();
+    }
+
+    /**
+     * Schedules a poll, coalescing it with others to the same server.
+     *
+     * @param baseUrl base URL of the server to be polled
+     * @param delayMs minimum time, in milliseconds, to wait before polling
+     * @return a future that completes when the poll should be issued. Canceling the
+     *         future does not affect other polls
+     */
+    public CompletableFuture<Void> schedule(String baseUrl, long delayMs) {
+        return schedule(baseUrl, delayMs, true);
+    }
+
+    /**
+     * Schedules a poll.
+     *
+     * @param baseUrl base URL of the server to be polled
+     * @param delayMs minimum time, in milliseconds, to wait before polling
+     * @param coalesce {@code true} if the poll may be coalesced with others to the same
+     *        server, {@code false} if it should be issued as soon as its delay expires
+     * @return a future that completes when the poll should be issued. Canceling the
+     *         future does not affect other polls
+     */
+    public CompletableFuture<Void> schedule(String baseUrl, long delayMs, boolean coalesce) {
+        polls.increment();
+
+        if (delayMs <= 0) {
+            return CompletableFuture.completedFuture(null);
+        }
+
+        if (!coalesce) {
+            timers.increment();
+            return scheduler.sleep(delayMs, TimeUnit.MILLISECONDS);
+        }
+
+        var nowMs = currentTimeMs();
+
+        // round up to the end of the slot
+        var slotNum = (nowMs + delayMs + slotMs - 1) / slotMs;
+        var key = slotNum + " " + baseUrl;
+
+        for (;;) {
+            var slot = slots.get(key);
+            if (slot == null) {
+                var newSlot = new Slot();
+                if (slots.putIfAbsent(key, newSlot) == null) {
+                    return startSlot(key, newSlot, slotNum * slotMs - nowMs);
+                }
+
+            } else if (slot.waiters.getAndUpdate(count -> (count == 0 ? 0 : count + 1)) != 0) {
+                return watch(key, slot);
+
+            } else {
+                // every poll waiting for the slot was canceled
+                slots.remove(key, slot);
+            }
+        }
+    }
+
+    /**
+     * Starts the timer for a newly added slot.
+     *
+     * @param key slot key
+     * @param slot slot to be started
+     * @param delayMs time, in milliseconds, until the slot fires
+     * @return a future that completes when the slot fires
+     */
+    private CompletableFuture<Void> startSlot(String key, Slot slot, long delayMs) {
+        timers.increment();
+        slot.timer = scheduler.schedule(() -> {
+            slots.remove(key, slot);
+            slot.future.complete(null);
+        }, delayMs, TimeUnit.MILLISECONDS);
+
+        return watch(key, slot);
+    }
+
+    /**
+     * Makes a future for a poll waiting for a slot. If the poll is canceled and no other
+     * poll is waiting for the slot, then the slot's timer is canceled.
+     *
+     * @param key slot key
+     * @param slot slot for which the poll is waiting
+     * @return a future that completes when the slot fires
+     */
+    private CompletableFuture<Void> watch(String key, Slot slot) {
+        // a dependent future, so that canceling it doesn't cancel the others
+        CompletableFuture<Void> waiter = slot.future.thenApply(unused -> null);
+
+        waiter.whenComplete((unused, thrown) -> {
+            if (waiter.isCancelled() && !slot.future.isDone() && slot.waiters.decrementAndGet() == 0) {
+                slots.remove(key, slot);
+                slot.timer.cancel();
+                slot.future.cancel(false);
+            }
+        });
+
+        return waiter;
+    }
+
+    /**
+     * Polls due at the end of the same slot.
+     */
+    private static class Slot {
+        private final CompletableFuture<Void> future = new CompletableFuture<>();
+
+        /**
+         * Timer that fires the slot, set once the slot has been started.
+         */
+        private volatile Timeout timer;
+
+        /**
+         * Number of polls waiting for the slot that have not been canceled, starting with
+         * the poll that started it. Once this drops to zero, no more polls may wait.
+         */
+        private final AtomicInteger waiters = new AtomicInteger(1);
+    }
+
+    // these may be overridden by junit tests
+
+    protected long currentTimeMs() {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime());
+    }
+}
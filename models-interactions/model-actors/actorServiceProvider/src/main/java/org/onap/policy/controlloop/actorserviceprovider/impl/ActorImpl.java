@@ -3,6 +3,7 @@
  * ONAP
  * ================================================================================
  * Copyright (C) 2020-2021 AT&T Intellectual Property. All rights reserved.
+ * Modifications Copyright (C) 2026 Nordix Foundation.
  * ================================================================================
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -25,9 +26,12 @@ import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
+import org.onap.policy.common.parameters.ValidationResult;
+import org.onap.policy.controlloop.actorserviceprovider.OperationLimiter;
 import org.onap.policy.controlloop.actorserviceprovider.Operator;
 import org.onap.policy.controlloop.actorserviceprovider.Util;
 import org.onap.policy.controlloop.actorserviceprovider.parameters.ActorParams;
+import org.onap.policy.controlloop.actorserviceprovider.parameters.BulkheadParams;
 import org.onap.policy.controlloop.actorserviceprovider.parameters.ParameterValidationRuntimeException;
 import org.onap.policy.controlloop.actorserviceprovider.spi.Actor;
 import org.slf4j.Logger;
@@ -115,7 +119,7 @@ public class ActorImpl extends StartConfigPartial<Map<String, Object>> implement
 
     /**
      * For each operation, it looks for a set of parameters by the same name and, if
-     * found, configures the operation with the parameters.
+     * found, configures the operation, and its concurrency limits, with the parameters.
      */
     @Override
     protected void doConfigure(Map<String, Object> parameters) {
@@ -132,7 +136,10 @@ public class ActorImpl extends StartConfigPartial<Map<String, Object>> implement
             if (subparams != null) {
 
                 try {
+                    // validate the limits first, so the operator and its limits change together
+                    BulkheadParams bulkhead = makeBulkheadParams(operName, subparams);
                     operator.configure(subparams);
+                    getLimiter().configure(actorName, operName, bulkhead);
 
                 } catch (ParameterValidationRuntimeException e) {
                     logger.warn("failed to configure operation {}.{} because:\n{}", actorName, operName,
@@ -153,6 +160,30 @@ public class ActorImpl extends StartConfigPartial<Map<String, Object>> implement
         }
     }
 
+    /**
+     * Makes the concurrency limits of an operation.
+     *
+     * @param operName operation name
+     * @param subparams operation parameters
+     * @return the validated limits, or {@code null} if the operation has no limits
+     */
+    private BulkheadParams makeBulkheadParams(String operName, Map<String, Object> subparams) {
+        Object bulkhead = subparams.get(ActorParams.BULKHEAD_FIELD);
+        if (bulkhead == null) {
+            return null;
+        }
+
+        String name = getName() + "." + operName + "." + ActorParams.BULKHEAD_FIELD;
+        BulkheadParams params = Util.translate(name, bulkhead, BulkheadParams.class);
+
+        ValidationResult result = params.validate(name);
+        if (!result.isValid()) {
+            throw new ParameterValidationRuntimeException("invalid parameters", result);
+        }
+
+        return params;
+    }
+
     /**
      * Extracts the operator parameters from the actor parameters, for a given operator.
      * This method translates the parameters to an {@link ActorParams} and then creates a function
@@ -218,4 +249,10 @@ public class ActorImpl extends StartConfigPartial<Map<String, Object>> implement
                         "failed to shutdown operation {}.{}", actorName, oper.getName()));
         // @formatter:on
     }
+
+    // these may be overridden by junit tests
+
+    protected OperationLimiter getLimiter() {
+        return OperationLimiter.getInstance();
+    }
 }
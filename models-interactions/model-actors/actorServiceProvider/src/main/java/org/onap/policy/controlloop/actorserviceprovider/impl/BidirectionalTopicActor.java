@@ -3,7 +3,7 @@
  * ONAP
  * ================================================================================
  * Copyright (C) 2020 AT&T Intellectual Property. All rights reserved.
- * Modifications Copyright (C) 2024 Nordix Foundation.
+ * Modifications Copyright (C) 2024, 2026 Nordix Foundation.
  * ================================================================================
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -23,7 +23,13 @@ package org.onap.policy.controlloop.actorserviceprovider.impl;
 
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.Function;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.Setter;
 import org.apache.commons.lang3.tuple.Pair;
 import org.onap.policy.common.message.bus.event.client.BidirectionalTopicClientException;
 import org.onap.policy.controlloop.actorserviceprovider.Util;
@@ -35,6 +41,13 @@ import org.onap.policy.controlloop.actorserviceprovider.topic.BidirectionalTopic
 /**
  * Actor that uses a bidirectional topic. The actor's operator parameters are expected to
  * be an {@link BidirectionalTopicParams}.
+ * <p/>
+ * By default, incoming messages are forwarded to the listeners on the thread that
+ * received them. If {@link BidirectionalTopicActorParams#isAsyncForwarding()} is set,
+ * they are forwarded via the forwarding executor, instead. As that may deliver messages
+ * out of order, it should only be enabled if the actor's operations do not depend on the
+ * order in which responses arrive. The setting applies to all of the actor's topics, and
+ * takes effect whenever the actor is reconfigured.
  *
  * @param <P> type of parameters
  */
@@ -51,6 +64,34 @@ public class BidirectionalTopicActor<P extends BidirectionalTopicActorParams> ex
      */
     private final Map<Pair<String, String>, BidirectionalTopicHandler> params2topic = new ConcurrentHashMap<>();
 
+    /**
+     * Executor used to forward incoming messages when asynchronous forwarding is enabled.
+     * It may be replaced, typically by the actor service, before the actor is configured.
+     */
+    @Setter
+    @NonNull
+    private volatile Executor forwardingExecutor = ForkJoinPool.commonPool();
+
+    /**
+     * {@code true} if incoming messages are forwarded via the forwarding executor, as set
+     * by the latest configuration.
+     */
+    private volatile boolean asyncForwarding = false;
+
+    /**
+     * Executor given to the topic handlers, which forwards messages on the receiving
+     * thread unless asynchronous forwarding is enabled. As it checks the setting for each
+     * message, handlers that were created before the actor was reconfigured pick up the
+     * new setting.
+     */
+    @Getter(AccessLevel.PROTECTED)
+    private final Executor topicExecutor = command -> {
+        if (asyncForwarding) {
+            forwardingExecutor.execute(command);
+        } else {
+            command.run();
+        }
+    };
 
     /**
      * Constructs the object.
@@ -95,18 +136,20 @@ public class BidirectionalTopicActor<P extends BidirectionalTopicActorParams> ex
     }
 
     /**
-     * Translates the parameters to a {@link BidirectionalTopicActorParams} and then
-     * creates a function that will extract operator-specific parameters.
+     * Translates the parameters to a {@link BidirectionalTopicActorParams}, records
+     * whether messages are to be forwarded asynchronously, and then creates a function
+     * that will extract operator-specific parameters.
      */
     @Override
     protected Function<String, Map<String, Object>> makeOperatorParameters(Map<String, Object> actorParameters) {
         String actorName = getName();
 
-        // @formatter:off
-        return Util.translate(actorName, actorParameters, paramsClass)
-                        .doValidation(actorName)
-                        .makeOperationParameters(actorName);
-        // @formatter:on
+        P params = Util.translate(actorName, actorParameters, paramsClass);
+        params.doValidation(actorName);
+
+        asyncForwarding = params.isAsyncForwarding();
+
+        return params.makeOperationParameters(actorName);
     }
 
     // may be overridden by junit tests
@@ -114,6 +157,6 @@ public class BidirectionalTopicActor<P extends BidirectionalTopicActorParams> ex
     protected BidirectionalTopicHandler makeTopicHandler(String sinkTopic, String sourceTopic)
                     throws BidirectionalTopicClientException {
 
-        return new BidirectionalTopicHandler(sinkTopic, sourceTopic);
+        return new BidirectionalTopicHandler(sinkTopic, sourceTopic, getTopicExecutor());
     }
 }
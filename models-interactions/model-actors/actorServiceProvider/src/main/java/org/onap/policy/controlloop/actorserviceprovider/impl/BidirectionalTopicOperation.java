@@ -3,7 +3,7 @@
  * ONAP
  * ================================================================================
  * Copyright (C) 2020-2021 AT&T Intellectual Property. All rights reserved.
- * Modifications Copyright (C) 2024 Nordix Foundation.
+ * Modifications Copyright (C) 2024, 2026 Nordix Foundation.
  * ================================================================================
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -24,10 +24,12 @@ package org.onap.policy.controlloop.actorserviceprovider.impl;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.function.BiConsumer;
+import java.util.function.Supplier;
 import lombok.Getter;
 import org.onap.policy.common.message.bus.utils.NetLoggerUtil.EventType;
 import org.onap.policy.common.utils.coder.CoderException;
 import org.onap.policy.common.utils.coder.StandardCoderObject;
+import org.onap.policy.controlloop.actorserviceprovider.CircuitBreaker;
 import org.onap.policy.controlloop.actorserviceprovider.OperationOutcome;
 import org.onap.policy.controlloop.actorserviceprovider.OperationResult;
 import org.onap.policy.controlloop.actorserviceprovider.parameters.BidirectionalTopicConfig;
@@ -47,6 +49,11 @@ import org.slf4j.LoggerFactory;
 public abstract class BidirectionalTopicOperation<Q, S> extends OperationPartial {
     private static final Logger logger = LoggerFactory.getLogger(BidirectionalTopicOperation.class);
 
+    /**
+     * Prefix of the names of the circuit breakers guarding topic pairs.
+     */
+    public static final String CIRCUIT_PREFIX = "topic:";
+
     /**
      * Response status.
      */
@@ -105,6 +112,14 @@ public abstract class BidirectionalTopicOperation<Q, S> extends OperationPartial
     @Override
     protected CompletableFuture<OperationOutcome> startOperationAsync(int attempt, OperationOutcome outcome) {
 
+        // fail fast if the peer has been failing
+        final Supplier<String> endpoint =
+                        () -> CIRCUIT_PREFIX + topicHandler.getSinkTopic() + "/" + topicHandler.getSourceTopic();
+        final CircuitBreaker.Call call = startCall(endpoint);
+        if (call == null) {
+            return rejectCircuitOpen(outcome, endpoint.get());
+        }
+
         final var request = makeRequest(attempt);
         final List<String> expectedKeyValues = getExpectedKeyValues(attempt, request);
 
@@ -118,10 +133,12 @@ public abstract class BidirectionalTopicOperation<Q, S> extends OperationPartial
                 OperationOutcome latestOutcome = processResponse(outcome, rawResponse, scoResponse);
                 if (latestOutcome != null) {
                     // final response - complete the controller
+                    call.completed(false);
                     controller.completeAsync(() -> latestOutcome, executor);
                 }
             } catch (RuntimeException e) {
                 logger.warn("{}: failed to process response for {}", getFullName(), params.getRequestId());
+                call.completed(true);
                 controller.completeExceptionally(e);
             }
         };
@@ -131,11 +148,15 @@ public abstract class BidirectionalTopicOperation<Q, S> extends OperationPartial
         // ensure listener is unregistered if the controller is canceled
         controller.add(() -> forwarder.unregister(expectedKeyValues, listener));
 
+        // the request may be canceled, or time out, before a response arrives
+        controller.add(call::abandoned);
+
         // publish the request
         try {
             publishRequest(request);
         } catch (RuntimeException e) {
             logger.warn("{}: failed to publish request for {}", getFullName(), params.getRequestId());
+            call.completed(true);
             forwarder.unregister(expectedKeyValues, listener);
             throw e;
         }
@@ -3,7 +3,7 @@
  * ONAP
  * ================================================================================
  * Copyright (C) 2020-2021 AT&T Intellectual Property. All rights reserved.
- * Modifications Copyright (C) 2023-2024 Nordix Foundation.
+ * Modifications Copyright (C) 2023-2024, 2026 Nordix Foundation.
  * ================================================================================
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -22,22 +22,32 @@
 package org.onap.policy.controlloop.actorserviceprovider.impl;
 
 import jakarta.ws.rs.client.InvocationCallback;
+import jakarta.ws.rs.core.HttpHeaders;
 import jakarta.ws.rs.core.Response;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
+import java.util.function.Supplier;
 import lombok.Getter;
 import org.onap.policy.common.endpoints.http.client.HttpClient;
 import org.onap.policy.common.message.bus.event.Topic.CommInfrastructure;
-import org.onap.policy.common.message.bus.utils.NetLoggerUtil;
 import org.onap.policy.common.message.bus.utils.NetLoggerUtil.EventType;
 import org.onap.policy.common.utils.coder.CoderException;
+import org.onap.policy.controlloop.actorserviceprovider.CircuitBreaker;
 import org.onap.policy.controlloop.actorserviceprovider.OperationOutcome;
 import org.onap.policy.controlloop.actorserviceprovider.OperationResult;
+import org.onap.policy.controlloop.actorserviceprovider.SharedPollScheduler;
 import org.onap.policy.controlloop.actorserviceprovider.parameters.ControlLoopOperationParams;
 import org.onap.policy.controlloop.actorserviceprovider.parameters.HttpConfig;
 import org.onap.policy.controlloop.actorserviceprovider.parameters.HttpParams;
@@ -55,6 +65,23 @@ import org.slf4j.LoggerFactory;
 public abstract class HttpOperation<T> extends OperationPartial {
     private static final Logger logger = LoggerFactory.getLogger(HttpOperation.class);
 
+    /**
+     * Prefix of the names of the circuit breakers guarding HTTP clients.
+     */
+    public static final String CIRCUIT_PREFIX = "http:";
+
+    /**
+     * Responses with a status code of at least this are counted as failures by the
+     * circuit breakers.
+     */
+    private static final int SERVER_ERROR = 500;
+
+    /**
+     * Maximum number of times the poll wait is doubled, which keeps the shift from
+     * overflowing.
+     */
+    private static final int MAX_DOUBLINGS = 20;
+
     /**
      * Response status.
      */
@@ -180,33 +207,131 @@ public abstract class HttpOperation<T> extends OperationPartial {
     protected CompletableFuture<OperationOutcome> handleResponse(OperationOutcome outcome, String url,
                     Function<InvocationCallback<Response>, Future<Response>> requester) {
 
+        // fail fast if the server has been failing
+        final Supplier<String> endpoint = () -> CIRCUIT_PREFIX + getClient().getName();
+        final CircuitBreaker.Call call = startCall(endpoint);
+        if (call == null) {
+            return rejectCircuitOpen(outcome, endpoint.get());
+        }
+
         final PipelineControllerFuture<OperationOutcome> controller = new PipelineControllerFuture<>();
         final CompletableFuture<Response> future = new CompletableFuture<>();
         final var executor = params.getExecutor();
 
-        // arrange for the callback to complete "future"
-        InvocationCallback<Response> callback = new InvocationCallback<>() {
+        // number of requests, including any hedge, that have not yet completed
+        final var outstanding = new AtomicInteger(1);
+
+        // the request may be canceled, or time out, before a response arrives
+        controller.add(call::abandoned);
+
+        // start the request and arrange to cancel it if the controller is canceled
+        controller.add(requester.apply(makeCallback(call, future, outstanding)));
+
+        // if the response is slow, send a duplicate request
+        final long hedgeDelayMs = getHedgeDelayMs();
+        if (hedgeDelayMs > 0) {
+            Runnable hedger = () -> hedge(controller, future, outstanding, endpoint, requester);
+            var timer = getScheduler().schedule(() -> executor.execute(hedger), hedgeDelayMs, TimeUnit.MILLISECONDS);
+            controller.add(timer::cancel);
+        }
+
+        // once "future" completes, process the response, and then complete the controller
+        future.thenComposeAsync(response -> processResponse(outcome, url, response), executor)
+                        .whenCompleteAsync(controller.delayedComplete(), executor);
+
+        return controller;
+    }
+
+    /**
+     * Makes a callback that completes "future" with the response to a request. When a
+     * request has been hedged, the first response wins, unless it's a failure or a server
+     * error, in which case it only wins if the other request has also completed. Responses
+     * that do not win are closed, releasing their connections.
+     *
+     * @param call circuit breaker call for the request
+     * @param future future to be completed with the response
+     * @param outstanding number of requests that have not yet completed
+     * @return a new callback
+     */
+    private InvocationCallback<Response> makeCallback(CircuitBreaker.Call call, CompletableFuture<Response> future,
+                    AtomicInteger outstanding) {
+
+        return new InvocationCallback<>() {
             @Override
             public void completed(Response response) {
-                future.complete(response);
+                boolean serverError = (response.getStatus() >= SERVER_ERROR);
+                call.completed(serverError);
+
+                if ((outstanding.decrementAndGet() == 0 || !serverError) && future.complete(response)) {
+                    return;
+                }
+
+                // lost to the other request
+                closeResponse(response);
             }
 
             @Override
             public void failed(Throwable throwable) {
                 logger.warn("{}.{}: response failure for {}", params.getActor(), params.getOperation(),
                                 params.getRequestId());
-                future.completeExceptionally(throwable);
+                call.completed(true);
+
+                if (outstanding.decrementAndGet() == 0) {
+                    future.completeExceptionally(throwable);
+                }
             }
         };
+    }
 
-        // start the request and arrange to cancel it if the controller is canceled
-        controller.add(requester.apply(callback));
+    /**
+     * Closes a response that is not going to be processed.
+     *
+     * @param response response to be closed
+     */
+    private void closeResponse(Response response) {
+        try {
+            response.close();
 
-        // once "future" completes, process the response, and then complete the controller
-        future.thenComposeAsync(response -> processResponse(outcome, url, response), executor)
-                        .whenCompleteAsync(controller.delayedComplete(), executor);
+        } catch (RuntimeException e) {
+            logger.warn("{}: cannot close response for {}", getFullName(), params.getRequestId(), e);
+        }
+    }
 
-        return controller;
+    /**
+     * Hedges a request by sending a duplicate, unless the original has already
+     * completed. Whichever request loses is canceled via the controller.
+     *
+     * @param controller controller for the request
+     * @param future future to be completed with the response
+     * @param outstanding number of requests that have not yet completed
+     * @param endpoint name of the endpoint's circuit breaker
+     * @param requester function to issue the request
+     */
+    private void hedge(PipelineControllerFuture<OperationOutcome> controller, CompletableFuture<Response> future,
+                    AtomicInteger outstanding, Supplier<String> endpoint,
+                    Function<InvocationCallback<Response>, Future<Response>> requester) {
+
+        if (future.isDone() || !controller.isRunning()) {
+            return;
+        }
+
+        final CircuitBreaker.Call call = startCall(endpoint);
+        if (call == null) {
+            // the endpoint is failing - don't add to its load
+            return;
+        }
+
+        if (outstanding.getAndUpdate(count -> (count == 0 ? 0 : count + 1)) == 0) {
+            // the original request completed in the meantime
+            call.abandoned();
+            return;
+        }
+
+        logger.info("{}: hedging slow request for {}", getFullName(), params.getRequestId());
+        getMetrics().hedged(getActorName(), getName());
+
+        controller.add(call::abandoned);
+        controller.add(requester.apply(makeCallback(call, future, outstanding)));
     }
 
     /**
@@ -315,9 +440,75 @@ public abstract class HttpOperation<T> extends OperationPartial {
             return CompletableFuture.completedFuture(outcome);
         }
 
-        // sleep and then poll
+        // wait and then poll; jittered polls are not coalesced, as that would undo the jitter
         Function<Void, CompletableFuture<OperationOutcome>> doPoll = unused -> issuePoll(outcome);
-        return sleep(getPollWaitMs(), TimeUnit.MILLISECONDS).thenComposeAsync(doPoll);
+        return getPollScheduler().schedule(getClient().getBaseUrl(), detmPollWaitMs(pollCount, rawResponse),
+                        getPollJitterPercent() <= 0).thenComposeAsync(doPoll);
+    }
+
+    /**
+     * Determines how long to wait before issuing the next poll. The wait starts at
+     * {@link #getPollWaitMs()} and doubles with each poll, up to
+     * {@link #getMaxPollWaitMs()}. It may then be shortened by a random amount, so that
+     * operations started together don't poll together. Finally, it is lengthened, if
+     * necessary, to honor a "Retry-After" header in the response, still subject to the
+     * maximum.
+     *
+     * @param pollNumber number of the poll about to be issued, starting with 1
+     * @param rawResponse raw response to the previous request
+     * @return the time, in milliseconds, to wait
+     */
+    protected long detmPollWaitMs(int pollNumber, Response rawResponse) {
+        final long baseMs = getPollWaitMs();
+        final long maxMs = Math.max(baseMs, getMaxPollWaitMs());
+
+        final int doublings = Math.min(Math.max(pollNumber - 1, 0), MAX_DOUBLINGS);
+        long waitMs = Math.min(maxMs, baseMs << doublings);
+
+        final int jitter = getPollJitterPercent();
+        if (jitter > 0) {
+            waitMs -= (long) (waitMs * jitter * ThreadLocalRandom.current().nextDouble() / 100);
+        }
+
+        final long retryAfterMs = getRetryAfterMs(rawResponse);
+        if (retryAfterMs > waitMs) {
+            waitMs = Math.min(maxMs, retryAfterMs);
+        }
+
+        return waitMs;
+    }
+
+    /**
+     * Gets the wait requested by the "Retry-After" header of a response, which may be
+     * either a number of seconds or an HTTP date.
+     *
+     * @param rawResponse raw response
+     * @return the time, in milliseconds, requested by the header, or {@code 0} if the
+     *         header is absent or invalid
+     */
+    protected long getRetryAfterMs(Response rawResponse) {
+        String value = rawResponse.getHeaderString(HttpHeaders.RETRY_AFTER);
+        if (value == null || value.isBlank()) {
+            return 0;
+        }
+
+        value = value.trim();
+
+        try {
+            return Math.max(0, TimeUnit.SECONDS.toMillis(Long.parseLong(value)));
+
+        } catch (NumberFormatException e) {
+            logger.trace("{}: Retry-After is not a number: {}", getFullName(), value, e);
+        }
+
+        try {
+            var when = ZonedDateTime.parse(value, DateTimeFormatter.RFC_1123_DATE_TIME);
+            return Math.max(0, Duration.between(Instant.now(), when).toMillis());
+
+        } catch (DateTimeParseException e) {
+            logger.warn("{}: ignoring invalid Retry-After {} for {}", getFullName(), value, params.getRequestId());
+            return 0;
+        }
     }
 
     /**
@@ -333,6 +524,7 @@ public abstract class HttpOperation<T> extends OperationPartial {
         String url = getClient().getBaseUrl() + path;
 
         logger.debug("{}: 'poll' count {} for {}", getFullName(), pollCount, params.getRequestId());
+        getMetrics().polled(getActorName(), getName());
 
         logMessage(EventType.OUT, CommInfrastructure.REST, url, null);
 
@@ -376,9 +568,7 @@ public abstract class HttpOperation<T> extends OperationPartial {
 
     @Override
     public <Q> String logMessage(EventType direction, CommInfrastructure infra, String sink, Q request) {
-        String json = super.logMessage(direction, infra, sink, request);
-        NetLoggerUtil.log(direction, infra, sink, json);
-        return json;
+        return logMessage(true, direction, infra, sink, request);
     }
 
     // these may be overridden by junit tests
@@ -388,4 +578,39 @@ public abstract class HttpOperation<T> extends OperationPartial {
 
         return TimeUnit.MILLISECONDS.convert(cfg.getPollWaitSec(), TimeUnit.SECONDS);
     }
+
+    protected long getMaxPollWaitMs() {
+        HttpPollingConfig cfg = (HttpPollingConfig) config;
+
+        return TimeUnit.MILLISECONDS.convert(cfg.getMaxPollWaitSec(), TimeUnit.SECONDS);
+    }
+
+    protected int getPollJitterPercent() {
+        return ((HttpPollingConfig) config).getPollJitterPercent();
+    }
+
+    /**
+     * Determines how long to wait before hedging a request. Only idempotent operations
+     * are hedged, after the configured percentile of the latencies of the requests that
+     * succeeded within the last five minutes, but not before the configured minimum
+     * delay. The percentile is rounded up to a bound of the latency histogram buckets
+     * (see {@code OperationMetrics.getLatencyPercentileMs()}).
+     *
+     * @return the time, in milliseconds, to wait before hedging, or {@code 0} if the
+     *         request should not be hedged
+     */
+    protected long getHedgeDelayMs() {
+        if (!isIdempotent() || config.getHedgePercentile() <= 0) {
+            return 0;
+        }
+
+        long percentileMs = getMetrics().getLatencyPercentileMs(getActorName(), getName(), OperationResult.SUCCESS,
+                        config.getHedgePercentile());
+
+        return Math.max(config.getHedgeMinDelayMs(), percentileMs);
+    }
+
+    protected SharedPollScheduler getPollScheduler() {
+        return SharedPollScheduler.getInstance();
+    }
 }
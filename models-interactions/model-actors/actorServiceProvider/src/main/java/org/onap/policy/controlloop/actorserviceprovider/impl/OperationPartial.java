@@ -3,7 +3,7 @@
  * ONAP
  * ================================================================================
  * Copyright (C) 2020-2022 AT&T Intellectual Property. All rights reserved.
- * Modifications Copyright (C) 2024 Nordix Foundation.
+ * Modifications Copyright (C) 2024, 2026 Nordix Foundation.
  * ================================================================================
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -21,6 +21,7 @@
 
 package org.onap.policy.controlloop.actorserviceprovider.impl;
 
+import java.time.Duration;
 import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -34,6 +35,7 @@ import java.util.concurrent.CancellationException;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
 import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 import java.util.function.BiConsumer;
@@ -44,17 +46,25 @@ import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.Setter;
 import org.onap.policy.common.message.bus.event.Topic.CommInfrastructure;
-import org.onap.policy.common.message.bus.utils.NetLoggerUtil;
 import org.onap.policy.common.message.bus.utils.NetLoggerUtil.EventType;
 import org.onap.policy.common.utils.coder.Coder;
 import org.onap.policy.common.utils.coder.CoderException;
 import org.onap.policy.common.utils.coder.StandardCoder;
 import org.onap.policy.controlloop.ControlLoopOperation;
 import org.onap.policy.controlloop.actorserviceprovider.CallbackManager;
+import org.onap.policy.controlloop.actorserviceprovider.CircuitBreaker;
+import org.onap.policy.controlloop.actorserviceprovider.CircuitBreakerRegistry;
+import org.onap.policy.controlloop.actorserviceprovider.FairScheduler;
+import org.onap.policy.controlloop.actorserviceprovider.HashedWheelScheduler;
+import org.onap.policy.controlloop.actorserviceprovider.NetworkLogger;
 import org.onap.policy.controlloop.actorserviceprovider.Operation;
+import org.onap.policy.controlloop.actorserviceprovider.OperationLimiter;
+import org.onap.policy.controlloop.actorserviceprovider.OperationLimiter.Permit;
+import org.onap.policy.controlloop.actorserviceprovider.OperationMetrics;
 import org.onap.policy.controlloop.actorserviceprovider.OperationOutcome;
 import org.onap.policy.controlloop.actorserviceprovider.OperationProperties;
 import org.onap.policy.controlloop.actorserviceprovider.OperationResult;
+import org.onap.policy.controlloop.actorserviceprovider.OperationScheduler;
 import org.onap.policy.controlloop.actorserviceprovider.parameters.ControlLoopOperationParams;
 import org.onap.policy.controlloop.actorserviceprovider.parameters.OperatorConfig;
 import org.onap.policy.controlloop.actorserviceprovider.pipeline.PipelineControllerFuture;
@@ -80,6 +90,12 @@ import org.slf4j.LoggerFactory;
  * <li>completion callback</li>
  * <li>controller completion (i.e., delayedComplete())</li>
  * </ul>
+ * <p/>
+ * By default, each of those steps is a separate hop through the executor. When the
+ * {@link #isFusedPipeline() fused pipeline} is enabled, the steps that follow the
+ * completion of an attempt are run together, in order, within a single task on the
+ * executor, so that an attempt makes one hop to start and one hop to complete. The
+ * controller completion of the operation as a whole is still a hop of its own.
  */
 public abstract class OperationPartial implements Operation {
     private static final Logger logger = LoggerFactory.getLogger(OperationPartial.class);
@@ -89,6 +105,12 @@ public abstract class OperationPartial implements Operation {
     public static final String GUARD_OPERATION_NAME = "Decision";
     public static final long DEFAULT_RETRY_WAIT_MS = 1000L;
 
+    /**
+     * {@code true} if the fused pipeline is used by default, as set by the "executors"
+     * parameters of the actor service.
+     */
+    private static volatile boolean fusedPipelineDefault = false;
+
     private final OperatorConfig config;
 
     /**
@@ -130,6 +152,17 @@ public abstract class OperationPartial implements Operation {
         return config.getBlockingExecutor();
     }
 
+    /**
+     * Gets the scheduler to be used for timeouts and delays.
+     *
+     * @return the scheduler from the operator's configuration, or the default scheduler,
+     *         if the configuration does not specify one
+     */
+    public OperationScheduler getScheduler() {
+        var scheduler = config.getScheduler();
+        return (scheduler != null ? scheduler : HashedWheelScheduler.getInstance());
+    }
+
     @Override
     public String getActorName() {
         return params.getActor();
@@ -175,13 +208,81 @@ public abstract class OperationPartial implements Operation {
         return value;
     }
 
+    /**
+     * Starts the operation, once it is permitted by the operation's concurrency limits.
+     * If the request is rejected by the limits, or its priority class's scheduling queue
+     * is full, the operation completes with an outcome indicating the reason, without
+     * being attempted.
+     */
     @Override
     public CompletableFuture<OperationOutcome> start() {
         // allocate a controller for the entire operation
         final PipelineControllerFuture<OperationOutcome> controller = new PipelineControllerFuture<>();
 
-        // start attempt #1
-        return startOperationAttempt(controller, 1);
+        if (!getFairScheduler().admit(params.getPriorityClass())) {
+            rejectOperation(controller, new RejectedExecutionException("scheduling queue is full"),
+                            "scheduling queue is full for " + params.getPriorityClass());
+            return controller;
+        }
+
+        final String target = getProperty(OperationProperties.AAI_TARGET_ENTITY);
+        final CompletableFuture<Permit> permit = getLimiter().acquire(getActorName(), getName(), target);
+
+        if (permit == null) {
+            // unlimited - start attempt #1
+            return startOperationAttempt(controller, 1);
+        }
+
+        // stop waiting if the operation is canceled
+        controller.add(permit);
+
+        permit.whenComplete((perm, thrown) -> {
+            if (controller.isDone()) {
+                // already canceled
+                if (perm != null) {
+                    perm.release();
+                }
+
+            } else if (thrown != null) {
+                rejectOperation(controller, thrown, isTimeout(thrown) ? "timed out waiting for a concurrency limit"
+                                : "concurrency limit exceeded: " + thrown.getMessage());
+
+            } else {
+                controller.whenComplete((outcome, thrown2) -> perm.release());
+
+                // start attempt #1
+                startOperationAttempt(controller, 1);
+            }
+        });
+
+        return controller;
+    }
+
+    /**
+     * Completes an operation that was rejected by its concurrency limits or by the
+     * scheduler, invoking the callbacks with an outcome indicating why it was rejected.
+     *
+     * @param controller controller for all operation attempts
+     * @param thrown exception indicating why the operation was rejected
+     * @param message message to be placed into the outcome
+     */
+    private void rejectOperation(PipelineControllerFuture<OperationOutcome> controller, Throwable thrown,
+                    String message) {
+        final var executor = params.getExecutor();
+        final var outcome = setOutcome(makeOutcome(), thrown);
+        final var callbacks = new CallbackManager();
+
+        outcome.setMessage(message);
+        outcome.setFinalOutcome(true);
+
+        logger.warn("{}: rejected operation for {}: {}", getFullName(), params.getRequestId(), outcome.getMessage());
+
+        // @formatter:off
+        CompletableFuture.completedFuture(outcome)
+                    .whenCompleteAsync(callbackStarted(callbacks), executor)
+                    .whenCompleteAsync(callbackCompleted(callbacks), executor)
+                    .whenCompleteAsync(controller.delayedComplete(), executor);
+        // @formatter:on
     }
 
     /**
@@ -198,8 +299,10 @@ public abstract class OperationPartial implements Operation {
         generateSubRequestId(attempt);
 
         // propagate "stop" to the operation attempt
-        controller.wrap(startAttemptWithoutRetries(attempt)).thenCompose(retryOnFailure(controller, attempt))
-                        .whenCompleteAsync(controller.delayedComplete(), params.getExecutor());
+        CompletableFuture<OperationOutcome> future = controller.wrap(startAttemptWithoutRetries(attempt))
+                        .thenCompose(retryOnFailure(controller, attempt));
+
+        future.whenCompleteAsync(controller.delayedComplete(), params.getExecutor());
 
         return controller;
     }
@@ -232,8 +335,13 @@ public abstract class OperationPartial implements Operation {
         // this operation attempt gets its own controller
         final PipelineControllerFuture<OperationOutcome> controller = new PipelineControllerFuture<>();
 
-        // propagate "stop" to the callbacks
-        controller.add(callbacks);
+        // propagate "stop" to the callbacks, noting if a started attempt was canceled
+        controller.add(() -> {
+            boolean neverStarted = callbacks.canStart();
+            if (callbacks.canEnd() && !neverStarted) {
+                getMetrics().cancelled(getActorName(), getName());
+            }
+        });
 
         // @formatter:off
         CompletableFuture<OperationOutcome> future = CompletableFuture.completedFuture(outcome)
@@ -245,7 +353,7 @@ public abstract class OperationPartial implements Operation {
         long timeoutMillis = getTimeoutMs(params.getTimeoutSec());
         if (timeoutMillis > 0) {
             logger.info("{}: set timeout to {}ms for {}", getFullName(), timeoutMillis, params.getRequestId());
-            future = future.orTimeout(timeoutMillis, TimeUnit.MILLISECONDS);
+            future = getScheduler().orTimeout(future, timeoutMillis, TimeUnit.MILLISECONDS);
         }
 
         /*
@@ -256,6 +364,11 @@ public abstract class OperationPartial implements Operation {
          * the pipeline as the last step anyway.
          */
 
+        if (isFusedPipeline()) {
+            future.whenCompleteAsync(completeAttempt(attempt, callbacks, controller), executor);
+            return controller;
+        }
+
         // @formatter:off
         future.exceptionally(fromException("operation"))
                     .thenApply(setRetryFlag(attempt))
@@ -267,6 +380,45 @@ public abstract class OperationPartial implements Operation {
         return controller;
     }
 
+    /**
+     * Generates a function that performs, in order, all of the steps that follow the
+     * completion of an operation attempt: converting an exception to an outcome, setting
+     * the retry flag, invoking the start and completion callbacks, and completing the
+     * attempt's controller. Used by the fused pipeline, so that those steps are run as a
+     * single task on the executor.
+     *
+     * @param attempt attempt number, typically starting with 1
+     * @param callbacks used to determine if the callbacks can be invoked
+     * @param controller controller for the attempt
+     * @return a function that completes the attempt
+     */
+    private BiConsumer<OperationOutcome, Throwable> completeAttempt(int attempt, CallbackManager callbacks,
+                    PipelineControllerFuture<OperationOutcome> controller) {
+
+        final Function<Throwable, OperationOutcome> exceptionMapper = fromException("operation");
+        final Function<OperationOutcome, OperationOutcome> retryFlagger = setRetryFlag(attempt);
+        final BiConsumer<OperationOutcome, Throwable> starter = callbackStarted(callbacks);
+        final BiConsumer<OperationOutcome, Throwable> completer = callbackCompleted(callbacks);
+
+        return (result, thrown) -> {
+            OperationOutcome outcome;
+
+            try {
+                outcome = retryFlagger.apply(thrown == null ? result : exceptionMapper.apply(thrown));
+                starter.accept(outcome, null);
+                completer.accept(outcome, null);
+
+            } catch (RuntimeException e) {
+                logger.warn("{}: cannot complete operation attempt {} for {}", getFullName(), attempt,
+                                params.getRequestId(), e);
+                controller.completeExceptionally(e);
+                return;
+            }
+
+            controller.complete(outcome);
+        };
+    }
+
     /**
      * Determines if the outcome was successful.
      *
@@ -298,6 +450,17 @@ public abstract class OperationPartial implements Operation {
         return OperationOutcome.isFor(outcome, getActorName(), getName());
     }
 
+    /**
+     * Determines if the operation is idempotent, in which case its requests may safely be
+     * sent more than once (e.g., to hedge against a slow response). This particular
+     * method simply returns {@code false}.
+     *
+     * @return {@code true} if the operation is idempotent, {@code false} otherwise
+     */
+    protected boolean isIdempotent() {
+        return false;
+    }
+
     /**
      * Invokes the operation as a "future". This method simply invokes
      * {@link #doOperation()} using the {@link #blockingExecutor "blocking executor"},
@@ -425,6 +588,7 @@ public abstract class OperationPartial implements Operation {
              */
             long waitMs = getRetryWaitMs();
             logger.info("retry operation {} in {}ms for {}", getFullName(), waitMs, params.getRequestId());
+            getMetrics().retried(getActorName(), getName());
 
             return sleep(waitMs, TimeUnit.MILLISECONDS)
                             .thenCompose(unused -> startOperationAttempt(controller, attempt + 1));
@@ -443,7 +607,7 @@ public abstract class OperationPartial implements Operation {
             return CompletableFuture.completedFuture(null);
         }
 
-        return new CompletableFuture<Void>().completeOnTimeout(null, sleepTime, unit);
+        return getScheduler().sleep(sleepTime, unit);
     }
 
     /**
@@ -692,6 +856,7 @@ public abstract class OperationPartial implements Operation {
             case FAILURE:
                 return 4;
 
+            case FAILURE_CIRCUIT_OPEN:
             case FAILURE_TIMEOUT:
                 return 5;
 
@@ -823,6 +988,8 @@ public abstract class OperationPartial implements Operation {
         return (outcome, thrown) -> {
 
             if (callbacks.canStart()) {
+                getMetrics().started(getActorName(), getName());
+
                 outcome.setSubRequestId(getSubRequestId());
                 outcome.setStart(callbacks.getStartTime());
                 outcome.setEnd(null);
@@ -856,6 +1023,11 @@ public abstract class OperationPartial implements Operation {
                 outcome.setStart(callbacks.getStartTime());
                 outcome.setEnd(callbacks.getEndTime());
 
+                if (outcome.getStart() != null) {
+                    getMetrics().completed(getActorName(), getName(), outcome.getResult(),
+                                    Duration.between(outcome.getStart(), outcome.getEnd()).toMillis());
+                }
+
                 // pass a copy to the callback
                 params.callbackCompleted(new OperationOutcome(outcome));
             }
@@ -890,6 +1062,42 @@ public abstract class OperationPartial implements Operation {
         return operation;
     }
 
+    /**
+     * Asks the circuit breaker of a southbound endpoint for permission to send a request.
+     *
+     * @param endpoint supplies the name of the endpoint; only invoked if breakers are
+     *        enabled
+     * @return the call, whose result must be recorded once the response arrives, or
+     *         {@code null} if the endpoint's breaker is open. If breakers are disabled,
+     *         then it returns a call whose result is not recorded
+     */
+    protected CircuitBreaker.Call startCall(Supplier<String> endpoint) {
+        var breakers = getCircuitBreakers();
+        if (!breakers.isEnabled()) {
+            return CircuitBreaker.UNGUARDED;
+        }
+
+        var breaker = breakers.getBreaker(endpoint.get());
+        return (breaker == null ? CircuitBreaker.UNGUARDED : breaker.tryAcquire());
+    }
+
+    /**
+     * Completes an outcome for a request that was not sent because the circuit breaker of
+     * its endpoint is open.
+     *
+     * @param outcome outcome to be populated
+     * @param endpoint name of the endpoint
+     * @return a future, already completed with the outcome
+     */
+    protected CompletableFuture<OperationOutcome> rejectCircuitOpen(OperationOutcome outcome, String endpoint) {
+        logger.warn("{}: circuit breaker {} is open for {}", getFullName(), endpoint, params.getRequestId());
+
+        setOutcome(outcome, OperationResult.FAILURE_CIRCUIT_OPEN);
+        outcome.setMessage("circuit breaker is open for " + endpoint);
+
+        return CompletableFuture.completedFuture(outcome);
+    }
+
     /**
      * Makes an outcome, populating the "target" field with the contents of the target
      * entity property.
@@ -917,29 +1125,48 @@ public abstract class OperationPartial implements Operation {
     }
 
     /**
-     * Logs a message. If the message is not of type, String, then it attempts to
-     * pretty-print it into JSON before logging.
+     * Logs a message, via the {@link NetworkLogger}. If the message is not of type,
+     * String, and its body is to be logged, then it attempts to pretty-print it into JSON
+     * before logging.
      *
      * @param direction IN or OUT
      * @param infra communication infrastructure on which it was published
      * @param source source name (e.g., the URL or Topic name)
      * @param message message to be logged
-     * @return the JSON text that was logged
+     * @return the JSON text that was logged, or {@code null} if the message body was not
+     *         logged
      */
     public <T> String logMessage(EventType direction, CommInfrastructure infra, String source, T message) {
-        String json;
+        return logMessage(false, direction, infra, source, message);
+    }
+
+    /**
+     * Logs a message, via the {@link NetworkLogger}.
+     *
+     * @param network {@code true} if the message should also be written to the network
+     *        log
+     * @param direction IN or OUT
+     * @param infra communication infrastructure on which it was published
+     * @param source source name (e.g., the URL or Topic name)
+     * @param message message to be logged
+     * @return the JSON text that was logged, or {@code null} if the message body was not
+     *         logged
+     */
+    protected <T> String logMessage(boolean network, EventType direction, CommInfrastructure infra, String source,
+                    T message) {
+        return getNetworkLogger().log(logger, network, direction, infra, source, message,
+                        msg -> renderMessage(direction, msg));
+    }
+
+    private <T> String renderMessage(EventType direction, T message) {
         try {
-            json = prettyPrint(message);
+            return prettyPrint(message);
 
         } catch (IllegalArgumentException e) {
             String type = (direction == EventType.IN ? "response" : "request");
             logger.warn("cannot pretty-print {}", type, e);
-            json = message.toString();
+            return message.toString();
         }
-
-        logger.info("[{}|{}|{}|]{}{}", direction, infra, source, NetLoggerUtil.SYSTEM_LS, json);
-
-        return json;
     }
 
     /**
@@ -997,9 +1224,61 @@ public abstract class OperationPartial implements Operation {
         return (timeoutSec == null ? 0 : TimeUnit.MILLISECONDS.convert(timeoutSec, TimeUnit.SECONDS));
     }
 
+    /**
+     * Determines if the fused pipeline is used by default.
+     *
+     * @return {@code true} if the fused pipeline is used by default
+     */
+    public static boolean isFusedPipelineDefault() {
+        return fusedPipelineDefault;
+    }
+
+    /**
+     * Sets whether the fused pipeline is used by default. This is typically invoked by
+     * the actor service when it is configured, and applies to attempts that complete
+     * thereafter.
+     *
+     * @param fused {@code true} if the fused pipeline is to be used by default
+     */
+    public static void setFusedPipelineDefault(boolean fused) {
+        fusedPipelineDefault = fused;
+    }
+
+    /**
+     * Determines if the fused pipeline should be used. The default is given by
+     * {@link #isFusedPipelineDefault()}; subclasses may override it.
+     *
+     * @return {@code true} to run the steps that follow the completion of an attempt as
+     *         a single task on the executor, {@code false} to run each step as a separate
+     *         task
+     */
+    protected boolean isFusedPipeline() {
+        return fusedPipelineDefault;
+    }
+
     // these may be overridden by junit tests
 
     protected Coder getCoder() {
         return coder;
     }
+
+    protected NetworkLogger getNetworkLogger() {
+        return NetworkLogger.getInstance();
+    }
+
+    protected OperationMetrics getMetrics() {
+        return OperationMetrics.getInstance();
+    }
+
+    protected OperationLimiter getLimiter() {
+        return OperationLimiter.getInstance();
+    }
+
+    protected FairScheduler getFairScheduler() {
+        return FairScheduler.getInstance();
+    }
+
+    protected CircuitBreakerRegistry getCircuitBreakers() {
+        return CircuitBreakerRegistry.getInstance();
+    }
 }
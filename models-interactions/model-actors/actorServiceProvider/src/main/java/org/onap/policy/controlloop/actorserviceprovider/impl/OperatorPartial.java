@@ -3,6 +3,7 @@
  * ONAP
  * ================================================================================
  * Copyright (C) 2020-2021 AT&T Intellectual Property. All rights reserved.
+ * Modifications Copyright (C) 2026 Nordix Foundation.
  * ================================================================================
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -23,6 +24,9 @@ package org.onap.policy.controlloop.actorserviceprovider.impl;
 import java.util.Map;
 import java.util.concurrent.Executor;
 import lombok.Getter;
+import lombok.NonNull;
+import lombok.Setter;
+import org.onap.policy.controlloop.actorserviceprovider.ActorExecutors;
 import org.onap.policy.controlloop.actorserviceprovider.Operator;
 
 /**
@@ -32,16 +36,15 @@ public abstract class OperatorPartial extends StartConfigPartial<Map<String, Obj
 
     /**
      * Executor to be used for tasks that may perform blocking I/O. The default executor
-     * simply launches a new thread for each command that is submitted to it.
+     * simply launches a new thread for each command that is submitted to it. It may be
+     * replaced, typically by the actor service, before the operator is configured.
      * <p/>
      * The "get" method may be overridden by junit tests.
      */
     @Getter
-    private final Executor blockingExecutor = command -> {
-        var thread = new Thread(command);
-        thread.setDaemon(true);
-        thread.start();
-    };
+    @Setter
+    @NonNull
+    private volatile Executor blockingExecutor = ActorExecutors.THREAD_PER_TASK;
 
     @Getter
     private final String actorName;
@@ -3,6 +3,7 @@
  * ONAP
  * ================================================================================
  * Copyright (C) 2020 AT&T Intellectual Property. All rights reserved.
+ * Modifications Copyright (C) 2026 Nordix Foundation.
  * ================================================================================
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -44,12 +45,24 @@ public class ActorParams {
      */
     public static final String OPERATIONS_FIELD = "operations";
 
+    /**
+     * Name of the "bulkhead" field contained within actor parameters.
+     */
+    public static final String BULKHEAD_FIELD = "bulkhead";
+
     /**
      * Maps the operation name to its parameters.
      */
     @NotNull
     protected Map<String, Map<String, Object>> operations;
 
+    /**
+     * Default concurrency limits for the operations, or {@code null} if the operations
+     * are unlimited. An operation's parameters may specify its own limits, which replace
+     * these entirely.
+     */
+    protected BulkheadParams bulkhead;
+
 
     /**
      * Extracts a specific operation's parameters from "this".
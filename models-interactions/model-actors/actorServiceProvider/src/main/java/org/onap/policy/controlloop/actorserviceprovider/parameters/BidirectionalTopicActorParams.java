@@ -3,6 +3,7 @@
  * ONAP
  * ================================================================================
  * Copyright (C) 2020 AT&T Intellectual Property. All rights reserved.
+ * Modifications Copyright (C) 2026 Nordix Foundation.
  * ================================================================================
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -20,6 +21,8 @@
 
 package org.onap.policy.controlloop.actorserviceprovider.parameters;
 
+import java.util.Map;
+import java.util.function.Function;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.Setter;
@@ -32,6 +35,20 @@ import org.onap.policy.common.parameters.annotations.Min;
 @Setter
 @EqualsAndHashCode(callSuper = true)
 public class BidirectionalTopicActorParams extends ActorParams {
+    /**
+     * Name of the "asyncForwarding" field contained within actor parameters.
+     */
+    public static final String ASYNC_FORWARDING_FIELD = "asyncForwarding";
+
+    /**
+     * {@code true} if incoming messages are to be forwarded to the listeners via the
+     * forwarding executor, {@code false} if they are to be forwarded on the thread that
+     * received them. This applies to the actor as a whole, thus it is not passed on to the
+     * operations. As asynchronous forwarding may deliver messages out of order, it should
+     * only be enabled if the operations do not depend on the order in which responses
+     * arrive. The default is {@code false}.
+     */
+    private boolean asyncForwarding = false;
 
     /*
      * Optional, default values that are used if missing from the operation-specific
@@ -54,4 +71,23 @@ public class BidirectionalTopicActorParams extends ActorParams {
      */
     @Min(1)
     private int timeoutSec = 90;
+
+
+    /**
+     * Extracts a specific operation's parameters from "this", omitting the fields that
+     * only apply to the actor.
+     */
+    @Override
+    public Function<String, Map<String, Object>> makeOperationParameters(String name) {
+        Function<String, Map<String, Object>> maker = super.makeOperationParameters(name);
+
+        return operationName -> {
+            Map<String, Object> subparams = maker.apply(operationName);
+            if (subparams != null) {
+                subparams.remove(ASYNC_FORWARDING_FIELD);
+            }
+
+            return subparams;
+        };
+    }
 }
@@ -0,0 +1,86 @@
+/*-
+ * ============LICENSE_START=======================================================
+ *  Copyright (C) 2026 Nordix Foundation.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.controlloop.actorserviceprovider.parameters;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.Setter;
+import org.onap.policy.common.parameters.BeanValidator;
+import org.onap.policy.common.parameters.ValidationResult;
+import org.onap.policy.common.parameters.annotations.Min;
+
+/**
+ * Parameters limiting the number of operations that may run concurrently, found in the
+ * "bulkhead" entry of the actor's parameters, or of an operation's parameters. Requests
+ * that exceed a limit wait, in FIFO order, for a running operation to complete.
+ */
+@Getter
+@Setter
+@EqualsAndHashCode
+public class BulkheadParams {
+
+    /**
+     * Maximum number of operations that may run concurrently, or 0 if unlimited.
+     */
+    @Min(0)
+    private int maxConcurrent = 0;
+
+    /**
+     * Maximum number of operations that may run concurrently on a single target entity,
+     * or 0 if unlimited.
+     */
+    @Min(0)
+    private int maxConcurrentPerTarget = 0;
+
+    /**
+     * Maximum number of requests that may wait for each limit. Requests arriving when the
+     * queue is full are rejected.
+     */
+    @Min(0)
+    private int maxQueued = 100;
+
+    /**
+     * Amount of time, in seconds, that a request may wait before it is rejected.
+     */
+    @Min(1)
+    private int queueTimeoutSec = 60;
+
+
+    /**
+     * Determines if any limit has been specified.
+     *
+     * @return {@code true} if a limit has been specified, {@code false} otherwise
+     */
+    public boolean isLimited() {
+        return (maxConcurrent > 0 || maxConcurrentPerTarget > 0);
+    }
+
+    /**
+     * Validates the parameters.
+     *
+     * @param resultName name of the result
+     *
+     * @return the validation result
+     */
+    public ValidationResult validate(String resultName) {
+        return new BeanValidator().validateTop(resultName, this);
+    }
+}
@@ -0,0 +1,96 @@
+/*-
+ * ============LICENSE_START=======================================================
+ *  Copyright (C) 2026 Nordix Foundation.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.controlloop.actorserviceprovider.parameters;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.Setter;
+import org.onap.policy.common.parameters.BeanValidator;
+import org.onap.policy.common.parameters.ValidationResult;
+import org.onap.policy.common.parameters.annotations.Max;
+import org.onap.policy.common.parameters.annotations.Min;
+
+/**
+ * Parameters for the circuit breakers guarding the southbound endpoints, found in the
+ * "circuitBreaker" entry of the actor service's parameters.
+ */
+@Getter
+@Setter
+@EqualsAndHashCode
+public class CircuitBreakerParams {
+
+    /**
+     * Number of most recent calls used to compute the failure and slow-call rates.
+     */
+    @Min(1)
+    private int windowSize = 100;
+
+    /**
+     * Minimum number of calls that must be seen before the breaker can open.
+     */
+    @Min(1)
+    private int minimumCalls = 20;
+
+    /**
+     * Percentage of failed calls at which the breaker opens.
+     */
+    @Min(1)
+    @Max(100)
+    private int failureRateThreshold = 50;
+
+    /**
+     * Percentage of slow calls at which the breaker opens.
+     */
+    @Min(1)
+    @Max(100)
+    private int slowCallRateThreshold = 80;
+
+    /**
+     * Calls taking at least this long, in milliseconds, are considered slow.
+     */
+    @Min(1)
+    private long slowCallDurationMs = 10000;
+
+    /**
+     * Amount of time, in seconds, that the breaker remains open before it allows trial
+     * calls through.
+     */
+    @Min(1)
+    private int openDurationSec = 30;
+
+    /**
+     * Number of trial calls allowed through while the breaker is half-open.
+     */
+    @Min(1)
+    private int halfOpenCalls = 5;
+
+
+    /**
+     * Validates the parameters.
+     *
+     * @param resultName name of the result
+     *
+     * @return the validation result
+     */
+    public ValidationResult validate(String resultName) {
+        return new BeanValidator().validateTop(resultName, this);
+    }
+}
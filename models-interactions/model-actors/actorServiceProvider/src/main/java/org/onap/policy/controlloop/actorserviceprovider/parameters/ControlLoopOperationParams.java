@@ -3,6 +3,7 @@
  * ONAP
  * ================================================================================
  * Copyright (C) 2020-2021 AT&T Intellectual Property. All rights reserved.
+ * Modifications Copyright (C) 2026 Nordix Foundation.
  * ================================================================================
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -34,6 +35,7 @@ import org.onap.policy.common.parameters.BeanValidationResult;
 import org.onap.policy.common.parameters.BeanValidator;
 import org.onap.policy.common.parameters.annotations.NotNull;
 import org.onap.policy.controlloop.actorserviceprovider.ActorService;
+import org.onap.policy.controlloop.actorserviceprovider.FairScheduler;
 import org.onap.policy.controlloop.actorserviceprovider.Operation;
 import org.onap.policy.controlloop.actorserviceprovider.OperationOutcome;
 import org.onap.policy.controlloop.actorserviceprovider.TargetType;
@@ -43,7 +45,9 @@ import org.slf4j.LoggerFactory;
 
 /**
  * Parameters for control loop operations. The executor defaults to
- * {@link ForkJoinPool#commonPool()}, but may be overridden.
+ * {@link ForkJoinPool#commonPool()}, but may be overridden. If a priority class is
+ * specified, the operation's tasks are scheduled via the {@link FairScheduler}, within
+ * that class, before being handed to the executor.
  */
 @Getter
 @Builder(toBuilder = true)
@@ -89,6 +93,12 @@ public class ControlLoopOperationParams {
     @Builder.Default
     private Executor executor = ForkJoinPool.commonPool();
 
+    /**
+     * Priority class (e.g., closed loop name) within which the operation's tasks are
+     * scheduled, or {@code null} if the tasks go straight to the executor.
+     */
+    private String priorityClass;
+
     /**
      * Operation name.
      */
@@ -166,11 +176,20 @@ public class ControlLoopOperationParams {
             throw new IllegalArgumentException("invalid parameters");
         }
 
+        var operParams = this;
+
+        if (priorityClass != null) {
+            Executor scheduled = FairScheduler.getInstance().forClass(priorityClass, executor);
+            if (scheduled != executor) {
+                operParams = toBuilder().executor(scheduled).build();
+            }
+        }
+
         // @formatter:off
         return actorService
                     .getActor(getActor())
                     .getOperator(getOperation())
-                    .buildOperation(this);
+                    .buildOperation(operParams);
         // @formatter:on
     }
 
@@ -0,0 +1,107 @@
+/*-
+ * ============LICENSE_START=======================================================
+ *  Copyright (C) 2026 Nordix Foundation.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.controlloop.actorserviceprovider.parameters;
+
+import java.util.concurrent.ForkJoinPool;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.Setter;
+import org.onap.policy.common.parameters.BeanValidator;
+import org.onap.policy.common.parameters.ValidationResult;
+import org.onap.policy.common.parameters.annotations.Min;
+import org.onap.policy.common.parameters.annotations.NotNull;
+
+/**
+ * Parameters for the executors used by the actors, found in the "executors" entry of the
+ * actor service's parameters.
+ */
+@Getter
+@Setter
+@EqualsAndHashCode
+public class ExecutorParams {
+    public static final int DEFAULT_STARTUP_PARALLELISM = 4;
+
+    /**
+     * Type of executor used for tasks that may perform blocking I/O.
+     */
+    public enum BlockingType {
+        /**
+         * Starts a new platform thread for each task.
+         */
+        THREAD_PER_TASK,
+
+        /**
+         * Starts a new virtual thread for each task. Falls back to
+         * {@link #THREAD_PER_TASK} if the JVM does not support virtual threads.
+         */
+        VIRTUAL_THREAD,
+
+        /**
+         * Runs the tasks in a fixed-size pool of platform threads.
+         */
+        FIXED_POOL
+    }
+
+    /**
+     * Type of executor used for blocking tasks. The default is
+     * {@link BlockingType#THREAD_PER_TASK}.
+     */
+    @NotNull
+    private BlockingType blockingType = BlockingType.THREAD_PER_TASK;
+
+    /**
+     * Number of threads used for blocking tasks, with {@link BlockingType#FIXED_POOL}.
+     */
+    @Min(1)
+    private int blockingPoolSize = 50;
+
+    /**
+     * Number of platform threads used to run pipeline continuations, or 0 to use
+     * {@link ForkJoinPool#commonPool()}.
+     */
+    @Min(0)
+    private int pipelinePoolSize = 0;
+
+    /**
+     * {@code true} if the steps that follow the completion of an operation's attempt are
+     * to be run as a single task on the pipeline executor, rather than as a task apiece.
+     * The default is {@code false}.
+     */
+    private boolean fusedPipeline = false;
+
+    /**
+     * Maximum number of actors that are configured, or started, concurrently.
+     */
+    @Min(1)
+    private int startupParallelism = DEFAULT_STARTUP_PARALLELISM;
+
+
+    /**
+     * Validates the parameters.
+     *
+     * @param resultName name of the result
+     *
+     * @return the validation result
+     */
+    public ValidationResult validate(String resultName) {
+        return new BeanValidator().validateTop(resultName, this);
+    }
+}
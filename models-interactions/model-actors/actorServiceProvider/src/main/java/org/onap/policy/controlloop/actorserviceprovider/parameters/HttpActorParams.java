@@ -3,6 +3,7 @@
  * ONAP
  * ================================================================================
  * Copyright (C) 2020 AT&T Intellectual Property. All rights reserved.
+ * Modifications Copyright (C) 2026 Nordix Foundation.
  * ================================================================================
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -23,6 +24,7 @@ package org.onap.policy.controlloop.actorserviceprovider.parameters;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.Setter;
+import org.onap.policy.common.parameters.annotations.Max;
 import org.onap.policy.common.parameters.annotations.Min;
 
 /**
@@ -49,4 +51,18 @@ public class HttpActorParams extends ActorParams {
      */
     @Min(1)
     private int timeoutSec = 90;
+
+    /**
+     * Latency percentile after which idempotent requests are hedged. The default is zero,
+     * which disables hedging.
+     */
+    @Min(0)
+    @Max(99)
+    private int hedgePercentile = 0;
+
+    /**
+     * Minimum time, in milliseconds, to wait before hedging a request.
+     */
+    @Min(0)
+    private long hedgeMinDelayMs = 0;
 }
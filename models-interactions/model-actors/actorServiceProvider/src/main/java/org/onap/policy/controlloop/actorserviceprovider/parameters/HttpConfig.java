@@ -3,6 +3,7 @@
  * ONAP
  * ================================================================================
  * Copyright (C) 2020 AT&T Intellectual Property. All rights reserved.
+ * Modifications Copyright (C) 2026 Nordix Foundation.
  * ================================================================================
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -44,6 +45,17 @@ public class HttpConfig extends OperatorConfig {
      */
     private final String path;
 
+    /**
+     * Latency percentile after which idempotent requests are hedged, or zero if they are
+     * not hedged.
+     */
+    private final int hedgePercentile;
+
+    /**
+     * Minimum time, in milliseconds, to wait before hedging a request.
+     */
+    private final long hedgeMinDelayMs;
+
 
     /**
      * Constructs the object.
@@ -57,5 +69,7 @@ public class HttpConfig extends OperatorConfig {
         client = clientFactory.get(params.getClientName());
         path = params.getPath();
         timeoutMs = TimeUnit.MILLISECONDS.convert(params.getTimeoutSec(), TimeUnit.SECONDS);
+        hedgePercentile = params.getHedgePercentile();
+        hedgeMinDelayMs = params.getHedgeMinDelayMs();
     }
 }
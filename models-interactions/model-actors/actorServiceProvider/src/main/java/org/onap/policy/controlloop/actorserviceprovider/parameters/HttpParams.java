@@ -3,6 +3,7 @@
  * ONAP
  * ================================================================================
  * Copyright (C) 2020 AT&T Intellectual Property. All rights reserved.
+ * Modifications Copyright (C) 2026 Nordix Foundation.
  * ================================================================================
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -24,6 +25,7 @@ import lombok.Data;
 import lombok.experimental.SuperBuilder;
 import org.onap.policy.common.parameters.BeanValidator;
 import org.onap.policy.common.parameters.ValidationResult;
+import org.onap.policy.common.parameters.annotations.Max;
 import org.onap.policy.common.parameters.annotations.Min;
 import org.onap.policy.common.parameters.annotations.NotBlank;
 import org.onap.policy.common.parameters.annotations.NotNull;
@@ -56,6 +58,27 @@ public class HttpParams {
     @Min(1)
     private int timeoutSec;
 
+    /**
+     * Latency percentile, of the requests that succeeded within the last five minutes,
+     * after which an idempotent request is hedged by sending a duplicate, taking
+     * whichever response arrives first. The latency is measured in histogram buckets,
+     * thus the delay is rounded up to a bucket bound, of at most 300 seconds. Zero
+     * disables hedging.
+     * <p/>
+     * Note: this should NOT have a default value, as it receives its default value from
+     * {@link HttpActorParams}.
+     */
+    @Min(0)
+    @Max(99)
+    private int hedgePercentile;
+
+    /**
+     * Minimum time, in milliseconds, to wait before hedging a request. This is also the
+     * wait used until enough requests have been seen to compute the percentile.
+     */
+    @Min(0)
+    private long hedgeMinDelayMs;
+
 
     /**
      * Validates the parameters.
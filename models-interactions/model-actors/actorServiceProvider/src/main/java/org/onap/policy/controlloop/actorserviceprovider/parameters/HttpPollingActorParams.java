@@ -3,6 +3,7 @@
  * ONAP
  * ================================================================================
  * Copyright (C) 2020 AT&T Intellectual Property. All rights reserved.
+ * Modifications Copyright (C) 2026 Nordix Foundation.
  * ================================================================================
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -23,6 +24,7 @@ package org.onap.policy.controlloop.actorserviceprovider.parameters;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.Setter;
+import org.onap.policy.common.parameters.annotations.Max;
 import org.onap.policy.common.parameters.annotations.Min;
 
 /**
@@ -55,4 +57,18 @@ public class HttpPollingActorParams extends HttpActorParams {
      */
     @Min(1)
     private int pollWaitSec = 20;
+
+    /**
+     * Maximum time, in seconds, to wait between polling. The wait is fixed unless this
+     * exceeds {@link #pollWaitSec}.
+     */
+    @Min(0)
+    private int maxPollWaitSec = 0;
+
+    /**
+     * Percentage by which each wait may be randomly shortened.
+     */
+    @Min(0)
+    @Max(100)
+    private int pollJitterPercent = 0;
 }
@@ -3,6 +3,7 @@
  * ONAP
  * ================================================================================
  * Copyright (C) 2020 AT&T Intellectual Property. All rights reserved.
+ * Modifications Copyright (C) 2026 Nordix Foundation.
  * ================================================================================
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -48,6 +49,17 @@ public class HttpPollingConfig extends HttpConfig {
      */
     private int pollWaitSec;
 
+    /**
+     * Maximum time, in seconds, to wait between polls, never less than
+     * {@link #pollWaitSec}.
+     */
+    private int maxPollWaitSec;
+
+    /**
+     * Percentage by which each wait may be randomly shortened.
+     */
+    private int pollJitterPercent;
+
 
     /**
      * Constructs the object.
@@ -62,5 +74,7 @@ public class HttpPollingConfig extends HttpConfig {
         this.pollPath = params.getPollPath() + (params.getPollPath().endsWith("/") ? "" : "/");
         this.maxPolls = params.getMaxPolls();
         this.pollWaitSec = params.getPollWaitSec();
+        this.maxPollWaitSec = Math.max(params.getMaxPollWaitSec(), params.getPollWaitSec());
+        this.pollJitterPercent = params.getPollJitterPercent();
     }
 }
@@ -3,6 +3,7 @@
  * ONAP
  * ================================================================================
  * Copyright (C) 2020 AT&T Intellectual Property. All rights reserved.
+ * Modifications Copyright (C) 2026 Nordix Foundation.
  * ================================================================================
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -23,6 +24,7 @@ package org.onap.policy.controlloop.actorserviceprovider.parameters;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
 import lombok.experimental.SuperBuilder;
+import org.onap.policy.common.parameters.annotations.Max;
 import org.onap.policy.common.parameters.annotations.Min;
 import org.onap.policy.common.parameters.annotations.NotBlank;
 import org.onap.policy.common.parameters.annotations.NotNull;
@@ -54,4 +56,21 @@ public class HttpPollingParams extends HttpParams {
      */
     @Min(1)
     private int pollWaitSec;
+
+    /**
+     * Maximum time, in seconds, to wait between polls. If this exceeds
+     * {@link #pollWaitSec}, then the wait doubles after each poll, up to this limit.
+     * Otherwise, the wait is fixed.
+     */
+    @Min(0)
+    private int maxPollWaitSec;
+
+    /**
+     * Percentage by which each wait may be randomly shortened, so that operations that
+     * were started together don't keep polling together. Jittered polls each get their
+     * own timer, rather than being coalesced with other polls to the same server.
+     */
+    @Min(0)
+    @Max(100)
+    private int pollJitterPercent;
 }
@@ -0,0 +1,72 @@
+/*-
+ * ============LICENSE_START=======================================================
+ *  Copyright (C) 2026 Nordix Foundation.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.controlloop.actorserviceprovider.parameters;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.Setter;
+import org.onap.policy.common.parameters.BeanValidator;
+import org.onap.policy.common.parameters.ValidationResult;
+import org.onap.policy.common.parameters.annotations.Min;
+import org.onap.policy.common.parameters.annotations.NotNull;
+import org.onap.policy.controlloop.actorserviceprovider.NetworkLogger;
+import org.onap.policy.controlloop.actorserviceprovider.NetworkLogger.Level;
+
+/**
+ * Parameters for the logging of the messages that operations exchange with other
+ * components, found in the "networkLog" entry of the actor service's parameters.
+ */
+@Getter
+@Setter
+@EqualsAndHashCode
+public class NetworkLogParams {
+
+    /**
+     * Amount of detail to be logged. The default is {@link Level#FULL}.
+     */
+    @NotNull
+    private Level level = Level.FULL;
+
+    /**
+     * With {@link Level#SAMPLED}, one message in this many is logged in full.
+     */
+    @Min(1)
+    private int sampleRate = NetworkLogger.DEFAULT_SAMPLE_RATE;
+
+    /**
+     * Size of the queue of messages waiting to be written by a background thread, or 0
+     * to write them on the calling thread.
+     */
+    @Min(0)
+    private int queueSize = 0;
+
+
+    /**
+     * Validates the parameters.
+     *
+     * @param resultName name of the result
+     *
+     * @return the validation result
+     */
+    public ValidationResult validate(String resultName) {
+        return new BeanValidator().validateTop(resultName, this);
+    }
+}
@@ -3,6 +3,7 @@
  * ONAP
  * ================================================================================
  * Copyright (C) 2020 AT&T Intellectual Property. All rights reserved.
+ * Modifications Copyright (C) 2026 Nordix Foundation.
  * ================================================================================
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -23,6 +24,8 @@ package org.onap.policy.controlloop.actorserviceprovider.parameters;
 import java.util.concurrent.Executor;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
+import org.onap.policy.controlloop.actorserviceprovider.HashedWheelScheduler;
+import org.onap.policy.controlloop.actorserviceprovider.OperationScheduler;
 
 @AllArgsConstructor
 public class OperatorConfig {
@@ -32,4 +35,19 @@ public class OperatorConfig {
      */
     @Getter
     private final Executor blockingExecutor;
+
+    /**
+     * Scheduler to be used for timeouts and delays.
+     */
+    @Getter
+    private final OperationScheduler scheduler;
+
+    /**
+     * Constructs the object, using the default {@link HashedWheelScheduler}.
+     *
+     * @param blockingExecutor executor to be used for tasks that may perform blocking I/O
+     */
+    public OperatorConfig(Executor blockingExecutor) {
+        this(blockingExecutor, HashedWheelScheduler.getInstance());
+    }
 }
@@ -0,0 +1,90 @@
+/*-
+ * ============LICENSE_START=======================================================
+ *  Copyright (C) 2026 Nordix Foundation.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.controlloop.actorserviceprovider.parameters;
+
+import java.util.HashMap;
+import java.util.Map;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.Setter;
+import org.onap.policy.common.parameters.BeanValidator;
+import org.onap.policy.common.parameters.ValidationResult;
+import org.onap.policy.common.parameters.annotations.Min;
+import org.onap.policy.common.parameters.annotations.NotNull;
+
+/**
+ * Parameters for the fair scheduling of operations by priority class, found in the
+ * "scheduling" entry of the actor service's parameters. Each class receives a share of
+ * the dispatch slots in proportion to its weight.
+ */
+@Getter
+@Setter
+@EqualsAndHashCode
+public class SchedulingParams {
+
+    /**
+     * Maximum number of tasks, across all classes, that may be running on the executors
+     * at once. Tasks submitted beyond this wait in their class's queue.
+     */
+    @Min(1)
+    private int maxConcurrent = 64;
+
+    /**
+     * Maximum number of tasks that may wait in each class's queue. Operations started
+     * when their class's queue is full are rejected.
+     */
+    @Min(0)
+    private int maxQueued = 10000;
+
+    /**
+     * Weight of classes that do not appear in {@link #weights}.
+     */
+    @Min(1)
+    private int defaultWeight = 1;
+
+    /**
+     * Maps a priority class to its weight.
+     */
+    @NotNull
+    private Map<@NotNull String, @NotNull @Min(1) Integer> weights = new HashMap<>();
+
+
+    /**
+     * Gets the weight of a class.
+     *
+     * @param className name of the class
+     * @return the weight of the class
+     */
+    public int getWeight(String className) {
+        return weights.getOrDefault(className, defaultWeight);
+    }
+
+    /**
+     * Validates the parameters.
+     *
+     * @param resultName name of the result
+     *
+     * @return the validation result
+     */
+    public ValidationResult validate(String resultName) {
+        return new BeanValidator().validateTop(resultName, this);
+    }
+}
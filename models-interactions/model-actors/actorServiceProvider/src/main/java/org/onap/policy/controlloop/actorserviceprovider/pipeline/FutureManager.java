@@ -3,6 +3,7 @@
  * ONAP
  * ================================================================================
  * Copyright (C) 2020 AT&T Intellectual Property. All rights reserved.
+ * Modifications Copyright (C) 2026 Nordix Foundation.
  * ================================================================================
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -20,27 +21,18 @@
 
 package org.onap.policy.controlloop.actorserviceprovider.pipeline;
 
-import java.util.HashMap;
-import java.util.Map;
 import java.util.concurrent.Future;
 import lombok.NoArgsConstructor;
 
 /**
  * Manager that manages both futures and listeners. When {@link #stop()} is called, the
- * listeners are executed and the futures are canceled. The various methods synchronize on
- * "this" while they manipulate internal data structures.
+ * listeners are executed and the futures are canceled. Like its superclass, it is
+ * lock-free; each future is recorded as a listener, keyed by the future itself, so that
+ * it can be found again by {@link #remove(Future)}.
  */
 @NoArgsConstructor
 public class FutureManager extends ListenerManager {
 
-    /**
-     * Maps a future to its listener. Records the {@link Runnable} that is passed to
-     * {@link ListenerManager#add(Runnable)} when {@link #add(Future)} is invoked. This is
-     * needed if {@link #remove(Future)} is invoked, so that the same {@link Runnable} is
-     * used each time.
-     */
-    private final Map<Future<?>, Runnable> future2listener = new HashMap<>(5);
-
     /**
      * Adds a future that is to be canceled when this controller is stopped. Note: if the
      * controller is already stopped, then the future will be canceled immediately, within
@@ -51,19 +43,9 @@ public class FutureManager extends ListenerManager {
     public <T> void add(Future<T> future) {
         Runnable listener = () -> future.cancel(false);
 
-        synchronized (this) {
-            if (future2listener.putIfAbsent(future, listener) != null) {
-                // this future is already in the map, nothing more to do
-                return;
-            }
-
-            if (addOnly(listener)) {
-                // successfully added
-                return;
-            }
+        if (!addOnly(future, listener)) {
+            runListener(listener);
         }
-
-        runListener(listener);
     }
 
     /**
@@ -71,19 +53,7 @@ public class FutureManager extends ListenerManager {
      *
      * @param future future to be removed
      */
-    public synchronized <T> void remove(Future<T> future) {
-        Runnable listener = future2listener.remove(future);
-        if (listener != null) {
-            remove(listener);
-        }
-    }
-
-    @Override
-    public void stop() {
-        super.stop();
-
-        synchronized (this) {
-            future2listener.clear();
-        }
+    public <T> void remove(Future<T> future) {
+        removeKey(future);
     }
 }
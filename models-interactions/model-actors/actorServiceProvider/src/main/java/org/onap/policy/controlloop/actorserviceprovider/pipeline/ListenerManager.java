@@ -3,6 +3,7 @@
  * ONAP
  * ================================================================================
  * Copyright (C) 2020 AT&T Intellectual Property. All rights reserved.
+ * Modifications Copyright (C) 2026 Nordix Foundation.
  * ================================================================================
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -20,46 +21,64 @@
 
 package org.onap.policy.controlloop.actorserviceprovider.pipeline;
 
-import java.util.ArrayList;
-import java.util.HashMap;
-import java.util.Map;
-import lombok.Getter;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
 import lombok.NoArgsConstructor;
 import org.onap.policy.controlloop.actorserviceprovider.Util;
 
 /**
  * Listener manager, used by operations within the pipeline to determine if they should
- * continue to run. When {@link #stop()} is called, the listeners are executed. The
- * various methods synchronize on "this" while they manipulate internal data structures.
+ * continue to run. When {@link #stop()} is called, the listeners are executed.
+ * <p/>
+ * The manager is lock-free. Listeners are pushed onto a linked stack via compare-and-set;
+ * stopping the manager swaps the stack for a "stopped" sentinel, after which nothing more
+ * can be pushed. Removal marks a listener's node as done, so that it is skipped, and then
+ * unlinks any done nodes. A node is run or removed, never both, as whichever gets to mark
+ * it done first wins.
  */
 @NoArgsConstructor
 public class ListenerManager {
 
-    @Getter
-    private volatile boolean running = true;
+    /**
+     * Marks the top of the stack once the manager has been stopped.
+     */
+    private static final Node STOPPED = new Node(null, null);
 
     /**
-     * Listeners to be executed when {@link #stop()} is invoked.
+     * Top of the stack of listeners to be executed when {@link #stop()} is invoked, or
+     * {@code null} if the stack is empty.
      */
-    private final Map<Runnable, Void> listeners = new HashMap<>(5);
+    private final AtomicReference<Node> head = new AtomicReference<>();
+
+    /**
+     * Determines if the manager is still running.
+     *
+     * @return {@code true} if the manager is still running, {@code false} if it has been
+     *         stopped
+     */
+    public boolean isRunning() {
+        return (head.get() != STOPPED);
+    }
 
     /**
      * Indicates that operations within the pipeline should stop executing.
      */
     public void stop() {
-        ArrayList<Runnable> items;
+        var node = head.getAndSet(STOPPED);
+        if (node == STOPPED) {
+            return;
+        }
 
-        synchronized (this) {
-            if (!running) {
-                return;
-            }
+        // a listener that was added more than once is only run once
+        Set<Object> seen = new HashSet<>();
 
-            running = false;
-            items = new ArrayList<>(listeners.keySet());
-            listeners.clear();
+        for (; node != null; node = node.next) {
+            if (node.markDone() && seen.add(node.key)) {
+                runListener(node.listener);
+            }
         }
-
-        items.forEach(this::runListener);
     }
 
     /**
@@ -85,14 +104,32 @@ public class ListenerManager {
      *         be added because this manager has already been stopped
      */
     protected boolean addOnly(Runnable listener) {
-        synchronized (this) {
-            if (running) {
-                listeners.put(listener, null);
+        return addOnly(listener, listener);
+    }
+
+    /**
+     * Adds a listener that is to be invoked when this controller is stopped.
+     *
+     * @param key key by which the listener may later be removed. Only one listener is
+     *        run for a given key
+     * @param listener listener to be added
+     * @return {@code true} if the the listener was added, {@code false} if it could not
+     *         be added because this manager has already been stopped
+     */
+    protected boolean addOnly(Object key, Runnable listener) {
+        var node = new Node(key, listener);
+
+        for (;;) {
+            var top = head.get();
+            if (top == STOPPED) {
+                return false;
+            }
+
+            node.next = top;
+            if (head.compareAndSet(top, node)) {
                 return true;
             }
         }
-
-        return false;
     }
 
     /**
@@ -109,7 +146,81 @@ public class ListenerManager {
      *
      * @param listener listener to be removed
      */
-    public synchronized void remove(Runnable listener) {
-        listeners.remove(listener);
+    public void remove(Runnable listener) {
+        removeKey(listener);
+    }
+
+    /**
+     * Removes the listeners having the given key, so that they are not invoked when this
+     * controller is stopped.
+     *
+     * @param key key of the listeners to be removed
+     */
+    protected void removeKey(Object key) {
+        var found = false;
+
+        for (var node = head.get(); node != null && node != STOPPED; node = node.next) {
+            if (key.equals(node.key)) {
+                found |= node.markDone();
+            }
+        }
+
+        if (found) {
+            purge();
+        }
+    }
+
+    /**
+     * Unlinks nodes that are done. Nodes are only ever pushed onto the top of the stack,
+     * thus the links within the stack are only changed to skip done nodes. Concurrent
+     * purges may re-link a done node, but as it's done, it's still skipped.
+     */
+    private void purge() {
+        Node top;
+        while ((top = head.get()) != null && top != STOPPED && top.isDone()) {
+            head.compareAndSet(top, top.next);
+        }
+
+        if (top == null || top == STOPPED) {
+            return;
+        }
+
+        var prev = top;
+        for (var node = prev.next; node != null; node = node.next) {
+            if (node.isDone()) {
+                prev.next = node.next;
+            } else {
+                prev = node;
+            }
+        }
+    }
+
+    /**
+     * Node within the stack of listeners.
+     */
+    private static class Node {
+        private final Object key;
+        private final Runnable listener;
+        private final AtomicBoolean done = new AtomicBoolean(false);
+        private volatile Node next;
+
+        private Node(Object key, Runnable listener) {
+            this.key = key;
+            this.listener = listener;
+        }
+
+        /**
+         * Marks the node as done.
+         *
+         * @return {@code true} if the node was marked, {@code false} if it was already
+         *         done
+         */
+        private boolean markDone() {
+            return done.compareAndSet(false, true);
+        }
+
+        private boolean isDone() {
+            return done.get();
+        }
     }
 }
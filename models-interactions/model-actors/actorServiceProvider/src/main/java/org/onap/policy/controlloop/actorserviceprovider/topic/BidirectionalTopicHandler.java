@@ -3,7 +3,7 @@
  * ONAP
  * ================================================================================
  * Copyright (C) 2020 AT&T Intellectual Property. All rights reserved.
- * Modifications Copyright (C) 2024 Nordix Foundation.
+ * Modifications Copyright (C) 2024, 2026 Nordix Foundation.
  * ================================================================================
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -22,6 +22,7 @@
 package org.onap.policy.controlloop.actorserviceprovider.topic;
 
 import java.util.List;
+import java.util.concurrent.Executor;
 import org.onap.policy.common.message.bus.event.client.BidirectionalTopicClient;
 import org.onap.policy.common.message.bus.event.client.BidirectionalTopicClientException;
 
@@ -34,7 +35,7 @@ public class BidirectionalTopicHandler extends BidirectionalTopicClient {
     /**
      * Listener that will be attached to the topic to receive responses.
      */
-    private final TopicListenerImpl listener = new TopicListenerImpl();
+    private final TopicListenerImpl listener;
 
 
     /**
@@ -46,6 +47,21 @@ public class BidirectionalTopicHandler extends BidirectionalTopicClient {
      */
     public BidirectionalTopicHandler(String sinkTopic, String sourceTopic) throws BidirectionalTopicClientException {
         super(sinkTopic, sourceTopic);
+        this.listener = new TopicListenerImpl();
+    }
+
+    /**
+     * Constructs the object.
+     *
+     * @param sinkTopic sink topic name
+     * @param sourceTopic source topic name
+     * @param executor executor used to forward incoming messages to the listeners
+     * @throws BidirectionalTopicClientException if an error occurs
+     */
+    public BidirectionalTopicHandler(String sinkTopic, String sourceTopic, Executor executor)
+                    throws BidirectionalTopicClientException {
+        super(sinkTopic, sourceTopic);
+        this.listener = new TopicListenerImpl(executor);
     }
 
     /**
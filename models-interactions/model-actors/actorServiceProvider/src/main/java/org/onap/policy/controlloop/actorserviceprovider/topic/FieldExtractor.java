@@ -0,0 +1,183 @@
+/*-
+ * ============LICENSE_START=======================================================
+ *  Copyright (C) 2026 Nordix Foundation.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.controlloop.actorserviceprovider.topic;
+
+import com.google.gson.stream.JsonReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Extracts the values of a set of {@link SelectorKey selector keys} from the text of a
+ * JSON message, in a single streaming pass. Only the branches of the message that lead
+ * to a selector field are examined; everything else is skipped without being decoded.
+ * The extracted values are the same as those that {@link SelectorKey#extractField} would
+ * extract from the decoded message.
+ */
+class FieldExtractor {
+
+    /**
+     * Root of the tree of field identifiers.
+     */
+    private final Node root = new Node();
+
+    /**
+     * Number of selector keys.
+     */
+    private final int nkeys;
+
+    /**
+     * Constructs the object.
+     *
+     * @param keys keys whose values are to be extracted. The value of each key will be
+     *        found at the same index within the array returned by {@link #extract}
+     */
+    FieldExtractor(List<SelectorKey> keys) {
+        this.nkeys = keys.size();
+
+        for (var index = 0; index < nkeys; ++index) {
+            var node = root;
+            for (Object ident : keys.get(index).getFieldIdentifiers()) {
+                node = node.getChild(ident);
+            }
+
+            node.keyIndexes = append(node.keyIndexes, index);
+        }
+    }
+
+    /**
+     * Extracts the key values from a message.
+     *
+     * @param message JSON text of the message
+     * @return the value of each key, or {@code null} for keys that have no value (i.e.,
+     *         that are missing or that do not refer to a primitive)
+     * @throws IOException if the message is not valid JSON
+     */
+    String[] extract(String message) throws IOException {
+        var values = new String[nkeys];
+
+        try (var reader = new JsonReader(new StringReader(message))) {
+            visit(reader, root, values);
+
+        } catch (IllegalStateException | NumberFormatException e) {
+            throw new IOException("invalid JSON message", e);
+        }
+
+        return values;
+    }
+
+    /**
+     * Visits the next value in the message.
+     *
+     * @param reader message reader
+     * @param node node corresponding to the value, or {@code null} if the value is not
+     *        of interest
+     * @param values key values, populated as they are found
+     * @throws IOException if the message is not valid JSON
+     */
+    private void visit(JsonReader reader, Node node, String[] values) throws IOException {
+        if (node == null) {
+            reader.skipValue();
+            return;
+        }
+
+        String value = null;
+
+        switch (reader.peek()) {
+            case BEGIN_OBJECT -> visitObject(reader, node, values);
+            case BEGIN_ARRAY -> visitArray(reader, node, values);
+            case STRING, NUMBER -> value = reader.nextString();
+            case BOOLEAN -> value = String.valueOf(reader.nextBoolean());
+            default -> reader.skipValue();
+        }
+
+        // the last occurrence of a field wins, as it does when the message is decoded
+        for (int index : node.keyIndexes) {
+            values[index] = value;
+        }
+    }
+
+    private void visitObject(JsonReader reader, Node node, String[] values) throws IOException {
+        if (node.names == null) {
+            reader.skipValue();
+            return;
+        }
+
+        reader.beginObject();
+        while (reader.hasNext()) {
+            visit(reader, node.names.get(reader.nextName()), values);
+        }
+        reader.endObject();
+    }
+
+    private void visitArray(JsonReader reader, Node node, String[] values) throws IOException {
+        if (node.indices == null) {
+            reader.skipValue();
+            return;
+        }
+
+        reader.beginArray();
+        for (var index = 0; reader.hasNext(); ++index) {
+            visit(reader, node.indices.get(index), values);
+        }
+        reader.endArray();
+    }
+
+    private static int[] append(int[] array, int value) {
+        var result = new int[array.length + 1];
+        System.arraycopy(array, 0, result, 0, array.length);
+        result[array.length] = value;
+        return result;
+    }
+
+    /**
+     * Node within the tree of field identifiers.
+     */
+    private static class Node {
+        private Map<String, Node> names;
+        private Map<Integer, Node> indices;
+
+        /**
+         * Indexes of the selector keys that end at this node.
+         */
+        private int[] keyIndexes = new int[0];
+
+        Node getChild(Object ident) {
+            if (ident instanceof String name) {
+                if (names == null) {
+                    names = new HashMap<>();
+                }
+                return names.computeIfAbsent(name, key -> new Node());
+
+            } else if (ident instanceof Integer index) {
+                if (indices == null) {
+                    indices = new HashMap<>();
+                }
+                return indices.computeIfAbsent(index, key -> new Node());
+
+            } else {
+                throw new IllegalArgumentException("subscript is neither String nor Integer: " + ident);
+            }
+        }
+    }
+}
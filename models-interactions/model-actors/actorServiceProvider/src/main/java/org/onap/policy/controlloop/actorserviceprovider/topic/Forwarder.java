@@ -3,6 +3,7 @@
  * ONAP
  * ================================================================================
  * Copyright (C) 2020-2021 AT&T Intellectual Property. All rights reserved.
+ * Modifications Copyright (C) 2026 Nordix Foundation.
  * ================================================================================
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -20,12 +21,13 @@
 
 package org.onap.policy.controlloop.actorserviceprovider.topic;
 
-import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.BiConsumer;
-import lombok.AllArgsConstructor;
+import java.util.function.IntFunction;
 import org.onap.policy.common.utils.coder.StandardCoderObject;
 import org.onap.policy.controlloop.actorserviceprovider.Util;
 import org.slf4j.Logger;
@@ -35,16 +37,19 @@ import org.slf4j.LoggerFactory;
  * Forwarder that selectively forwards message to listeners based on the content of the
  * message. Each forwarder is associated with a single set of selector keys. Listeners are
  * then registered with that forwarder for a particular set of values for the given keys.
+ * <p/>
+ * Listeners are indexed by a composite of the key values, computed once, when the
+ * listener is registered. With a single key, the composite is the value itself, thus
+ * looking up the listeners for a message allocates nothing.
  */
-@AllArgsConstructor
 public class Forwarder {
     private static final Logger logger = LoggerFactory.getLogger(Forwarder.class);
 
     /**
-     * Maps a set of field values to one or more listeners.
+     * Maps a composite of the field values to one or more listeners.
      */
     // @formatter:off
-    private final Map<List<String>, Map<BiConsumer<String, StandardCoderObject>, String>>
+    private final Map<String, Map<BiConsumer<String, StandardCoderObject>, String>>
                 values2listeners = new ConcurrentHashMap<>();
     // @formatter:on
 
@@ -53,6 +58,24 @@ public class Forwarder {
      */
     private final List<SelectorKey> keys;
 
+    /**
+     * Constructs the object.
+     *
+     * @param keys keys used to extract the field values from a message
+     */
+    public Forwarder(List<SelectorKey> keys) {
+        this.keys = keys;
+    }
+
+    /**
+     * Gets the keys used to extract the field values from a message.
+     *
+     * @return the selector keys
+     */
+    List<SelectorKey> getKeys() {
+        return keys;
+    }
+
     /**
      * Registers a listener for messages containing the given field values.
      *
@@ -66,7 +89,14 @@ public class Forwarder {
 
         logger.info("register topic listener for key={} value={}", keys, values);
 
-        values2listeners.compute(values, (key, listeners) -> {
+        String compositeKey = makeKey(values::get);
+        if (compositeKey == null) {
+            // no message can match this
+            logger.warn("ignoring topic listener with null value for key={}", keys);
+            return;
+        }
+
+        values2listeners.compute(compositeKey, (key, listeners) -> {
             Map<BiConsumer<String, StandardCoderObject>, String> map = listeners;
             if (map == null) {
                 map = new ConcurrentHashMap<>();
@@ -86,7 +116,12 @@ public class Forwarder {
     public void unregister(List<String> values, BiConsumer<String, StandardCoderObject> listener) {
         logger.info("unregister topic listener for key={} value={}", keys, values);
 
-        values2listeners.computeIfPresent(values, (key, listeners) -> {
+        String compositeKey = (keys.size() == values.size() ? makeKey(values::get) : null);
+        if (compositeKey == null) {
+            return;
+        }
+
+        values2listeners.computeIfPresent(compositeKey, (key, listeners) -> {
             listeners.remove(listener);
             return (listeners.isEmpty() ? null : listeners);
         });
@@ -99,34 +134,57 @@ public class Forwarder {
      * @param scoMessage decoded text message
      */
     public void onMessage(String textMessage, StandardCoderObject scoMessage) {
-        // extract the key values from the message
-        List<String> values = new ArrayList<>(keys.size());
-        for (SelectorKey key : keys) {
-            String value = key.extractField(scoMessage);
-            if (value == null) {
-                /*
-                 * No value for this field, so this message is not relevant to this
-                 * forwarder.
-                 */
-                logger.info("message has no key={}", keys);
-                return;
-            }
+        Set<BiConsumer<String, StandardCoderObject>> listeners =
+                        getListeners(index -> keys.get(index).extractField(scoMessage));
 
-            values.add(value);
+        forward(listeners, textMessage, scoMessage);
+    }
+
+    /**
+     * Gets the listeners for a message.
+     *
+     * @param values function that returns the message's value for the key at the given
+     *        index, or {@code null} if the message has no value for the key
+     * @return the listeners registered for the message's values
+     */
+    Set<BiConsumer<String, StandardCoderObject>> getListeners(IntFunction<String> values) {
+        String key = makeKey(values);
+        if (key == null) {
+            /*
+             * No value for one of the fields, so this message is not relevant to this
+             * forwarder.
+             */
+            logger.debug("message has no key={}", keys);
+            return Collections.emptySet();
         }
 
         // get the listeners for this set of values
-        Map<BiConsumer<String, StandardCoderObject>, String> listeners = values2listeners.get(values);
+        Map<BiConsumer<String, StandardCoderObject>, String> listeners = values2listeners.get(key);
         if (listeners == null) {
             // no listeners for this particular list of values
-            logger.info("no listener registered for key={} value={}", keys, values);
-            return;
+            logger.debug("no listener registered for key={} value={}", keys, key);
+            return Collections.emptySet();
         }
 
+        return listeners.keySet();
+    }
+
+    /**
+     * Forwards a message to listeners.
+     *
+     * @param listeners listeners to which the message should be forwarded
+     * @param textMessage original text message that was received
+     * @param scoMessage decoded text message
+     */
+    void forward(Set<BiConsumer<String, StandardCoderObject>> listeners, String textMessage,
+                    StandardCoderObject scoMessage) {
+
+        if (listeners.isEmpty()) {
+            return;
+        }
 
-        // forward the message to each listener
-        logger.info("forwarding message to listeners for key={} value={}", keys, values);
-        for (BiConsumer<String, StandardCoderObject> listener : listeners.keySet()) {
+        logger.debug("forwarding message to {} listeners for key={}", listeners.size(), keys);
+        for (BiConsumer<String, StandardCoderObject> listener : listeners) {
             try {
                 listener.accept(textMessage, scoMessage);
             } catch (RuntimeException e) {
@@ -134,4 +192,30 @@ public class Forwarder {
             }
         }
     }
+
+    /**
+     * Makes the composite key for a set of field values. With a single key, this is the
+     * value itself. Otherwise, each value is prefixed with its length, so that distinct
+     * lists of values always yield distinct composites.
+     *
+     * @param values function that returns the value for the key at the given index
+     * @return the composite key, or {@code null} if any of the values is {@code null}
+     */
+    private String makeKey(IntFunction<String> values) {
+        if (keys.size() == 1) {
+            return values.apply(0);
+        }
+
+        var builder = new StringBuilder();
+        for (var index = 0; index < keys.size(); ++index) {
+            String value = values.apply(index);
+            if (value == null) {
+                return null;
+            }
+
+            builder.append(value.length()).append(':').append(value);
+        }
+
+        return builder.toString();
+    }
 }
@@ -3,6 +3,7 @@
  * ONAP
  * ================================================================================
  * Copyright (C) 2020 AT&T Intellectual Property. All rights reserved.
+ * Modifications Copyright (C) 2026 Nordix Foundation.
  * ================================================================================
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -56,6 +57,15 @@ public class SelectorKey {
         return object.getString(fieldIdentifiers);
     }
 
+    /**
+     * Gets the names and indices used to extract the field's value.
+     *
+     * @return the field identifiers
+     */
+    Object[] getFieldIdentifiers() {
+        return fieldIdentifiers;
+    }
+
     @Override
     public String toString() {
         return Arrays.toString(fieldIdentifiers);
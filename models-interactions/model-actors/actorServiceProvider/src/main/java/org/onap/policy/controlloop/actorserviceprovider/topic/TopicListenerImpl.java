@@ -3,7 +3,7 @@
  * ONAP
  * ================================================================================
  * Copyright (C) 2020 AT&T Intellectual Property. All rights reserved.
- * Modifications Copyright (C) 2024 Nordix Foundation.
+ * Modifications Copyright (C) 2024, 2026 Nordix Foundation.
  * ================================================================================
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -21,10 +21,19 @@
 
 package org.onap.policy.controlloop.actorserviceprovider.topic;
 
+import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.BiConsumer;
+import lombok.NonNull;
 import org.onap.policy.common.message.bus.event.Topic.CommInfrastructure;
 import org.onap.policy.common.message.bus.event.TopicListener;
 import org.onap.policy.common.utils.coder.CoderException;
@@ -40,6 +49,13 @@ import org.slf4j.LoggerFactory;
  * object hierarchy. For each different list of keys, this class maintains a
  * {@link Forwarder}, which is used to forward the message to all relevant listeners.
  * <p/>
+ * The selector fields of all of the forwarders are extracted from the message text in a
+ * single streaming pass; the message is only fully decoded if it has at least one
+ * listener. Messages are forwarded to listeners via the listener's executor, which, by
+ * default, runs them on the thread that received the message. An asynchronous executor
+ * should only be used if the listeners do not depend on the order in which messages
+ * arrive, as it may deliver them out of order.
+ * <p/>
  * Once a selector has been added, it is not removed until {@link #shutdown()} is invoked.
  * As selectors are typically only added by Operators, and not by individual Operations,
  * this should not pose a problem.
@@ -53,12 +69,39 @@ public class TopicListenerImpl implements TopicListener {
      */
     private final Map<List<SelectorKey>, Forwarder> selector2forwarder = new ConcurrentHashMap<>();
 
+    /**
+     * Used to forward messages to the listeners.
+     */
+    private final Executor executor;
+
+    /**
+     * Forwarders and the extractor for their keys, rebuilt whenever a forwarder is added.
+     */
+    private volatile Routing routing = new Routing(List.of());
+
+
+    /**
+     * Constructs the object, forwarding messages on the thread that receives them.
+     */
+    public TopicListenerImpl() {
+        this(Runnable::run);
+    }
+
+    /**
+     * Constructs the object.
+     *
+     * @param executor executor used to forward messages to the listeners
+     */
+    public TopicListenerImpl(@NonNull Executor executor) {
+        this.executor = executor;
+    }
 
     /**
      * Removes all forwarders.
      */
-    public void shutdown() {
+    public synchronized void shutdown() {
         selector2forwarder.clear();
+        routing = new Routing(List.of());
     }
 
     /**
@@ -78,18 +121,28 @@ public class TopicListenerImpl implements TopicListener {
      * @return the forwarder associated with the given selector keys
      */
     public Forwarder addForwarder(List<SelectorKey> keys) {
-        return selector2forwarder.computeIfAbsent(keys, key -> new Forwarder(keys));
+        var forwarder = selector2forwarder.get(keys);
+        return (forwarder != null ? forwarder : addNewForwarder(keys));
+    }
+
+    private synchronized Forwarder addNewForwarder(List<SelectorKey> keys) {
+        var forwarder = selector2forwarder.computeIfAbsent(keys, key -> new Forwarder(keys));
+        routing = new Routing(selector2forwarder.values());
+        return forwarder;
     }
 
     /**
-     * Decodes the message and then forwards it to each forwarder for processing.
+     * Extracts the selector fields from the message and then forwards it to the listeners
+     * of each forwarder whose fields match.
      */
     @Override
     public void onTopicEvent(CommInfrastructure infra, String topic, String message) {
-        StandardCoderObject object;
+        var current = routing;
+
+        String[] values;
         try {
-            object = coder.decode(message, StandardCoderObject.class);
-        } catch (CoderException e) {
+            values = current.extractor.extract(message);
+        } catch (IOException e) {
             logger.warn("cannot decode message", e);
             return;
         }
@@ -98,8 +151,74 @@ public class TopicListenerImpl implements TopicListener {
          * We don't know which selector is appropriate for the message, so we just let
          * them all take a crack at it.
          */
-        for (Forwarder forwarder : selector2forwarder.values()) {
-            forwarder.onMessage(message, object);
+        StandardCoderObject object = null;
+
+        for (var index = 0; index < current.forwarders.length; ++index) {
+            Forwarder forwarder = current.forwarders[index];
+            int[] keyIndexes = current.keyIndexes[index];
+
+            Set<BiConsumer<String, StandardCoderObject>> listeners =
+                            forwarder.getListeners(keyIndex -> values[keyIndexes[keyIndex]]);
+            if (listeners.isEmpty()) {
+                continue;
+            }
+
+            if (object == null) {
+                try {
+                    object = coder.decode(message, StandardCoderObject.class);
+                } catch (CoderException e) {
+                    logger.warn("cannot decode message", e);
+                    return;
+                }
+            }
+
+            forward(forwarder, listeners, message, object);
+        }
+    }
+
+    private void forward(Forwarder forwarder, Set<BiConsumer<String, StandardCoderObject>> listeners,
+                    String message, StandardCoderObject object) {
+        try {
+            executor.execute(() -> forwarder.forward(listeners, message, object));
+        } catch (RejectedExecutionException e) {
+            logger.warn("cannot forward message for key={}", forwarder.getKeys(), e);
+        }
+    }
+
+    /**
+     * Forwarders, along with an extractor for all of their keys.
+     */
+    private static class Routing {
+        private final Forwarder[] forwarders;
+
+        /**
+         * Index, within the extracted values, of each key of each forwarder.
+         */
+        private final int[][] keyIndexes;
+
+        private final FieldExtractor extractor;
+
+        Routing(Collection<Forwarder> forwarderList) {
+            forwarders = forwarderList.toArray(new Forwarder[0]);
+            keyIndexes = new int[forwarders.length][];
+
+            List<SelectorKey> allKeys = new ArrayList<>();
+            Map<SelectorKey, Integer> key2index = new HashMap<>();
+
+            for (var index = 0; index < forwarders.length; ++index) {
+                List<SelectorKey> keys = forwarders[index].getKeys();
+                keyIndexes[index] = new int[keys.size()];
+
+                for (var keyIndex = 0; keyIndex < keys.size(); ++keyIndex) {
+                    SelectorKey key = keys.get(keyIndex);
+                    keyIndexes[index][keyIndex] = key2index.computeIfAbsent(key, unused -> {
+                        allKeys.add(key);
+                        return allKeys.size() - 1;
+                    });
+                }
+            }
+
+            extractor = new FieldExtractor(allKeys);
         }
     }
 }
@@ -0,0 +1,103 @@
+/*-
+ * ============LICENSE_START=======================================================
+ *  Copyright (C) 2026 Nordix Foundation.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.controlloop.actorserviceprovider;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.onap.policy.controlloop.actorserviceprovider.parameters.ExecutorParams;
+import org.onap.policy.controlloop.actorserviceprovider.parameters.ExecutorParams.BlockingType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Compares the throughput of each type of blocking executor when every request waits on a slow, simulated, server.
+ * This is not a unit test, and is not run by the build; run its main() by hand when changing the executors.
+ */
+public class ActorExecutorsBenchmark {
+    private static final Logger LOGGER = LoggerFactory.getLogger(ActorExecutorsBenchmark.class);
+
+    private static final int REQUESTS = 1000;
+    private static final long DELAY_MS = 20;
+    private static final int POOL_SIZE = 16;
+
+    private ActorExecutorsBenchmark() {
+        // main() only
+    }
+
+    /**
+     * Runs the benchmark.
+     *
+     * @param args ignored
+     * @throws InterruptedException if the thread is interrupted while waiting for the requests
+     */
+    public static void main(String[] args) throws InterruptedException {
+        for (BlockingType type : BlockingType.values()) {
+            // warm up
+            measure(type);
+
+            long elapsedMs = Math.max(1, measure(type));
+            LOGGER.info("{} requests of {} ms using {}: {} ms, {} requests/sec", REQUESTS, DELAY_MS, type, elapsedMs,
+                            REQUESTS * 1000L / elapsedMs);
+        }
+    }
+
+    /**
+     * Runs the requests on a new set of executors.
+     *
+     * @param type type of blocking executor
+     * @return the time, in milliseconds, taken to run all the requests
+     * @throws InterruptedException if the thread is interrupted while waiting for the requests
+     */
+    private static long measure(BlockingType type) throws InterruptedException {
+        var params = new ExecutorParams();
+        params.setBlockingType(type);
+        params.setBlockingPoolSize(POOL_SIZE);
+
+        var executors = new ActorExecutors(params);
+        var latch = new CountDownLatch(REQUESTS);
+
+        try {
+            long start = System.nanoTime();
+
+            for (var count = 0; count < REQUESTS; ++count) {
+                executors.getBlockingExecutor().execute(() -> {
+                    // simulate a slow server
+                    try {
+                        Thread.sleep(DELAY_MS);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+
+                    latch.countDown();
+                });
+            }
+
+            if (!latch.await(5, TimeUnit.MINUTES)) {
+                throw new IllegalStateException("requests did not complete using " + type);
+            }
+
+            return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        } finally {
+            executors.shutdown();
+        }
+    }
+}
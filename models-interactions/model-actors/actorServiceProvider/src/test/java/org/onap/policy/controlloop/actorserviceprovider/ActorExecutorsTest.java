@@ -0,0 +1,174 @@
+/*-
+ * ============LICENSE_START=======================================================
+ *  Copyright (C) 2026 Nordix Foundation.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.controlloop.actorserviceprovider;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+import org.onap.policy.controlloop.actorserviceprovider.parameters.ExecutorParams;
+import org.onap.policy.controlloop.actorserviceprovider.parameters.ExecutorParams.BlockingType;
+
+class ActorExecutorsTest {
+    private static final long WAIT_SEC = 10;
+
+    private static final int CONCURRENT_REQUESTS = 20;
+    private static final int POOL_SIZE = 4;
+
+    @Test
+    void testConstructor() {
+        assertThatThrownBy(() -> new ActorExecutors(null)).isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void testDefaults() throws Exception {
+        ActorExecutors executors = new ActorExecutors(new ExecutorParams());
+
+        assertSame(ActorExecutors.THREAD_PER_TASK, executors.getBlockingExecutor());
+        assertSame(ForkJoinPool.commonPool(), executors.getPipelineExecutor());
+
+        // nothing to shut down
+        executors.shutdown();
+        assertEquals("done", runOn(executors.getBlockingExecutor()));
+    }
+
+    @Test
+    void testFixedPools() throws Exception {
+        ExecutorParams params = new ExecutorParams();
+        params.setBlockingType(BlockingType.FIXED_POOL);
+        params.setBlockingPoolSize(2);
+        params.setPipelinePoolSize(3);
+
+        ActorExecutors executors = new ActorExecutors(params);
+
+        assertThat(threadName(executors.getBlockingExecutor())).startsWith("actor-blocking-");
+        assertThat(threadName(executors.getPipelineExecutor())).startsWith("actor-pipeline-");
+
+        executors.shutdown();
+
+        Executor blocking = executors.getBlockingExecutor();
+        assertThatThrownBy(() -> blocking.execute(() -> { })).isInstanceOf(RejectedExecutionException.class);
+    }
+
+    @Test
+    void testVirtualThreads() throws Exception {
+        ExecutorParams params = new ExecutorParams();
+        params.setBlockingType(BlockingType.VIRTUAL_THREAD);
+
+        ActorExecutors executors = new ActorExecutors(params);
+
+        if (Runtime.version().feature() >= 21) {
+            assertNotSame(ActorExecutors.THREAD_PER_TASK, executors.getBlockingExecutor());
+        } else {
+            assertSame(ActorExecutors.THREAD_PER_TASK, executors.getBlockingExecutor());
+        }
+
+        assertEquals("done", runOn(executors.getBlockingExecutor()));
+        executors.shutdown();
+
+        // falls back when virtual threads are not supported
+        executors = new ActorExecutors(params) {
+            @Override
+            protected ExecutorService makeVirtualExecutor() {
+                return null;
+            }
+        };
+
+        assertSame(ActorExecutors.THREAD_PER_TASK, executors.getBlockingExecutor());
+    }
+
+    /**
+     * Verifies that requests that wait on a slow server are all run at once by the
+     * unbounded executors, while the fixed pool only runs as many as it has threads.
+     */
+    @Test
+    void testConcurrency() throws Exception {
+        assertEquals(CONCURRENT_REQUESTS, maxConcurrency(BlockingType.THREAD_PER_TASK, CONCURRENT_REQUESTS));
+        assertEquals(CONCURRENT_REQUESTS, maxConcurrency(BlockingType.VIRTUAL_THREAD, CONCURRENT_REQUESTS));
+        assertEquals(POOL_SIZE, maxConcurrency(BlockingType.FIXED_POOL, POOL_SIZE));
+    }
+
+    /**
+     * Runs requests that block until the expected number of them are running at once.
+     *
+     * @param type type of blocking executor
+     * @param expected number of requests expected to run at once
+     * @return the maximum number of requests that ran at once
+     */
+    private int maxConcurrency(BlockingType type, int expected) throws InterruptedException {
+        ExecutorParams params = new ExecutorParams();
+        params.setBlockingType(type);
+        params.setBlockingPoolSize(POOL_SIZE);
+
+        ActorExecutors executors = new ActorExecutors(params);
+        AtomicInteger active = new AtomicInteger();
+        AtomicInteger max = new AtomicInteger();
+        CountDownLatch running = new CountDownLatch(expected);
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(CONCURRENT_REQUESTS);
+
+        for (var count = 0; count < CONCURRENT_REQUESTS; ++count) {
+            executors.getBlockingExecutor().execute(() -> {
+                max.accumulateAndGet(active.incrementAndGet(), Math::max);
+                running.countDown();
+
+                // simulate a slow server
+                try {
+                    release.await(WAIT_SEC, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+
+                active.decrementAndGet();
+                done.countDown();
+            });
+        }
+
+        assertTrue(running.await(WAIT_SEC, TimeUnit.SECONDS));
+        release.countDown();
+        assertTrue(done.await(WAIT_SEC, TimeUnit.SECONDS));
+
+        executors.shutdown();
+
+        return max.get();
+    }
+
+    private String runOn(Executor executor) throws Exception {
+        return CompletableFuture.supplyAsync(() -> "done", executor).get(WAIT_SEC, TimeUnit.SECONDS);
+    }
+
+    private String threadName(Executor executor) throws Exception {
+        return CompletableFuture.supplyAsync(() -> Thread.currentThread().getName(), executor).get(WAIT_SEC,
+                        TimeUnit.SECONDS);
+    }
+}
@@ -3,7 +3,7 @@
  * ONAP
  * ================================================================================
  * Copyright (C) 2020 AT&T Intellectual Property. All rights reserved.
- * Modifications Copyright (C) 2024-2025 Nordix Foundation
+ * Modifications Copyright (C) 2024-2026 Nordix Foundation
  * ================================================================================
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -21,6 +21,7 @@
 
 package org.onap.policy.controlloop.actorserviceprovider;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
@@ -28,6 +29,7 @@ import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
@@ -38,16 +40,31 @@ import static org.mockito.Mockito.when;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
+import lombok.Getter;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.onap.policy.common.parameters.ObjectValidationResult;
 import org.onap.policy.common.parameters.ValidationStatus;
 import org.onap.policy.controlloop.actorserviceprovider.impl.ActorImpl;
+import org.onap.policy.controlloop.actorserviceprovider.impl.OperationPartial;
+import org.onap.policy.controlloop.actorserviceprovider.impl.OperatorPartial;
 import org.onap.policy.controlloop.actorserviceprovider.parameters.ActorParams;
+import org.onap.policy.controlloop.actorserviceprovider.parameters.ControlLoopOperationParams;
+import org.onap.policy.controlloop.actorserviceprovider.parameters.ExecutorParams.BlockingType;
+import org.onap.policy.controlloop.actorserviceprovider.parameters.OperatorConfig;
 import org.onap.policy.controlloop.actorserviceprovider.parameters.ParameterValidationRuntimeException;
 import org.onap.policy.controlloop.actorserviceprovider.spi.Actor;
 
@@ -57,6 +74,7 @@ class ActorServiceTest {
     static final String ACTOR2 = "actor B";
     static final String ACTOR3 = "actor C";
     static final String ACTOR4 = "actor D";
+    static final long WAIT_SEC = 10;
 
     Actor actor1;
     Actor actor2;
@@ -341,6 +359,72 @@ class ActorServiceTest {
         verify(actor5, never()).start();
     }
 
+    /**
+     * Tests that the actors are configured concurrently.
+     */
+    @Test
+    void testDoConfigureConcurrent() {
+        // each actor waits for all of the others to enter configure()
+        var latch = new CountDownLatch(4);
+
+        for (Actor actor : List.of(actor1, actor2, actor3, actor4)) {
+            doAnswer(invocation -> {
+                latch.countDown();
+                assertTrue(latch.await(5, TimeUnit.SECONDS));
+                return invocation.callRealMethod();
+            }).when(actor).configure(any());
+        }
+
+        service.configure(params);
+
+        assertTrue(actor1.isConfigured());
+        assertTrue(actor2.isConfigured());
+        assertTrue(actor3.isConfigured());
+        assertTrue(actor4.isConfigured());
+    }
+
+    /**
+     * Tests that the number of actors started concurrently is limited, and that a
+     * failure of one does not prevent the others from being started.
+     */
+    @Test
+    void testDoStartParallelism() {
+        var active = new AtomicInteger();
+        var maxActive = new AtomicInteger();
+
+        // each actor waits for another to start, thus two must be started at once
+        var barrier = new CyclicBarrier(2);
+
+        for (Actor actor : List.of(actor1, actor2, actor3, actor4)) {
+            doAnswer(invocation -> {
+                maxActive.accumulateAndGet(active.incrementAndGet(), Math::max);
+                barrier.await(WAIT_SEC, TimeUnit.SECONDS);
+                active.decrementAndGet();
+
+                if (actor == actor2) {
+                    throw new IllegalStateException(EXPECTED_EXCEPTION);
+                }
+
+                return invocation.callRealMethod();
+            }).when(actor).start();
+        }
+
+        Map<String, Object> params2 = new HashMap<>(params);
+        params2.put(ActorService.EXECUTORS_FIELD, Map.of("startupParallelism", 2));
+
+        service.configure(params2);
+        service.start();
+
+        assertEquals(2, maxActive.get());
+
+        assertTrue(actor1.isAlive());
+        assertFalse(actor2.isAlive());
+        assertTrue(actor3.isAlive());
+        assertTrue(actor4.isAlive());
+
+        service.shutdown();
+    }
+
     /**
      * Arranges for an actor to throw a validation exception when
      * {@link Actor#configure(Object)} is invoked.
@@ -364,6 +448,265 @@ class ActorServiceTest {
         doThrow(ex).when(actor).configure(any());
     }
 
+    @Test
+    void testConfigureExecutors() throws Exception {
+        OperatorPartial operator = new OperatorPartial(ACTOR1, "my-operation") {
+            @Override
+            public Operation buildOperation(ControlLoopOperationParams params) {
+                return null;
+            }
+        };
+
+        actor1 = new ActorImpl(ACTOR1) {
+            {
+                addOperator(operator);
+            }
+        };
+
+        service = makeService(actor1);
+
+        // no executors configured
+        service.configure(params);
+        assertSame(service.getBlockingExecutor(), operator.getBlockingExecutor());
+        assertThat(threadName(service.getExecutor())).contains("commonPool");
+
+        // invalid executor parameters are ignored
+        Map<String, Object> params2 = new HashMap<>(params);
+        params2.put(ActorService.EXECUTORS_FIELD, Map.of("pipelinePoolSize", -1));
+        service.configure(params2);
+        assertThat(threadName(service.getExecutor())).contains("commonPool");
+
+        params2.put(ActorService.EXECUTORS_FIELD, Map.of("blockingType", "UNKNOWN"));
+        service.configure(params2);
+        assertThat(threadName(service.getExecutor())).contains("commonPool");
+
+        // valid parameters
+        params2.put(ActorService.EXECUTORS_FIELD, Map.of("blockingType", BlockingType.FIXED_POOL.name(),
+                        "blockingPoolSize", 2, "pipelinePoolSize", 2));
+        service.configure(params2);
+
+        assertSame(service.getBlockingExecutor(), operator.getBlockingExecutor());
+        assertThat(threadName(service.getExecutor())).startsWith("actor-pipeline-");
+        assertThat(threadName(operator.getBlockingExecutor())).startsWith("actor-blocking-");
+
+        service.shutdown();
+    }
+
+    /**
+     * Tests reconfiguring the executors along with only one of the actors. The other
+     * actor, whose operator built its configuration from the previous executors, must
+     * still be able to run operations, as must operations that were already running.
+     */
+    @Test
+    void testReconfigureExecutors() throws Exception {
+        MyOperator operator1 = new MyOperator(ACTOR1);
+        MyOperator operator2 = new MyOperator(ACTOR2);
+
+        actor1 = new ActorImpl(ACTOR1) {
+            {
+                addOperator(operator1);
+            }
+        };
+
+        actor2 = new ActorImpl(ACTOR2) {
+            {
+                addOperator(operator2);
+            }
+        };
+
+        service = makeService(actor1, actor2);
+
+        Map<String, Object> actorParams = Map.of(ActorParams.OPERATIONS_FIELD, Map.of(MyOperator.NAME, Map.of()));
+        Map<String, Object> execParams = Map.of("blockingType", BlockingType.FIXED_POOL.name(),
+                        "blockingPoolSize", 1, "pipelinePoolSize", 1);
+
+        service.configure(Map.of(ACTOR1, actorParams, ACTOR2, actorParams, ActorService.EXECUTORS_FIELD, execParams));
+        assertTrue(operator2.isConfigured());
+
+        // a task that is still running on the previous executors when they're replaced
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<Boolean> inFlight = CompletableFuture.supplyAsync(() -> await(release),
+                        operator2.getConfig().getBlockingExecutor());
+
+        service.configure(Map.of(ACTOR1, actorParams, ActorService.EXECUTORS_FIELD, execParams));
+
+        release.countDown();
+        assertTrue(inFlight.get(WAIT_SEC, TimeUnit.SECONDS));
+
+        // run an operation on the actor that was not reconfigured
+        ControlLoopOperationParams opParams = ControlLoopOperationParams.builder().actor(ACTOR2)
+                        .operation(MyOperator.NAME).requestId(UUID.randomUUID()).executor(service.getExecutor())
+                        .build();
+
+        OperationOutcome outcome = operator2.buildOperation(opParams).start().get(WAIT_SEC, TimeUnit.SECONDS);
+        assertEquals(OperationResult.SUCCESS, outcome.getResult());
+
+        service.shutdown();
+    }
+
+    @Test
+    void testConfigureFusedPipeline() {
+        service = makeService(actor1);
+
+        try {
+            // not configured
+            service.configure(params);
+            assertFalse(OperationPartial.isFusedPipelineDefault());
+
+            // invalid parameters are ignored
+            Map<String, Object> params2 = new HashMap<>(params);
+            params2.put(ActorService.EXECUTORS_FIELD, Map.of("fusedPipeline", true, "pipelinePoolSize", -1));
+            service.configure(params2);
+            assertFalse(OperationPartial.isFusedPipelineDefault());
+
+            // valid parameters
+            params2.put(ActorService.EXECUTORS_FIELD, Map.of("fusedPipeline", true));
+            service.configure(params2);
+            assertTrue(OperationPartial.isFusedPipelineDefault());
+
+            // configuring without the entry leaves it as it was
+            service.configure(params);
+            assertTrue(OperationPartial.isFusedPipelineDefault());
+
+            // disable it again
+            params2.put(ActorService.EXECUTORS_FIELD, Map.of());
+            service.configure(params2);
+            assertFalse(OperationPartial.isFusedPipelineDefault());
+
+        } finally {
+            OperationPartial.setFusedPipelineDefault(false);
+            service.shutdown();
+        }
+    }
+
+    @Test
+    void testConfigureCircuitBreakers() {
+        CircuitBreakerRegistry breakers = new CircuitBreakerRegistry();
+
+        service = new ActorService() {
+            @Override
+            protected Iterable<Actor> loadActors() {
+                return Arrays.asList(actor1);
+            }
+
+            @Override
+            protected CircuitBreakerRegistry getCircuitBreakers() {
+                return breakers;
+            }
+        };
+
+        // not configured
+        service.configure(params);
+        assertFalse(breakers.isEnabled());
+
+        // invalid parameters are ignored
+        Map<String, Object> params2 = new HashMap<>(params);
+        params2.put(ActorService.CIRCUIT_BREAKER_FIELD, Map.of("windowSize", 0));
+        service.configure(params2);
+        assertFalse(breakers.isEnabled());
+
+        params2.put(ActorService.CIRCUIT_BREAKER_FIELD, Map.of("failureRateThreshold", "unknown"));
+        service.configure(params2);
+        assertFalse(breakers.isEnabled());
+
+        // valid parameters
+        params2.put(ActorService.CIRCUIT_BREAKER_FIELD, Map.of("minimumCalls", 1, "openDurationSec", 5));
+        service.configure(params2);
+        assertTrue(breakers.isEnabled());
+
+        // the breakers use the new parameters
+        breakers.getBreaker("my-endpoint").tryAcquire().completed(true);
+        assertEquals(CircuitBreaker.State.OPEN, breakers.getBreaker("my-endpoint").getState());
+
+        // configuring without the entry leaves them as they were
+        service.configure(params);
+        assertTrue(breakers.isEnabled());
+    }
+
+    @Test
+    void testConfigureScheduling() {
+        FairScheduler scheduler = new FairScheduler();
+
+        service = new ActorService() {
+            @Override
+            protected Iterable<Actor> loadActors() {
+                return Arrays.asList(actor1);
+            }
+
+            @Override
+            protected FairScheduler getScheduler() {
+                return scheduler;
+            }
+        };
+
+        // not configured
+        service.configure(params);
+        assertFalse(scheduler.isEnabled());
+
+        // invalid parameters are ignored
+        Map<String, Object> params2 = new HashMap<>(params);
+        params2.put(ActorService.SCHEDULING_FIELD, Map.of("maxConcurrent", 0));
+        service.configure(params2);
+        assertFalse(scheduler.isEnabled());
+
+        params2.put(ActorService.SCHEDULING_FIELD, Map.of("weights", Map.of("my-loop", 0)));
+        service.configure(params2);
+        assertFalse(scheduler.isEnabled());
+
+        params2.put(ActorService.SCHEDULING_FIELD, Map.of("maxQueued", "unknown"));
+        service.configure(params2);
+        assertFalse(scheduler.isEnabled());
+
+        // valid parameters
+        params2.put(ActorService.SCHEDULING_FIELD, Map.of("maxConcurrent", 10, "weights", Map.of("my-loop", 5)));
+        service.configure(params2);
+        assertTrue(scheduler.isEnabled());
+
+        // configuring without the entry leaves it as it was
+        service.configure(params);
+        assertTrue(scheduler.isEnabled());
+    }
+
+    @Test
+    void testConfigureNetworkLog() {
+        NetworkLogger netlog = new NetworkLogger(NetworkLogger.Level.FULL, 1, 0);
+
+        service = new ActorService() {
+            @Override
+            protected Iterable<Actor> loadActors() {
+                return Arrays.asList(actor1);
+            }
+
+            @Override
+            protected NetworkLogger getNetworkLogger() {
+                return netlog;
+            }
+        };
+
+        // not configured
+        service.configure(params);
+        assertEquals(NetworkLogger.Level.FULL, netlog.getLevel());
+
+        // invalid parameters are ignored
+        Map<String, Object> params2 = new HashMap<>(params);
+        params2.put(ActorService.NETWORK_LOG_FIELD, Map.of("sampleRate", 0));
+        service.configure(params2);
+        assertEquals(NetworkLogger.Level.FULL, netlog.getLevel());
+
+        params2.put(ActorService.NETWORK_LOG_FIELD, Map.of("level", "unknown"));
+        service.configure(params2);
+        assertEquals(NetworkLogger.Level.FULL, netlog.getLevel());
+
+        // valid parameters
+        params2.put(ActorService.NETWORK_LOG_FIELD, Map.of("level", "SUMMARY"));
+        service.configure(params2);
+        assertEquals(NetworkLogger.Level.SUMMARY, netlog.getLevel());
+
+        // configuring without the entry leaves it as it was
+        service.configure(params);
+        assertEquals(NetworkLogger.Level.SUMMARY, netlog.getLevel());
+    }
+
     @Test
     void testLoadActors() {
         ActorService actorService = new ActorService();
@@ -371,6 +714,21 @@ class ActorServiceTest {
         assertNotNull(actorService.getActor(DummyActor.class.getSimpleName()));
     }
 
+    private static boolean await(CountDownLatch latch) {
+        try {
+            return latch.await(WAIT_SEC, TimeUnit.SECONDS);
+
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private static String threadName(Executor executor) throws Exception {
+        return CompletableFuture.supplyAsync(() -> Thread.currentThread().getName(), executor).get(WAIT_SEC,
+                        TimeUnit.SECONDS);
+    }
+
     /**
      * Makes an actor service whose {@link ActorService#loadActors()} method returns the
      * given actors.
@@ -386,4 +744,35 @@ class ActorServiceTest {
             }
         };
     }
+
+    /**
+     * Operator that, like the HTTP operators, copies the blocking executor into the
+     * configuration that it builds when it is configured.
+     */
+    private static class MyOperator extends OperatorPartial {
+        private static final String NAME = "my-operation";
+
+        @Getter
+        private OperatorConfig config;
+
+        MyOperator(String actorName) {
+            super(actorName, NAME);
+        }
+
+        @Override
+        protected void doConfigure(Map<String, Object> parameters) {
+            config = new OperatorConfig(getBlockingExecutor());
+        }
+
+        @Override
+        public Operation buildOperation(ControlLoopOperationParams params) {
+            return new OperationPartial(params, config, List.of()) {
+                @Override
+                protected OperationOutcome doOperation(int attempt, OperationOutcome outcome) {
+                    outcome.setResult(OperationResult.SUCCESS);
+                    return outcome;
+                }
+            };
+        }
+    }
 }
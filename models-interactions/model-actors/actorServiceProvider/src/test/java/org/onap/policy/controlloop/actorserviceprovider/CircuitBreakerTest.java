@@ -0,0 +1,336 @@
+/*-
+ * ============LICENSE_START=======================================================
+ *  Copyright (C) 2026 Nordix Foundation.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.controlloop.actorserviceprovider;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.onap.policy.controlloop.actorserviceprovider.CircuitBreaker.Call;
+import org.onap.policy.controlloop.actorserviceprovider.CircuitBreaker.State;
+import org.onap.policy.controlloop.actorserviceprovider.parameters.CircuitBreakerParams;
+
+class CircuitBreakerTest {
+    private static final String NAME = "http:my-client";
+    private static final int WINDOW = 10;
+    private static final int MIN_CALLS = 4;
+    private static final int HALF_OPEN_CALLS = 2;
+    private static final long SLOW_MS = 100;
+    private static final long OPEN_NS = TimeUnit.SECONDS.toNanos(30);
+
+    private long timeNs;
+    private CircuitBreakerParams params;
+    private CircuitBreaker breaker;
+
+    /**
+     * Sets up.
+     */
+    @BeforeEach
+    void setUp() {
+        timeNs = 1000;
+
+        params = new CircuitBreakerParams();
+        params.setWindowSize(WINDOW);
+        params.setMinimumCalls(MIN_CALLS);
+        params.setFailureRateThreshold(50);
+        params.setSlowCallRateThreshold(50);
+        params.setSlowCallDurationMs(SLOW_MS);
+        params.setOpenDurationSec(30);
+        params.setHalfOpenCalls(HALF_OPEN_CALLS);
+
+        breaker = new MyBreaker();
+    }
+
+    @Test
+    void testConstructor() {
+        assertEquals(NAME, breaker.getName());
+        assertEquals(State.CLOSED, breaker.getState());
+        assertEquals(0, breaker.getFailureRate());
+        assertEquals(0, breaker.getSlowCallRate());
+        assertEquals(0, breaker.getRejected());
+    }
+
+    @Test
+    void testUnguarded() {
+        // should have no effect
+        CircuitBreaker.UNGUARDED.completed(true);
+        CircuitBreaker.UNGUARDED.abandoned();
+    }
+
+    @Test
+    void testOpenOnFailures() {
+        // below the minimum number of calls
+        makeCalls(MIN_CALLS - 1, true);
+        assertEquals(State.CLOSED, breaker.getState());
+        assertEquals(100, breaker.getFailureRate());
+
+        makeCalls(1, true);
+        assertEquals(State.OPEN, breaker.getState());
+
+        assertNull(breaker.tryAcquire());
+        assertNull(breaker.tryAcquire());
+        assertEquals(2, breaker.getRejected());
+    }
+
+    @Test
+    void testOpenOnSlowCalls() {
+        for (var count = 0; count < MIN_CALLS; ++count) {
+            Call call = breaker.tryAcquire();
+            timeNs += TimeUnit.MILLISECONDS.toNanos(SLOW_MS);
+            call.completed(false);
+        }
+
+        assertEquals(State.OPEN, breaker.getState());
+    }
+
+    @Test
+    void testBelowThreshold() {
+        makeCalls(WINDOW, false);
+        makeCalls(4, true);
+
+        assertEquals(State.CLOSED, breaker.getState());
+        assertEquals(40, breaker.getFailureRate());
+        assertEquals(0, breaker.getSlowCallRate());
+    }
+
+    @Test
+    void testWindowEvictsOldCalls() {
+        // don't open the breaker until the window is full
+        params.setMinimumCalls(WINDOW);
+        breaker = new MyBreaker();
+
+        makeCalls(4, true);
+        makeCalls(WINDOW - 4, false);
+        assertEquals(40, breaker.getFailureRate());
+
+        // displace the failures
+        makeCalls(4, false);
+        assertEquals(0, breaker.getFailureRate());
+
+        // displace successes
+        makeCalls(4, true);
+        assertEquals(40, breaker.getFailureRate());
+        assertEquals(State.CLOSED, breaker.getState());
+    }
+
+    @Test
+    void testCompletedOnlyOnce() {
+        Call call = breaker.tryAcquire();
+        call.completed(true);
+        call.completed(true);
+        call.abandoned();
+
+        assertEquals(100, breaker.getFailureRate());
+
+        makeCalls(1, false);
+        assertEquals(50, breaker.getFailureRate());
+    }
+
+    @Test
+    void testHalfOpenCloses() {
+        open();
+
+        // still open
+        timeNs += OPEN_NS - 1;
+        assertNull(breaker.tryAcquire());
+
+        timeNs += 1;
+        List<Call> calls = acquireAll();
+        assertEquals(HALF_OPEN_CALLS, calls.size());
+        assertEquals(State.HALF_OPEN, breaker.getState());
+
+        // no more trial calls
+        assertNull(breaker.tryAcquire());
+
+        calls.forEach(call -> call.completed(false));
+        assertEquals(State.CLOSED, breaker.getState());
+        assertEquals(0, breaker.getFailureRate());
+
+        assertNotNull(breaker.tryAcquire());
+    }
+
+    @Test
+    void testHalfOpenReopens() {
+        open();
+
+        timeNs += OPEN_NS;
+        List<Call> calls = acquireAll();
+
+        calls.get(0).completed(false);
+        assertEquals(State.HALF_OPEN, breaker.getState());
+
+        calls.get(1).completed(true);
+        assertEquals(State.OPEN, breaker.getState());
+        assertNull(breaker.tryAcquire());
+    }
+
+    @Test
+    void testHalfOpenTrialsNeverComplete() {
+        open();
+
+        timeNs += OPEN_NS;
+        assertEquals(HALF_OPEN_CALLS, acquireAll().size());
+
+        // trial calls are still outstanding
+        timeNs += OPEN_NS - 1;
+        assertNull(breaker.tryAcquire());
+
+        // gives up on them and starts a new trial
+        timeNs += 1;
+        assertEquals(HALF_OPEN_CALLS, acquireAll().size());
+        assertEquals(State.HALF_OPEN, breaker.getState());
+    }
+
+    @Test
+    void testStaleCallsIgnored() {
+        Call stale1 = breaker.tryAcquire();
+        Call stale2 = breaker.tryAcquire();
+        open();
+
+        // completed after the breaker opened - should be ignored
+        stale1.completed(false);
+
+        timeNs += OPEN_NS;
+        List<Call> calls = acquireAll();
+
+        calls.forEach(call -> call.completed(false));
+        assertEquals(State.CLOSED, breaker.getState());
+
+        // completed after the breaker closed again - should be ignored
+        stale2.completed(true);
+        assertEquals(0, breaker.getFailureRate());
+    }
+
+    @Test
+    void testConcurrent() throws Exception {
+        params.setWindowSize(50);
+        params.setMinimumCalls(1000);
+        breaker = new CircuitBreaker(NAME, params);
+
+        final int nthreads = 8;
+        final int count = 1000;
+
+        List<CompletableFuture<Void>> futures = new ArrayList<>();
+        for (var thread = 0; thread < nthreads; ++thread) {
+            final boolean failed = (thread % 2 == 0);
+
+            futures.add(CompletableFuture.runAsync(() -> {
+                for (var index = 0; index < count; ++index) {
+                    breaker.tryAcquire().completed(failed);
+                }
+            }, ActorExecutors.THREAD_PER_TASK));
+        }
+
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[0])).get(10, TimeUnit.SECONDS);
+
+        // never reaches the minimum number of calls, as the window is smaller
+        assertEquals(State.CLOSED, breaker.getState());
+        assertThat(breaker.getFailureRate()).isBetween(0, 100);
+    }
+
+    @Test
+    void testRegistry() {
+        var registry = new CircuitBreakerRegistry() {
+            @Override
+            protected CircuitBreaker makeBreaker(String name, CircuitBreakerParams params) {
+                return new MyBreaker(name);
+            }
+        };
+
+        assertSame(CircuitBreakerRegistry.getInstance(), CircuitBreakerRegistry.getInstance());
+
+        // disabled
+        assertFalse(registry.isEnabled());
+        assertNull(registry.getBreaker(NAME));
+        assertTrue(registry.getBreakers().isEmpty());
+
+        registry.configure(params);
+        assertTrue(registry.isEnabled());
+
+        CircuitBreaker breaker2 = registry.getBreaker("topic:b");
+        CircuitBreaker breaker1 = registry.getBreaker("http:a");
+        assertSame(breaker1, registry.getBreaker("http:a"));
+        assertThat(breaker1).isInstanceOf(MyBreaker.class);
+        assertEquals(List.of(breaker1, breaker2), registry.getBreakers());
+
+        // reconfiguring discards the existing breakers
+        registry.configure(params);
+        assertTrue(registry.getBreakers().isEmpty());
+        assertThat(registry.getBreaker("http:a")).isNotSameAs(breaker1);
+
+        registry.configure(null);
+        assertFalse(registry.isEnabled());
+        assertNull(registry.getBreaker("http:a"));
+
+        // real breaker
+        assertThat(new CircuitBreakerRegistry().makeBreaker(NAME, params).getName()).isEqualTo(NAME);
+    }
+
+    /**
+     * Opens the breaker.
+     */
+    private void open() {
+        makeCalls(MIN_CALLS, true);
+        assertEquals(State.OPEN, breaker.getState());
+    }
+
+    private void makeCalls(int count, boolean failed) {
+        for (var index = 0; index < count; ++index) {
+            breaker.tryAcquire().completed(failed);
+        }
+    }
+
+    private List<Call> acquireAll() {
+        List<Call> calls = new ArrayList<>();
+
+        Call call;
+        while ((call = breaker.tryAcquire()) != null) {
+            calls.add(call);
+        }
+
+        return calls;
+    }
+
+    private class MyBreaker extends CircuitBreaker {
+        public MyBreaker() {
+            this(NAME);
+        }
+
+        public MyBreaker(String name) {
+            super(name, params);
+        }
+
+        @Override
+        protected long currentTimeNs() {
+            return timeNs;
+        }
+    }
+}
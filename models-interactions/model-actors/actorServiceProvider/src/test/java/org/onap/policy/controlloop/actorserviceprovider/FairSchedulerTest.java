@@ -0,0 +1,334 @@
+/*-
+ * ============LICENSE_START=======================================================
+ *  Copyright (C) 2026 Nordix Foundation.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.controlloop.actorserviceprovider;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.onap.policy.controlloop.actorserviceprovider.FairScheduler.ClassSnapshot;
+import org.onap.policy.controlloop.actorserviceprovider.parameters.SchedulingParams;
+
+class FairSchedulerTest {
+    private static final String CLASS_HIGH = "high";
+    private static final String CLASS_LOW = "low";
+
+    /**
+     * Tasks handed to {@link #executor}, which are only run when the test says so.
+     */
+    private List<Runnable> tasks;
+    private Executor executor;
+
+    private FairScheduler scheduler;
+    private SchedulingParams params;
+
+    /**
+     * Sets up.
+     */
+    @BeforeEach
+    void setUp() {
+        tasks = new ArrayList<>();
+        executor = tasks::add;
+
+        scheduler = new FairScheduler();
+
+        params = new SchedulingParams();
+        params.setMaxConcurrent(1);
+        params.setMaxQueued(10);
+        params.getWeights().put(CLASS_HIGH, 3);
+    }
+
+    @Test
+    void testGetInstance() {
+        assertSame(FairScheduler.getInstance(), FairScheduler.getInstance());
+    }
+
+    @Test
+    void testForClass() {
+        // disabled
+        assertFalse(scheduler.isEnabled());
+        assertSame(executor, scheduler.forClass(CLASS_HIGH, executor));
+
+        scheduler.configure(params);
+        assertTrue(scheduler.isEnabled());
+
+        // no class
+        assertSame(executor, scheduler.forClass(null, executor));
+
+        Executor high = scheduler.forClass(CLASS_HIGH, executor);
+        assertNotSame(executor, high);
+
+        // same class is not wrapped again
+        assertSame(high, scheduler.forClass(CLASS_HIGH, high));
+
+        // a different class wraps the underlying executor
+        Executor low = scheduler.forClass(CLASS_LOW, high);
+        low.execute(() -> { });
+        assertEquals(1, tasks.size());
+        assertSame(executor, scheduler.forClass(null, low));
+
+        // an executor from another scheduler is wrapped as is
+        var other = new FairScheduler();
+        other.configure(params);
+        Executor otherHigh = other.forClass(CLASS_HIGH, executor);
+        assertNotSame(otherHigh, scheduler.forClass(CLASS_HIGH, otherHigh));
+
+        // disabled again
+        scheduler.configure(null);
+        assertFalse(scheduler.isEnabled());
+        assertSame(executor, scheduler.forClass(CLASS_HIGH, high));
+    }
+
+    @Test
+    void testWeightedFair() {
+        scheduler.configure(params);
+
+        List<String> order = new ArrayList<>();
+        Executor high = scheduler.forClass(CLASS_HIGH, executor);
+        Executor low = scheduler.forClass(CLASS_LOW, executor);
+
+        // a flood of low priority tasks arrives first
+        for (var count = 0; count < 8; ++count) {
+            low.execute(() -> order.add(CLASS_LOW));
+        }
+
+        for (var count = 0; count < 6; ++count) {
+            high.execute(() -> order.add(CLASS_HIGH));
+        }
+
+        // only the first was handed to the executor
+        assertEquals(1, tasks.size());
+        assertEquals(1, scheduler.getActive());
+
+        List<ClassSnapshot> snapshots = scheduler.getSnapshot();
+        assertEquals(2, snapshots.size());
+        verifySnapshot(snapshots.get(0), CLASS_HIGH, 3, 6, 0);
+        verifySnapshot(snapshots.get(1), CLASS_LOW, 1, 7, 1);
+
+        runTasks();
+
+        assertEquals(14, order.size());
+        assertEquals(CLASS_LOW, order.get(0));
+
+        // while both have tasks waiting, "high" gets three of every four slots
+        assertEquals(3, Collections.frequency(order.subList(1, 5), CLASS_HIGH));
+        assertEquals(3, Collections.frequency(order.subList(5, 9), CLASS_HIGH));
+
+        // within a class, tasks run in order
+        assertEquals(List.of(CLASS_LOW, CLASS_LOW, CLASS_LOW, CLASS_LOW, CLASS_LOW), order.subList(9, 14));
+
+        assertEquals(0, scheduler.getActive());
+
+        snapshots = scheduler.getSnapshot();
+        verifySnapshot(snapshots.get(0), CLASS_HIGH, 3, 0, 6);
+        verifySnapshot(snapshots.get(1), CLASS_LOW, 1, 0, 8);
+    }
+
+    @Test
+    void testAdmit() {
+        // disabled
+        assertTrue(scheduler.admit(CLASS_LOW));
+
+        params.setMaxQueued(1);
+        scheduler.configure(params);
+
+        // no class
+        assertTrue(scheduler.admit(null));
+
+        Executor low = scheduler.forClass(CLASS_LOW, executor);
+        low.execute(() -> { });
+        assertTrue(scheduler.admit(CLASS_LOW));
+
+        low.execute(() -> { });
+        assertFalse(scheduler.admit(CLASS_LOW));
+
+        // tasks are still queued beyond the limit, as they may be continuations
+        low.execute(() -> { });
+        assertEquals(2, scheduler.getSnapshot().get(0).getQueueDepth());
+
+        // other classes have their own queue
+        assertTrue(scheduler.admit(CLASS_HIGH));
+
+        List<ClassSnapshot> snapshots = scheduler.getSnapshot();
+        verifySnapshot(snapshots.get(0), CLASS_HIGH, 3, 0, 0);
+        assertEquals(0, snapshots.get(0).getRejected());
+        assertEquals(1, snapshots.get(1).getRejected());
+
+        runTasks();
+        assertEquals(0, scheduler.getActive());
+        assertTrue(scheduler.admit(CLASS_LOW));
+    }
+
+    @Test
+    void testExecutorRejects() {
+        scheduler.configure(params);
+
+        Executor rejecter = command -> {
+            throw new RejectedExecutionException("expected exception");
+        };
+
+        // rejected when handed off immediately
+        Executor low = scheduler.forClass(CLASS_LOW, rejecter);
+        assertThatThrownBy(() -> low.execute(() -> { })).isInstanceOf(RejectedExecutionException.class);
+        assertEquals(0, scheduler.getActive());
+
+        // rejected when dispatched from the queue - skips to the next task
+        var ran = new AtomicInteger();
+        Executor high = scheduler.forClass(CLASS_HIGH, executor);
+        high.execute(ran::incrementAndGet);
+        low.execute(ran::incrementAndGet);
+        high.execute(ran::incrementAndGet);
+
+        runTasks();
+
+        assertEquals(2, ran.get());
+        assertEquals(0, scheduler.getActive());
+    }
+
+    @Test
+    void testTaskThrows() {
+        scheduler.configure(params);
+
+        var ran = new AtomicInteger();
+        Executor low = scheduler.forClass(CLASS_LOW, executor);
+        low.execute(() -> {
+            throw new IllegalStateException("expected exception");
+        });
+        low.execute(ran::incrementAndGet);
+
+        assertThatThrownBy(() -> tasks.remove(0).run()).isInstanceOf(IllegalStateException.class);
+
+        // the next task was still dispatched
+        runTasks();
+        assertEquals(1, ran.get());
+        assertEquals(0, scheduler.getActive());
+    }
+
+    @Test
+    void testConfigure() {
+        scheduler.configure(params);
+
+        var ran = new AtomicInteger();
+        Executor low = scheduler.forClass(CLASS_LOW, executor);
+        for (var count = 0; count < 4; ++count) {
+            low.execute(ran::incrementAndGet);
+        }
+
+        assertEquals(1, tasks.size());
+
+        // raising the limit dispatches more of the queued tasks
+        params.setMaxConcurrent(3);
+        scheduler.configure(params);
+        assertEquals(3, tasks.size());
+        assertEquals(3, scheduler.getActive());
+
+        // new weights apply to existing classes
+        params.setDefaultWeight(2);
+        scheduler.configure(params);
+        assertEquals(2, scheduler.getSnapshot().get(0).getWeight());
+
+        // lowering the limit doesn't dispatch until enough tasks have completed
+        params.setMaxConcurrent(1);
+        scheduler.configure(params);
+        tasks.remove(0).run();
+        tasks.remove(0).run();
+        assertEquals(1, tasks.size());
+        assertEquals(1, scheduler.getActive());
+
+        // disabling dispatches whatever is queued, and new tasks bypass the queues
+        low.execute(ran::incrementAndGet);
+        scheduler.configure(null);
+        assertEquals(3, tasks.size());
+
+        low.execute(ran::incrementAndGet);
+        assertEquals(4, tasks.size());
+
+        runTasks();
+        assertEquals(6, ran.get());
+        assertEquals(0, scheduler.getActive());
+    }
+
+    @Test
+    void testConcurrent() throws Exception {
+        final int ntasks = 2000;
+
+        params.setMaxConcurrent(4);
+        params.setMaxQueued(ntasks);
+        scheduler.configure(params);
+
+        var pool = Executors.newFixedThreadPool(16);
+
+        try {
+            var running = new AtomicInteger();
+            var maxRunning = new AtomicInteger();
+            var done = new CountDownLatch(ntasks);
+
+            Executor high = scheduler.forClass(CLASS_HIGH, pool);
+            Executor low = scheduler.forClass(CLASS_LOW, pool);
+
+            for (var count = 0; count < ntasks; ++count) {
+                (count % 2 == 0 ? high : low).execute(() -> {
+                    maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                    Thread.yield();
+                    running.decrementAndGet();
+                    done.countDown();
+                });
+            }
+
+            assertTrue(done.await(30, TimeUnit.SECONDS));
+            assertTrue(maxRunning.get() <= 4);
+
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * Runs the tasks that have been handed to the executor, including any that are
+     * handed to it as a result, until none remain.
+     */
+    private void runTasks() {
+        while (!tasks.isEmpty()) {
+            tasks.remove(0).run();
+        }
+    }
+
+    private void verifySnapshot(ClassSnapshot snapshot, String name, int weight, int queueDepth, long dispatched) {
+        assertEquals(name, snapshot.getName());
+        assertEquals(weight, snapshot.getWeight());
+        assertEquals(queueDepth, snapshot.getQueueDepth());
+        assertEquals(dispatched, snapshot.getDispatched());
+    }
+}
@@ -0,0 +1,256 @@
+/*-
+ * ============LICENSE_START=======================================================
+ *  Copyright (C) 2026 Nordix Foundation.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.controlloop.actorserviceprovider;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.onap.policy.controlloop.actorserviceprovider.OperationScheduler.Timeout;
+
+class HashedWheelSchedulerTest {
+    private static final long WAIT_SEC = 5;
+
+    /**
+     * Small wheel, so that longer delays need several rounds.
+     */
+    private static final int WHEEL_SIZE = 4;
+
+    private HashedWheelScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        scheduler = new HashedWheelScheduler(1, TimeUnit.MILLISECONDS, WHEEL_SIZE);
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        scheduler.stop();
+    }
+
+    @Test
+    void testConstructor() {
+        assertThatIllegalArgumentException().isThrownBy(() -> new HashedWheelScheduler(0, TimeUnit.SECONDS, 10));
+        assertThatIllegalArgumentException().isThrownBy(() -> new HashedWheelScheduler(1, TimeUnit.SECONDS, 0));
+        assertThatIllegalArgumentException()
+                        .isThrownBy(() -> new HashedWheelScheduler(1, TimeUnit.SECONDS, Integer.MAX_VALUE));
+        assertThatThrownBy(() -> new HashedWheelScheduler(1, null, 10)).isInstanceOf(NullPointerException.class);
+
+        // rounded up to a power of two
+        assertEquals(16, new HashedWheelScheduler(1, TimeUnit.SECONDS, 10).getWheelSize());
+        assertEquals(WHEEL_SIZE, scheduler.getWheelSize());
+    }
+
+    @Test
+    void testGetInstance() {
+        assertSame(HashedWheelScheduler.getInstance(), HashedWheelScheduler.getInstance());
+        assertEquals(HashedWheelScheduler.DEFAULT_WHEEL_SIZE, HashedWheelScheduler.getInstance().getWheelSize());
+    }
+
+    @Test
+    void testSchedule() throws InterruptedException {
+        List<Long> delays = List.of(0L, 1L, 3L, 10L, 25L);
+        CountDownLatch latch = new CountDownLatch(delays.size());
+        List<Timeout> timeouts = new ArrayList<>();
+
+        long start = System.nanoTime();
+        List<Long> elapsed = new ArrayList<>();
+        List<Long> expiredNs = new ArrayList<>();
+
+        for (long delay : delays) {
+            timeouts.add(scheduler.schedule(() -> {
+                synchronized (elapsed) {
+                    elapsed.add(delay);
+                    expiredNs.add(System.nanoTime() - start);
+                }
+
+                latch.countDown();
+            }, delay, TimeUnit.MILLISECONDS));
+        }
+
+        assertTrue(latch.await(WAIT_SEC, TimeUnit.SECONDS));
+
+        synchronized (elapsed) {
+            // they should have expired in order
+            assertEquals(delays, elapsed);
+
+            // never early
+            for (var index = 0; index < delays.size(); ++index) {
+                assertThat(expiredNs.get(index))
+                                .isGreaterThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(delays.get(index)));
+            }
+        }
+
+        for (Timeout timeout : timeouts) {
+            assertTrue(timeout.isExpired());
+            assertFalse(timeout.isCancelled());
+            assertFalse(timeout.cancel());
+        }
+
+        assertEquals(delays.size(), scheduler.getScheduledCount());
+        assertEquals(delays.size(), scheduler.getExpiredCount());
+        assertEquals(0, scheduler.getCancelledCount());
+        assertEquals(0, scheduler.getPendingCount());
+    }
+
+    @Test
+    void testCancel() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(1);
+
+        Timeout canceled = scheduler.schedule(() -> {
+            throw new IllegalStateException("should not run");
+        }, 20, TimeUnit.MILLISECONDS);
+
+        scheduler.schedule(latch::countDown, 40, TimeUnit.MILLISECONDS);
+
+        assertEquals(2, scheduler.getPendingCount());
+
+        assertTrue(canceled.cancel());
+        assertFalse(canceled.cancel());
+        assertTrue(canceled.isCancelled());
+        assertFalse(canceled.isExpired());
+
+        assertEquals(1, scheduler.getPendingCount());
+        assertEquals(1, scheduler.getCancelledCount());
+
+        assertTrue(latch.await(WAIT_SEC, TimeUnit.SECONDS));
+
+        assertEquals(1, scheduler.getExpiredCount());
+        assertEquals(0, scheduler.getPendingCount());
+    }
+
+    @Test
+    void testTaskException() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(1);
+
+        scheduler.schedule(() -> {
+            throw new IllegalStateException("expected exception");
+        }, 1, TimeUnit.MILLISECONDS);
+
+        // errors, too, are caught
+        scheduler.schedule(() -> {
+            throw new AssertionError("expected error");
+        }, 1, TimeUnit.MILLISECONDS);
+
+        // subsequent timers still run
+        scheduler.schedule(latch::countDown, 2, TimeUnit.MILLISECONDS);
+
+        assertTrue(latch.await(WAIT_SEC, TimeUnit.SECONDS));
+        assertEquals(3, scheduler.getExpiredCount());
+    }
+
+    @Test
+    void testStop() throws InterruptedException {
+        // stopping before starting is harmless
+        HashedWheelScheduler scheduler2 = new HashedWheelScheduler(1, TimeUnit.MILLISECONDS, WHEEL_SIZE);
+        scheduler2.stop();
+        assertThatIllegalStateException().isThrownBy(() -> scheduler2.schedule(() -> { }, 1, TimeUnit.SECONDS));
+
+        scheduler.schedule(() -> { }, 1, TimeUnit.HOURS);
+        assertEquals(1, scheduler.getPendingCount());
+
+        scheduler.stop();
+        scheduler.stop();
+
+        assertEquals(0, scheduler.getPendingCount());
+        assertThatIllegalStateException().isThrownBy(() -> scheduler.schedule(() -> { }, 1, TimeUnit.SECONDS))
+                        .withMessage("scheduler has been stopped");
+    }
+
+    @Test
+    void testOrTimeout() throws Exception {
+        // expires
+        CompletableFuture<String> future = new CompletableFuture<>();
+        assertSame(future, scheduler.orTimeout(future, 5, TimeUnit.MILLISECONDS));
+
+        assertThatThrownBy(() -> future.get(WAIT_SEC, TimeUnit.SECONDS)).isInstanceOf(ExecutionException.class)
+                        .hasCauseInstanceOf(TimeoutException.class);
+
+        // completes first - the timer should be canceled
+        CompletableFuture<String> future2 = new CompletableFuture<>();
+        scheduler.orTimeout(future2, 1, TimeUnit.HOURS);
+        future2.complete("hello");
+
+        assertEquals(1, scheduler.getCancelledCount());
+        assertEquals(0, scheduler.getPendingCount());
+
+        // already done - nothing scheduled
+        long scheduled = scheduler.getScheduledCount();
+        scheduler.orTimeout(CompletableFuture.completedFuture("world"), 1, TimeUnit.HOURS);
+        assertEquals(scheduled, scheduler.getScheduledCount());
+    }
+
+    @Test
+    void testSleep() throws Exception {
+        long start = System.nanoTime();
+
+        CompletableFuture<Void> future = scheduler.sleep(10, TimeUnit.MILLISECONDS);
+        assertNull(future.get(WAIT_SEC, TimeUnit.SECONDS));
+        assertThat(System.nanoTime() - start).isGreaterThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(10));
+
+        // canceling the future cancels the timer
+        future = scheduler.sleep(1, TimeUnit.HOURS);
+        future.cancel(false);
+
+        assertEquals(1, scheduler.getCancelledCount());
+        assertEquals(0, scheduler.getPendingCount());
+    }
+
+    @Test
+    void testManyTimers() throws InterruptedException {
+        final int ntimers = 10000;
+        CountDownLatch latch = new CountDownLatch(ntimers / 2);
+
+        List<Timeout> timeouts = new ArrayList<>(ntimers);
+        for (var count = 0; count < ntimers; ++count) {
+            timeouts.add(scheduler.schedule(latch::countDown, count % 50, TimeUnit.MILLISECONDS));
+        }
+
+        // cancel every other one
+        var ncanceled = 0;
+        for (var count = 0; count < ntimers; count += 2) {
+            if (timeouts.get(count).cancel()) {
+                ++ncanceled;
+            }
+        }
+
+        assertTrue(latch.await(WAIT_SEC, TimeUnit.SECONDS));
+
+        assertEquals(ntimers, scheduler.getScheduledCount());
+        assertEquals(ncanceled, scheduler.getCancelledCount());
+    }
+}
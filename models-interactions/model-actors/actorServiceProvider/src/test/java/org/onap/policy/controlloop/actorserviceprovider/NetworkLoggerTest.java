@@ -0,0 +1,242 @@
+/*-
+ * ============LICENSE_START=======================================================
+ *  Copyright (C) 2026 Nordix Foundation.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.controlloop.actorserviceprovider;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.onap.policy.common.message.bus.event.Topic.CommInfrastructure;
+import org.onap.policy.common.message.bus.utils.NetLoggerUtil.EventType;
+import org.onap.policy.common.utils.test.log.logback.ExtractAppender;
+import org.onap.policy.controlloop.actorserviceprovider.parameters.NetworkLogParams;
+import org.slf4j.LoggerFactory;
+
+class NetworkLoggerTest {
+    private static final CommInfrastructure INFRA = CommInfrastructure.REST;
+    private static final String SOURCE = "my-source";
+    private static final String TEXT = "hello";
+    private static final String RENDERED = "rendered-text";
+
+    private static final Logger logger = (Logger) LoggerFactory.getLogger(NetworkLoggerTest.class);
+    private static final ExtractAppender appender = new ExtractAppender();
+
+    private AtomicInteger renderCount;
+    private Function<Object, String> renderer;
+
+    /**
+     * Attaches the appender to the logger.
+     */
+    @BeforeAll
+    static void setUpBeforeClass() {
+        appender.setContext(logger.getLoggerContext());
+        appender.start();
+
+        logger.addAppender(appender);
+    }
+
+    /**
+     * Stops the appender.
+     */
+    @AfterAll
+    static void tearDownAfterClass() {
+        appender.stop();
+    }
+
+    /**
+     * Sets up.
+     */
+    @BeforeEach
+    void setUp() {
+        appender.clearExtractions();
+        logger.setLevel(Level.INFO);
+
+        renderCount = new AtomicInteger();
+        renderer = message -> {
+            renderCount.incrementAndGet();
+            return RENDERED;
+        };
+    }
+
+    @AfterEach
+    void tearDown() {
+        logger.setLevel(null);
+    }
+
+    @Test
+    void testGetInstance() {
+        assertSame(NetworkLogger.getInstance(), NetworkLogger.getInstance());
+        assertEquals(NetworkLogger.Level.FULL, NetworkLogger.getInstance().getLevel());
+    }
+
+    @Test
+    void testOff() {
+        NetworkLogger netlog = new NetworkLogger(NetworkLogger.Level.OFF, 1, 0);
+
+        assertNull(netlog.log(logger, true, EventType.OUT, INFRA, SOURCE, TEXT, renderer));
+        assertEquals(0, renderCount.get());
+        assertTrue(appender.getExtracted().isEmpty());
+    }
+
+    @Test
+    void testFull() {
+        NetworkLogger netlog = new NetworkLogger(NetworkLogger.Level.FULL, 1, 0);
+
+        assertEquals(RENDERED, netlog.log(logger, false, EventType.OUT, INFRA, SOURCE, TEXT, renderer));
+        assertEquals(1, renderCount.get());
+
+        List<String> output = appender.getExtracted();
+        assertEquals(1, output.size());
+        assertThat(output.get(0)).contains("OUT").contains(INFRA.toString()).contains(SOURCE).contains(RENDERED);
+    }
+
+    @Test
+    void testLoggerDisabled() {
+        logger.setLevel(Level.WARN);
+        NetworkLogger netlog = new NetworkLogger(NetworkLogger.Level.FULL, 1, 0);
+
+        assertNull(netlog.log(logger, false, EventType.IN, INFRA, SOURCE, TEXT, renderer));
+        assertEquals(0, renderCount.get());
+    }
+
+    @Test
+    void testSummary() {
+        NetworkLogger netlog = new NetworkLogger(NetworkLogger.Level.SUMMARY, 1, 0);
+
+        assertNull(netlog.log(logger, false, EventType.IN, INFRA, SOURCE, TEXT, renderer));
+        assertNull(netlog.log(logger, false, EventType.IN, INFRA, SOURCE, new MyData(), renderer));
+        assertNull(netlog.log(logger, false, EventType.IN, INFRA, SOURCE, null, renderer));
+        assertEquals(0, renderCount.get());
+
+        List<String> output = appender.getExtracted();
+        assertEquals(3, output.size());
+        assertThat(output.get(0)).contains("IN").contains(SOURCE).contains("<5 characters>");
+        assertThat(output.get(1)).contains("<MyData>");
+        assertThat(output.get(2)).contains("null");
+    }
+
+    @Test
+    void testSampled() {
+        NetworkLogger netlog = new NetworkLogger(NetworkLogger.Level.SAMPLED, 3, 0);
+
+        for (var count = 0; count < 6; ++count) {
+            netlog.log(logger, false, EventType.OUT, INFRA, SOURCE, TEXT, renderer);
+        }
+
+        assertEquals(2, renderCount.get());
+
+        List<String> output = appender.getExtracted();
+        assertEquals(6, output.size());
+        assertThat(output.get(0)).contains(RENDERED);
+        assertThat(output.get(1)).contains("<5 characters>");
+        assertThat(output.get(3)).contains(RENDERED);
+    }
+
+    @Test
+    void testQueued() {
+        NetworkLogger netlog = new NetworkLogger(NetworkLogger.Level.FULL, 1, 10);
+
+        // still rendered on the calling thread
+        assertEquals(RENDERED, netlog.log(logger, false, EventType.OUT, INFRA, SOURCE, TEXT, renderer));
+        assertEquals(1, renderCount.get());
+
+        long deadline = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(10);
+        while (appender.getExtracted().isEmpty() && System.currentTimeMillis() < deadline) {
+            Thread.onSpinWait();
+        }
+
+        assertThat(appender.getExtracted()).hasSize(1);
+        assertEquals(0, netlog.getDropCount());
+    }
+
+    @Test
+    void testQueueFull() {
+        NetworkLogger netlog = new NetworkLogger(NetworkLogger.Level.FULL, 1, 2) {
+            @Override
+            protected Thread makeThread(Runnable runnable) {
+                // never drains, so the queue stays full
+                return new Thread(() -> { });
+            }
+        };
+
+        for (var count = 0; count < 5; ++count) {
+            netlog.log(logger, false, EventType.OUT, INFRA, SOURCE, TEXT, renderer);
+        }
+
+        assertEquals(3, netlog.getDropCount());
+        assertTrue(appender.getExtracted().isEmpty());
+    }
+
+    @Test
+    void testConfigure() {
+        NetworkLogger netlog = new NetworkLogger(NetworkLogger.Level.FULL, 1, 10);
+        assertEquals(RENDERED, netlog.log(logger, false, EventType.OUT, INFRA, SOURCE, TEXT, renderer));
+
+        // switch to summaries, written on the calling thread
+        var params = new NetworkLogParams();
+        params.setLevel(NetworkLogger.Level.SUMMARY);
+        netlog.configure(params);
+        assertEquals(NetworkLogger.Level.SUMMARY, netlog.getLevel());
+
+        assertNull(netlog.log(logger, false, EventType.OUT, INFRA, SOURCE, TEXT, renderer));
+        assertEquals(1, renderCount.get());
+
+        // the message that was queued before is still written
+        waitForMessages(2);
+        assertThat(appender.getExtracted()).hasSize(2).anyMatch(text -> text.contains(RENDERED))
+                        .anyMatch(text -> text.contains("<5 characters>"));
+
+        // switch to sampling
+        params.setLevel(NetworkLogger.Level.SAMPLED);
+        params.setSampleRate(2);
+        netlog.configure(params);
+
+        for (var count = 0; count < 4; ++count) {
+            netlog.log(logger, false, EventType.OUT, INFRA, SOURCE, TEXT, renderer);
+        }
+
+        assertEquals(3, renderCount.get());
+        assertThat(appender.getExtracted()).hasSize(6);
+    }
+
+    private void waitForMessages(int count) {
+        long deadline = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(10);
+        while (appender.getExtracted().size() < count && System.currentTimeMillis() < deadline) {
+            Thread.onSpinWait();
+        }
+    }
+
+    private static class MyData {
+    }
+}
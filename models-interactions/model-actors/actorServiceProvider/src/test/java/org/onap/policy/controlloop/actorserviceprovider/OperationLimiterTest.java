@@ -0,0 +1,314 @@
+/*-
+ * ============LICENSE_START=======================================================
+ *  Copyright (C) 2026 Nordix Foundation.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.controlloop.actorserviceprovider;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.onap.policy.controlloop.actorserviceprovider.OperationLimiter.Permit;
+import org.onap.policy.controlloop.actorserviceprovider.OperationScheduler.Timeout;
+import org.onap.policy.controlloop.actorserviceprovider.parameters.BulkheadParams;
+
+class OperationLimiterTest {
+    private static final String ACTOR = "my-actor";
+    private static final String OPERATION = "my-operation";
+    private static final String TARGET1 = "target-A";
+    private static final String TARGET2 = "target-B";
+
+    /**
+     * Tasks scheduled via the scheduler, which are only run when the test says so.
+     */
+    private List<Runnable> timers;
+
+    private OperationLimiter limiter;
+    private BulkheadParams params;
+
+    /**
+     * Sets up.
+     */
+    @BeforeEach
+    void setUp() {
+        timers = new ArrayList<>();
+        limiter = new OperationLimiter(this::schedule);
+
+        params = new BulkheadParams();
+        params.setMaxQueued(2);
+    }
+
+    @Test
+    void testGetInstance() {
+        assertSame(OperationLimiter.getInstance(), OperationLimiter.getInstance());
+        assertNull(new OperationLimiter().acquire(ACTOR, OPERATION, TARGET1));
+    }
+
+    @Test
+    void testConfigure() {
+        // unknown operation
+        assertNull(limiter.acquire(ACTOR, OPERATION, TARGET1));
+
+        // no limits
+        limiter.configure(ACTOR, OPERATION, params);
+        assertNull(limiter.acquire(ACTOR, OPERATION, TARGET1));
+
+        params.setMaxConcurrent(1);
+        limiter.configure(ACTOR, OPERATION, params);
+        assertTrue(limiter.acquire(ACTOR, OPERATION, TARGET1).isDone());
+
+        // the limit has been reached
+        assertFalse(limiter.acquire(ACTOR, OPERATION, TARGET1).isDone());
+
+        // other operations are unaffected
+        assertNull(limiter.acquire(ACTOR, "other-operation", TARGET1));
+
+        // new limits start afresh
+        limiter.configure(ACTOR, OPERATION, params);
+        assertTrue(limiter.acquire(ACTOR, OPERATION, TARGET1).isDone());
+
+        // removed
+        limiter.configure(ACTOR, OPERATION, null);
+        assertNull(limiter.acquire(ACTOR, OPERATION, TARGET1));
+    }
+
+    @Test
+    void testMaxConcurrent() throws Exception {
+        params.setMaxConcurrent(2);
+        limiter.configure(ACTOR, OPERATION, params);
+
+        Permit permit1 = acquireNow(TARGET1);
+        Permit permit2 = acquireNow(null);
+
+        // these must wait, in order
+        CompletableFuture<Permit> wait1 = limiter.acquire(ACTOR, OPERATION, TARGET2);
+        CompletableFuture<Permit> wait2 = limiter.acquire(ACTOR, OPERATION, TARGET1);
+        assertFalse(wait1.isDone());
+        assertFalse(wait2.isDone());
+
+        // the queue is full
+        assertThatThrownBy(() -> limiter.acquire(ACTOR, OPERATION, TARGET1).get())
+                        .hasCauseInstanceOf(RejectedExecutionException.class);
+
+        permit2.release();
+        assertTrue(wait1.isDone());
+        assertFalse(wait2.isDone());
+
+        // releasing again has no effect
+        permit2.release();
+        assertFalse(wait2.isDone());
+
+        permit1.release();
+        assertTrue(wait2.isDone());
+
+        // all permits are in use, so this must wait
+        CompletableFuture<Permit> wait3 = limiter.acquire(ACTOR, OPERATION, TARGET1);
+        assertFalse(wait3.isDone());
+
+        wait1.get().release();
+        assertTrue(wait3.isDone());
+    }
+
+    @Test
+    void testMaxConcurrentPerTarget() throws Exception {
+        params.setMaxConcurrentPerTarget(1);
+        limiter.configure(ACTOR, OPERATION, params);
+
+        Permit permit1 = acquireNow(TARGET1);
+
+        // other targets, and unknown targets, are not affected
+        Permit permit2 = acquireNow(TARGET2);
+        acquireNow(null);
+        acquireNow(null);
+
+        CompletableFuture<Permit> wait1 = limiter.acquire(ACTOR, OPERATION, TARGET1);
+        assertFalse(wait1.isDone());
+
+        permit2.release();
+        assertFalse(wait1.isDone());
+
+        permit1.release();
+        assertTrue(wait1.isDone());
+
+        // target is idle once this is released, and may be used again
+        wait1.get().release();
+        acquireNow(TARGET1).release();
+        acquireNow(TARGET1);
+    }
+
+    @Test
+    void testBothLimits() throws Exception {
+        params.setMaxConcurrent(2);
+        params.setMaxConcurrentPerTarget(1);
+        limiter.configure(ACTOR, OPERATION, params);
+
+        Permit permit1 = acquireNow(TARGET1);
+
+        // blocked by the target limit, thus it doesn't hold an operation permit
+        CompletableFuture<Permit> wait1 = limiter.acquire(ACTOR, OPERATION, TARGET1);
+        assertFalse(wait1.isDone());
+
+        Permit permit2 = acquireNow(TARGET2);
+
+        // blocked by the operation limit
+        CompletableFuture<Permit> wait2 = limiter.acquire(ACTOR, OPERATION, null);
+        assertFalse(wait2.isDone());
+
+        // frees the target, but the operation limit has still been reached
+        permit1.release();
+        assertFalse(wait1.isDone());
+        assertTrue(wait2.isDone());
+
+        permit2.release();
+        assertTrue(wait1.isDone());
+
+        // releases both the operation and the target
+        wait1.get().release();
+        wait2.get().release();
+        acquireNow(TARGET1);
+        acquireNow(TARGET1 + "X");
+    }
+
+    @Test
+    void testTimeout() throws Exception {
+        params.setMaxConcurrent(1);
+        params.setMaxConcurrentPerTarget(1);
+        limiter.configure(ACTOR, OPERATION, params);
+
+        Permit permit1 = acquireNow(TARGET1);
+
+        CompletableFuture<Permit> wait1 = limiter.acquire(ACTOR, OPERATION, TARGET1);
+        CompletableFuture<Permit> wait2 = limiter.acquire(ACTOR, OPERATION, TARGET2);
+        assertEquals(2, timers.size());
+
+        // time out the first
+        timers.get(0).run();
+        assertThatThrownBy(() -> wait1.get()).hasCauseInstanceOf(TimeoutException.class);
+
+        // it should no longer occupy a place in the queue
+        permit1.release();
+        assertTrue(wait2.isDone());
+
+        // timing out after the permit was granted has no effect
+        timers.get(1).run();
+        assertThat(wait2.get()).isNotNull();
+    }
+
+    @Test
+    void testCancel() throws Exception {
+        params.setMaxConcurrent(1);
+        params.setMaxConcurrentPerTarget(1);
+        params.setMaxQueued(1);
+        limiter.configure(ACTOR, OPERATION, params);
+
+        Permit permit1 = acquireNow(TARGET1);
+
+        CompletableFuture<Permit> wait1 = limiter.acquire(ACTOR, OPERATION, TARGET2);
+        wait1.cancel(false);
+
+        // should have been removed from the queue
+        CompletableFuture<Permit> wait2 = limiter.acquire(ACTOR, OPERATION, TARGET2);
+        assertFalse(wait2.isDone());
+
+        permit1.release();
+        assertTrue(wait2.isDone());
+        assertFalse(wait2.isCompletedExceptionally());
+    }
+
+    @Test
+    void testConcurrent() throws Exception {
+        final int maxConcurrent = 3;
+        final int nthreads = 8;
+        final int count = 2000;
+
+        params.setMaxConcurrent(maxConcurrent);
+        params.setMaxConcurrentPerTarget(2);
+        params.setMaxQueued(nthreads);
+        limiter.configure(ACTOR, OPERATION, params);
+
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+
+        List<CompletableFuture<Void>> futures = new ArrayList<>();
+        for (var thread = 0; thread < nthreads; ++thread) {
+            final String target = "target-" + (thread % 2);
+
+            futures.add(CompletableFuture.runAsync(() -> {
+                for (var index = 0; index < count; ++index) {
+                    Permit permit = limiter.acquire(ACTOR, OPERATION, target).join();
+
+                    maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                    running.decrementAndGet();
+
+                    permit.release();
+                }
+            }, ActorExecutors.THREAD_PER_TASK));
+        }
+
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[0])).get(10, TimeUnit.SECONDS);
+
+        assertThat(maxRunning.get()).isBetween(1, maxConcurrent);
+
+        // everything should have been released
+        for (var index = 0; index < maxConcurrent; ++index) {
+            acquireNow("target-" + index);
+        }
+    }
+
+    private Permit acquireNow(String target) throws InterruptedException, ExecutionException {
+        CompletableFuture<Permit> future = limiter.acquire(ACTOR, OPERATION, target);
+        assertTrue(future.isDone());
+        return future.get();
+    }
+
+    private Timeout schedule(Runnable task, long delay, TimeUnit unit) {
+        timers.add(task);
+
+        return new Timeout() {
+            @Override
+            public boolean cancel() {
+                return false;
+            }
+
+            @Override
+            public boolean isCancelled() {
+                return false;
+            }
+
+            @Override
+            public boolean isExpired() {
+                return false;
+            }
+        };
+    }
+}
@@ -0,0 +1,330 @@
+/*-
+ * ============LICENSE_START=======================================================
+ *  Copyright (C) 2026 Nordix Foundation.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.controlloop.actorserviceprovider;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.onap.policy.controlloop.actorserviceprovider.OperationMetrics.HistogramSnapshot;
+import org.onap.policy.controlloop.actorserviceprovider.OperationMetrics.Snapshot;
+import org.onap.policy.controlloop.actorserviceprovider.parameters.CircuitBreakerParams;
+import org.onap.policy.controlloop.actorserviceprovider.parameters.SchedulingParams;
+
+class OperationMetricsTest {
+    private static final String ACTOR = "my-actor";
+    private static final String OPERATION = "my-operation";
+    private static final String OPERATION2 = "other-operation";
+
+    private CircuitBreakerRegistry breakers;
+    private FairScheduler scheduler;
+    private OperationMetrics metrics;
+
+    @BeforeEach
+    void setUp() {
+        breakers = new CircuitBreakerRegistry();
+        scheduler = new FairScheduler();
+        metrics = new OperationMetrics(breakers, scheduler);
+    }
+
+    @Test
+    void testGetInstance() {
+        assertSame(OperationMetrics.getInstance(), OperationMetrics.getInstance());
+    }
+
+    @Test
+    void testGetBucketBoundsMs() {
+        long[] bounds = OperationMetrics.getBucketBoundsMs();
+        assertEquals(5, bounds[0]);
+
+        // returns a copy
+        assertNotSame(bounds, OperationMetrics.getBucketBoundsMs());
+    }
+
+    @Test
+    void testEmpty() {
+        assertTrue(metrics.getSnapshot().isEmpty());
+        assertThat(metrics.toPrometheus()).contains("# TYPE controlloop_operation_in_flight gauge")
+                        .doesNotContain("{");
+    }
+
+    @Test
+    void testCounters() {
+        metrics.started(ACTOR, OPERATION);
+        metrics.started(ACTOR, OPERATION);
+        metrics.started(ACTOR, OPERATION);
+        metrics.retried(ACTOR, OPERATION);
+        metrics.polled(ACTOR, OPERATION);
+        metrics.polled(ACTOR, OPERATION);
+        metrics.hedged(ACTOR, OPERATION);
+
+        metrics.completed(ACTOR, OPERATION, OperationResult.FAILURE_TIMEOUT, 7);
+        metrics.cancelled(ACTOR, OPERATION);
+
+        List<Snapshot> snapshots = metrics.getSnapshot();
+        assertEquals(1, snapshots.size());
+
+        Snapshot snapshot = snapshots.get(0);
+        assertEquals(ACTOR, snapshot.getActor());
+        assertEquals(OPERATION, snapshot.getOperation());
+        assertEquals(1, snapshot.getInFlight());
+        assertEquals(3, snapshot.getStarted());
+        assertEquals(1, snapshot.getCancelled());
+        assertEquals(1, snapshot.getRetries());
+        assertEquals(2, snapshot.getPolls());
+        assertEquals(1, snapshot.getTimeouts());
+        assertEquals(1, snapshot.getHedges());
+    }
+
+    @Test
+    void testLatencies() {
+        for (long duration : new long[] {0, 5, 6, 300000, 300001, 1000000}) {
+            metrics.started(ACTOR, OPERATION);
+            metrics.completed(ACTOR, OPERATION, OperationResult.SUCCESS, duration);
+        }
+
+        metrics.started(ACTOR, OPERATION);
+        metrics.completed(ACTOR, OPERATION, OperationResult.FAILURE, 20);
+
+        // unknown result - not recorded
+        metrics.started(ACTOR, OPERATION);
+        metrics.completed(ACTOR, OPERATION, null, 20);
+
+        Snapshot snapshot = metrics.getSnapshot().get(0);
+        assertEquals(0, snapshot.getInFlight());
+        assertEquals(0, snapshot.getTimeouts());
+        assertEquals(2, snapshot.getLatencies().size());
+
+        HistogramSnapshot success = snapshot.getLatencies().get(OperationResult.SUCCESS);
+        assertEquals(6, success.getCount());
+        assertEquals(0 + 5 + 6 + 300000 + 300001 + 1000000, success.getSumMs());
+
+        long[] expected = new long[OperationMetrics.getBucketBoundsMs().length + 1];
+        expected[0] = 2;
+        expected[1] = 1;
+        expected[expected.length - 2] = 1;
+        expected[expected.length - 1] = 2;
+        assertArrayEquals(expected, success.getBucketCounts());
+
+        HistogramSnapshot failure = snapshot.getLatencies().get(OperationResult.FAILURE);
+        assertEquals(1, failure.getCount());
+        assertEquals(1, failure.getBucketCounts()[2]);
+    }
+
+    @Test
+    void testGetLatencyPercentileMs() {
+        // unknown operation
+        assertEquals(-1, metrics.getLatencyPercentileMs(ACTOR, OPERATION, OperationResult.SUCCESS, 95));
+
+        // no successes
+        metrics.started(ACTOR, OPERATION);
+        metrics.completed(ACTOR, OPERATION, OperationResult.FAILURE, 20);
+        assertEquals(-1, metrics.getLatencyPercentileMs(ACTOR, OPERATION, OperationResult.SUCCESS, 95));
+
+        // too few samples
+        for (var count = 0; count < 19; ++count) {
+            metrics.started(ACTOR, OPERATION);
+            metrics.completed(ACTOR, OPERATION, OperationResult.SUCCESS, 200);
+        }
+        assertEquals(-1, metrics.getLatencyPercentileMs(ACTOR, OPERATION, OperationResult.SUCCESS, 95));
+
+        // the 20th is slow
+        metrics.started(ACTOR, OPERATION);
+        metrics.completed(ACTOR, OPERATION, OperationResult.SUCCESS, 2000);
+
+        assertEquals(250, metrics.getLatencyPercentileMs(ACTOR, OPERATION, OperationResult.SUCCESS, 50));
+        assertEquals(250, metrics.getLatencyPercentileMs(ACTOR, OPERATION, OperationResult.SUCCESS, 95));
+        assertEquals(2500, metrics.getLatencyPercentileMs(ACTOR, OPERATION, OperationResult.SUCCESS, 99));
+
+        // beyond the largest bucket
+        for (var count = 0; count < 20; ++count) {
+            metrics.started(ACTOR, OPERATION2);
+            metrics.completed(ACTOR, OPERATION2, OperationResult.SUCCESS, 1000000);
+        }
+        assertEquals(300000, metrics.getLatencyPercentileMs(ACTOR, OPERATION2, OperationResult.SUCCESS, 50));
+    }
+
+    @Test
+    void testGetLatencyPercentileMsWindow() {
+        AtomicLong nowMs = new AtomicLong(1_000_000_000L);
+        metrics = new OperationMetrics(breakers, scheduler) {
+            @Override
+            protected long currentTimeMs() {
+                return nowMs.get();
+            }
+        };
+
+        for (var count = 0; count < 20; ++count) {
+            metrics.started(ACTOR, OPERATION);
+            metrics.completed(ACTOR, OPERATION, OperationResult.SUCCESS, 2000);
+        }
+        assertEquals(2500, metrics.getLatencyPercentileMs(ACTOR, OPERATION, OperationResult.SUCCESS, 50));
+
+        // latency improves; the old samples still count for a while
+        nowMs.addAndGet(TimeUnit.MINUTES.toMillis(3));
+        for (var count = 0; count < 20; ++count) {
+            metrics.started(ACTOR, OPERATION);
+            metrics.completed(ACTOR, OPERATION, OperationResult.SUCCESS, 20);
+        }
+        assertEquals(2500, metrics.getLatencyPercentileMs(ACTOR, OPERATION, OperationResult.SUCCESS, 90));
+
+        // but not once they've left the window
+        nowMs.addAndGet(TimeUnit.MINUTES.toMillis(3));
+        assertEquals(25, metrics.getLatencyPercentileMs(ACTOR, OPERATION, OperationResult.SUCCESS, 90));
+
+        // nor do the new ones, eventually
+        nowMs.addAndGet(TimeUnit.MINUTES.toMillis(3));
+        assertEquals(-1, metrics.getLatencyPercentileMs(ACTOR, OPERATION, OperationResult.SUCCESS, 90));
+
+        // the totals are unaffected
+        assertEquals(40, metrics.getSnapshot().get(0).getLatencies().get(OperationResult.SUCCESS).getCount());
+    }
+
+    @Test
+    void testGetSnapshotSorted() {
+        metrics.started("z-actor", OPERATION);
+        metrics.started(ACTOR, OPERATION2);
+        metrics.started(ACTOR, OPERATION);
+
+        List<String> names = new ArrayList<>();
+        for (Snapshot snapshot : metrics.getSnapshot()) {
+            names.add(snapshot.getActor() + "." + snapshot.getOperation());
+        }
+
+        assertEquals(List.of(ACTOR + "." + OPERATION, ACTOR + "." + OPERATION2, "z-actor." + OPERATION), names);
+    }
+
+    @Test
+    void testToPrometheus() {
+        metrics.started(ACTOR, OPERATION);
+        metrics.started(ACTOR, OPERATION);
+        metrics.completed(ACTOR, OPERATION, OperationResult.SUCCESS, 30);
+        metrics.retried(ACTOR, OPERATION);
+        metrics.hedged(ACTOR, OPERATION);
+
+        // labels must be escaped
+        metrics.started("my\"actor", "my\\op\n");
+
+        String text = metrics.toPrometheus();
+
+        String labels = "{actor=\"my-actor\",operation=\"my-operation\"";
+        assertThat(text).contains("# TYPE controlloop_operation_in_flight gauge\n")
+                        .contains("controlloop_operation_in_flight" + labels + "} 1\n")
+                        .contains("# TYPE controlloop_operation_started_total counter\n")
+                        .contains("controlloop_operation_started_total" + labels + "} 2\n")
+                        .contains("controlloop_operation_retries_total" + labels + "} 1\n")
+                        .contains("controlloop_operation_polls_total" + labels + "} 0\n")
+                        .contains("controlloop_operation_hedges_total" + labels + "} 1\n")
+                        .contains("# TYPE controlloop_operation_duration_seconds histogram\n")
+                        .contains("controlloop_operation_duration_seconds_bucket" + labels
+                                        + ",result=\"SUCCESS\",le=\"0.025\"} 0\n")
+                        .contains("controlloop_operation_duration_seconds_bucket" + labels
+                                        + ",result=\"SUCCESS\",le=\"0.05\"} 1\n")
+                        .contains("controlloop_operation_duration_seconds_bucket" + labels
+                                        + ",result=\"SUCCESS\",le=\"+Inf\"} 1\n")
+                        .contains("controlloop_operation_duration_seconds_sum" + labels + ",result=\"SUCCESS\"} 0.03\n")
+                        .contains("controlloop_operation_duration_seconds_count" + labels + ",result=\"SUCCESS\"} 1\n")
+                        .contains("{actor=\"my\\\"actor\",operation=\"my\\\\op\\n\"}");
+    }
+
+    @Test
+    void testToPrometheusBreakers() {
+        var params = new CircuitBreakerParams();
+        params.setMinimumCalls(1);
+        breakers.configure(params);
+
+        breakers.getBreaker("http:my-client");
+        breakers.getBreaker("topic:my\"sink/my-source").tryAcquire().completed(true);
+        breakers.getBreaker("topic:my\"sink/my-source").tryAcquire();
+
+        String text = metrics.toPrometheus();
+
+        String topic = "{endpoint=\"topic:my\\\"sink/my-source\"} ";
+        assertThat(text).contains("# TYPE controlloop_circuit_breaker_state gauge\n")
+                        .contains("controlloop_circuit_breaker_state{endpoint=\"http:my-client\"} 0\n")
+                        .contains("controlloop_circuit_breaker_state" + topic + "1\n")
+                        .contains("# TYPE controlloop_circuit_breaker_rejected_total counter\n")
+                        .contains("controlloop_circuit_breaker_rejected_total{endpoint=\"http:my-client\"} 0\n")
+                        .contains("controlloop_circuit_breaker_rejected_total" + topic + "1\n");
+
+        // default instance uses the default registry
+        assertThat(new OperationMetrics().toPrometheus()).contains("# TYPE controlloop_circuit_breaker_state gauge");
+    }
+
+    @Test
+    void testToPrometheusScheduler() {
+        var params = new SchedulingParams();
+        params.setMaxConcurrent(1);
+        params.setMaxQueued(1);
+        scheduler.configure(params);
+
+        List<Runnable> tasks = new ArrayList<>();
+        var executor = scheduler.forClass("my\"loop", tasks::add);
+        executor.execute(() -> { });
+        executor.execute(() -> { });
+
+        String text = metrics.toPrometheus();
+
+        String labels = "{class=\"my\\\"loop\"} ";
+        assertThat(text).contains("# TYPE controlloop_scheduler_queue_depth gauge\n")
+                        .contains("controlloop_scheduler_queue_depth" + labels + "1\n")
+                        .contains("# TYPE controlloop_scheduler_dispatched_total counter\n")
+                        .contains("controlloop_scheduler_dispatched_total" + labels + "1\n")
+                        .contains("# TYPE controlloop_scheduler_rejected_total counter\n")
+                        .contains("controlloop_scheduler_rejected_total" + labels + "0\n");
+
+        // default instance uses the default scheduler
+        assertThat(new OperationMetrics().toPrometheus()).contains("# TYPE controlloop_scheduler_queue_depth gauge");
+    }
+
+    @Test
+    void testConcurrent() {
+        final int nthreads = 8;
+        final int count = 10000;
+
+        List<CompletableFuture<Void>> futures = new ArrayList<>();
+        for (var thread = 0; thread < nthreads; ++thread) {
+            futures.add(CompletableFuture.runAsync(() -> {
+                for (var index = 0; index < count; ++index) {
+                    metrics.started(ACTOR, OPERATION);
+                    metrics.completed(ACTOR, OPERATION, OperationResult.SUCCESS, index % 100);
+                }
+            }));
+        }
+
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[0])).join();
+
+        Snapshot snapshot = metrics.getSnapshot().get(0);
+        assertEquals(0, snapshot.getInFlight());
+        assertEquals(nthreads * count, snapshot.getStarted());
+        assertEquals(nthreads * count, snapshot.getLatencies().get(OperationResult.SUCCESS).getCount());
+    }
+}
@@ -0,0 +1,398 @@
+/*-
+ * ============LICENSE_START=======================================================
+ *  Copyright (C) 2026 Nordix Foundation.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.controlloop.actorserviceprovider;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class ResponseCacheTest {
+    private static final String KEY = "my-key";
+    private static final String KEY2 = "my-key-2";
+    private static final String MESSAGE = "my-message";
+    private static final String RESPONSE = "my-response";
+    private static final long TTL_MS = 1000;
+
+    private static final Predicate<OperationOutcome> SUCCESS =
+                    outcome -> outcome.getResult() == OperationResult.SUCCESS;
+    private static final Predicate<OperationOutcome> NEVER = outcome -> false;
+
+    private long currentNs;
+    private AtomicInteger requests;
+    private CompletableFuture<OperationOutcome> pending;
+    private ResponseCache cache;
+
+    /**
+     * Sets up.
+     */
+    @BeforeEach
+    void setUp() {
+        currentNs = 0;
+        requests = new AtomicInteger();
+        pending = new CompletableFuture<>();
+        cache = new MyCache(true);
+    }
+
+    @Test
+    void testMissThenHit() throws Exception {
+        OperationOutcome outcome1 = new OperationOutcome();
+        CompletableFuture<OperationOutcome> future1 = cache.get(KEY, outcome1, makeRequester(), SUCCESS);
+        assertFalse(future1.isDone());
+        complete(outcome1, OperationResult.SUCCESS);
+        assertSame(outcome1, future1.get());
+
+        OperationOutcome outcome2 = new OperationOutcome();
+        CompletableFuture<OperationOutcome> future2 = cache.get(KEY, outcome2, makeRequester(), SUCCESS);
+        assertTrue(future2.isDone());
+        assertSame(outcome2, future2.get());
+        assertEquals(OperationResult.SUCCESS, outcome2.getResult());
+        assertEquals(MESSAGE, outcome2.getMessage());
+        assertEquals(RESPONSE, outcome2.getResponse());
+
+        assertEquals(1, requests.get());
+        assertEquals(1, cache.getMissCount());
+        assertEquals(1, cache.getHitCount());
+        assertEquals(0, cache.getCoalesceCount());
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    void testCoalesce() throws Exception {
+        OperationOutcome outcome1 = new OperationOutcome();
+        cache.get(KEY, outcome1, makeRequester(), SUCCESS);
+
+        OperationOutcome outcome2 = new OperationOutcome();
+        CompletableFuture<OperationOutcome> future2 = cache.get(KEY, outcome2, makeRequester(), SUCCESS);
+        assertFalse(future2.isDone());
+
+        complete(outcome1, OperationResult.SUCCESS);
+
+        assertSame(outcome2, future2.get());
+        assertEquals(RESPONSE, outcome2.getResponse());
+
+        assertEquals(1, requests.get());
+        assertEquals(1, cache.getCoalesceCount());
+    }
+
+    @Test
+    void testCopier() throws Exception {
+        cache = new MyCache(true, response -> new StringBuilder(String.valueOf(response)));
+
+        OperationOutcome outcome1 = new OperationOutcome();
+        CompletableFuture<OperationOutcome> future1 = cache.get(KEY, outcome1, makeRequester(), SUCCESS);
+
+        OperationOutcome outcome2 = new OperationOutcome();
+        CompletableFuture<OperationOutcome> future2 = cache.get(KEY, outcome2, makeRequester(), SUCCESS);
+
+        complete(outcome1, OperationResult.SUCCESS);
+
+        // the issuer gets the original response, the others get copies
+        assertSame(outcome1, future1.get());
+        assertSame(RESPONSE, outcome1.getResponse());
+
+        assertSame(outcome2, future2.get());
+        assertEquals(RESPONSE, outcome2.getResponse().toString());
+
+        // changes made by the callers are not seen by later callers
+        outcome1.setResponse("other-response");
+        ((StringBuilder) outcome2.getResponse()).append("-changed");
+
+        OperationOutcome outcome3 = new OperationOutcome();
+        assertSame(outcome3, cache.get(KEY, outcome3, makeRequester(), SUCCESS).get());
+        assertEquals(RESPONSE, outcome3.getResponse().toString());
+        assertNotSame(outcome2.getResponse(), outcome3.getResponse());
+
+        assertEquals(1, requests.get());
+    }
+
+    @Test
+    void testCoalesceNotCacheable() throws Exception {
+        OperationOutcome outcome1 = new OperationOutcome();
+        cache.get(KEY, outcome1, makeRequester(), NEVER);
+
+        OperationOutcome outcome2 = new OperationOutcome();
+        CompletableFuture<OperationOutcome> future2 = cache.get(KEY, outcome2, makeRequester(), NEVER);
+        assertFalse(future2.isDone());
+
+        // waiting requests still get the outcome, but it isn't kept
+        complete(outcome1, OperationResult.SUCCESS);
+        assertSame(outcome2, future2.get());
+        assertEquals(OperationResult.SUCCESS, outcome2.getResult());
+        assertEquals(0, cache.size());
+
+        pending = new CompletableFuture<>();
+        assertFalse(cache.get(KEY, new OperationOutcome(), makeRequester(), NEVER).isDone());
+
+        assertEquals(2, requests.get());
+        assertEquals(1, cache.getCoalesceCount());
+    }
+
+    @Test
+    void testCancelWaiter() throws Exception {
+        OperationOutcome outcome1 = new OperationOutcome();
+        CompletableFuture<OperationOutcome> future1 = cache.get(KEY, outcome1, makeRequester(), SUCCESS);
+
+        OperationOutcome outcome2 = new OperationOutcome();
+        CompletableFuture<OperationOutcome> future2 = cache.get(KEY, outcome2, makeRequester(), SUCCESS);
+
+        // the caller that issued the request cancels, but the other is still waiting
+        future1.cancel(false);
+        assertFalse(pending.isCancelled());
+        assertFalse(future2.isDone());
+
+        complete(outcome1, OperationResult.SUCCESS);
+        assertSame(outcome2, future2.get());
+        assertEquals(OperationResult.SUCCESS, outcome2.getResult());
+        assertEquals(1, cache.size());
+
+        // canceling a completed request has no effect
+        OperationOutcome outcome3 = new OperationOutcome();
+        cache.get(KEY, outcome3, makeRequester(), SUCCESS).cancel(false);
+        assertEquals(1, cache.size());
+        assertEquals(1, requests.get());
+    }
+
+    @Test
+    void testCancelAllWaiters() throws Exception {
+        CompletableFuture<OperationOutcome> future1 = cache.get(KEY, new OperationOutcome(), makeRequester(), SUCCESS);
+        CompletableFuture<OperationOutcome> future2 = cache.get(KEY, new OperationOutcome(), makeRequester(), SUCCESS);
+
+        future2.cancel(false);
+        assertFalse(pending.isCancelled());
+
+        // once no one is waiting, the request is canceled and discarded
+        future1.cancel(false);
+        assertTrue(pending.isCancelled());
+        assertEquals(0, cache.size());
+
+        // thus the next request is issued anew
+        CompletableFuture<OperationOutcome> cancelled = pending;
+        pending = new CompletableFuture<>();
+        OperationOutcome outcome3 = new OperationOutcome();
+        CompletableFuture<OperationOutcome> future3 = cache.get(KEY, outcome3, makeRequester(), SUCCESS);
+        assertEquals(2, requests.get());
+        assertTrue(cancelled.isCancelled());
+
+        complete(outcome3, OperationResult.SUCCESS);
+        assertSame(outcome3, future3.get());
+    }
+
+    @Test
+    void testFailureNotCached() throws Exception {
+        OperationOutcome outcome1 = new OperationOutcome();
+        cache.get(KEY, outcome1, makeRequester(), SUCCESS);
+
+        // waiting requests still see the failure
+        OperationOutcome outcome2 = new OperationOutcome();
+        CompletableFuture<OperationOutcome> future2 = cache.get(KEY, outcome2, makeRequester(), SUCCESS);
+
+        complete(outcome1, OperationResult.FAILURE);
+        assertEquals(OperationResult.FAILURE, future2.get().getResult());
+        assertEquals(0, cache.size());
+
+        // next request is re-issued
+        pending = new CompletableFuture<>();
+        cache.get(KEY, new OperationOutcome(), makeRequester(), SUCCESS);
+        assertEquals(2, requests.get());
+    }
+
+    @Test
+    void testException() {
+        OperationOutcome outcome1 = new OperationOutcome();
+        cache.get(KEY, outcome1, makeRequester(), SUCCESS);
+
+        OperationOutcome outcome2 = new OperationOutcome();
+        CompletableFuture<OperationOutcome> future2 = cache.get(KEY, outcome2, makeRequester(), SUCCESS);
+
+        pending.completeExceptionally(new IllegalStateException("expected exception"));
+        assertThatThrownBy(future2::get).isInstanceOf(ExecutionException.class)
+                        .hasCauseInstanceOf(IllegalStateException.class);
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void testRequesterThrows() {
+        OperationOutcome outcome = new OperationOutcome();
+        Supplier<CompletableFuture<OperationOutcome>> requester = () -> {
+            throw new IllegalArgumentException("expected exception");
+        };
+
+        assertThatThrownBy(() -> cache.get(KEY, outcome, requester, SUCCESS))
+                        .isInstanceOf(IllegalArgumentException.class);
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void testNoCoalesce() throws Exception {
+        cache = new MyCache(false);
+
+        // identical, outstanding requests are each issued
+        OperationOutcome outcome1 = new OperationOutcome();
+        CompletableFuture<OperationOutcome> future1 = cache.get(KEY, outcome1, makeRequester(), SUCCESS);
+        assertSame(pending, future1);
+
+        CompletableFuture<OperationOutcome> pending1 = pending;
+        pending = new CompletableFuture<>();
+        OperationOutcome outcome2 = new OperationOutcome();
+        assertSame(pending, cache.get(KEY, outcome2, makeRequester(), SUCCESS));
+        assertEquals(0, cache.size());
+
+        // an outcome that isn't cacheable is not kept
+        complete(outcome2, OperationResult.FAILURE);
+        assertEquals(0, cache.size());
+
+        // but a cacheable one is reused by later requests
+        pending = pending1;
+        complete(outcome1, OperationResult.SUCCESS);
+        assertEquals(1, cache.size());
+
+        OperationOutcome outcome3 = new OperationOutcome();
+        CompletableFuture<OperationOutcome> future3 = cache.get(KEY, outcome3, makeRequester(), SUCCESS);
+        assertTrue(future3.isDone());
+        assertSame(outcome3, future3.get());
+        assertEquals(OperationResult.SUCCESS, outcome3.getResult());
+
+        // exceptions are not kept
+        pending = new CompletableFuture<>();
+        cache.get(KEY2, new OperationOutcome(), makeRequester(), SUCCESS);
+        pending.completeExceptionally(new IllegalStateException("expected exception"));
+        assertEquals(1, cache.size());
+
+        assertEquals(3, requests.get());
+        assertEquals(3, cache.getMissCount());
+        assertEquals(1, cache.getHitCount());
+        assertEquals(0, cache.getCoalesceCount());
+    }
+
+    @Test
+    void testNoCoalesceEvict() {
+        cache = new MyCache(false);
+
+        for (var count = 0; count < 4; ++count) {
+            pending = new CompletableFuture<>();
+            OperationOutcome outcome = new OperationOutcome();
+            cache.get(KEY + count, outcome, makeRequester(), SUCCESS);
+            complete(outcome, OperationResult.SUCCESS);
+            ++currentNs;
+        }
+
+        // the two entries that expire soonest are discarded
+        assertEquals(2, cache.size());
+        assertTrue(cache.get(KEY + 3, new OperationOutcome(), makeRequester(), SUCCESS).isDone());
+    }
+
+    @Test
+    void testExpiry() {
+        OperationOutcome outcome1 = new OperationOutcome();
+        cache.get(KEY, outcome1, makeRequester(), SUCCESS);
+        complete(outcome1, OperationResult.SUCCESS);
+
+        currentNs += TimeUnit.MILLISECONDS.toNanos(TTL_MS - 1);
+        cache.get(KEY, new OperationOutcome(), makeRequester(), SUCCESS);
+        assertEquals(1, requests.get());
+
+        currentNs += TimeUnit.MILLISECONDS.toNanos(1);
+        pending = new CompletableFuture<>();
+        assertFalse(cache.get(KEY, new OperationOutcome(), makeRequester(), SUCCESS).isDone());
+        assertEquals(2, requests.get());
+    }
+
+    @Test
+    void testEvict() {
+        // fill the cache, each entry expiring later than the last
+        for (var count = 0; count < 3; ++count) {
+            pending = new CompletableFuture<>();
+            OperationOutcome outcome = new OperationOutcome();
+            cache.get(KEY + count, outcome, makeRequester(), SUCCESS);
+            complete(outcome, OperationResult.SUCCESS);
+            ++currentNs;
+        }
+
+        // an outstanding request is never evicted; the two that expire soonest are
+        pending = new CompletableFuture<>();
+        cache.get(KEY2, new OperationOutcome(), makeRequester(), SUCCESS);
+        assertEquals(2, cache.size());
+
+        pending = new CompletableFuture<>();
+        assertFalse(cache.get(KEY + 0, new OperationOutcome(), makeRequester(), SUCCESS).isDone());
+        assertEquals(5, requests.get());
+        assertTrue(cache.get(KEY + 2, new OperationOutcome(), makeRequester(), SUCCESS).isDone());
+    }
+
+    @Test
+    void testEvictExpired() {
+        for (var count = 0; count < 3; ++count) {
+            pending = new CompletableFuture<>();
+            OperationOutcome outcome = new OperationOutcome();
+            cache.get(KEY + count, outcome, makeRequester(), SUCCESS);
+            complete(outcome, OperationResult.SUCCESS);
+        }
+
+        currentNs += TimeUnit.MILLISECONDS.toNanos(TTL_MS);
+
+        pending = new CompletableFuture<>();
+        cache.get(KEY2, new OperationOutcome(), makeRequester(), SUCCESS);
+
+        assertEquals(1, cache.size());
+    }
+
+    private Supplier<CompletableFuture<OperationOutcome>> makeRequester() {
+        return () -> {
+            requests.incrementAndGet();
+            return pending;
+        };
+    }
+
+    private void complete(OperationOutcome outcome, OperationResult result) {
+        outcome.setResult(result);
+        outcome.setMessage(MESSAGE);
+        outcome.setResponse(RESPONSE);
+        pending.complete(outcome);
+    }
+
+    private class MyCache extends ResponseCache {
+        MyCache(boolean coalesce) {
+            super(TTL_MS, 3, coalesce);
+        }
+
+        MyCache(boolean coalesce, UnaryOperator<Object> copier) {
+            super(TTL_MS, 3, coalesce, copier);
+        }
+
+        @Override
+        protected long currentTimeNs() {
+            return currentNs;
+        }
+    }
+}
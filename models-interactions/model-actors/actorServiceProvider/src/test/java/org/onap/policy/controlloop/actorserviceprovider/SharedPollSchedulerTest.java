@@ -0,0 +1,200 @@
+/*-
+ * ============LICENSE_START=======================================================
+ *  Copyright (C) 2026 Nordix Foundation.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.controlloop.actorserviceprovider;
+
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.onap.policy.controlloop.actorserviceprovider.OperationScheduler.Timeout;
+
+class SharedPollSchedulerTest {
+    private static final String URL1 = "http://server-A/";
+    private static final String URL2 = "http://server-B/";
+    private static final long SLOT_MS = 100;
+
+    /**
+     * Tasks scheduled via the scheduler, which are only run when the test says so.
+     */
+    private List<Runnable> tasks;
+    private List<Long> delays;
+    private List<MyTimeout> timeouts;
+
+    private long timeMs;
+    private SharedPollScheduler polls;
+
+    /**
+     * Sets up.
+     */
+    @BeforeEach
+    void setUp() {
+        tasks = new ArrayList<>();
+        delays = new ArrayList<>();
+        timeouts = new ArrayList<>();
+        timeMs = 1050;
+
+        polls = new SharedPollScheduler(this::schedule, SLOT_MS) {
+            @Override
+            protected long currentTimeMs() {
+                return timeMs;
+            }
+        };
+    }
+
+    @Test
+    void testConstructor() {
+        assertSame(SharedPollScheduler.getInstance(), SharedPollScheduler.getInstance());
+
+        assertThatIllegalArgumentException().isThrownBy(() -> new SharedPollScheduler(this::schedule, 0));
+    }
+
+    @Test
+    void testScheduleNoDelay() {
+        assertTrue(polls.schedule(URL1, 0).isDone());
+        assertTrue(polls.schedule(URL1, -1).isDone());
+
+        assertTrue(tasks.isEmpty());
+        assertEquals(2, polls.getPollCount());
+        assertEquals(0, polls.getTimerCount());
+    }
+
+    @Test
+    void testScheduleCoalesced() {
+        // both due in the slot ending at 1200
+        CompletableFuture<Void> poll1 = polls.schedule(URL1, 60);
+        timeMs += 20;
+        CompletableFuture<Void> poll2 = polls.schedule(URL1, 100);
+
+        assertEquals(1, tasks.size());
+        assertEquals(List.of(150L), delays);
+
+        // different server
+        CompletableFuture<Void> poll3 = polls.schedule(URL2, 60);
+
+        // different slot
+        CompletableFuture<Void> poll4 = polls.schedule(URL1, 200);
+
+        assertEquals(3, tasks.size());
+        assertEquals(4, polls.getPollCount());
+        assertEquals(3, polls.getTimerCount());
+
+        tasks.get(0).run();
+        assertTrue(poll1.isDone());
+        assertTrue(poll2.isDone());
+        assertFalse(poll3.isDone());
+        assertFalse(poll4.isDone());
+
+        // slot was removed once it fired, so this gets a new one
+        CompletableFuture<Void> poll5 = polls.schedule(URL1, 60);
+        assertFalse(poll5.isDone());
+        assertEquals(4, tasks.size());
+    }
+
+    @Test
+    void testScheduleCancel() {
+        CompletableFuture<Void> poll1 = polls.schedule(URL1, 60);
+        CompletableFuture<Void> poll2 = polls.schedule(URL1, 60);
+
+        // canceling one should not affect the other
+        poll1.cancel(false);
+        assertFalse(poll2.isDone());
+
+        tasks.get(0).run();
+        assertTrue(poll2.isDone());
+        assertFalse(poll2.isCompletedExceptionally());
+        assertFalse(timeouts.get(0).isCancelled());
+    }
+
+    @Test
+    void testScheduleCancelAll() {
+        CompletableFuture<Void> poll1 = polls.schedule(URL1, 60);
+        CompletableFuture<Void> poll2 = polls.schedule(URL1, 60);
+
+        // the timer is canceled once no poll is waiting for the slot
+        poll1.cancel(false);
+        assertFalse(timeouts.get(0).isCancelled());
+        poll2.cancel(false);
+        assertTrue(timeouts.get(0).isCancelled());
+
+        // thus a new poll for the same slot gets a new timer
+        CompletableFuture<Void> poll3 = polls.schedule(URL1, 60);
+        assertEquals(2, tasks.size());
+        assertEquals(2, polls.getTimerCount());
+
+        tasks.get(1).run();
+        assertTrue(poll3.isDone());
+        assertFalse(poll3.isCompletedExceptionally());
+    }
+
+    @Test
+    void testScheduleNotCoalesced() {
+        CompletableFuture<Void> poll1 = polls.schedule(URL1, 60, false);
+        CompletableFuture<Void> poll2 = polls.schedule(URL1, 70, false);
+
+        // each gets its own timer, with its exact delay
+        assertEquals(List.of(60L, 70L), delays);
+        assertEquals(2, polls.getTimerCount());
+
+        tasks.get(1).run();
+        assertFalse(poll1.isDone());
+        assertTrue(poll2.isDone());
+
+        poll1.cancel(false);
+        assertTrue(timeouts.get(0).isCancelled());
+    }
+
+    private Timeout schedule(Runnable task, long delay, TimeUnit unit) {
+        tasks.add(task);
+        delays.add(unit.toMillis(delay));
+
+        var timeout = new MyTimeout();
+        timeouts.add(timeout);
+        return timeout;
+    }
+
+    private static class MyTimeout implements Timeout {
+        private boolean cancelled;
+
+        @Override
+        public boolean cancel() {
+            cancelled = true;
+            return true;
+        }
+
+        @Override
+        public boolean isCancelled() {
+            return cancelled;
+        }
+
+        @Override
+        public boolean isExpired() {
+            return false;
+        }
+    }
+}
@@ -3,7 +3,7 @@
  * ONAP
  * ================================================================================
  * Copyright (C) 2020 AT&T Intellectual Property. All rights reserved.
- * Modifications Copyright (C) 2024-2025 Nordix Foundation
+ * Modifications Copyright (C) 2024-2026 Nordix Foundation
  * ================================================================================
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -28,7 +28,9 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.times;
@@ -42,8 +44,10 @@ import org.junit.jupiter.api.Test;
 import org.onap.policy.common.parameters.ObjectValidationResult;
 import org.onap.policy.common.parameters.ValidationStatus;
 import org.onap.policy.controlloop.actorserviceprovider.Operation;
+import org.onap.policy.controlloop.actorserviceprovider.OperationLimiter;
 import org.onap.policy.controlloop.actorserviceprovider.Operator;
 import org.onap.policy.controlloop.actorserviceprovider.parameters.ActorParams;
+import org.onap.policy.controlloop.actorserviceprovider.parameters.BulkheadParams;
 import org.onap.policy.controlloop.actorserviceprovider.parameters.ControlLoopOperationParams;
 import org.onap.policy.controlloop.actorserviceprovider.parameters.ParameterValidationRuntimeException;
 
@@ -325,6 +329,51 @@ class ActorImplTest {
         verify(oper5, never()).start();
     }
 
+    /**
+     * Tests doConfigure() with concurrency limits, specified by the actor and by an
+     * operation.
+     */
+    @Test
+    void testDoConfigureLimits() {
+        OperationLimiter limiter = mock(OperationLimiter.class);
+
+        actor = new ActorImpl(ACTOR_NAME) {
+            @Override
+            protected OperationLimiter getLimiter() {
+                return limiter;
+            }
+        };
+
+        actor.addOperator(oper1);
+        actor.addOperator(oper2);
+        actor.addOperator(oper3);
+
+        // actor defaults, overridden by one operation, and invalid for another
+        params = Map.of(ActorParams.BULKHEAD_FIELD, Map.of("maxConcurrent", 5),
+                        ActorParams.OPERATIONS_FIELD, Map.of(OPER1, sub1,
+                                        OPER2, Map.of(ActorParams.BULKHEAD_FIELD, Map.of("maxConcurrentPerTarget", 2)),
+                                        OPER3, Map.of(ActorParams.BULKHEAD_FIELD, Map.of("maxQueued", -1))));
+
+        actor.configure(params);
+
+        BulkheadParams expected1 = new BulkheadParams();
+        expected1.setMaxConcurrent(5);
+        verify(limiter).configure(ACTOR_NAME, OPER1, expected1);
+
+        BulkheadParams expected2 = new BulkheadParams();
+        expected2.setMaxConcurrentPerTarget(2);
+        verify(limiter).configure(ACTOR_NAME, OPER2, expected2);
+
+        // invalid limits leave both the operator and its limits as they were
+        verify(limiter, never()).configure(eq(ACTOR_NAME), eq(OPER3), any());
+        verify(oper3, never()).configure(any());
+        assertFalse(oper3.isConfigured());
+
+        // no limits
+        actor.configure(Map.of(ActorParams.OPERATIONS_FIELD, Map.of(OPER1, sub1)));
+        verify(limiter).configure(ACTOR_NAME, OPER1, null);
+    }
+
     /**
      * Arranges for an operator to throw a validation exception when
      * {@link Operator#configure(Object)} is invoked.
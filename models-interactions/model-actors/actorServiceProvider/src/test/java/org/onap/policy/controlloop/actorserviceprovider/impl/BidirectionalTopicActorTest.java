@@ -28,9 +28,12 @@ import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import java.util.Properties;
 import java.util.TreeMap;
@@ -180,6 +183,50 @@ class BidirectionalTopicActorTest {
             .isInstanceOf(ParameterValidationRuntimeException.class);
     }
 
+    @Test
+    void testMakeOperatorParametersAsyncForwarding() {
+        BidirectionalTopicActorParams params = makeParams();
+        params.setAsyncForwarding(true);
+
+        Function<String, Map<String, Object>> maker =
+            actor.makeOperatorParameters(Util.translateToMap(actor.getName(), params));
+
+        // the setting applies to the actor, not to the operations
+        assertEquals("{sinkTopic=my-sink, sourceTopic=my-source-A, timeoutSec=10}",
+            new TreeMap<>(maker.apply("operA")).toString());
+    }
+
+    @Test
+    void testGetTopicExecutor() {
+        List<Runnable> forwarded = new ArrayList<>();
+        actor.setForwardingExecutor(forwarded::add);
+
+        // forwards on the calling thread by default
+        List<String> ran = new ArrayList<>();
+        actor.getTopicExecutor().execute(() -> ran.add("sync"));
+        assertEquals(List.of("sync"), ran);
+        assertTrue(forwarded.isEmpty());
+
+        // reconfigure with asynchronous forwarding
+        BidirectionalTopicActorParams params = makeParams();
+        params.setAsyncForwarding(true);
+        actor.configure(Util.translateToMap(ACTOR, params));
+
+        actor.getTopicExecutor().execute(() -> ran.add("async"));
+        assertEquals(List.of("sync"), ran);
+        assertEquals(1, forwarded.size());
+
+        forwarded.get(0).run();
+        assertEquals(List.of("sync", "async"), ran);
+
+        // reconfigure without it
+        actor.configure(Util.translateToMap(ACTOR, makeParams()));
+
+        actor.getTopicExecutor().execute(() -> ran.add("sync again"));
+        assertEquals(List.of("sync", "async", "sync again"), ran);
+        assertEquals(1, forwarded.size());
+    }
+
     @Test
     void testBidirectionalTopicActor() {
         assertEquals(ACTOR, actor.getName());
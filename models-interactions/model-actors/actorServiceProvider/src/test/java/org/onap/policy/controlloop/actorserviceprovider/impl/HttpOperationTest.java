@@ -29,9 +29,13 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertInstanceOf;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import jakarta.ws.rs.Consumes;
@@ -46,7 +50,9 @@ import jakarta.ws.rs.client.InvocationCallback;
 import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.Response;
 import jakarta.ws.rs.core.Response.Status;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 import java.util.Properties;
 import java.util.UUID;
@@ -81,8 +87,14 @@ import org.onap.policy.common.message.bus.utils.NetLoggerUtil.EventType;
 import org.onap.policy.common.parameters.topic.BusTopicParams;
 import org.onap.policy.common.parameters.topic.BusTopicParams.TopicParamsBuilder;
 import org.onap.policy.common.utils.network.NetworkUtil;
+import org.onap.policy.controlloop.actorserviceprovider.CircuitBreaker;
+import org.onap.policy.controlloop.actorserviceprovider.CircuitBreakerRegistry;
+import org.onap.policy.controlloop.actorserviceprovider.OperationMetrics;
 import org.onap.policy.controlloop.actorserviceprovider.OperationOutcome;
 import org.onap.policy.controlloop.actorserviceprovider.OperationResult;
+import org.onap.policy.controlloop.actorserviceprovider.OperationScheduler;
+import org.onap.policy.controlloop.actorserviceprovider.OperationScheduler.Timeout;
+import org.onap.policy.controlloop.actorserviceprovider.parameters.CircuitBreakerParams;
 import org.onap.policy.controlloop.actorserviceprovider.parameters.ControlLoopOperationParams;
 import org.onap.policy.controlloop.actorserviceprovider.parameters.HttpConfig;
 import org.onap.policy.controlloop.actorserviceprovider.parameters.HttpParams;
@@ -101,6 +113,7 @@ class HttpOperationTest {
     private static final String PATH = "/my-path";
     private static final String TEXT = "my-text";
     private static final UUID REQ_ID = UUID.randomUUID();
+    private static final long HEDGE_MIN_DELAY_MS = 10;
 
     /**
      * {@code True} if the server should reject the request, {@code false} otherwise.
@@ -128,6 +141,7 @@ class HttpOperationTest {
     private Future<Response> future;
     private HttpConfig config;
     private MyGetOperation<String> oper;
+    private CircuitBreakerRegistry breakers;
 
     /**
      * Starts the simulator.
@@ -196,6 +210,7 @@ class HttpOperationTest {
 
         initConfig();
 
+        breakers = new CircuitBreakerRegistry();
         oper = new MyGetOperation<>(String.class);
     }
 
@@ -278,6 +293,175 @@ class HttpOperationTest {
         assertTrue(future.isCancelled());
     }
 
+    /**
+     * Tests handleResponse() when the circuit breaker opens.
+     */
+    @Test
+    void testHandleResponseCircuitBreaker() throws Exception {
+        var breakerParams = new CircuitBreakerParams();
+        breakerParams.setMinimumCalls(1);
+        breakers.configure(breakerParams);
+
+        when(client.getName()).thenReturn(HTTP_CLIENT);
+        when(response.getStatus()).thenReturn(500);
+
+        CompletableFuture<OperationOutcome> future2 = oper.handleResponse(operationOutcome, PATH, cb -> {
+            callback.set(cb);
+            return future;
+        });
+
+        // server error counts as a failure
+        callback.get().completed(response);
+        assertEquals(OperationResult.FAILURE, future2.get(5, TimeUnit.SECONDS).getResult());
+        assertEquals(CircuitBreaker.State.OPEN, breakers.getBreaker("http:" + HTTP_CLIENT).getState());
+
+        // subsequent requests fail fast, without being sent
+        callback.set(null);
+        OperationOutcome outcome2 = operationParams.makeOutcome();
+        CompletableFuture<OperationOutcome> future3 = oper.handleResponse(outcome2, PATH, cb -> {
+            callback.set(cb);
+            return future;
+        });
+
+        assertTrue(future3.isDone());
+        assertNull(callback.get());
+        assertEquals(OperationResult.FAILURE_CIRCUIT_OPEN, outcome2.getResult());
+    }
+
+    /**
+     * Tests handleResponse() when the request is hedged.
+     */
+    @Test
+    void testHandleResponseHedged() throws Exception {
+        List<Runnable> timers = new ArrayList<>();
+        HedgedOperation hedged = makeHedgedOperation(timers);
+
+        List<InvocationCallback<Response>> callbacks = new ArrayList<>();
+        List<CompletableFuture<Response>> requests = new ArrayList<>();
+
+        CompletableFuture<OperationOutcome> future2 = hedged.handleResponse(operationOutcome, PATH, cb -> {
+            callbacks.add(cb);
+            var request = new CompletableFuture<Response>();
+            requests.add(request);
+            return request;
+        });
+
+        // no samples yet, thus it uses the minimum delay
+        assertEquals(1, timers.size());
+        assertEquals(1, callbacks.size());
+
+        // response is slow - send a duplicate
+        timers.get(0).run();
+        assertEquals(2, callbacks.size());
+        assertEquals(1, hedged.metrics.getSnapshot().get(0).getHedges());
+
+        // first request fails, but the hedge is still outstanding
+        callbacks.get(0).failed(EXPECTED_EXCEPTION);
+        assertFalse(future2.isDone());
+
+        // the hedge wins
+        callbacks.get(1).completed(response);
+        assertEquals(OperationResult.SUCCESS, future2.get(5, TimeUnit.SECONDS).getResult());
+        assertSame(TEXT, operationOutcome.getResponse());
+
+        // both requests are canceled once the controller completes
+        assertTrue(requests.get(0).isCancelled());
+        assertTrue(requests.get(1).isCancelled());
+    }
+
+    /**
+     * Tests handleResponse() when both hedged requests get responses. The responses that
+     * are not processed are closed.
+     */
+    @Test
+    void testHandleResponseHedgedLosersClosed() throws Exception {
+        List<Runnable> timers = new ArrayList<>();
+        HedgedOperation hedged = makeHedgedOperation(timers);
+
+        List<InvocationCallback<Response>> callbacks = new ArrayList<>();
+
+        CompletableFuture<OperationOutcome> future2 = hedged.handleResponse(operationOutcome, PATH, cb -> {
+            callbacks.add(cb);
+            return new CompletableFuture<>();
+        });
+
+        timers.get(0).run();
+        assertEquals(2, callbacks.size());
+
+        // first request gets a server error, but the hedge is still outstanding
+        Response serverError = mock(Response.class);
+        when(serverError.getStatus()).thenReturn(500);
+
+        callbacks.get(0).completed(serverError);
+        assertFalse(future2.isDone());
+        verify(serverError).close();
+
+        // the hedge wins
+        callbacks.get(1).completed(response);
+        assertEquals(OperationResult.SUCCESS, future2.get(5, TimeUnit.SECONDS).getResult());
+        verify(response, never()).close();
+
+        // new request, whose hedge responds after the original has won
+        callbacks.clear();
+        CompletableFuture<OperationOutcome> future3 = hedged.handleResponse(operationOutcome, PATH, cb -> {
+            callbacks.add(cb);
+            return new CompletableFuture<>();
+        });
+
+        timers.get(1).run();
+        assertEquals(2, callbacks.size());
+
+        callbacks.get(0).completed(response);
+        assertEquals(OperationResult.SUCCESS, future3.get(5, TimeUnit.SECONDS).getResult());
+
+        Response late = mock(Response.class);
+        callbacks.get(1).completed(late);
+        verify(late).close();
+        verify(response, never()).close();
+    }
+
+    /**
+     * Tests handleResponse() when the response arrives before the request is hedged.
+     */
+    @Test
+    void testHandleResponseHedgedTooLate() throws Exception {
+        List<Runnable> timers = new ArrayList<>();
+        HedgedOperation hedged = makeHedgedOperation(timers);
+
+        CompletableFuture<OperationOutcome> future2 = hedged.handleResponse(operationOutcome, PATH, cb -> {
+            callback.set(cb);
+            return future;
+        });
+
+        callback.get().completed(response);
+        assertEquals(OperationResult.SUCCESS, future2.get(5, TimeUnit.SECONDS).getResult());
+
+        // timer fires anyway - should not send another request
+        callback.set(null);
+        timers.get(0).run();
+        assertNull(callback.get());
+        assertTrue(hedged.metrics.getSnapshot().stream().allMatch(snapshot -> snapshot.getHedges() == 0));
+    }
+
+    @Test
+    void testGetHedgeDelayMs() {
+        // not idempotent
+        assertEquals(0, oper.getHedgeDelayMs());
+
+        // hedging disabled
+        assertEquals(0, makeHedgedOperation(new ArrayList<>(), 0).getHedgeDelayMs());
+
+        // too few samples - uses the minimum
+        HedgedOperation hedged = makeHedgedOperation(new ArrayList<>());
+        assertEquals(HEDGE_MIN_DELAY_MS, hedged.getHedgeDelayMs());
+
+        for (var count = 0; count < 20; ++count) {
+            hedged.metrics.started(ACTOR, OPERATION);
+            hedged.metrics.completed(ACTOR, OPERATION, OperationResult.SUCCESS, 200);
+        }
+        assertEquals(250, hedged.getHedgeDelayMs());
+    }
+
     /**
      * Tests processResponse() when it's a success and the response type is a String.
      */
@@ -461,6 +645,33 @@ class HttpOperationTest {
         initConfig(HttpClientFactoryInstance.getClientFactory());
     }
 
+    /**
+     * Makes an idempotent operation that hedges its requests. Tasks scheduled by the
+     * operation are added to the given list, and are only run when the test says so.
+     *
+     * @param timers list to which to add scheduled tasks
+     * @return a new operation
+     */
+    private HedgedOperation makeHedgedOperation(List<Runnable> timers) {
+        return makeHedgedOperation(timers, 95);
+    }
+
+    /**
+     * Makes an idempotent operation, using the given hedge percentile.
+     *
+     * @param timers list to which to add scheduled tasks
+     * @param percentile hedge percentile
+     * @return a new operation
+     */
+    private HedgedOperation makeHedgedOperation(List<Runnable> timers, int percentile) {
+        HttpParams params = HttpParams.builder().clientName(HTTP_CLIENT).path(PATH).timeoutSec(1)
+            .hedgePercentile(percentile).hedgeMinDelayMs(HEDGE_MIN_DELAY_MS).build();
+        config = new HttpConfig(executor, params, clientFactory);
+        operationParams = operationParams.toBuilder().executor(Runnable::run).build();
+
+        return new HedgedOperation(timers);
+    }
+
     /**
      * Runs the operation.
      *
@@ -507,6 +718,39 @@ class HttpOperationTest {
                 invocationCallback -> getClient().get(invocationCallback, getPath(), headers));
             // @formatter:on
         }
+
+        @Override
+        protected CircuitBreakerRegistry getCircuitBreakers() {
+            return breakers;
+        }
+    }
+
+    private class HedgedOperation extends MyGetOperation<String> {
+        private final OperationMetrics metrics = new OperationMetrics(breakers);
+        private final List<Runnable> timers;
+
+        HedgedOperation(List<Runnable> timers) {
+            super(String.class);
+            this.timers = timers;
+        }
+
+        @Override
+        protected boolean isIdempotent() {
+            return true;
+        }
+
+        @Override
+        public OperationScheduler getScheduler() {
+            return (task, delay, unit) -> {
+                timers.add(task);
+                return Mockito.mock(Timeout.class);
+            };
+        }
+
+        @Override
+        protected OperationMetrics getMetrics() {
+            return metrics;
+        }
     }
 
     private class MyPostOperation extends HttpOperation<MyResponse> {
@@ -3,7 +3,7 @@
  * ONAP
  * ================================================================================
  * Copyright (C) 2020-2021 AT&T Intellectual Property. All rights reserved.
- * Modifications Copyright (C) 2023, 2024 Nordix Foundation.
+ * Modifications Copyright (C) 2023, 2024, 2026 Nordix Foundation.
  * ================================================================================
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -21,6 +21,7 @@
 
 package org.onap.policy.controlloop.actorserviceprovider.impl;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -33,7 +34,11 @@ import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
 import jakarta.ws.rs.client.InvocationCallback;
+import jakarta.ws.rs.core.HttpHeaders;
 import jakarta.ws.rs.core.Response;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
 import java.util.Collections;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ForkJoinPool;
@@ -49,6 +54,7 @@ import org.mockito.stubbing.Answer;
 import org.onap.policy.common.endpoints.http.client.HttpClient;
 import org.onap.policy.controlloop.actorserviceprovider.OperationOutcome;
 import org.onap.policy.controlloop.actorserviceprovider.OperationResult;
+import org.onap.policy.controlloop.actorserviceprovider.SharedPollScheduler;
 import org.onap.policy.controlloop.actorserviceprovider.parameters.ControlLoopOperationParams;
 import org.onap.policy.controlloop.actorserviceprovider.parameters.HttpConfig;
 import org.onap.policy.controlloop.actorserviceprovider.parameters.HttpPollingConfig;
@@ -114,6 +120,12 @@ class HttpPollingOperationTest {
         assertEquals(MY_OPERATION, oper.getName());
         assertSame(config, oper.getConfig());
         assertEquals(1000 * POLL_WAIT_SEC, oper.getPollWaitMs());
+
+        when(config.getMaxPollWaitSec()).thenReturn(POLL_WAIT_SEC * 2);
+        when(config.getPollJitterPercent()).thenReturn(10);
+        assertEquals(2000 * POLL_WAIT_SEC, oper.getMaxPollWaitMs());
+        assertEquals(10, oper.getPollJitterPercent());
+        assertSame(SharedPollScheduler.getInstance(), oper.getPollScheduler());
     }
 
     @Test
@@ -195,6 +207,69 @@ class HttpPollingOperationTest {
         assertNull(oper.getSubRequestId());
     }
 
+    @Test
+    void testDetmPollWaitMs() {
+        final long baseMs = 1000L * POLL_WAIT_SEC;
+
+        // no backoff configured - fixed wait
+        when(config.getMaxPollWaitSec()).thenReturn(POLL_WAIT_SEC);
+        assertEquals(baseMs, oper.detmPollWaitMs(1, rawResponse));
+        assertEquals(baseMs, oper.detmPollWaitMs(5, rawResponse));
+
+        // Retry-After cannot exceed the maximum
+        when(rawResponse.getHeaderString(HttpHeaders.RETRY_AFTER)).thenReturn(String.valueOf(POLL_WAIT_SEC * 3));
+        assertEquals(baseMs, oper.detmPollWaitMs(1, rawResponse));
+
+        // exponential backoff, up to the maximum
+        when(config.getMaxPollWaitSec()).thenReturn(POLL_WAIT_SEC * 5);
+        when(rawResponse.getHeaderString(HttpHeaders.RETRY_AFTER)).thenReturn(null);
+        assertEquals(baseMs, oper.detmPollWaitMs(0, rawResponse));
+        assertEquals(baseMs, oper.detmPollWaitMs(1, rawResponse));
+        assertEquals(baseMs * 2, oper.detmPollWaitMs(2, rawResponse));
+        assertEquals(baseMs * 4, oper.detmPollWaitMs(3, rawResponse));
+        assertEquals(baseMs * 5, oper.detmPollWaitMs(4, rawResponse));
+        assertEquals(baseMs * 5, oper.detmPollWaitMs(Integer.MAX_VALUE, rawResponse));
+
+        // Retry-After lengthens the wait
+        when(rawResponse.getHeaderString(HttpHeaders.RETRY_AFTER)).thenReturn(String.valueOf(POLL_WAIT_SEC * 3));
+        assertEquals(baseMs * 3, oper.detmPollWaitMs(1, rawResponse));
+        assertEquals(baseMs * 4, oper.detmPollWaitMs(3, rawResponse));
+
+        // jitter shortens the wait
+        when(config.getPollJitterPercent()).thenReturn(50);
+        when(rawResponse.getHeaderString(HttpHeaders.RETRY_AFTER)).thenReturn(null);
+        for (var count = 0; count < 20; ++count) {
+            assertThat(oper.detmPollWaitMs(3, rawResponse)).isBetween(baseMs * 2, baseMs * 4);
+        }
+    }
+
+    @Test
+    void testGetRetryAfterMs() {
+        assertEquals(0, oper.getRetryAfterMs(rawResponse));
+
+        when(rawResponse.getHeaderString(HttpHeaders.RETRY_AFTER)).thenReturn(" ");
+        assertEquals(0, oper.getRetryAfterMs(rawResponse));
+
+        when(rawResponse.getHeaderString(HttpHeaders.RETRY_AFTER)).thenReturn(" 30 ");
+        assertEquals(30000, oper.getRetryAfterMs(rawResponse));
+
+        when(rawResponse.getHeaderString(HttpHeaders.RETRY_AFTER)).thenReturn("-30");
+        assertEquals(0, oper.getRetryAfterMs(rawResponse));
+
+        when(rawResponse.getHeaderString(HttpHeaders.RETRY_AFTER)).thenReturn("invalid");
+        assertEquals(0, oper.getRetryAfterMs(rawResponse));
+
+        // HTTP date
+        String date = DateTimeFormatter.RFC_1123_DATE_TIME.format(ZonedDateTime.now(ZoneOffset.UTC).plusMinutes(10));
+        when(rawResponse.getHeaderString(HttpHeaders.RETRY_AFTER)).thenReturn(date);
+        assertThat(oper.getRetryAfterMs(rawResponse)).isBetween(500_000L, 600_000L);
+
+        // date in the past
+        date = DateTimeFormatter.RFC_1123_DATE_TIME.format(ZonedDateTime.now(ZoneOffset.UTC).minusMinutes(10));
+        when(rawResponse.getHeaderString(HttpHeaders.RETRY_AFTER)).thenReturn(date);
+        assertEquals(0, oper.getRetryAfterMs(rawResponse));
+    }
+
     @Test
     void testDetmStatus() {
         // make an operation that does NOT override detmStatus()
@@ -3,7 +3,7 @@
  * ONAP
  * ================================================================================
  * Copyright (C) 2020-2021 AT&T Intellectual Property. All rights reserved.
- * Modifications Copyright (C) 2024-2025 Nordix Foundation.
+ * Modifications Copyright (C) 2024-2026 Nordix Foundation.
  * ================================================================================
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -26,9 +26,11 @@ import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
 
 import ch.qos.logback.classic.Logger;
 import java.time.Instant;
@@ -44,10 +46,12 @@ import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
 import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
@@ -69,13 +73,25 @@ import org.onap.policy.common.utils.test.log.logback.ExtractAppender;
 import org.onap.policy.common.utils.time.PseudoExecutor;
 import org.onap.policy.controlloop.ControlLoopOperation;
 import org.onap.policy.controlloop.actorserviceprovider.ActorService;
+import org.onap.policy.controlloop.actorserviceprovider.CircuitBreaker;
+import org.onap.policy.controlloop.actorserviceprovider.CircuitBreakerRegistry;
+import org.onap.policy.controlloop.actorserviceprovider.FairScheduler;
+import org.onap.policy.controlloop.actorserviceprovider.HashedWheelScheduler;
 import org.onap.policy.controlloop.actorserviceprovider.Operation;
+import org.onap.policy.controlloop.actorserviceprovider.OperationLimiter;
+import org.onap.policy.controlloop.actorserviceprovider.OperationMetrics;
+import org.onap.policy.controlloop.actorserviceprovider.OperationMetrics.Snapshot;
 import org.onap.policy.controlloop.actorserviceprovider.OperationOutcome;
 import org.onap.policy.controlloop.actorserviceprovider.OperationProperties;
 import org.onap.policy.controlloop.actorserviceprovider.OperationResult;
+import org.onap.policy.controlloop.actorserviceprovider.OperationScheduler;
+import org.onap.policy.controlloop.actorserviceprovider.OperationScheduler.Timeout;
 import org.onap.policy.controlloop.actorserviceprovider.Operator;
+import org.onap.policy.controlloop.actorserviceprovider.parameters.BulkheadParams;
+import org.onap.policy.controlloop.actorserviceprovider.parameters.CircuitBreakerParams;
 import org.onap.policy.controlloop.actorserviceprovider.parameters.ControlLoopOperationParams;
 import org.onap.policy.controlloop.actorserviceprovider.parameters.OperatorConfig;
+import org.onap.policy.controlloop.actorserviceprovider.parameters.SchedulingParams;
 import org.onap.policy.controlloop.actorserviceprovider.spi.Actor;
 import org.slf4j.LoggerFactory;
 
@@ -91,6 +107,7 @@ class OperationPartialTest {
     private static final String MY_SINK = "my-sink";
     private static final String MY_SOURCE = "my-source";
     private static final String MY_TARGET_ENTITY = "my-entity";
+    private static final String MY_CLASS = "my-class";
     private static final String TEXT = "my-text";
     private static final int TIMEOUT = 1000;
     private static final UUID REQ_ID = UUID.randomUUID();
@@ -133,6 +150,14 @@ class OperationPartialTest {
 
     private OperatorConfig config;
 
+    private OperationMetrics metrics;
+
+    private OperationLimiter limiter;
+
+    private FairScheduler fairScheduler;
+
+    private CircuitBreakerRegistry breakers;
+
     /**
      * Attaches the appender to the logger.
      */
@@ -168,6 +193,11 @@ class OperationPartialTest {
 
         config = new OperatorConfig(executor);
 
+        metrics = new OperationMetrics();
+        limiter = new OperationLimiter();
+        fairScheduler = new FairScheduler();
+        breakers = new CircuitBreakerRegistry();
+
         myOperation = new MyOper();
 
         tstart = null;
@@ -203,6 +233,20 @@ class OperationPartialTest {
         assertNull(future.get(5, TimeUnit.SECONDS));
     }
 
+    @Test
+    void testGetScheduler() {
+        assertSame(HashedWheelScheduler.getInstance(), myOperation.getScheduler());
+
+        // use the scheduler from the configuration
+        OperationScheduler scheduler = new HashedWheelScheduler(1, TimeUnit.SECONDS, 1);
+        config = new OperatorConfig(executor, scheduler);
+        assertSame(scheduler, new MyOper().getScheduler());
+
+        // fall back to the default scheduler
+        config = new OperatorConfig(executor, null);
+        assertSame(HashedWheelScheduler.getInstance(), new MyOper().getScheduler());
+    }
+
     @Test
      void testGetPropertyNames() {
         assertThat(myOperation.getPropertyNames()).isEqualTo(PROP_NAMES);
@@ -250,6 +294,136 @@ class OperationPartialTest {
         assertEquals(MAX_PARALLEL, numEnd);
     }
 
+    /**
+     * Tests start() when the operation's concurrency limits are reached.
+     */
+    @Test
+    void testStartLimited() throws Exception {
+        BulkheadParams bulkhead = new BulkheadParams();
+        bulkhead.setMaxConcurrent(1);
+        bulkhead.setMaxQueued(1);
+        limiter.configure(ACTOR, OPERATION, bulkhead);
+
+        CompletableFuture<OperationOutcome> future1 = myOperation.start();
+        CompletableFuture<OperationOutcome> future2 = myOperation.start();
+        CompletableFuture<OperationOutcome> future3 = myOperation.start();
+
+        // the second waits for the first, while the third is rejected
+        assertTrue(executor.runAll(MAX_REQUESTS));
+
+        assertEquals(OperationResult.SUCCESS, future1.get().getResult());
+        assertEquals(OperationResult.SUCCESS, future2.get().getResult());
+
+        OperationOutcome outcome = future3.get();
+        assertEquals(OperationResult.FAILURE_EXCEPTION, outcome.getResult());
+        assertEquals("concurrency limit exceeded: operation queue is full", outcome.getMessage());
+        assertTrue(outcome.isFinalOutcome());
+
+        // the third was never attempted, but its callbacks were still invoked
+        assertEquals(2, myOperation.getCount());
+        assertEquals(3, numStart);
+        assertEquals(3, numEnd);
+    }
+
+    /**
+     * Tests start() when the operation's scheduling queue is full.
+     */
+    @Test
+    void testStartSchedulingQueueFull() throws Exception {
+        SchedulingParams scheduling = new SchedulingParams();
+        scheduling.setMaxConcurrent(1);
+        scheduling.setMaxQueued(1);
+        fairScheduler.configure(scheduling);
+
+        Executor scheduled = fairScheduler.forClass(MY_CLASS, executor);
+        params = params.toBuilder().priorityClass(MY_CLASS).executor(scheduled).build();
+        myOperation = new MyOper();
+
+        // fill the class's queue
+        scheduled.execute(() -> { });
+        scheduled.execute(() -> { });
+
+        CompletableFuture<OperationOutcome> future = myOperation.start();
+
+        // the callbacks are queued beyond the limit, rather than being rejected
+        assertTrue(executor.runAll(MAX_REQUESTS));
+
+        OperationOutcome outcome = future.get();
+        assertEquals(OperationResult.FAILURE_EXCEPTION, outcome.getResult());
+        assertEquals("scheduling queue is full for " + MY_CLASS, outcome.getMessage());
+        assertTrue(outcome.isFinalOutcome());
+        assertEquals(0, myOperation.getCount());
+        assertEquals(1, numStart);
+        assertEquals(1, numEnd);
+        assertEquals(1, fairScheduler.getSnapshot().get(0).getRejected());
+
+        // the queue has drained, so this should run
+        future = myOperation.start();
+        assertTrue(executor.runAll(MAX_REQUESTS));
+        assertEquals(OperationResult.SUCCESS, future.get().getResult());
+        assertEquals(1, myOperation.getCount());
+        assertEquals(0, fairScheduler.getActive());
+    }
+
+    /**
+     * Tests start() when an operation times out waiting for its concurrency limits.
+     */
+    @Test
+    void testStartLimitedTimeout() throws Exception {
+        List<Runnable> timers = new LinkedList<>();
+        limiter = new OperationLimiter((task, delay, unit) -> {
+            timers.add(task);
+            return mock(Timeout.class);
+        });
+
+        BulkheadParams bulkhead = new BulkheadParams();
+        bulkhead.setMaxConcurrent(1);
+        limiter.configure(ACTOR, OPERATION, bulkhead);
+
+        CompletableFuture<OperationOutcome> future1 = myOperation.start();
+        CompletableFuture<OperationOutcome> future2 = myOperation.start();
+
+        // time out the second before the first completes
+        assertEquals(1, timers.size());
+        timers.get(0).run();
+
+        assertTrue(executor.runAll(MAX_REQUESTS));
+
+        assertEquals(OperationResult.SUCCESS, future1.get().getResult());
+
+        OperationOutcome outcome = future2.get();
+        assertEquals(OperationResult.FAILURE_TIMEOUT, outcome.getResult());
+        assertEquals("timed out waiting for a concurrency limit", outcome.getMessage());
+        assertEquals(1, myOperation.getCount());
+    }
+
+    /**
+     * Tests start() when an operation is canceled while waiting for its concurrency
+     * limits.
+     */
+    @Test
+    void testStartLimitedCancel() throws Exception {
+        BulkheadParams bulkhead = new BulkheadParams();
+        bulkhead.setMaxConcurrent(1);
+        bulkhead.setMaxQueued(1);
+        limiter.configure(ACTOR, OPERATION, bulkhead);
+
+        CompletableFuture<OperationOutcome> future1 = myOperation.start();
+        CompletableFuture<OperationOutcome> future2 = myOperation.start();
+        future2.cancel(false);
+
+        assertTrue(executor.runAll(MAX_REQUESTS));
+        assertEquals(OperationResult.SUCCESS, future1.get().getResult());
+        assertEquals(1, myOperation.getCount());
+        assertEquals(1, numStart);
+
+        // nothing is waiting or running, so this should run
+        CompletableFuture<OperationOutcome> future3 = myOperation.start();
+        assertTrue(executor.runAll(MAX_REQUESTS));
+        assertEquals(OperationResult.SUCCESS, future3.get().getResult());
+        assertEquals(2, myOperation.getCount());
+    }
+
     @Test
      void testStartOperationAsync() {
         myOperation.start();
@@ -418,6 +592,17 @@ class OperationPartialTest {
 
         verifyRun("testSetRetryFlag_testRetryOnFailure_SuccessAfterRetries", maxFailures + 1, maxFailures + 1,
                         OperationResult.SUCCESS);
+
+        // each attempt is recorded
+        Snapshot snapshot = metrics.getSnapshot().get(0);
+        assertEquals(ACTOR, snapshot.getActor());
+        assertEquals(OPERATION, snapshot.getOperation());
+        assertEquals(0, snapshot.getInFlight());
+        assertEquals(maxFailures + 1, snapshot.getStarted());
+        assertEquals(maxFailures, snapshot.getRetries());
+        assertEquals(0, snapshot.getCancelled());
+        assertEquals(maxFailures, snapshot.getLatencies().get(OperationResult.FAILURE).getCount());
+        assertEquals(1, snapshot.getLatencies().get(OperationResult.SUCCESS).getCount());
     }
 
     /**
@@ -440,6 +625,68 @@ class OperationPartialTest {
         verifyRun("testSetRetryFlag_testRetryOnFailure_NullOutcome", 1, 1, OperationResult.FAILURE, noop());
     }
 
+    @Test
+    void testFusedPipeline() {
+        myOperation.setFused(true);
+        verifyRun("testFusedPipeline", 1, 1, OperationResult.SUCCESS);
+    }
+
+    @Test
+    void testFusedPipeline_RetriesExhausted() {
+        final int maxRetries = 3;
+        params = params.toBuilder().retry(maxRetries).build();
+
+        // new params, thus need a new operation
+        myOperation = new MyOper();
+        myOperation.setFused(true);
+
+        myOperation.setMaxFailures(10);
+
+        verifyRun("testFusedPipeline_RetriesExhausted", maxRetries + 1, maxRetries + 1,
+                        OperationResult.FAILURE_RETRIES);
+    }
+
+    @Test
+    void testFusedPipeline_Exception() {
+        myOperation.setFused(true);
+        myOperation.setGenException(true);
+
+        verifyRun("testFusedPipeline_Exception", 1, 1, OperationResult.FAILURE_EXCEPTION);
+    }
+
+    /**
+     * Verifies that the fused pipeline makes fewer hops through the executor. The three
+     * steps that follow an attempt's completion become a single hop, while the final
+     * completion of the operation remains a hop of its own.
+     */
+    @Test
+    void testFusedPipeline_Hops() {
+        int standard = countHops(false);
+        assertEquals(standard - 2, countHops(true));
+    }
+
+    private int countHops(boolean fused) {
+        AtomicInteger hops = new AtomicInteger();
+        Executor counter = command -> {
+            hops.incrementAndGet();
+            executor.execute(command);
+        };
+
+        params = params.toBuilder().executor(counter).build();
+
+        // new params, thus need a new operation
+        myOperation = new MyOper();
+        myOperation.setFused(fused);
+
+        CompletableFuture<OperationOutcome> future = myOperation.start();
+        assertTrue(executor.runAll(MAX_REQUESTS));
+
+        assertTrue(future.isDone());
+        assertEquals(OperationResult.SUCCESS, future.join().getResult());
+
+        return hops.get();
+    }
+
     @Test
      void testSleep() throws Exception {
         CompletableFuture<Void> future = myOperation.sleep(-1, TimeUnit.SECONDS);
@@ -815,7 +1062,7 @@ class OperationPartialTest {
 
         Map<OperationResult, Integer> map = Map.of(OperationResult.SUCCESS, 0, OperationResult.FAILURE_GUARD, 2,
                 OperationResult.FAILURE_RETRIES, 3, OperationResult.FAILURE, 4, OperationResult.FAILURE_TIMEOUT, 5,
-                OperationResult.FAILURE_EXCEPTION, 6);
+                OperationResult.FAILURE_EXCEPTION, 6, OperationResult.FAILURE_CIRCUIT_OPEN, 5);
 
         for (Entry<OperationResult, Integer> ent : map.entrySet()) {
             outcome.setResult(ent.getKey());
@@ -877,6 +1124,13 @@ class OperationPartialTest {
         // should not have been set
         assertNull(opend);
         assertEquals(0, numEnd);
+
+        // should have been recorded as canceled rather than completed
+        Snapshot snapshot = metrics.getSnapshot().get(0);
+        assertEquals(0, snapshot.getInFlight());
+        assertEquals(1, snapshot.getStarted());
+        assertEquals(1, snapshot.getCancelled());
+        assertTrue(snapshot.getLatencies().isEmpty());
     }
 
     @Test
@@ -923,6 +1177,41 @@ class OperationPartialTest {
         assertEquals(MY_TARGET_ENTITY, myOperation.makeOutcome().getTarget());
     }
 
+    @Test
+    void testStartCall() {
+        // disabled - endpoint should not be computed
+        assertSame(CircuitBreaker.UNGUARDED, myOperation.startCall(() -> {
+            throw new AssertionError("endpoint computed");
+        }));
+
+        var breakerParams = new CircuitBreakerParams();
+        breakerParams.setMinimumCalls(1);
+        breakers.configure(breakerParams);
+
+        CircuitBreaker.Call call = myOperation.startCall(() -> MY_SINK);
+        assertNotNull(call);
+        assertNotSame(CircuitBreaker.UNGUARDED, call);
+
+        // opens the breaker
+        call.completed(true);
+        assertEquals(CircuitBreaker.State.OPEN, breakers.getBreaker(MY_SINK).getState());
+        assertNull(myOperation.startCall(() -> MY_SINK));
+
+        // other endpoints are unaffected
+        assertNotNull(myOperation.startCall(() -> MY_SOURCE));
+    }
+
+    @Test
+    void testRejectCircuitOpen() throws Exception {
+        OperationOutcome outcome = params.makeOutcome();
+
+        CompletableFuture<OperationOutcome> future = myOperation.rejectCircuitOpen(outcome, MY_SINK);
+        assertTrue(future.isDone());
+        assertSame(outcome, future.get());
+        assertEquals(OperationResult.FAILURE_CIRCUIT_OPEN, outcome.getResult());
+        assertEquals("circuit breaker is open for " + MY_SINK, outcome.getMessage());
+    }
+
     @Test
      void testIsTimeout() {
         final TimeoutException timex = new TimeoutException(EXPECTED_EXCEPTION);
@@ -1155,6 +1444,8 @@ class OperationPartialTest {
         private int maxFailures = 0;
         @Setter
         private CompletableFuture<OperationOutcome> preProc;
+        @Setter
+        private boolean fused;
 
 
         MyOper() {
@@ -1187,5 +1478,30 @@ class OperationPartialTest {
              */
             return 0L;
         }
+
+        @Override
+        protected boolean isFusedPipeline() {
+            return fused;
+        }
+
+        @Override
+        protected OperationMetrics getMetrics() {
+            return metrics;
+        }
+
+        @Override
+        protected OperationLimiter getLimiter() {
+            return limiter;
+        }
+
+        @Override
+        protected FairScheduler getFairScheduler() {
+            return fairScheduler;
+        }
+
+        @Override
+        protected CircuitBreakerRegistry getCircuitBreakers() {
+            return breakers;
+        }
     }
 }
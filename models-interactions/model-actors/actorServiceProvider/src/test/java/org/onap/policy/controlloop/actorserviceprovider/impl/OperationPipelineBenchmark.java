@@ -0,0 +1,131 @@
+/*-
+ * ============LICENSE_START=======================================================
+ *  Copyright (C) 2026 Nordix Foundation.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.controlloop.actorserviceprovider.impl;
+
+import java.lang.management.ManagementFactory;
+import java.util.Collections;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicLong;
+import org.onap.policy.controlloop.actorserviceprovider.OperationOutcome;
+import org.onap.policy.controlloop.actorserviceprovider.OperationResult;
+import org.onap.policy.controlloop.actorserviceprovider.parameters.ControlLoopOperationParams;
+import org.onap.policy.controlloop.actorserviceprovider.parameters.OperatorConfig;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Measures the per-operation overhead of the {@link OperationPartial} pipeline, with and without the fused pipeline,
+ * logging the time, the bytes allocated and the number of executor hops per operation. The operation itself completes
+ * immediately, and the executor runs tasks on the calling thread, so that only the bookkeeping is measured. This is
+ * not a unit test, and is not run by the build; run its main() by hand when changing the pipeline.
+ */
+public class OperationPipelineBenchmark {
+    private static final Logger LOGGER = LoggerFactory.getLogger(OperationPipelineBenchmark.class);
+
+    private static final int WARMUP_ITERATIONS = 5000;
+    private static final int BENCHMARK_ITERATIONS = 20000;
+
+    private static final AtomicLong hops = new AtomicLong();
+
+    private OperationPipelineBenchmark() {
+        // main() only
+    }
+
+    /**
+     * Runs the benchmark.
+     *
+     * @param args ignored
+     */
+    public static void main(String[] args) {
+        Executor counter = command -> {
+            hops.incrementAndGet();
+            command.run();
+        };
+
+        var params = ControlLoopOperationParams.builder().actor("my-actor").operation("my-operation")
+                        .requestId(UUID.randomUUID()).executor(counter).build();
+        var config = new OperatorConfig(Runnable::run);
+
+        measure(params, config, false);
+        measure(params, config, true);
+    }
+
+    private static void measure(ControlLoopOperationParams params, OperatorConfig config, boolean fused) {
+        for (var count = 0; count < WARMUP_ITERATIONS; ++count) {
+            runOnce(params, config, fused);
+        }
+
+        hops.set(0);
+        long alloc = getAllocatedBytes();
+        long start = System.nanoTime();
+
+        for (var count = 0; count < BENCHMARK_ITERATIONS; ++count) {
+            runOnce(params, config, fused);
+        }
+
+        long elapsedNs = (System.nanoTime() - start) / BENCHMARK_ITERATIONS;
+        alloc = (getAllocatedBytes() - alloc) / BENCHMARK_ITERATIONS;
+
+        LOGGER.info("pipeline fused={}: {} ns, {} bytes, {} executor hops per operation", fused, elapsedNs, alloc,
+                        hops.get() / BENCHMARK_ITERATIONS);
+    }
+
+    private static void runOnce(ControlLoopOperationParams params, OperatorConfig config, boolean fused) {
+        var outcome = new MyOperation(params, config, fused).start().join();
+        if (outcome.getResult() != OperationResult.SUCCESS) {
+            throw new IllegalStateException("operation failed: " + outcome);
+        }
+    }
+
+    /**
+     * Gets the number of bytes allocated by the current thread, if the JVM supports it.
+     *
+     * @return the number of bytes allocated by the current thread, or {@code 0}
+     */
+    private static long getAllocatedBytes() {
+        if (ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean mxbean) {
+            return mxbean.getThreadAllocatedBytes(Thread.currentThread().getId());
+        }
+
+        return 0;
+    }
+
+    private static class MyOperation extends OperationPartial {
+        private final boolean fused;
+
+        MyOperation(ControlLoopOperationParams params, OperatorConfig config, boolean fused) {
+            super(params, config, Collections.emptyList());
+            this.fused = fused;
+        }
+
+        @Override
+        protected CompletableFuture<OperationOutcome> startOperationAsync(int attempt, OperationOutcome outcome) {
+            return CompletableFuture.completedFuture(setOutcome(outcome, OperationResult.SUCCESS));
+        }
+
+        @Override
+        protected boolean isFusedPipeline() {
+            return fused;
+        }
+    }
+}
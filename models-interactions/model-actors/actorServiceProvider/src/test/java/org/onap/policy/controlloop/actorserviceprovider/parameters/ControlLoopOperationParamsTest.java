@@ -3,7 +3,7 @@
  * ONAP
  * ================================================================================
  * Copyright (C) 2020-2021 AT&T Intellectual Property. All rights reserved.
- * Modifications Copyright (C) 2024 Nordix Foundation
+ * Modifications Copyright (C) 2024, 2026 Nordix Foundation
  * ================================================================================
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -26,10 +26,12 @@ import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
@@ -43,20 +45,21 @@ import java.util.concurrent.Executor;
 import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
-import java.util.function.Function;
+import java.util.function.UnaryOperator;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestInstance;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.onap.policy.common.parameters.BeanValidationResult;
 import org.onap.policy.controlloop.actorserviceprovider.ActorService;
+import org.onap.policy.controlloop.actorserviceprovider.FairScheduler;
 import org.onap.policy.controlloop.actorserviceprovider.Operation;
 import org.onap.policy.controlloop.actorserviceprovider.OperationOutcome;
 import org.onap.policy.controlloop.actorserviceprovider.Operator;
-import org.onap.policy.controlloop.actorserviceprovider.parameters.ControlLoopOperationParams.ControlLoopOperationParamsBuilder;
 import org.onap.policy.controlloop.actorserviceprovider.spi.Actor;
 
 @TestInstance(TestInstance.Lifecycle.PER_CLASS)
@@ -134,6 +137,37 @@ class ControlLoopOperationParamsTest {
         assertSame(operation, params.build());
     }
 
+    @Test
+     void testBuildPriorityClass() {
+        final var scheduled = params.toBuilder().priorityClass("my-loop").build();
+        final var captor = ArgumentCaptor.forClass(ControlLoopOperationParams.class);
+
+        // scheduling disabled - uses the parameters as is
+        assertSame(operation, scheduled.build());
+        verify(operator, atLeastOnce()).buildOperation(captor.capture());
+        assertSame(scheduled, captor.getValue());
+
+        FairScheduler.getInstance().configure(new SchedulingParams());
+
+        try {
+            assertSame(operation, scheduled.build());
+            verify(operator, atLeastOnce()).buildOperation(captor.capture());
+
+            ControlLoopOperationParams actual = captor.getValue();
+            assertNotSame(executor, actual.getExecutor());
+            assertEquals("my-loop", actual.getPriorityClass());
+            assertEquals(REQ_ID, actual.getRequestId());
+
+            // the executor is not wrapped a second time
+            assertSame(operation, actual.build());
+            verify(operator, atLeastOnce()).buildOperation(captor.capture());
+            assertSame(actual, captor.getValue());
+
+        } finally {
+            FairScheduler.getInstance().configure(null);
+        }
+    }
+
     @Test
      void testGetRequestId() {
         assertSame(REQ_ID, params.getRequestId());
@@ -225,7 +259,7 @@ class ControlLoopOperationParamsTest {
     }
 
     private void testValidate(String fieldName, String expected,
-                    Function<ControlLoopOperationParamsBuilder, ControlLoopOperationParamsBuilder> makeInvalid) {
+                    UnaryOperator<ControlLoopOperationParams.ControlLoopOperationParamsBuilder> makeInvalid) {
 
         // original params should be valid
         BeanValidationResult result = params.validate();
@@ -3,7 +3,7 @@
  * ONAP
  * ================================================================================
  * Copyright (C) 2020 AT&T Intellectual Property. All rights reserved.
- * Modifications Copyright (C) 2024 Nordix Foundation
+ * Modifications Copyright (C) 2024, 2026 Nordix Foundation
  * ================================================================================
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -71,6 +71,9 @@ class HttpActorParamsTest {
 
         testValidateField(ActorParams.OPERATIONS_FIELD, "null", params2 -> params2.setOperations(null));
         testValidateField("timeoutSec", "minimum", params2 -> params2.setTimeoutSec(-1));
+        testValidateField("hedgePercentile", "minimum", params2 -> params2.setHedgePercentile(-1));
+        testValidateField("hedgePercentile", "maximum", params2 -> params2.setHedgePercentile(100));
+        testValidateField("hedgeMinDelayMs", "minimum", params2 -> params2.setHedgeMinDelayMs(-1));
 
         // check edge cases
         params.setTimeoutSec(0);
@@ -3,7 +3,7 @@
  * ONAP
  * ================================================================================
  * Copyright (C) 2020-2021 AT&T Intellectual Property. All rights reserved.
- * Modifications Copyright (C) 2024 Nordix Foundation
+ * Modifications Copyright (C) 2024, 2026 Nordix Foundation
  * ================================================================================
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -39,6 +39,8 @@ class HttpConfigTest {
     private static final String MY_CLIENT = "my-client";
     private static final String MY_PATH = "my-path";
     private static final int TIMEOUT_SEC = 10;
+    private static final int HEDGE_PERCENTILE = 95;
+    private static final long HEDGE_MIN_DELAY_MS = 200;
 
     @Mock
     private HttpClient client;
@@ -56,7 +58,8 @@ class HttpConfigTest {
      void setUp() {
         when(factory.get(MY_CLIENT)).thenReturn(client);
 
-        HttpParams params = HttpParams.builder().clientName(MY_CLIENT).path(MY_PATH).timeoutSec(TIMEOUT_SEC).build();
+        HttpParams params = HttpParams.builder().clientName(MY_CLIENT).path(MY_PATH).timeoutSec(TIMEOUT_SEC)
+                        .hedgePercentile(HEDGE_PERCENTILE).hedgeMinDelayMs(HEDGE_MIN_DELAY_MS).build();
         config = new HttpConfig(executor, params, factory);
     }
 
@@ -66,5 +69,7 @@ class HttpConfigTest {
         assertSame(client, config.getClient());
         assertEquals(MY_PATH, config.getPath());
         assertEquals(1000L * TIMEOUT_SEC, config.getTimeoutMs());
+        assertEquals(HEDGE_PERCENTILE, config.getHedgePercentile());
+        assertEquals(HEDGE_MIN_DELAY_MS, config.getHedgeMinDelayMs());
     }
 }
@@ -3,7 +3,7 @@
  * ONAP
  * ================================================================================
  * Copyright (C) 2020 AT&T Intellectual Property. All rights reserved.
- * Modifications Copyright (C) 2024 Nordix Foundation
+ * Modifications Copyright (C) 2024, 2026 Nordix Foundation
  * ================================================================================
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -53,6 +53,9 @@ class HttpParamsTest {
         testValidateField("clientName", "null", bldr -> bldr.clientName(null));
         testValidateField("path", "null", bldr -> bldr.path(null));
         testValidateField("timeoutSec", "minimum", bldr -> bldr.timeoutSec(-1));
+        testValidateField("hedgePercentile", "minimum", bldr -> bldr.hedgePercentile(-1));
+        testValidateField("hedgePercentile", "maximum", bldr -> bldr.hedgePercentile(100));
+        testValidateField("hedgeMinDelayMs", "minimum", bldr -> bldr.hedgeMinDelayMs(-1));
 
         // check edge cases
         assertFalse(params.toBuilder().clientName("").build().validate(CONTAINER).isValid());
@@ -61,6 +64,8 @@ class HttpParamsTest {
 
         assertFalse(params.toBuilder().timeoutSec(0).build().validate(CONTAINER).isValid());
         assertTrue(params.toBuilder().timeoutSec(1).build().validate(CONTAINER).isValid());
+
+        assertTrue(params.toBuilder().hedgePercentile(99).build().validate(CONTAINER).isValid());
     }
 
     @Test
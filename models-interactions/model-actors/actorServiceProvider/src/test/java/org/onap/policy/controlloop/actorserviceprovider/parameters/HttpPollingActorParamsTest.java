@@ -3,7 +3,7 @@
  * ONAP
  * ================================================================================
  * Copyright (C) 2020 AT&T Intellectual Property. All rights reserved.
- * Modifications Copyright (C) 2024 Nordix Foundation
+ * Modifications Copyright (C) 2024, 2026 Nordix Foundation
  * ================================================================================
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -74,6 +74,9 @@ class HttpPollingActorParamsTest {
 
         testValidateField("maxPolls", "minimum", params2 -> params2.setMaxPolls(-1));
         testValidateField("pollWaitSec", "minimum", params2 -> params2.setPollWaitSec(0));
+        testValidateField("maxPollWaitSec", "minimum", params2 -> params2.setMaxPollWaitSec(-1));
+        testValidateField("pollJitterPercent", "minimum", params2 -> params2.setPollJitterPercent(-1));
+        testValidateField("pollJitterPercent", "maximum", params2 -> params2.setPollJitterPercent(101));
 
         // check fields from superclass
         testValidateField(ActorParams.OPERATIONS_FIELD, "null", params2 -> params2.setOperations(null));
@@ -3,7 +3,7 @@
  * ONAP
  * ================================================================================
  * Copyright (C) 2020-2021 AT&T Intellectual Property. All rights reserved.
- * Modifications Copyright (C) 2024 Nordix Foundation
+ * Modifications Copyright (C) 2024, 2026 Nordix Foundation
  * ================================================================================
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -79,5 +79,14 @@ class HttpPollingConfigTest {
         params = params.toBuilder().pollPath(POLL_PATH + "/").build();
         config = new HttpPollingConfig(executor, params, factory);
         assertEquals(POLL_PATH + "/", config.getPollPath());
+
+        // no backoff - maximum wait is the same as the wait
+        assertEquals(WAIT_SEC, config.getMaxPollWaitSec());
+        assertEquals(0, config.getPollJitterPercent());
+
+        params = params.toBuilder().maxPollWaitSec(WAIT_SEC * 10).pollJitterPercent(20).build();
+        config = new HttpPollingConfig(executor, params, factory);
+        assertEquals(WAIT_SEC * 10, config.getMaxPollWaitSec());
+        assertEquals(20, config.getPollJitterPercent());
     }
 }
@@ -3,7 +3,7 @@
  * ONAP
  * ================================================================================
  * Copyright (C) 2020 AT&T Intellectual Property. All rights reserved.
- * Modifications Copyright (C) 2024 Nordix Foundation
+ * Modifications Copyright (C) 2024, 2026 Nordix Foundation
  * ================================================================================
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -56,6 +56,9 @@ class HttpPollingParamsTest {
         testValidateField("pollPath", "null", bldr -> bldr.pollPath(null));
         testValidateField("maxPolls", "minimum", bldr -> bldr.maxPolls(-1));
         testValidateField("pollWaitSec", "minimum", bldr -> bldr.pollWaitSec(-1));
+        testValidateField("maxPollWaitSec", "minimum", bldr -> bldr.maxPollWaitSec(-1));
+        testValidateField("pollJitterPercent", "minimum", bldr -> bldr.pollJitterPercent(-1));
+        testValidateField("pollJitterPercent", "maximum", bldr -> bldr.pollJitterPercent(101));
 
         // validate one of the superclass fields
         testValidateField("clientName", "null", bldr -> bldr.clientName(null));
@@ -64,6 +67,7 @@ class HttpPollingParamsTest {
         assertTrue(params.toBuilder().maxPolls(0).build().validate(CONTAINER).isValid());
         assertFalse(params.toBuilder().pollWaitSec(0).build().validate(CONTAINER).isValid());
         assertTrue(params.toBuilder().pollWaitSec(1).build().validate(CONTAINER).isValid());
+        assertTrue(params.toBuilder().pollJitterPercent(100).build().validate(CONTAINER).isValid());
     }
 
     @Test
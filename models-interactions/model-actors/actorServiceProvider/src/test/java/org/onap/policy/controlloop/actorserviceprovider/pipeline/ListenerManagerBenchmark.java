@@ -0,0 +1,158 @@
+/*-
+ * ============LICENSE_START=======================================================
+ *  Copyright (C) 2026 Nordix Foundation.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.controlloop.actorserviceprovider.pipeline;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.onap.policy.controlloop.actorserviceprovider.ActorExecutors;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Measures {@link ListenerManager} under contention, as when many pipeline stages of the same operation register and
+ * deregister listeners concurrently. A copy of the former, synchronized, implementation is measured as a baseline.
+ * This is not a unit test, and is not run by the build; run its main() by hand when changing the listener manager.
+ */
+public class ListenerManagerBenchmark {
+    private static final Logger LOGGER = LoggerFactory.getLogger(ListenerManagerBenchmark.class);
+
+    private static final int NTHREADS = 8;
+    private static final int ITERATIONS = 50000;
+
+    private ListenerManagerBenchmark() {
+        // main() only
+    }
+
+    /**
+     * Runs the benchmark.
+     *
+     * @param args ignored
+     * @throws Exception if the threads do not complete
+     */
+    public static void main(String[] args) throws Exception {
+        // the first round is just a warm-up
+        measure("synchronized", new SynchronizedListenerManager());
+        measure("lock-free", new ListenerManager());
+
+        measure("synchronized", new SynchronizedListenerManager());
+        measure("lock-free", new ListenerManager());
+    }
+
+    /**
+     * Has several threads repeatedly add and remove listeners on the same manager, logging the time per add/remove
+     * pair.
+     *
+     * @param name name of the implementation
+     * @param mgr manager to be measured
+     */
+    private static void measure(String name, ListenerManager mgr)
+                    throws InterruptedException, ExecutionException, TimeoutException {
+        var removedRuns = new AtomicInteger();
+        var start = new CountDownLatch(1);
+
+        List<CompletableFuture<Void>> futures = new ArrayList<>();
+        for (var thread = 0; thread < NTHREADS; ++thread) {
+            futures.add(CompletableFuture.runAsync(() -> {
+                await(start);
+
+                for (var count = 0; count < ITERATIONS; ++count) {
+                    Runnable listener = removedRuns::incrementAndGet;
+                    mgr.add(listener);
+                    mgr.remove(listener);
+                }
+            }, ActorExecutors.THREAD_PER_TASK));
+        }
+
+        long begin = System.nanoTime();
+        start.countDown();
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[0])).get(5, TimeUnit.MINUTES);
+
+        long elapsedNs = (System.nanoTime() - begin) / ((long) NTHREADS * ITERATIONS);
+        LOGGER.info("listener manager {}: {} threads, {} ns per add/remove", name, NTHREADS, elapsedNs);
+
+        mgr.stop();
+        if (removedRuns.get() != 0) {
+            throw new IllegalStateException(name + " ran " + removedRuns.get() + " removed listeners");
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * The former implementation, which synchronizes on a map of listeners.
+     */
+    private static class SynchronizedListenerManager extends ListenerManager {
+        private boolean running = true;
+        private final Map<Runnable, Void> listeners = new HashMap<>(5);
+
+        @Override
+        public synchronized boolean isRunning() {
+            return running;
+        }
+
+        @Override
+        public void stop() {
+            List<Runnable> items;
+
+            synchronized (this) {
+                if (!running) {
+                    return;
+                }
+
+                running = false;
+                items = new ArrayList<>(listeners.keySet());
+                listeners.clear();
+            }
+
+            items.forEach(this::runListener);
+        }
+
+        @Override
+        protected synchronized boolean addOnly(Runnable listener) {
+            if (running) {
+                listeners.put(listener, null);
+                return true;
+            }
+
+            return false;
+        }
+
+        @Override
+        public synchronized void remove(Runnable listener) {
+            listeners.remove(listener);
+        }
+    }
+}
@@ -3,7 +3,7 @@
  * ONAP
  * ================================================================================
  * Copyright (C) 2020-2021 AT&T Intellectual Property. All rights reserved.
- * Modifications Copyright (C) 2024 Nordix Foundation
+ * Modifications Copyright (C) 2024, 2026 Nordix Foundation
  * ================================================================================
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -21,22 +21,32 @@
 
 package org.onap.policy.controlloop.actorserviceprovider.pipeline;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.onap.policy.controlloop.actorserviceprovider.ActorExecutors;
 
 @ExtendWith(MockitoExtension.class)
 class ListenerManagerTest {
 
     private static final String EXPECTED_EXCEPTION = "expected exception";
+    private static final int NTHREADS = 8;
+    private static final int ITERATIONS = 1000;
 
     @Mock
     private Runnable runnable1;
@@ -132,4 +142,114 @@ class ListenerManagerTest {
 
         verify(runnable2, never()).run();
     }
+
+    @Test
+    void testAddDuplicate() {
+        mgr.add(runnable1);
+        mgr.add(runnable1);
+
+        mgr.stop();
+
+        // should only run once
+        verify(runnable1).run();
+    }
+
+    @Test
+    void testRemoveInterior() {
+        mgr.add(runnable1);
+        mgr.add(runnable2);
+        mgr.add(runnable3);
+        mgr.add(runnable2);
+
+        // removes both occurrences, leaving the others
+        mgr.remove(runnable2);
+
+        mgr.stop();
+
+        verify(runnable1).run();
+        verify(runnable2, never()).run();
+        verify(runnable3).run();
+
+        // removing after stopping has no effect
+        mgr.remove(runnable1);
+        verify(runnable1).run();
+    }
+
+    /**
+     * Verifies that, when several threads add and remove listeners concurrently, only
+     * the listeners that were never removed are run when the manager is stopped.
+     */
+    @Test
+    void testAddRemoveConcurrently() throws Exception {
+        var removedRuns = new AtomicInteger();
+        var keptRuns = new AtomicInteger();
+        var start = new CountDownLatch(1);
+
+        List<CompletableFuture<Void>> futures = new ArrayList<>();
+        for (var thread = 0; thread < NTHREADS; ++thread) {
+            futures.add(CompletableFuture.runAsync(() -> {
+                mgr.add(keptRuns::incrementAndGet);
+                await(start);
+
+                for (var count = 0; count < ITERATIONS; ++count) {
+                    Runnable listener = removedRuns::incrementAndGet;
+                    mgr.add(listener);
+                    mgr.remove(listener);
+                }
+            }, ActorExecutors.THREAD_PER_TASK));
+        }
+
+        start.countDown();
+        join(futures);
+
+        mgr.stop();
+        assertEquals(0, removedRuns.get());
+        assertEquals(NTHREADS, keptRuns.get());
+    }
+
+    /**
+     * Verifies that, when listeners are added while the manager is being stopped, each
+     * one is run exactly once, either by stop() or by add().
+     */
+    @Test
+    void testAddWhileStopping() throws Exception {
+        for (var trial = 0; trial < 20; ++trial) {
+            var mgr2 = new ListenerManager();
+            var runs = new AtomicInteger();
+            var start = new CountDownLatch(1);
+
+            List<CompletableFuture<Void>> futures = new ArrayList<>();
+            for (var thread = 0; thread < NTHREADS; ++thread) {
+                futures.add(CompletableFuture.runAsync(() -> {
+                    await(start);
+                    for (var count = 0; count < ITERATIONS; ++count) {
+                        mgr2.add(runs::incrementAndGet);
+                    }
+                }, ActorExecutors.THREAD_PER_TASK));
+            }
+
+            futures.add(CompletableFuture.runAsync(() -> {
+                await(start);
+                mgr2.stop();
+            }, ActorExecutors.THREAD_PER_TASK));
+
+            start.countDown();
+            join(futures);
+
+            assertEquals(NTHREADS * ITERATIONS, runs.get());
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void join(List<CompletableFuture<Void>> futures) throws Exception {
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[0])).get(60, TimeUnit.SECONDS);
+    }
 }
@@ -0,0 +1,122 @@
+/*-
+ * ============LICENSE_START=======================================================
+ *  Copyright (C) 2026 Nordix Foundation.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.controlloop.actorserviceprovider.topic;
+
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.IOException;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.onap.policy.common.utils.coder.CoderException;
+import org.onap.policy.common.utils.coder.StandardCoder;
+import org.onap.policy.common.utils.coder.StandardCoderObject;
+
+class FieldExtractorTest {
+    private static final StandardCoder coder = new StandardCoder();
+
+    // @formatter:off
+    private static final List<SelectorKey> KEYS = List.of(
+                    new SelectorKey("requestId"),
+                    new SelectorKey("body", "output", "common-header", "sub-request-id"),
+                    new SelectorKey("body", "output", "status", "code"),
+                    new SelectorKey("body", "output"),
+                    new SelectorKey("list", 1),
+                    new SelectorKey("list", 5),
+                    new SelectorKey("list", 2, "name"),
+                    new SelectorKey("flag"),
+                    new SelectorKey("missing"),
+                    new SelectorKey("nothing"),
+                    new SelectorKey("requestId"),
+                    new SelectorKey());
+    // @formatter:on
+
+    @Test
+    void testExtract() throws Exception {
+        FieldExtractor extractor = new FieldExtractor(KEYS);
+
+        // @formatter:off
+        verify(extractor, """
+            {"requestId": "req-A", "ignored": {"body": {"output": "x"}, "list": [1, 2]},
+             "body": {"output": {"common-header": {"sub-request-id": "sub-1"}, "status": {"code": 400}}},
+             "list": ["zero", 1.5, {"name": "two", "other": [true]}],
+             "flag": true, "nothing": null}
+            """);
+
+        // fields with the wrong types
+        verify(extractor, """
+            {"requestId": ["req-A"], "body": {"output": [1, 2]}, "list": {"1": "one"}, "flag": {}}
+            """);
+
+        // duplicate field - last one wins
+        verify(extractor, """
+            {"requestId": "first", "flag": false, "requestId": "second"}
+            """);
+        // @formatter:on
+    }
+
+    @Test
+    void testExtractNotObject() throws IOException {
+        FieldExtractor extractor = new FieldExtractor(List.of(new SelectorKey("requestId"), new SelectorKey(0)));
+
+        assertArrayEquals(new String[] {null, "requestId"}, extractor.extract("[\"requestId\", \"abc\"]"));
+        assertArrayEquals(new String[] {null, null}, extractor.extract("\"text\""));
+
+        extractor = new FieldExtractor(List.of(new SelectorKey()));
+        assertArrayEquals(new String[] {"123"}, extractor.extract("123"));
+    }
+
+    @Test
+    void testExtractInvalid() {
+        FieldExtractor extractor = new FieldExtractor(KEYS);
+
+        assertThatThrownBy(() -> extractor.extract("{invalid-json")).isInstanceOf(IOException.class);
+        assertThatThrownBy(() -> extractor.extract("{\"requestId\": ")).isInstanceOf(IOException.class);
+        assertThatThrownBy(() -> extractor.extract("")).isInstanceOf(IOException.class);
+    }
+
+    @Test
+    void testExtractNoKeys() throws IOException {
+        assertArrayEquals(new String[0], new FieldExtractor(List.of()).extract("{\"abc\": 10}"));
+    }
+
+    @Test
+    void testInvalidKey() {
+        List<SelectorKey> keys = List.of(new SelectorKey("abc", 1.0));
+        assertThatIllegalArgumentException().isThrownBy(() -> new FieldExtractor(keys));
+    }
+
+    /**
+     * Verifies that the values extracted from a message match those that are extracted
+     * from the decoded message.
+     */
+    private void verify(FieldExtractor extractor, String message) throws IOException, CoderException {
+        StandardCoderObject sco = coder.decode(message, StandardCoderObject.class);
+        String[] values = extractor.extract(message);
+
+        assertEquals(KEYS.size(), values.length);
+        for (var index = 0; index < values.length; ++index) {
+            assertEquals(KEYS.get(index).extractField(sco), values[index], KEYS.get(index).toString());
+        }
+    }
+}
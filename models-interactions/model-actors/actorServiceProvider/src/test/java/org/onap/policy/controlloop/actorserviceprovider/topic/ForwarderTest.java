@@ -98,6 +98,33 @@ class ForwarderTest {
                         .withMessage("key/value mismatch");
     }
 
+    @Test
+    void testRegisterNullValue() {
+        forwarder.register(Arrays.asList(VALUEC_REQID, null), listener1);
+
+        StandardCoderObject sco = makeMessage(Map.of(KEY1, VALUEC_REQID));
+        forwarder.onMessage(TEXT, sco);
+        verify(listener1, never()).accept(any(), any());
+
+        // unregistering is harmless
+        forwarder.unregister(Arrays.asList(VALUEC_REQID, null), listener1);
+        forwarder.unregister(Arrays.asList(VALUEC_REQID), listener1);
+    }
+
+    @Test
+    void testCompositeKey() {
+        // values that would be ambiguous if they were simply concatenated
+        forwarder.register(Arrays.asList("a:", "b"), listener1);
+
+        StandardCoderObject sco = makeMessage(Map.of(KEY1, "a", KEY2, Map.of(SUBKEY, ":b")));
+        forwarder.onMessage(TEXT, sco);
+        verify(listener1, never()).accept(any(), any());
+
+        sco = makeMessage(Map.of(KEY1, "a:", KEY2, Map.of(SUBKEY, "b")));
+        forwarder.onMessage(TEXT, sco);
+        verify(listener1).accept(TEXT, sco);
+    }
+
     @Test
     void testUnregister() {
         // remove listener1b
@@ -21,17 +21,22 @@
 
 package org.onap.policy.controlloop.actorserviceprovider.topic;
 
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.function.BiConsumer;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -145,6 +150,60 @@ class TopicListenerImplTest {
         verify(listener2).accept(any(), any());
     }
 
+    /**
+     * Tests onTopicEvent() when forwarding via an executor.
+     */
+    @Test
+    void testOnTopicEventExecutor() {
+        List<Runnable> tasks = new ArrayList<>();
+        topic = new TopicListenerImpl(tasks::add);
+
+        forwarder1 = topic.addForwarder(new SelectorKey(KEY1));
+        forwarder1.register(List.of(VALUEA_REQID), listener1);
+
+        // no listeners - nothing queued
+        topic.onTopicEvent(INFRA, MY_TOPIC, makeMessage(Map.of(KEY1, VALUEB_REQID)));
+        assertTrue(tasks.isEmpty());
+
+        String msg = makeMessage(Map.of(KEY1, VALUEA_REQID));
+        topic.onTopicEvent(INFRA, MY_TOPIC, msg);
+        assertEquals(1, tasks.size());
+        verify(listener1, never()).accept(any(), any());
+
+        tasks.get(0).run();
+        verify(listener1).accept(eq(msg), any());
+    }
+
+    /**
+     * Tests onTopicEvent() when the executor rejects the message.
+     */
+    @Test
+    void testOnTopicEventRejected() {
+        topic = new TopicListenerImpl(task -> {
+            throw new RejectedExecutionException("expected exception");
+        });
+
+        forwarder1 = topic.addForwarder(new SelectorKey(KEY1));
+        forwarder1.register(List.of(VALUEA_REQID), listener1);
+
+        assertThatCode(() -> topic.onTopicEvent(INFRA, MY_TOPIC, makeMessage(Map.of(KEY1, VALUEA_REQID))))
+                        .doesNotThrowAnyException();
+        verify(listener1, never()).accept(any(), any());
+    }
+
+    /**
+     * Tests onTopicEvent() when the message is not a JSON object.
+     */
+    @Test
+    void testOnTopicEventNotObject() {
+        topic.onTopicEvent(INFRA, MY_TOPIC, "[\"hello\"]");
+        topic.onTopicEvent(INFRA, MY_TOPIC, "");
+
+        verify(listener1, never()).accept(any(), any());
+        verify(listener1b, never()).accept(any(), any());
+        verify(listener2, never()).accept(any(), any());
+    }
+
     /**
      * Makes a message from a map.
      */
@@ -27,13 +27,16 @@ import com.google.gson.JsonArray;
 import com.google.gson.JsonObject;
 import com.google.gson.JsonParser;
 import com.google.gson.annotations.SerializedName;
+import java.io.IOException;
+import java.io.ObjectOutputStream;
 import java.io.Serial;
 import java.io.Serializable;
+import java.util.AbstractList;
 import java.util.ArrayList;
-import java.util.LinkedList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
-import lombok.Getter;
-import lombok.Setter;
+import java.util.Map;
 import org.onap.aai.domain.yang.CloudRegion;
 import org.onap.aai.domain.yang.GenericVnf;
 import org.onap.aai.domain.yang.ModelVer;
@@ -44,6 +47,10 @@ import org.onap.aai.domain.yang.Tenant;
 import org.onap.aai.domain.yang.VfModule;
 import org.onap.aai.domain.yang.Vserver;
 
+/**
+ * A&AI custom query response. The A&AI objects in the response are only decoded when objects of their type are first
+ * requested, and the lookup methods use indexes that are built the first time they are needed.
+ */
 public class AaiCqResponse implements Serializable {
 
     @Serial
@@ -53,12 +60,50 @@ public class AaiCqResponse implements Serializable {
     private static final String GENERIC_VNF = "generic-vnf";
     private static final String VF_MODULE = "vf-module";
 
-    @Getter
-    @Setter
+    private static final Gson GSON = new GsonBuilder()
+        .setFieldNamingStrategy(new XmlElementFieldNamingStrategy())
+        .create();
+
+    /**
+     * A&AI object types, and the name under which each appears in a query result, in the order in which they are
+     * added to the inventory response items.
+     */
+    private static final Map<Class<?>, String> TYPE_NAMES = new LinkedHashMap<>();
+
+    static {
+        TYPE_NAMES.put(Vserver.class, "vserver");
+        TYPE_NAMES.put(GenericVnf.class, GENERIC_VNF);
+        TYPE_NAMES.put(ServiceInstance.class, "service-instance");
+        TYPE_NAMES.put(VfModule.class, VF_MODULE);
+        TYPE_NAMES.put(CloudRegion.class, "cloud-region");
+        TYPE_NAMES.put(Tenant.class, "tenant");
+        TYPE_NAMES.put(ModelVer.class, "model-ver");
+    }
+
+    /**
+     * All of the A&AI objects, in the order in which they appear in the response. This is {@code null} until
+     * {@link #getInventoryResponseItems()} is first invoked.
+     */
     @SerializedName("results")
-    private List<Serializable> inventoryResponseItems = new LinkedList<>();
+    private List<Serializable> inventoryResponseItems = null;
+
+    /**
+     * View of {@link #inventoryResponseItems} that is returned by {@link #getInventoryResponseItems()}.
+     */
+    private transient List<Serializable> itemView;
 
-    private final transient Gson gson;
+    /**
+     * Query results that have not yet been fully decoded, or {@code null} once all of them have been.
+     */
+    private transient List<JsonObject> results;
+
+    /**
+     * Decoded A&AI objects, by type.
+     */
+    private transient Map<Class<?>, List<?>> itemsByType;
+
+    private transient VnfIndex vnfIndex;
+    private transient Map<String, ModelVer> modelVerByVersionId;
 
     /**
      * Constructor creates a custom query response from a valid json string.
@@ -66,77 +111,99 @@ public class AaiCqResponse implements Serializable {
      * @param jsonString A&AI Custom Query response JSON string
      */
     public AaiCqResponse(String jsonString) {
-        gson = new GsonBuilder()
-            .setFieldNamingStrategy(new XmlElementFieldNamingStrategy())
-            .create();
-
-        // Read JSON String and add all AaiObjects
+        // Read JSON String; the AaiObjects are decoded on demand
         var responseObj = JsonParser.parseString(jsonString).getAsJsonObject();
         var resultsArray = new JsonArray();
         if (responseObj.has("results")) {
             resultsArray = responseObj.getAsJsonArray("results");
         }
+
+        results = new ArrayList<>(resultsArray.size());
         for (var i = 0; i < resultsArray.size(); i++) {
-            final var resultObject = resultsArray.get(i).getAsJsonObject();
-
-            extractVserver(resultObject);
-            extractGenericVnf(resultObject);
-            extractServiceInstance(resultObject);
-            extractVfModule(resultObject);
-            extractCloudRegion(resultObject);
-            extractTenant(resultObject);
-            extractModelVer(resultObject);
+            results.add(resultsArray.get(i).getAsJsonObject());
         }
     }
 
-    private void extractVserver(final JsonObject resultObject) {
-        if (resultObject.has("vserver")) {
-            var vserver = gson.fromJson(resultObject.getAsJsonObject("vserver"), Vserver.class);
-            this.inventoryResponseItems.add(vserver);
+    /**
+     * Constructs a copy of a response. Objects that the original has not yet decoded are decoded afresh by the copy,
+     * while those that it has decoded are copied, thus changes made to either response are not seen by the other.
+     *
+     * @param original response to be copied
+     */
+    public AaiCqResponse(AaiCqResponse original) {
+        synchronized (original) {
+            if (original.results != null) {
+                // the undecoded results are never modified, thus they may be shared
+                results = original.results;
+
+            } else if (original.inventoryResponseItems != null) {
+                inventoryResponseItems = new ArrayList<>(original.inventoryResponseItems.size());
+                for (Serializable item : original.inventoryResponseItems) {
+                    inventoryResponseItems.add(item == null ? null : GSON.fromJson(GSON.toJsonTree(item),
+                        item.getClass()));
+                }
+            }
         }
     }
 
-    private void extractGenericVnf(final JsonObject resultObject) {
-        if (resultObject.has(GENERIC_VNF)) {
-            var genericVnf = gson.fromJson(resultObject.getAsJsonObject(GENERIC_VNF), GenericVnf.class);
-            this.inventoryResponseItems.add(genericVnf);
+    /**
+     * Get all of the A&AI objects in the custom query. Any that have not yet been decoded are decoded now.
+     *
+     * <p>Objects added to, removed from, or replaced in the returned list are seen by the other methods of this
+     * class.
+     *
+     * @return all of the A&AI objects, in the order in which they appear in the response
+     */
+    public synchronized List<Serializable> getInventoryResponseItems() {
+        if (inventoryResponseItems != null) {
+            if (itemView == null) {
+                itemView = new ItemList(inventoryResponseItems);
+            }
+            return itemView;
         }
-    }
 
-    private void extractServiceInstance(final JsonObject resultObject) {
-        if (resultObject.has("service-instance")) {
-            var serviceInstance = gson.fromJson(resultObject.getAsJsonObject("service-instance"),
-                    ServiceInstance.class);
-            this.inventoryResponseItems.add(serviceInstance);
-        }
-    }
+        // interleave the objects of each type, in the order in which they appear in the results
+        Map<Class<?>, Integer> nextIndex = new HashMap<>();
+        List<Serializable> items = new ArrayList<>();
 
-    private void extractVfModule(final JsonObject resultObject) {
-        if (resultObject.has(VF_MODULE)) {
-            var vfModule = gson.fromJson(resultObject.getAsJsonObject(VF_MODULE), VfModule.class);
-            this.inventoryResponseItems.add(vfModule);
+        for (JsonObject resultObject : results) {
+            for (Map.Entry<Class<?>, String> entry : TYPE_NAMES.entrySet()) {
+                if (resultObject.has(entry.getValue())) {
+                    int index = nextIndex.merge(entry.getKey(), 1, Integer::sum) - 1;
+                    items.add((Serializable) getItems(entry.getKey()).get(index));
+                }
+            }
         }
-    }
 
-    private void extractCloudRegion(final JsonObject resultObject) {
-        if (resultObject.has("cloud-region")) {
-            var cloudRegion = gson.fromJson(resultObject.getAsJsonObject("cloud-region"), CloudRegion.class);
-            this.inventoryResponseItems.add(cloudRegion);
-        }
+        inventoryResponseItems = items;
+
+        // everything has been decoded
+        results = null;
+
+        itemView = new ItemList(inventoryResponseItems);
+        return itemView;
     }
 
-    private void extractTenant(final JsonObject resultObject) {
-        if (resultObject.has("tenant")) {
-            var tenant = gson.fromJson(resultObject.getAsJsonObject("tenant"), Tenant.class);
-            this.inventoryResponseItems.add(tenant);
-        }
+    /**
+     * Replaces the A&AI objects in the custom query.
+     *
+     * @param inventoryResponseItems the new A&AI objects
+     */
+    public synchronized void setInventoryResponseItems(List<Serializable> inventoryResponseItems) {
+        this.inventoryResponseItems = inventoryResponseItems;
+        results = null;
+        itemView = null;
+        discardIndexes();
     }
 
-    private void extractModelVer(final JsonObject resultObject) {
-        if (resultObject.has("model-ver")) {
-            var modelVer = gson.fromJson(resultObject.getAsJsonObject("model-ver"), ModelVer.class);
-            this.inventoryResponseItems.add(modelVer);
-        }
+    /**
+     * Discards the decoded objects by type, and the lookup indexes, so that they are rebuilt from
+     * {@link #inventoryResponseItems} when next needed.
+     */
+    private synchronized void discardIndexes() {
+        itemsByType = null;
+        vnfIndex = null;
+        modelVerByVersionId = null;
     }
 
     /**
@@ -145,16 +212,8 @@ public class AaiCqResponse implements Serializable {
      * @param classOfResponse Class of the type of A&AI objects to be returned
      * @return List A&AI objects matching the class
      */
-    @SuppressWarnings("unchecked")
     public <T> List<T> getItemListByType(Class<T> classOfResponse) {
-        List<T> returnItemList = new ArrayList<>();
-        for (Serializable i : this.inventoryResponseItems) {
-            if (i.getClass() == classOfResponse) {
-                returnItemList.add((T) i);
-            }
-        }
-        return returnItemList;
-
+        return new ArrayList<>(getItems(classOfResponse));
     }
 
     /**
@@ -163,14 +222,7 @@ public class AaiCqResponse implements Serializable {
      * @return Service Instance
      */
     public ServiceInstance getServiceInstance() {
-        ServiceInstance serviceInstance = null;
-        for (Serializable i : this.inventoryResponseItems) {
-            if (i.getClass() == ServiceInstance.class) {
-                serviceInstance = (ServiceInstance) i;
-            }
-        }
-        return serviceInstance;
-
+        return getLast(getItems(ServiceInstance.class));
     }
 
     /**
@@ -179,14 +231,7 @@ public class AaiCqResponse implements Serializable {
      * @return Tenant
      */
     public Tenant getDefaultTenant() {
-        Tenant tenant = null;
-        for (Serializable i : this.inventoryResponseItems) {
-            if (i.getClass() == Tenant.class) {
-                tenant = (Tenant) i;
-            }
-        }
-        return tenant;
-
+        return getLast(getItems(Tenant.class));
     }
 
     /**
@@ -195,14 +240,7 @@ public class AaiCqResponse implements Serializable {
      * @return Cloud Region
      */
     public CloudRegion getDefaultCloudRegion() {
-        CloudRegion cloudRegion = null;
-        for (Serializable i : this.inventoryResponseItems) {
-            if (i.getClass() == CloudRegion.class) {
-                cloudRegion = (CloudRegion) i;
-            }
-        }
-        return cloudRegion;
-
+        return getLast(getItems(CloudRegion.class));
     }
 
     /**
@@ -211,14 +249,7 @@ public class AaiCqResponse implements Serializable {
      * @return List of generic Vnf
      */
     public List<GenericVnf> getGenericVnfs() {
-        List<GenericVnf> genericVnfList = new ArrayList<>();
-        for (Serializable i : this.inventoryResponseItems) {
-            if (i.getClass() == GenericVnf.class) {
-                genericVnfList.add((GenericVnf) i);
-            }
-        }
-        return genericVnfList;
-
+        return new ArrayList<>(getItems(GenericVnf.class));
     }
 
     /**
@@ -228,22 +259,7 @@ public class AaiCqResponse implements Serializable {
      * @return generic Vnf
      */
     public GenericVnf getGenericVnfByVnfName(String vnfName) {
-        List<GenericVnf> genericVnfList = new ArrayList<>();
-        GenericVnf genericVnf = null;
-        for (Serializable i : this.inventoryResponseItems) {
-            if (i.getClass() == GenericVnf.class) {
-                genericVnfList.add((GenericVnf) i);
-            }
-        }
-
-        for (GenericVnf genVnf : genericVnfList) {
-            if (vnfName.equals(genVnf.getVnfName())) {
-                genericVnf = genVnf;
-            }
-
-        }
-        return genericVnf;
-
+        return getVnfIndex().byName.get(vnfName);
     }
 
     /**
@@ -253,22 +269,7 @@ public class AaiCqResponse implements Serializable {
      * @return generic Vnf
      */
     public GenericVnf getGenericVnfByModelInvariantId(String modelInvariantId) {
-        List<GenericVnf> genericVnfList = new ArrayList<>();
-        GenericVnf genericVnf = null;
-        for (Serializable i : this.inventoryResponseItems) {
-            if (i.getClass() == GenericVnf.class) {
-                genericVnfList.add((GenericVnf) i);
-            }
-        }
-
-        for (GenericVnf genVnf : genericVnfList) {
-            if (modelInvariantId.equals(genVnf.getModelInvariantId())) {
-                genericVnf = genVnf;
-            }
-
-        }
-        return genericVnf;
-
+        return getVnfIndex().byModelInvariantId.get(modelInvariantId);
     }
 
     /**
@@ -278,18 +279,7 @@ public class AaiCqResponse implements Serializable {
      * @return generic Vnf
      */
     public GenericVnf getGenericVnfByVfModuleModelInvariantId(String vfModuleModelInvariantId) {
-        List<GenericVnf> genericVnfList = this.getGenericVnfs();
-
-        for (GenericVnf genVnf : genericVnfList) {
-            // Iterate through all the vfModules of that generic Vnf
-            for (VfModule vfMod : genVnf.getVfModules().getVfModule()) {
-                if (vfMod.getModelInvariantId() != null
-                    && vfMod.getModelInvariantId().equals(vfModuleModelInvariantId)) {
-                    return genVnf;
-                }
-            }
-        }
-        return null;
+        return getVnfIndex().byVfModuleModelInvariantId.get(vfModuleModelInvariantId);
     }
 
     /**
@@ -299,15 +289,7 @@ public class AaiCqResponse implements Serializable {
      * @return generic Vnf
      */
     public GenericVnf getGenericVnfByVnfId(String vnfId) {
-        List<GenericVnf> genericVnfList = this.getGenericVnfs();
-
-        for (GenericVnf genVnf : genericVnfList) {
-            if (vnfId.equals(genVnf.getVnfId())) {
-                return genVnf;
-            }
-        }
-
-        return null;
+        return getVnfIndex().byId.get(vnfId);
     }
 
     /**
@@ -316,8 +298,6 @@ public class AaiCqResponse implements Serializable {
      * @return Generic VNF
      */
     public GenericVnf getDefaultGenericVnf() {
-        GenericVnf genericVnf = null;
-
         // Get the vserver associated with the query
         var vserver = this.getVserver();
 
@@ -327,16 +307,7 @@ public class AaiCqResponse implements Serializable {
         // Find the relationship of the genericVNF
         var genericVnfId = getGenericVnfId(relations, GENERIC_VNF, "generic-vnf.vnf-id");
 
-        // Get the list of generic vnfs
-        List<GenericVnf> genericVnfList = this.getGenericVnfs();
-
-        for (GenericVnf genVnf : genericVnfList) {
-            if (genericVnfId.equals(genVnf.getVnfId())) {
-                genericVnf = genVnf;
-            }
-        }
-
-        return genericVnf;
+        return getVnfIndex().lastById.get(genericVnfId);
     }
 
     private static String getGenericVnfId(List<Relationship> relations, String genericVnf, String x) {
@@ -401,13 +372,7 @@ public class AaiCqResponse implements Serializable {
      * @return List of VfModule
      */
     public List<VfModule> getAllVfModules() {
-        List<VfModule> vfModuleList = new ArrayList<>();
-
-        for (GenericVnf genVnf : this.getGenericVnfs()) {
-            vfModuleList.addAll(genVnf.getVfModules().getVfModule());
-        }
-        return vfModuleList;
-
+        return new ArrayList<>(getVnfIndex().vfModules);
     }
 
     /**
@@ -416,15 +381,7 @@ public class AaiCqResponse implements Serializable {
      * @return VfModule
      */
     public VfModule getVfModuleByVfModuleName(String vfModuleName) {
-        VfModule vfModule = null;
-
-        for (VfModule vfMod : this.getAllVfModules()) {
-            if (vfModuleName.equals(vfMod.getVfModuleName())) {
-                vfModule = vfMod;
-            }
-
-        }
-        return vfModule;
+        return getVnfIndex().vfModuleByName.get(vfModuleName);
     }
 
     /**
@@ -433,15 +390,7 @@ public class AaiCqResponse implements Serializable {
      * @return VfModule
      */
     public VfModule getVfModuleByVfModelInvariantId(String vfModelInvariantId) {
-        VfModule vfModule = null;
-
-        for (VfModule vfMod : this.getAllVfModules()) {
-            if (vfMod.getModelInvariantId() != null && vfModelInvariantId.equals(vfMod.getModelInvariantId())) {
-                vfModule = vfMod;
-            }
-
-        }
-        return vfModule;
+        return getVnfIndex().vfModuleByModelInvariantId.get(vfModelInvariantId);
     }
 
     /**
@@ -450,14 +399,7 @@ public class AaiCqResponse implements Serializable {
      * @return Vserver
      */
     public Vserver getVserver() {
-        Vserver vserver = null;
-        var index = 0;
-        while (this.inventoryResponseItems.get(index).getClass() != Vserver.class) {
-            index = index + 1;
-        }
-        vserver = (Vserver) this.inventoryResponseItems.get(index);
-        return vserver;
-
+        return getItems(Vserver.class).get(0);
     }
 
     /**
@@ -466,13 +408,7 @@ public class AaiCqResponse implements Serializable {
      * @return List of model Versions
      */
     public List<ModelVer> getAllModelVer() {
-        List<ModelVer> modelVerList = new ArrayList<>();
-        for (Serializable i : this.inventoryResponseItems) {
-            if (i.getClass() == ModelVer.class) {
-                modelVerList.add((ModelVer) i);
-            }
-        }
-        return modelVerList;
+        return new ArrayList<>(getItems(ModelVer.class));
     }
 
     /**
@@ -480,16 +416,15 @@ public class AaiCqResponse implements Serializable {
      *
      * @return VfModule
      */
-    public ModelVer getModelVerByVersionId(String versionId) {
-        ModelVer modelVer = null;
-
-        for (ModelVer modVersion : this.getAllModelVer()) {
-            if (versionId.equals(modVersion.getModelVersionId())) {
-                modelVer = modVersion;
+    public synchronized ModelVer getModelVerByVersionId(String versionId) {
+        if (modelVerByVersionId == null) {
+            modelVerByVersionId = new HashMap<>();
+            for (ModelVer modVersion : getItems(ModelVer.class)) {
+                putIfNotNull(modelVerByVersionId, modVersion.getModelVersionId(), modVersion);
             }
-
         }
-        return modelVer;
+
+        return modelVerByVersionId.get(versionId);
     }
 
     /**
@@ -501,20 +436,170 @@ public class AaiCqResponse implements Serializable {
      * @return Returns the count of vf modules
      */
     public int getVfModuleCount(String custId, String invId, String verId) {
-        List<VfModule> vfModuleList = this.getAllVfModules();
-        var count = 0;
-        for (VfModule vfModule : vfModuleList) {
-            if (vfModule.getModelCustomizationId() == null || vfModule.getModelInvariantId() == null
-                || vfModule.getModelVersionId() == null) {
-                continue;
+        if (custId == null || invId == null || verId == null) {
+            return 0;
+        }
+
+        return getVnfIndex().vfModuleCount.getOrDefault(List.of(custId, invId, verId), 0);
+    }
+
+    /**
+     * Gets the A&AI objects of a given type, decoding them if that has not been done yet.
+     *
+     * @param clazz type of A&AI object
+     * @return the A&AI objects of the given type, in the order in which they appear in the response
+     */
+    @SuppressWarnings("unchecked")
+    private synchronized <T> List<T> getItems(Class<T> clazz) {
+        if (itemsByType == null) {
+            itemsByType = new HashMap<>();
+        }
+
+        return (List<T>) itemsByType.computeIfAbsent(clazz, this::decodeItems);
+    }
+
+    private List<?> decodeItems(Class<?> clazz) {
+        List<Object> items = new ArrayList<>();
+
+        if (results == null) {
+            // already decoded, or deserialized, or replaced by the setter
+            for (Serializable item : inventoryResponseItems) {
+                if (item != null && item.getClass() == clazz) {
+                    items.add(item);
+                }
             }
+            return items;
+        }
 
-            if (vfModule.getModelCustomizationId().equals(custId) && vfModule.getModelInvariantId().equals(invId)
-                && vfModule.getModelVersionId().equals(verId)) {
-                count = count + 1;
+        var name = TYPE_NAMES.get(clazz);
+        if (name == null) {
+            return items;
+        }
+
+        for (JsonObject resultObject : results) {
+            if (resultObject.has(name)) {
+                items.add(GSON.fromJson(resultObject.getAsJsonObject(name), clazz));
             }
         }
-        return count;
+        return items;
     }
 
+    private synchronized VnfIndex getVnfIndex() {
+        if (vnfIndex == null) {
+            vnfIndex = new VnfIndex(getItems(GenericVnf.class));
+        }
+        return vnfIndex;
+    }
+
+    private static <T> T getLast(List<T> items) {
+        return (items.isEmpty() ? null : items.get(items.size() - 1));
+    }
+
+    private static <T> void putIfNotNull(Map<String, T> map, String key, T value) {
+        if (key != null) {
+            map.put(key, value);
+        }
+    }
+
+    /**
+     * Decodes any remaining objects, so that they are serialized with the response.
+     *
+     * @param out output stream
+     * @throws IOException if the response cannot be written
+     */
+    @Serial
+    private synchronized void writeObject(ObjectOutputStream out) throws IOException {
+        getInventoryResponseItems();
+        out.defaultWriteObject();
+    }
+
+    /**
+     * Indexes of the generic VNFs, and their VF modules. Where several objects have the same key, the last one is
+     * indexed, except for the VNF indexes by vnf-id and by VF module, which index the first. The default generic VNF
+     * is the last one having the vserver's vnf-id, thus the VNFs are also indexed by their last vnf-id.
+     */
+    private static class VnfIndex {
+        private final Map<String, GenericVnf> byId = new HashMap<>();
+        private final Map<String, GenericVnf> lastById = new HashMap<>();
+        private final Map<String, GenericVnf> byName = new HashMap<>();
+        private final Map<String, GenericVnf> byModelInvariantId = new HashMap<>();
+        private final Map<String, GenericVnf> byVfModuleModelInvariantId = new HashMap<>();
+
+        private final List<VfModule> vfModules = new ArrayList<>();
+        private final Map<String, VfModule> vfModuleByName = new HashMap<>();
+        private final Map<String, VfModule> vfModuleByModelInvariantId = new HashMap<>();
+        private final Map<List<String>, Integer> vfModuleCount = new HashMap<>();
+
+        private VnfIndex(List<GenericVnf> vnfs) {
+            for (GenericVnf vnf : vnfs) {
+                if (vnf.getVnfId() != null) {
+                    byId.putIfAbsent(vnf.getVnfId(), vnf);
+                    lastById.put(vnf.getVnfId(), vnf);
+                }
+                putIfNotNull(byName, vnf.getVnfName(), vnf);
+                putIfNotNull(byModelInvariantId, vnf.getModelInvariantId(), vnf);
+
+                if (vnf.getVfModules() != null) {
+                    vnf.getVfModules().getVfModule().forEach(module -> addVfModule(vnf, module));
+                }
+            }
+        }
+
+        private void addVfModule(GenericVnf vnf, VfModule module) {
+            vfModules.add(module);
+            putIfNotNull(vfModuleByName, module.getVfModuleName(), module);
+            putIfNotNull(vfModuleByModelInvariantId, module.getModelInvariantId(), module);
+
+            if (module.getModelInvariantId() != null) {
+                byVfModuleModelInvariantId.putIfAbsent(module.getModelInvariantId(), vnf);
+            }
+
+            if (module.getModelCustomizationId() != null && module.getModelInvariantId() != null
+                && module.getModelVersionId() != null) {
+                vfModuleCount.merge(List.of(module.getModelCustomizationId(), module.getModelInvariantId(),
+                    module.getModelVersionId()), 1, Integer::sum);
+            }
+        }
+    }
+
+    /**
+     * View of the A&AI objects through which changes to the list discard the decoded objects and lookup indexes.
+     */
+    private class ItemList extends AbstractList<Serializable> {
+        private final List<Serializable> items;
+
+        private ItemList(List<Serializable> items) {
+            this.items = items;
+        }
+
+        @Override
+        public Serializable get(int index) {
+            return items.get(index);
+        }
+
+        @Override
+        public int size() {
+            return items.size();
+        }
+
+        @Override
+        public Serializable set(int index, Serializable element) {
+            discardIndexes();
+            return items.set(index, element);
+        }
+
+        @Override
+        public void add(int index, Serializable element) {
+            discardIndexes();
+            ++modCount;
+            items.add(index, element);
+        }
+
+        @Override
+        public Serializable remove(int index) {
+            discardIndexes();
+            ++modCount;
+            return items.remove(index);
+        }
+    }
 }
@@ -3,7 +3,7 @@
  *
  * ================================================================================
  * Copyright (C) 2019-2020 AT&T Intellectual Property. All rights reserved.
- * Modifications Copyright (C) 2024 Nordix Foundation
+ * Modifications Copyright (C) 2024, 2026 Nordix Foundation
  * ================================================================================
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -25,8 +25,15 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.File;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.util.ArrayList;
@@ -177,6 +184,24 @@ class AaiCqResponseTest {
 
     }
 
+    @Test
+    void testGetDefaultGenericVnfDuplicateIds() {
+        String json = """
+            {"results": [
+              {"vserver": {"vserver-id": "my-vserver", "relationship-list": {"relationship": [
+                {"related-to": "generic-vnf", "relationship-data": [
+                  {"relationship-key": "generic-vnf.vnf-id", "relationship-value": "dup-id"}]}]}}},
+              {"generic-vnf": {"vnf-id": "dup-id", "vnf-name": "first"}},
+              {"generic-vnf": {"vnf-id": "dup-id", "vnf-name": "last"}}
+            ]}""";
+
+        AaiCqResponse aaiCqResponse = new AaiCqResponse(json);
+
+        // the default is the last match, while the lookup by id returns the first
+        assertEquals("last", aaiCqResponse.getDefaultGenericVnf().getVnfName());
+        assertEquals("first", aaiCqResponse.getGenericVnfByVnfId("dup-id").getVnfName());
+    }
+
     @Test
     void testGetGenericVnfByName() throws Exception {
         String responseString = getAaiCqResponse();
@@ -316,6 +341,122 @@ class AaiCqResponseTest {
         int count = aaiCqResponse.getVfModuleCount("47958575-138f-452a-8c8d-d89b595f8164",
             "e6130d03-56f1-4b0a-9a1d-e1b2ebc30e0e", "94b18b1d-cc91-4f43-911a-e6348665f292");
         assertEquals(1, count);
+
+        assertEquals(0, aaiCqResponse.getVfModuleCount(null, "e6130d03-56f1-4b0a-9a1d-e1b2ebc30e0e",
+            "94b18b1d-cc91-4f43-911a-e6348665f292"));
+        assertEquals(0, aaiCqResponse.getVfModuleCount("unknown", "e6130d03-56f1-4b0a-9a1d-e1b2ebc30e0e",
+            "94b18b1d-cc91-4f43-911a-e6348665f292"));
+    }
+
+    @Test
+    void testInventoryResponseItemsOrder() throws Exception {
+        AaiCqResponse aaiCqResponse = new AaiCqResponse(getAaiCqResponse());
+
+        // decode one type before the others
+        GenericVnf genVnf = aaiCqResponse.getGenericVnfByVnfName(ETE_VNF);
+
+        List<Serializable> items = aaiCqResponse.getInventoryResponseItems();
+        assertEquals(Vserver.class, items.get(0).getClass());
+        assertTrue(items.contains(genVnf));
+        assertSame(items, aaiCqResponse.getInventoryResponseItems());
+
+        // same objects are returned after all have been decoded
+        assertSame(genVnf, aaiCqResponse.getGenericVnfByVnfName(ETE_VNF));
+        assertEquals(aaiCqResponse.getGenericVnfs().size() + aaiCqResponse.getAllModelVer().size()
+            + aaiCqResponse.getItemListByType(Vserver.class).size()
+            + aaiCqResponse.getItemListByType(ServiceInstance.class).size()
+            + aaiCqResponse.getItemListByType(VfModule.class).size()
+            + aaiCqResponse.getItemListByType(CloudRegion.class).size()
+            + aaiCqResponse.getItemListByType(Tenant.class).size(), items.size());
+
+        assertTrue(aaiCqResponse.getItemListByType(String.class).isEmpty());
+    }
+
+    @Test
+    void testSetInventoryResponseItems() throws Exception {
+        AaiCqResponse aaiCqResponse = new AaiCqResponse(getAaiCqResponse());
+        assertNotNull(aaiCqResponse.getGenericVnfByVnfName(ETE_VNF));
+
+        GenericVnf vnf = new GenericVnf();
+        vnf.setVnfId("my-vnf-id");
+        vnf.setVnfName("my-vnf");
+        aaiCqResponse.setInventoryResponseItems(new ArrayList<>(List.of(vnf)));
+
+        assertNull(aaiCqResponse.getGenericVnfByVnfName(ETE_VNF));
+        assertSame(vnf, aaiCqResponse.getGenericVnfByVnfName("my-vnf"));
+        assertSame(vnf, aaiCqResponse.getGenericVnfByVnfId("my-vnf-id"));
+        assertTrue(aaiCqResponse.getAllVfModules().isEmpty());
+        assertNull(aaiCqResponse.getServiceInstance());
+    }
+
+    @Test
+    void testModifyInventoryResponseItems() throws Exception {
+        AaiCqResponse aaiCqResponse = new AaiCqResponse(getAaiCqResponse());
+        assertNotNull(aaiCqResponse.getGenericVnfByVnfName(ETE_VNF));
+
+        // changes made through the list are seen by the other methods
+        List<Serializable> items = aaiCqResponse.getInventoryResponseItems();
+        assertTrue(items.removeIf(GenericVnf.class::isInstance));
+        assertNull(aaiCqResponse.getGenericVnfByVnfName(ETE_VNF));
+        assertTrue(aaiCqResponse.getGenericVnfs().isEmpty());
+
+        GenericVnf vnf = new GenericVnf();
+        vnf.setVnfId("my-vnf-id");
+        vnf.setVnfName("my-vnf");
+        items.add(vnf);
+        assertSame(vnf, aaiCqResponse.getGenericVnfByVnfName("my-vnf"));
+
+        GenericVnf vnf2 = new GenericVnf();
+        vnf2.setVnfId("my-vnf-id");
+        vnf2.setVnfName("my-vnf2");
+        items.set(items.indexOf(vnf), vnf2);
+        assertSame(vnf2, aaiCqResponse.getGenericVnfByVnfId("my-vnf-id"));
+        assertEquals(List.of(vnf2), aaiCqResponse.getGenericVnfs());
+    }
+
+    @Test
+    void testCopy() throws Exception {
+        // copy before the original has been decoded
+        AaiCqResponse aaiCqResponse = new AaiCqResponse(getAaiCqResponse());
+        AaiCqResponse copy = new AaiCqResponse(aaiCqResponse);
+
+        assertTrue(aaiCqResponse.getInventoryResponseItems().removeIf(GenericVnf.class::isInstance));
+        assertNull(aaiCqResponse.getGenericVnfByVnfName(ETE_VNF));
+        assertEquals(ETE_VNF, copy.getGenericVnfByVnfName(ETE_VNF).getVnfName());
+
+        // copy after the original has been decoded and modified
+        AaiCqResponse copy2 = new AaiCqResponse(aaiCqResponse);
+        assertEquals(aaiCqResponse.getInventoryResponseItems().size(), copy2.getInventoryResponseItems().size());
+        assertNull(copy2.getGenericVnfByVnfName(ETE_VNF));
+        assertEquals(ETE_VFMODULE, copy2.getDefaultVfModule().getVfModuleName());
+
+        // changes to the copy are not seen by the original
+        copy2.getDefaultVfModule().setVfModuleName("my-module");
+        assertEquals(ETE_VFMODULE, aaiCqResponse.getDefaultVfModule().getVfModuleName());
+
+        copy2.getInventoryResponseItems().clear();
+        assertFalse(aaiCqResponse.getInventoryResponseItems().isEmpty());
+    }
+
+    @Test
+    void testSerialization() throws Exception {
+        AaiCqResponse aaiCqResponse = new AaiCqResponse(getAaiCqResponse());
+
+        var bytes = new ByteArrayOutputStream();
+        try (var out = new ObjectOutputStream(bytes)) {
+            out.writeObject(aaiCqResponse);
+        }
+
+        AaiCqResponse copy;
+        try (var in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            copy = (AaiCqResponse) in.readObject();
+        }
+
+        assertEquals(aaiCqResponse.getInventoryResponseItems().size(), copy.getInventoryResponseItems().size());
+        assertEquals(ETE_VNF, copy.getDefaultGenericVnf().getVnfName());
+        assertEquals(ETE_VFMODULE, copy.getDefaultVfModule().getVfModuleName());
+        assertEquals(1, copy.getVfModuleCount("47958575-138f-452a-8c8d-d89b595f8164",
+            "e6130d03-56f1-4b0a-9a1d-e1b2ebc30e0e", "94b18b1d-cc91-4f43-911a-e6348665f292"));
     }
 
     /**
@@ -23,6 +23,7 @@ package org.onap.policy.cds.client;
 import io.grpc.ManagedChannel;
 import io.grpc.netty.NettyChannelBuilder;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 import org.onap.ccsdk.cds.controllerblueprints.processing.api.ExecutionServiceInput;
 import org.onap.policy.cds.api.CdsProcessorListener;
 import org.onap.policy.cds.properties.CdsServerProperties;
@@ -41,8 +42,21 @@ public class CdsProcessorGrpcClient implements AutoCloseable {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(CdsProcessorGrpcClient.class);
 
+    /**
+     * Time, in minutes, between keep-alive pings while requests are outstanding. This matches the minimum that a gRPC
+     * server permits by default.
+     */
+    private static final long KEEP_ALIVE_MIN = 5;
+
+    /**
+     * Time, in minutes, after which an unused channel releases its connection. The channel reconnects on the next
+     * request.
+     */
+    private static final long IDLE_TIMEOUT_MIN = 10;
+
     private ManagedChannel channel;
     private CdsProcessorHandler handler;
+    private final boolean ownsChannel;
 
     /**
      * Constructor, create a CDS processor gRPC client.
@@ -50,23 +64,56 @@ public class CdsProcessorGrpcClient implements AutoCloseable {
      * @param listener the listener to listen on
      */
     public CdsProcessorGrpcClient(final CdsProcessorListener listener, CdsServerProperties props) {
+        this.channel = buildChannel(props);
+        this.handler = new CdsProcessorHandler(listener, makeUrl(props));
+        this.ownsChannel = true;
+        LOGGER.info("CdsProcessorListener started");
+    }
+
+    /**
+     * Constructor, create a CDS processor gRPC client that sends its requests over a channel shared with other
+     * clients. Requests from all of the clients are multiplexed over the channel's connection, and the channel is
+     * left open when the client is closed.
+     *
+     * @param listener the listener to listen on
+     * @param props properties of the server to which the channel is connected
+     * @param channel shared channel, built by {@link #buildChannel(CdsServerProperties)}
+     */
+    public CdsProcessorGrpcClient(final CdsProcessorListener listener, CdsServerProperties props,
+                    ManagedChannel channel) {
+        this.channel = channel;
+        this.handler = new CdsProcessorHandler(listener, makeUrl(props));
+        this.ownsChannel = false;
+    }
+
+    CdsProcessorGrpcClient(final ManagedChannel channel, final CdsProcessorHandler handler) {
+        this.channel = channel;
+        this.handler = handler;
+        this.ownsChannel = true;
+    }
+
+    /**
+     * Builds a channel to a CDS server. The channel may be shared by any number of clients, and is not connected until
+     * the first request is sent. It is the user responsibility to shut down the channel.
+     *
+     * @param props properties of the server
+     * @return a new channel
+     */
+    public static ManagedChannel buildChannel(CdsServerProperties props) {
         final ValidationResult validationResult = props.validate();
         if (!validationResult.getStatus().isValid()) {
             throw new IllegalStateException("Error validating CDS server "
                 + "properties: " + validationResult.getResult());
         }
 
-        String url = "gRPC://" + props.getHost() + ":" + props.getPort() + "/";
-
-        this.channel = NettyChannelBuilder.forAddress(props.getHost(), props.getPort())
-            .intercept(new BasicAuthClientHeaderInterceptor(props)).usePlaintext().build();
-        this.handler = new CdsProcessorHandler(listener, url);
-        LOGGER.info("CdsProcessorListener started");
+        return NettyChannelBuilder.forAddress(props.getHost(), props.getPort())
+            .intercept(new BasicAuthClientHeaderInterceptor(props)).usePlaintext()
+            .keepAliveTime(KEEP_ALIVE_MIN, TimeUnit.MINUTES)
+            .idleTimeout(IDLE_TIMEOUT_MIN, TimeUnit.MINUTES).build();
     }
 
-    CdsProcessorGrpcClient(final ManagedChannel channel, final CdsProcessorHandler handler) {
-        this.channel = channel;
-        this.handler = handler;
+    private static String makeUrl(CdsServerProperties props) {
+        return "gRPC://" + props.getHost() + ":" + props.getPort() + "/";
     }
 
     /**
@@ -87,6 +134,9 @@ public class CdsProcessorGrpcClient implements AutoCloseable {
 
     @Override
     public void close() {
+        if (!ownsChannel) {
+            return;
+        }
         if (channel != null) {
             channel.shutdown();
         }
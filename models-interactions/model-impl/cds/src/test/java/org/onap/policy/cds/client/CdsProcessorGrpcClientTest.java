@@ -22,6 +22,7 @@ package org.onap.policy.cds.client;
 
 import static org.assertj.core.api.Assertions.assertThatCode;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
@@ -44,7 +45,7 @@ import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.onap.ccsdk.cds.controllerblueprints.common.api.ActionIdentifiers;
-import org.onap.ccsdk.cds.controllerblueprints.processing.api.BluePrintProcessingServiceGrpc.BluePrintProcessingServiceImplBase;
+import org.onap.ccsdk.cds.controllerblueprints.processing.api.BluePrintProcessingServiceGrpc;
 import org.onap.ccsdk.cds.controllerblueprints.processing.api.ExecutionServiceInput;
 import org.onap.ccsdk.cds.controllerblueprints.processing.api.ExecutionServiceOutput;
 import org.onap.policy.cds.api.CdsProcessorListener;
@@ -98,7 +99,7 @@ class CdsProcessorGrpcClientTest {
         client = new CdsProcessorGrpcClient(channel, new CdsProcessorHandler(listener, "gRPC://localhost:1234/"));
 
         // Implement the test gRPC server
-        BluePrintProcessingServiceImplBase testCdsBlueprintServerImpl = new BluePrintProcessingServiceImplBase() {
+        var testCdsBlueprintServerImpl = new BluePrintProcessingServiceGrpc.BluePrintProcessingServiceImplBase() {
             @Override
             public StreamObserver<ExecutionServiceInput> process(
                 final StreamObserver<ExecutionServiceOutput> responseObserver) {
@@ -155,6 +156,42 @@ class CdsProcessorGrpcClientTest {
         assertThrows(IllegalStateException.class, () -> new CdsProcessorGrpcClient(listener, props));
     }
 
+    @Test
+    void testSharedChannel() throws InterruptedException {
+        CdsProcessorGrpcClient shared1 = new CdsProcessorGrpcClient(listener, props, channel);
+        CdsProcessorGrpcClient shared2 = new CdsProcessorGrpcClient(listener, props, channel);
+
+        ExecutionServiceInput testReq = ExecutionServiceInput.newBuilder()
+            .setActionIdentifiers(ActionIdentifiers.newBuilder().setActionName("policy-to-cds-shared").build()).build();
+
+        CountDownLatch finishLatch = shared1.sendRequest(testReq);
+        assertTrue(allRequestsDelivered.await(1, TimeUnit.SECONDS));
+        responseObserverRef.get().onCompleted();
+        assertTrue(finishLatch.await(0, TimeUnit.SECONDS));
+
+        // closing a client leaves the shared channel open for the others
+        shared1.close();
+        assertFalse(channel.isShutdown());
+
+        finishLatch = shared2.sendRequest(testReq);
+        responseObserverRef.get().onCompleted();
+        assertTrue(finishLatch.await(0, TimeUnit.SECONDS));
+        shared2.close();
+
+        assertEquals(List.of("policy-to-cds-shared", "policy-to-cds-shared"), messagesDelivered);
+        assertFalse(channel.isShutdown());
+    }
+
+    @Test
+    void testBuildChannel() {
+        ManagedChannel built = CdsProcessorGrpcClient.buildChannel(props);
+        assertFalse(built.isShutdown());
+        built.shutdownNow();
+
+        props.setHost(null);
+        assertThrows(IllegalStateException.class, () -> CdsProcessorGrpcClient.buildChannel(props));
+    }
+
     @Test
     void testSendRequestFail() throws InterruptedException {
         // Setup
@@ -0,0 +1,151 @@
+/*-
+ * ============LICENSE_START=======================================================
+ *  Copyright (C) 2026 Nordix Foundation.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.controlloop.util;
+
+import java.io.Serializable;
+import java.util.AbstractMap;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Map of strings that holds its entries in a flat array, as they were decoded, and only
+ * builds a {@link HashMap} once the entries are iterated or modified. Lookups, which
+ * are all most events ever see, scan the array, which is cheap for the handful of entries
+ * typically found in an event.
+ * <p/>
+ * Events may be shared by several threads that only read them, and reading a map may
+ * materialize it. Thus the map is materialized under a lock and published via a volatile
+ * field, so that concurrent readers are safe. Concurrent modifications, on the other
+ * hand, are no safer than they are with a {@link HashMap}.
+ */
+final class LazyStringMap extends AbstractMap<String, String> implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Keys and values, alternating.
+     */
+    private final String[] pairs;
+    private final int npairs;
+
+    /**
+     * Materialized entries, or {@code null} if the map has not been materialized yet.
+     */
+    private volatile HashMap<String, String> map;
+
+
+    /**
+     * Constructs the object.
+     *
+     * @param pairs keys and values, alternating; keys must be unique
+     * @param npairs number of key-value pairs within the array
+     */
+    LazyStringMap(String[] pairs, int npairs) {
+        this.pairs = pairs;
+        this.npairs = npairs;
+    }
+
+    /**
+     * Determines if the map has been materialized.
+     *
+     * @return {@code true} if the map has been materialized, {@code false} otherwise
+     */
+    boolean isMaterialized() {
+        return (map != null);
+    }
+
+    @Override
+    public int size() {
+        var current = map;
+        return (current != null ? current.size() : npairs);
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        var current = map;
+        return (current != null ? current.containsKey(key) : indexOf(key) >= 0);
+    }
+
+    @Override
+    public String get(Object key) {
+        var current = map;
+        if (current != null) {
+            return current.get(key);
+        }
+
+        var index = indexOf(key);
+        return (index >= 0 ? pairs[index + 1] : null);
+    }
+
+    @Override
+    public String put(String key, String value) {
+        return materialize().put(key, value);
+    }
+
+    @Override
+    public String remove(Object key) {
+        return materialize().remove(key);
+    }
+
+    @Override
+    public Set<Entry<String, String>> entrySet() {
+        return materialize().entrySet();
+    }
+
+    private int indexOf(Object key) {
+        for (var index = 0; index < 2 * npairs; index += 2) {
+            if (pairs[index] == null ? key == null : pairs[index].equals(key)) {
+                return index;
+            }
+        }
+
+        return -1;
+    }
+
+    private Map<String, String> materialize() {
+        var current = map;
+        if (current != null) {
+            return current;
+        }
+
+        synchronized (this) {
+            if (map == null) {
+                var newMap = new HashMap<String, String>(npairs * 4 / 3 + 1);
+                for (var index = 0; index < 2 * npairs; index += 2) {
+                    newMap.put(pairs[index], pairs[index + 1]);
+                }
+
+                map = newMap;
+            }
+
+            return map;
+        }
+    }
+
+    /**
+     * Serializes the map as a plain {@link HashMap}.
+     *
+     * @return a copy of the map
+     */
+    private Object writeReplace() {
+        return new HashMap<>(materialize());
+    }
+}
@@ -3,7 +3,7 @@
  * controlloop
  * ================================================================================
  * Copyright (C) 2017-2019, 2021 AT&T Intellectual Property. All rights reserved.
- * Modifications Copyright (C) 2019 Nordix Foundation.
+ * Modifications Copyright (C) 2019, 2026 Nordix Foundation.
  * ================================================================================
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -38,6 +38,7 @@ import lombok.NoArgsConstructor;
 import org.onap.policy.common.gson.InstantAsMillisTypeAdapter;
 import org.onap.policy.common.gson.ZonedDateTimeTypeAdapter;
 import org.onap.policy.controlloop.ControlLoopNotificationType;
+import org.onap.policy.controlloop.VirtualControlLoopEvent;
 
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
 public final class Serialization {
@@ -46,13 +47,20 @@ public final class Serialization {
     public static final Gson gson = new GsonBuilder().disableHtmlEscaping()
                     .registerTypeAdapter(ZonedDateTime.class, new ZonedDateTimeTypeAdapter(format))
                     .registerTypeAdapter(Instant.class, new InstantAsMillisTypeAdapter())
-                    .registerTypeAdapter(ControlLoopNotificationType.class, new NotificationTypeAdapter()).create();
+                    .registerTypeAdapter(ControlLoopNotificationType.class, new NotificationTypeAdapter())
+                    .registerTypeAdapter(VirtualControlLoopEvent.class, new VirtualControlLoopEventTypeAdapter())
+                    .create();
 
     public static final Gson gsonPretty = new GsonBuilder().disableHtmlEscaping().setPrettyPrinting()
             .registerTypeAdapter(ZonedDateTime.class, new ZonedDateTimeTypeAdapter(format))
             .registerTypeAdapter(Instant.class, new InstantAsMillisTypeAdapter())
-            .registerTypeAdapter(ControlLoopNotificationType.class, new NotificationTypeAdapter()).create();
+            .registerTypeAdapter(ControlLoopNotificationType.class, new NotificationTypeAdapter())
+            .registerTypeAdapter(VirtualControlLoopEvent.class, new VirtualControlLoopEventTypeAdapter()).create();
 
+    /*
+     * Uses the reflective adapters, thus junit tests may use it as a reference for the
+     * streaming adapters.
+     */
     public static final Gson gsonJunit = new GsonBuilder().disableHtmlEscaping().setPrettyPrinting()
             .registerTypeAdapter(ZonedDateTime.class, new ZonedDateTimeTypeAdapter(format))
             .registerTypeAdapter(Instant.class, new InstantAsMillisTypeAdapter()).create();
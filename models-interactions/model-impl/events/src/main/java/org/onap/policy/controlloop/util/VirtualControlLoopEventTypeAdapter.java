@@ -0,0 +1,227 @@
+/*-
+ * ============LICENSE_START=======================================================
+ *  Copyright (C) 2026 Nordix Foundation.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.controlloop.util;
+
+import com.google.gson.JsonSyntaxException;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import java.io.IOException;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.UUID;
+import org.onap.policy.common.gson.InstantAsMillisTypeAdapter;
+import org.onap.policy.controlloop.ControlLoopEventStatus;
+import org.onap.policy.controlloop.VirtualControlLoopEvent;
+
+/**
+ * Streaming adapter for {@link VirtualControlLoopEvent}, which is decoded on every onset
+ * and abatement. Fields are read straight off the token stream, without reflection, and
+ * the "AAI" and "additionalEventParams" maps are decoded into {@link LazyStringMap}s,
+ * which only build their hash tables if they're iterated or modified. The JSON produced
+ * and accepted is the same as that of the reflective adapter, including the field
+ * order; unknown fields are skipped.
+ */
+public class VirtualControlLoopEventTypeAdapter extends TypeAdapter<VirtualControlLoopEvent> {
+    private static final int INITIAL_PAIRS = 8;
+
+    private final TypeAdapter<Instant> instantAdapter = new InstantAsMillisTypeAdapter();
+
+    @Override
+    public void write(JsonWriter out, VirtualControlLoopEvent event) throws IOException {
+        if (event == null) {
+            out.nullValue();
+            return;
+        }
+
+        out.beginObject();
+
+        // subclass fields come first, as they do with the reflective adapter
+        writeMap(out.name("AAI"), event.getAai());
+        out.name("payload").value(event.getPayload());
+        instantAdapter.write(out.name("closedLoopAlarmStart"), event.getClosedLoopAlarmStart());
+        instantAdapter.write(out.name("closedLoopAlarmEnd"), event.getClosedLoopAlarmEnd());
+
+        var requestId = event.getRequestId();
+        out.name("requestID").value(requestId == null ? null : requestId.toString());
+        out.name("target_type").value(event.getTargetType());
+        out.name("closedLoopControlName").value(event.getClosedLoopControlName());
+        out.name("version").value(event.getVersion());
+        out.name("closedLoopEventClient").value(event.getClosedLoopEventClient());
+        out.name("target").value(event.getTarget());
+        out.name("from").value(event.getFrom());
+        out.name("policyScope").value(event.getPolicyScope());
+        out.name("policyName").value(event.getPolicyName());
+        out.name("policyVersion").value(event.getPolicyVersion());
+
+        var status = event.getClosedLoopEventStatus();
+        out.name("closedLoopEventStatus").value(status == null ? null : status.name());
+        writeMap(out.name("additionalEventParams"), event.getAdditionalEventParams());
+
+        out.endObject();
+    }
+
+    @Override
+    public VirtualControlLoopEvent read(JsonReader in) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+
+        var event = new VirtualControlLoopEvent();
+
+        in.beginObject();
+
+        while (in.hasNext()) {
+            switch (in.nextName()) {
+                case "AAI" -> event.setAai(readMap(in));
+                case "payload" -> event.setPayload(readString(in));
+                case "closedLoopAlarmStart" -> event.setClosedLoopAlarmStart(instantAdapter.read(in));
+                case "closedLoopAlarmEnd" -> event.setClosedLoopAlarmEnd(instantAdapter.read(in));
+                case "requestID" -> event.setRequestId(readUuid(in));
+                case "target_type" -> event.setTargetType(readString(in));
+                case "closedLoopControlName" -> event.setClosedLoopControlName(readString(in));
+                case "version" -> event.setVersion(readString(in));
+                case "closedLoopEventClient" -> event.setClosedLoopEventClient(readString(in));
+                case "target" -> event.setTarget(readString(in));
+                case "from" -> event.setFrom(readString(in));
+                case "policyScope" -> event.setPolicyScope(readString(in));
+                case "policyName" -> event.setPolicyName(readString(in));
+                case "policyVersion" -> event.setPolicyVersion(readString(in));
+                case "closedLoopEventStatus" -> event.setClosedLoopEventStatus(readStatus(in));
+                case "additionalEventParams" -> event.setAdditionalEventParams(readMap(in));
+                default -> in.skipValue();
+            }
+        }
+
+        in.endObject();
+
+        return event;
+    }
+
+    private static void writeMap(JsonWriter out, Map<String, String> map) throws IOException {
+        if (map == null) {
+            out.nullValue();
+            return;
+        }
+
+        out.beginObject();
+        for (Map.Entry<String, String> ent : map.entrySet()) {
+            out.name(String.valueOf(ent.getKey())).value(ent.getValue());
+        }
+        out.endObject();
+    }
+
+    /**
+     * Reads a string, accepting numbers and booleans, as the standard string adapter
+     * does.
+     *
+     * @param in reader from which to read
+     * @return the string, or {@code null} if the value is null
+     * @throws IOException if an error occurs reading the value
+     */
+    private static String readString(JsonReader in) throws IOException {
+        return switch (in.peek()) {
+            case NULL -> {
+                in.nextNull();
+                yield null;
+            }
+            case BOOLEAN -> Boolean.toString(in.nextBoolean());
+            default -> in.nextString();
+        };
+    }
+
+    private static UUID readUuid(JsonReader in) throws IOException {
+        var text = readString(in);
+
+        try {
+            return (text == null ? null : UUID.fromString(text));
+
+        } catch (IllegalArgumentException e) {
+            throw new JsonSyntaxException("invalid UUID: " + text + " at " + in.getPath(), e);
+        }
+    }
+
+    /**
+     * Reads an event status by its name, as the standard enum adapter does.
+     *
+     * @param in reader from which to read
+     * @return the status, or {@code null} if the value is null or unknown
+     * @throws IOException if an error occurs reading the value
+     */
+    private static ControlLoopEventStatus readStatus(JsonReader in) throws IOException {
+        var text = readString(in);
+        if (text == null) {
+            return null;
+        }
+
+        try {
+            return ControlLoopEventStatus.valueOf(text);
+
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Reads a map of strings into a {@link LazyStringMap}.
+     *
+     * @param in reader from which to read
+     * @return the map, or {@code null} if the value is null
+     * @throws IOException if an error occurs reading the value
+     * @throws JsonSyntaxException if a key appears more than once
+     */
+    private static Map<String, String> readMap(JsonReader in) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+
+        var pairs = new String[2 * INITIAL_PAIRS];
+        var npairs = 0;
+
+        in.beginObject();
+
+        while (in.hasNext()) {
+            var key = in.nextName();
+
+            for (var index = 0; index < 2 * npairs; index += 2) {
+                if (pairs[index].equals(key)) {
+                    throw new JsonSyntaxException("duplicate key: " + key);
+                }
+            }
+
+            if (2 * npairs == pairs.length) {
+                pairs = Arrays.copyOf(pairs, 2 * pairs.length);
+            }
+
+            pairs[2 * npairs] = key;
+            pairs[2 * npairs + 1] = readString(in);
+            ++npairs;
+        }
+
+        in.endObject();
+
+        return new LazyStringMap(pairs, npairs);
+    }
+}
@@ -0,0 +1,160 @@
+/*-
+ * ============LICENSE_START=======================================================
+ *  Copyright (C) 2026 Nordix Foundation.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.controlloop.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class LazyStringMapTest {
+    private static final String KEY1 = "key-A";
+    private static final String KEY2 = "key-B";
+    private static final String VALUE1 = "value-A";
+
+    private LazyStringMap map;
+
+    /**
+     * Sets up.
+     */
+    @BeforeEach
+    void setUp() {
+        // extra slots at the end of the array are ignored
+        map = new LazyStringMap(new String[] {KEY1, VALUE1, KEY2, null, "unused", "unused"}, 2);
+    }
+
+    @Test
+    void testLookups() {
+        assertEquals(2, map.size());
+        assertFalse(map.isEmpty());
+
+        assertEquals(VALUE1, map.get(KEY1));
+        assertNull(map.get(KEY2));
+        assertNull(map.get("unused"));
+        assertNull(map.get(null));
+
+        assertTrue(map.containsKey(KEY2));
+        assertFalse(map.containsKey("unused"));
+
+        assertFalse(map.isMaterialized());
+
+        assertTrue(new LazyStringMap(new String[0], 0).isEmpty());
+    }
+
+    @Test
+    void testPut() {
+        assertEquals(VALUE1, map.put(KEY1, "new-value"));
+        assertTrue(map.isMaterialized());
+
+        assertEquals("new-value", map.get(KEY1));
+        assertTrue(map.containsKey(KEY2));
+        assertEquals(2, map.size());
+    }
+
+    @Test
+    void testRemove() {
+        assertEquals(VALUE1, map.remove(KEY1));
+        assertTrue(map.isMaterialized());
+
+        assertFalse(map.containsKey(KEY1));
+        assertEquals(1, map.size());
+    }
+
+    @Test
+    void testEntrySet() {
+        Map<String, String> expected = new HashMap<>();
+        expected.put(KEY1, VALUE1);
+        expected.put(KEY2, null);
+
+        assertEquals(expected, map);
+        assertEquals(expected.hashCode(), map.hashCode());
+        assertTrue(map.isMaterialized());
+
+        // modifications via the views are seen by the map
+        map.keySet().remove(KEY2);
+        assertEquals(Map.of(KEY1, VALUE1), map);
+
+        map.clear();
+        assertTrue(map.isEmpty());
+    }
+
+    @Test
+    void testConcurrentReaders() throws Exception {
+        Map<String, String> expected = new HashMap<>();
+        expected.put(KEY1, VALUE1);
+        expected.put(KEY2, null);
+
+        var nthreads = 8;
+        var executor = Executors.newFixedThreadPool(nthreads);
+
+        try {
+            for (var count = 0; count < 100; ++count) {
+                var shared = new LazyStringMap(new String[] {KEY1, VALUE1, KEY2, null}, 2);
+                var barrier = new CyclicBarrier(nthreads);
+
+                List<Future<Map<String, String>>> futures = new ArrayList<>(nthreads);
+                for (var thread = 0; thread < nthreads; ++thread) {
+                    futures.add(executor.submit(() -> {
+                        barrier.await();
+                        // iterating materializes the map
+                        return new HashMap<>(shared);
+                    }));
+                }
+
+                for (var future : futures) {
+                    assertEquals(expected, future.get(10, TimeUnit.SECONDS));
+                }
+            }
+
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void testSerialize() throws Exception {
+        var bytes = new ByteArrayOutputStream();
+        try (var out = new ObjectOutputStream(bytes)) {
+            out.writeObject(map);
+        }
+
+        try (var in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            HashMap<?, ?> actual = assertInstanceOf(HashMap.class, in.readObject());
+            assertEquals(map, actual);
+        }
+    }
+}
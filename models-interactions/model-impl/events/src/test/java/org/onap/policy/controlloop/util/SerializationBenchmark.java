@@ -0,0 +1,156 @@
+/*-
+ * ============LICENSE_START=======================================================
+ *  Copyright (C) 2026 Nordix Foundation.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.controlloop.util;
+
+import com.google.gson.Gson;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.UUID;
+import java.util.function.Function;
+import org.onap.policy.controlloop.ControlLoopEventStatus;
+import org.onap.policy.controlloop.VirtualControlLoopEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Measures the decoding of onset events by the reflective adapter, which
+ * {@link Serialization#gsonJunit} uses, and by the streaming adapter, which
+ * {@link Serialization#gson} uses, logging the events decoded per second and the bytes
+ * allocated per event. The latter is only available on JVMs that support thread
+ * allocation accounting. This is not a unit test, and is not run by the build; run its
+ * main() by hand when changing the event adapter.
+ */
+public class SerializationBenchmark {
+    private static final Logger LOGGER = LoggerFactory.getLogger(SerializationBenchmark.class);
+
+    private static final int ITERATIONS = 20000;
+
+    private SerializationBenchmark() {
+        // main() only
+    }
+
+    /**
+     * Runs the benchmark.
+     *
+     * @param args ignored
+     */
+    public static void main(String[] args) {
+        var event = makeEvent();
+        var json = Serialization.gson.toJson(event);
+        var bytes = json.getBytes(StandardCharsets.UTF_8);
+        LOGGER.info("encoded event: {} bytes", bytes.length);
+
+        // the first round is just a warm-up
+        for (var round = 0; round < 2; ++round) {
+            measure("reflective", event, text -> Serialization.gsonJunit.fromJson(text, VirtualControlLoopEvent.class),
+                            json);
+            measure("streaming", event, text -> Serialization.gson.fromJson(text, VirtualControlLoopEvent.class),
+                            json);
+            measure("streaming, from bytes", event, data -> decode(Serialization.gson, data), bytes);
+        }
+    }
+
+    /**
+     * Decodes an event, logging the rate and the bytes allocated per event.
+     *
+     * @param name name of the decoder
+     * @param expected expected event
+     * @param decoder function to decode the event
+     * @param input encoded event
+     */
+    private static <T> void measure(String name, VirtualControlLoopEvent expected,
+                    Function<T, VirtualControlLoopEvent> decoder, T input) {
+
+        long allocBefore = getAllocatedBytes();
+        long begin = System.nanoTime();
+
+        VirtualControlLoopEvent actual = null;
+        for (var count = 0; count < ITERATIONS; ++count) {
+            actual = decoder.apply(input);
+        }
+
+        long elapsedNs = System.nanoTime() - begin;
+        long allocated = getAllocatedBytes() - allocBefore;
+
+        if (!expected.equals(actual)) {
+            throw new IllegalStateException(name + " decoded " + actual);
+        }
+
+        LOGGER.info("decode {}: {} events/sec, {} bytes allocated per event", name,
+                        ITERATIONS * 1_000_000_000L / Math.max(1, elapsedNs),
+                        (allocBefore < 0 ? "unknown" : allocated / ITERATIONS));
+    }
+
+    private static VirtualControlLoopEvent decode(Gson gson, byte[] bytes) {
+        try (Reader reader = new InputStreamReader(new ByteArrayInputStream(bytes), StandardCharsets.UTF_8)) {
+            return gson.fromJson(reader, VirtualControlLoopEvent.class);
+
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Gets the number of bytes allocated by the current thread.
+     *
+     * @return the number of bytes allocated, or {@code -1} if unsupported
+     */
+    private static long getAllocatedBytes() {
+        if (ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean bean
+                        && bean.isThreadAllocatedMemorySupported() && bean.isThreadAllocatedMemoryEnabled()) {
+            return bean.getCurrentThreadAllocatedBytes();
+        }
+
+        return -1;
+    }
+
+    /**
+     * Makes an onset, similar to those published by DCAE.
+     *
+     * @return a new onset
+     */
+    private static VirtualControlLoopEvent makeEvent() {
+        var event = new VirtualControlLoopEvent();
+        event.setRequestId(UUID.randomUUID());
+        event.setClosedLoopControlName("ControlLoop-vFirewall-d0a1dfc6-94f5-4fd4-a5b5-4630b438850a");
+        event.setClosedLoopEventClient("DCAE_INSTANCE_ID.dcae-tca");
+        event.setTargetType("VNF");
+        event.setTarget("generic-vnf.vnf-id");
+        event.setFrom("DCAE");
+        event.setVersion("1.0.2");
+        event.setPolicyScope("DCAE");
+        event.setPolicyName("DCAE.Config_tca-hi-lo");
+        event.setPolicyVersion("v0.0.1");
+        event.setClosedLoopEventStatus(ControlLoopEventStatus.ONSET);
+        event.setClosedLoopAlarmStart(Instant.ofEpochMilli(1_600_000_000_000L));
+        event.getAai().put("generic-vnf.vnf-id", "fw0002vm002fw002");
+        event.getAai().put("vserver.vserver-name", "OzVServer");
+        event.getAai().put("vserver.is-closed-loop-disabled", "false");
+        event.getAai().put("vserver.prov-status", "ACTIVE");
+        event.getAai().put("generic-vnf.vnf-name", "fw0002vm002fw002");
+        return event;
+    }
+}
@@ -0,0 +1,229 @@
+/*-
+ * ============LICENSE_START=======================================================
+ *  Copyright (C) 2026 Nordix Foundation.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.controlloop.util;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.google.gson.JsonSyntaxException;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.onap.policy.controlloop.ControlLoopEventStatus;
+import org.onap.policy.controlloop.VirtualControlLoopEvent;
+
+class VirtualControlLoopEventTypeAdapterTest {
+    private static final String VSERVER_NAME = "vserver.vserver-name";
+
+    private VirtualControlLoopEvent event;
+
+    /**
+     * Sets up.
+     */
+    @BeforeEach
+    void setUp() {
+        event = new VirtualControlLoopEvent();
+        event.setRequestId(UUID.randomUUID());
+        event.setTargetType("VM");
+        event.setClosedLoopControlName("ControlLoop-vFirewall-<&>");
+        event.setClosedLoopEventClient("DCAE.HolmesInstance");
+        event.setTarget(VSERVER_NAME);
+        event.setFrom("DCAE");
+        event.setPolicyScope("scope");
+        event.setPolicyName("name");
+        event.setPolicyVersion("1.0.0");
+        event.setClosedLoopEventStatus(ControlLoopEventStatus.ONSET);
+        event.setPayload("{\"a\": 1}");
+        event.setClosedLoopAlarmStart(Instant.ofEpochMilli(1_600_000_000_000L));
+        event.setClosedLoopAlarmEnd(Instant.ofEpochMilli(1_600_000_001_000L));
+        event.getAai().put(VSERVER_NAME, "my-vserver");
+        event.getAai().put("vserver.is-closed-loop-disabled", "false");
+        event.setAdditionalEventParams(new TreeMap<>(Map.of("param1", "value1", "param2", "value2")));
+    }
+
+    @Test
+    void testWrite() {
+        // same as the reflective adapter, which gsonJunit uses
+        assertEquals(Serialization.gsonJunit.toJson(event), Serialization.gsonPretty.toJson(event));
+
+        // null fields are omitted
+        event = new VirtualControlLoopEvent();
+        event.setAai(null);
+        assertEquals("{\"version\":\"1.0.2\"}", Serialization.gson.toJson(event));
+        assertEquals("null", Serialization.gson.toJson(null, VirtualControlLoopEvent.class));
+    }
+
+    @Test
+    void testRead() {
+        String json = Serialization.gsonJunit.toJson(event);
+
+        VirtualControlLoopEvent actual = Serialization.gson.fromJson(json, VirtualControlLoopEvent.class);
+
+        // the maps are not materialized by lookups
+        LazyStringMap aai = assertInstanceOf(LazyStringMap.class, actual.getAai());
+        assertEquals("my-vserver", aai.get(VSERVER_NAME));
+        assertEquals(2, aai.size());
+        assertEquals(event, actual);
+        assertFalse(aai.isMaterialized());
+
+        // but they are when they're iterated
+        assertEquals(json, Serialization.gsonJunit.toJson(actual));
+        assertTrue(aai.isMaterialized());
+
+        assertNull(Serialization.gson.fromJson("null", VirtualControlLoopEvent.class));
+    }
+
+    /**
+     * Sets every field declared by the event classes, and verifies that the event is
+     * written as the reflective adapter would write it and that every field survives a
+     * round trip. Fails if a field of a new type is added to the event, so that the
+     * adapter is not left behind.
+     */
+    @Test
+    void testAllFields() throws Exception {
+        for (ControlLoopEventStatus status : ControlLoopEventStatus.values()) {
+            var full = new VirtualControlLoopEvent();
+            List<Field> fields = new ArrayList<>();
+            var count = 0;
+
+            for (Class<?> clazz = VirtualControlLoopEvent.class; clazz != Object.class; clazz = clazz.getSuperclass()) {
+                for (Field field : clazz.getDeclaredFields()) {
+                    if (Modifier.isStatic(field.getModifiers()) || Modifier.isTransient(field.getModifiers())) {
+                        continue;
+                    }
+
+                    field.setAccessible(true);
+                    field.set(full, makeValue(field, status, ++count));
+                    fields.add(field);
+                }
+            }
+
+            String json = Serialization.gson.toJson(full);
+            assertEquals(Serialization.gsonJunit.toJson(full), json);
+
+            VirtualControlLoopEvent actual = Serialization.gson.fromJson(json, VirtualControlLoopEvent.class);
+            for (Field field : fields) {
+                assertEquals(field.get(full), field.get(actual), field.getName());
+            }
+        }
+    }
+
+    private static Object makeValue(Field field, ControlLoopEventStatus status, int count) {
+        Class<?> type = field.getType();
+
+        if (type == String.class) {
+            return field.getName() + "-" + count;
+
+        } else if (type == UUID.class) {
+            return UUID.randomUUID();
+
+        } else if (type == Instant.class) {
+            return Instant.ofEpochMilli(1_600_000_000_000L + count);
+
+        } else if (type == ControlLoopEventStatus.class) {
+            return status;
+
+        } else if (type == Map.class) {
+            return new TreeMap<>(Map.of(field.getName() + "-key", "value-" + count));
+        }
+
+        throw new AssertionError("unhandled field type " + type.getName() + " for " + field.getName());
+    }
+
+    @Test
+    void testReadFromBytes() throws IOException {
+        byte[] bytes = Serialization.gson.toJson(event).getBytes(StandardCharsets.UTF_8);
+
+        try (Reader reader = new InputStreamReader(new ByteArrayInputStream(bytes), StandardCharsets.UTF_8)) {
+            assertEquals(event, Serialization.gson.fromJson(reader, VirtualControlLoopEvent.class));
+        }
+    }
+
+    @Test
+    void testReadUnusual() {
+        // unknown fields are skipped, and scalars are accepted as strings
+        String json = "{'unknown': {'list': [1, {'x': null}]}, 'payload': 12, 'from': true, 'version': null,"
+                        + " 'closedLoopEventStatus': 'bogus', 'AAI': null, 'additionalEventParams': {'num': 3.5},"
+                        + " 'requestID': null, 'closedLoopAlarmStart': null}";
+
+        VirtualControlLoopEvent expected = Serialization.gsonJunit.fromJson(json, VirtualControlLoopEvent.class);
+        VirtualControlLoopEvent actual = Serialization.gson.fromJson(json, VirtualControlLoopEvent.class);
+        assertEquals(expected, actual);
+
+        assertEquals("12", actual.getPayload());
+        assertEquals("true", actual.getFrom());
+        assertNull(actual.getVersion());
+        assertNull(actual.getClosedLoopEventStatus());
+        assertNull(actual.getAai());
+        assertEquals("3.5", actual.getAdditionalEventParams().get("num"));
+
+        // fields that are absent retain their defaults
+        actual = Serialization.gson.fromJson("{}", VirtualControlLoopEvent.class);
+        assertEquals("1.0.2", actual.getVersion());
+        assertTrue(actual.getAai().isEmpty());
+
+        actual = Serialization.gson.fromJson("{'closedLoopEventStatus': 'ABATED'}", VirtualControlLoopEvent.class);
+        assertEquals(ControlLoopEventStatus.ABATED, actual.getClosedLoopEventStatus());
+    }
+
+    @Test
+    void testReadLargeMap() {
+        Map<String, String> params = new TreeMap<>();
+        for (var count = 0; count < 50; ++count) {
+            params.put("param" + count, "value" + count);
+        }
+
+        event.setAdditionalEventParams(params);
+
+        VirtualControlLoopEvent actual =
+                        Serialization.gson.fromJson(Serialization.gson.toJson(event), VirtualControlLoopEvent.class);
+        assertEquals(params, actual.getAdditionalEventParams());
+    }
+
+    @Test
+    void testReadInvalid() {
+        assertThatThrownBy(() -> Serialization.gson.fromJson("{'AAI': {'a': '1', 'a': '2'}}",
+                        VirtualControlLoopEvent.class)).isInstanceOf(JsonSyntaxException.class)
+                                        .hasMessageContaining("duplicate key: a");
+
+        assertThatThrownBy(() -> Serialization.gson.fromJson("{'requestID': 'xyz'}", VirtualControlLoopEvent.class))
+                        .isInstanceOf(JsonSyntaxException.class).hasMessageContaining("invalid UUID: xyz");
+
+        assertThatThrownBy(() -> Serialization.gson.fromJson("[]", VirtualControlLoopEvent.class))
+                        .isInstanceOf(JsonSyntaxException.class);
+    }
+}
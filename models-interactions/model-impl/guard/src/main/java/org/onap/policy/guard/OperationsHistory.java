@@ -3,7 +3,7 @@
  * ONAP
  * ================================================================================
  * Copyright (C) 2020-2021 AT&T Intellectual Property. All rights reserved.
- * Modifications Copyright (C) 2021, 2023 Nordix Foundation.
+ * Modifications Copyright (C) 2021, 2023, 2026 Nordix Foundation.
  * ================================================================================
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -29,13 +29,22 @@ import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.Index;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
-import jakarta.persistence.TableGenerator;
 import java.io.Serial;
 import java.io.Serializable;
 import java.util.Date;
 import lombok.Data;
 
+/**
+ * Record of an operation executed by a control loop. IDs are allocated from a pooled sequence (or a table emulating
+ * one, where the dialect has no sequences), so concurrent inserts do not serialize on a single sequence row.
+ *
+ * <p>The number of IDs allocated at a time defaults to {@link #ID_ALLOCATION_SIZE}, which matches the
+ * {@code INCREMENT BY} of the {@code ophistory_id_seq} sequence created by the database migrator. A deployment may
+ * override it in an {@code orm.xml} mapping file, by re-declaring the {@code id} attribute with its own
+ * {@code sequence-generator}, provided that the increment of the database sequence is changed to match.
+ */
 @Entity
 @Table(name = "operationshistory", indexes = {
     @Index(name = "operationshistory_clreqid_index", columnList = "requestId,closedLoopName"),
@@ -47,14 +56,15 @@ public class OperationsHistory implements Serializable {
     @Serial
     private static final long serialVersionUID = -551420180714993577L;
 
+    /**
+     * Default number of IDs allocated from the sequence at a time.
+     */
+    public static final int ID_ALLOCATION_SIZE = 50;
+
     @Id
-    @GeneratedValue(strategy = GenerationType.TABLE, generator = "opHistoryIdGen")
-    @TableGenerator(
-        name = "opHistoryIdGen",
-        table = "ophistory_id_sequence",
-        pkColumnName = "SEQ_NAME",
-        valueColumnName = "SEQ_COUNT",
-        pkColumnValue = "SEQ_GEN")
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "opHistoryIdGen")
+    @SequenceGenerator(name = "opHistoryIdGen", sequenceName = "ophistory_id_seq",
+            allocationSize = ID_ALLOCATION_SIZE)
     @Column(name = "id")
     private Long id;
 
@@ -0,0 +1,269 @@
+/*-
+ * ============LICENSE_START=======================================================
+ *  Copyright (C) 2026 Nordix Foundation.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.guard;
+
+import jakarta.persistence.EntityManagerFactory;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.Getter;
+import lombok.Value;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * In-memory counts of the operations recorded in the operations history, by target, actor,
+ * and operation, used to answer frequency-limit queries without a database round-trip.
+ * Each (target, actor, operation) has a ring of time buckets, so a query only sums the
+ * buckets spanning its window, no matter how many operations were recorded. Counts are
+ * bucket-granular: the oldest bucket in a window is counted in full, thus a count may
+ * include operations that ended up to one bucket before the window began.
+ * <p/>
+ * The counts should be rebuilt from the table on startup, via
+ * {@link #rebuild(EntityManagerFactory)}, and then updated, via
+ * {@link #record(OperationsHistory)}, as each record is written.
+ */
+public class OperationsHistoryCounters {
+    private static final Logger logger = LoggerFactory.getLogger(OperationsHistoryCounters.class);
+
+    /**
+     * Operations having this outcome are not counted, as they were never executed.
+     */
+    public static final String FAILURE_GUARD = "Failure_Guard";
+
+    public static final long DEFAULT_BUCKET_MS = 60_000L;
+    public static final int DEFAULT_BUCKETS = 120;
+
+    private static final String REBUILD_QUERY = "SELECT h.target, h.actor, h.operation, h.endtime"
+                    + " FROM OperationsHistory h WHERE h.endtime >= :since AND h.outcome <> :outcome";
+
+    private final long bucketMs;
+    private final int nbuckets;
+
+    /**
+     * Longest window for which counts are available, in milliseconds.
+     */
+    @Getter
+    private final long horizonMs;
+
+    private final ConcurrentMap<Key, Ring> key2ring = new ConcurrentHashMap<>();
+
+    /**
+     * Bucket number at which rings were last checked for expiry.
+     */
+    private final AtomicLong lastExpiry = new AtomicLong();
+
+
+    /**
+     * Constructs the object, using one-minute buckets, covering two hours.
+     */
+    public OperationsHistoryCounters() {
+        this(DEFAULT_BUCKET_MS, DEFAULT_BUCKETS);
+    }
+
+    /**
+     * Constructs the object.
+     *
+     * @param bucketMs size of each bucket, in milliseconds
+     * @param nbuckets number of buckets kept for each (target, actor, operation)
+     */
+    public OperationsHistoryCounters(long bucketMs, int nbuckets) {
+        if (bucketMs <= 0 || nbuckets <= 0) {
+            throw new IllegalArgumentException("invalid bucket size or count: " + bucketMs + ", " + nbuckets);
+        }
+
+        this.bucketMs = bucketMs;
+        this.nbuckets = nbuckets;
+        this.horizonMs = bucketMs * nbuckets;
+    }
+
+    /**
+     * Rebuilds the counts from the operations history table, discarding the current
+     * counts. Only records that ended within the horizon are loaded.
+     *
+     * @param emf factory used to access the table
+     */
+    public void rebuild(EntityManagerFactory emf) {
+        key2ring.clear();
+
+        var since = new Date(currentTimeMs() - horizonMs);
+        var em = emf.createEntityManager();
+
+        try {
+            var rows = em.createQuery(REBUILD_QUERY, Object[].class).setParameter("since", since)
+                            .setParameter("outcome", FAILURE_GUARD).getResultList();
+
+            for (Object[] row : rows) {
+                add((String) row[0], (String) row[1], (String) row[2], (Date) row[3]);
+            }
+
+            logger.info("loaded {} operations history records into the counters", rows.size());
+
+        } finally {
+            em.close();
+        }
+    }
+
+    /**
+     * Records an operation. Operations without an end time, or that were denied by guard,
+     * are not counted.
+     *
+     * @param history record of the operation
+     */
+    public void record(OperationsHistory history) {
+        if (history.getOutcome() != null && !FAILURE_GUARD.equals(history.getOutcome())) {
+            add(history.getTarget(), history.getActor(), history.getOperation(), history.getEndtime());
+        }
+    }
+
+    /**
+     * Counts the operations that ended within a window ending now.
+     *
+     * @param target target of the operations
+     * @param actor actor of the operations
+     * @param operation name of the operations
+     * @param windowMs size of the window, in milliseconds
+     * @return the number of operations that ended within the window, or {@code -1} if the
+     *         window is longer than the horizon, in which case the table must be queried
+     */
+    public long count(String target, String actor, String operation, long windowMs) {
+        if (windowMs > horizonMs) {
+            return -1;
+        }
+
+        var ring = key2ring.get(new Key(target, actor, operation));
+        if (ring == null) {
+            return 0;
+        }
+
+        var now = currentTimeMs();
+        return ring.sum((now - windowMs) / bucketMs, now / bucketMs);
+    }
+
+    private void add(String target, String actor, String operation, Date endtime) {
+        if (endtime == null) {
+            return;
+        }
+
+        var bucket = endtime.getTime() / bucketMs;
+        var current = currentTimeMs() / bucketMs;
+        if (bucket <= current - nbuckets) {
+            // already beyond the horizon
+            return;
+        }
+
+        // add within compute(), so that expire() cannot discard the ring while it's being updated
+        key2ring.compute(new Key(target, actor, operation), (key, ring) -> {
+            var ring2 = (ring != null ? ring : new Ring(nbuckets));
+            ring2.add(bucket);
+            return ring2;
+        });
+
+        expire(current);
+    }
+
+    /**
+     * Discards the rings having no operations within the horizon. Only one thread checks
+     * per bucket.
+     *
+     * @param current current bucket number
+     */
+    private void expire(long current) {
+        var last = lastExpiry.get();
+        if (last == current || !lastExpiry.compareAndSet(last, current)) {
+            return;
+        }
+
+        // re-check each ring under its key's lock, in case add() is updating it
+        for (Key key : key2ring.keySet()) {
+            key2ring.computeIfPresent(key, (key2, ring) -> (ring.getNewest() <= current - nbuckets ? null : ring));
+        }
+    }
+
+    // these may be overridden by junit tests
+
+    protected long currentTimeMs() {
+        return System.currentTimeMillis();
+    }
+
+    @Value
+    private static class Key {
+        String target;
+        String actor;
+        String operation;
+    }
+
+    /**
+     * Operation counts for the most recent buckets of a (target, actor, operation).
+     */
+    private static class Ring {
+        /**
+         * Bucket number currently held by each slot, or {@code -1} if the slot is empty.
+         */
+        private final long[] buckets;
+        private final long[] counts;
+
+        private long newest = -1;
+
+        private Ring(int nbuckets) {
+            buckets = new long[nbuckets];
+            counts = new long[nbuckets];
+            Arrays.fill(buckets, -1);
+        }
+
+        private synchronized long getNewest() {
+            return newest;
+        }
+
+        private synchronized void add(long bucket) {
+            var slot = (int) (bucket % buckets.length);
+
+            if (buckets[slot] != bucket) {
+                if (buckets[slot] > bucket) {
+                    // the slot has been reused by a newer bucket
+                    return;
+                }
+
+                buckets[slot] = bucket;
+                counts[slot] = 0;
+            }
+
+            ++counts[slot];
+            newest = Math.max(newest, bucket);
+        }
+
+        private synchronized long sum(long first, long last) {
+            var start = Math.max(first, last - buckets.length + 1);
+            var total = 0L;
+
+            for (var bucket = start; bucket <= last; ++bucket) {
+                var slot = (int) (bucket % buckets.length);
+                if (buckets[slot] == bucket) {
+                    total += counts[slot];
+                }
+            }
+
+            return total;
+        }
+    }
+}
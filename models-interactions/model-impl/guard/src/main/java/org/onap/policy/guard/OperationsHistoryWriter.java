@@ -0,0 +1,107 @@
+/*-
+ * ============LICENSE_START=======================================================
+ *  Copyright (C) 2026 Nordix Foundation.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.guard;
+
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.EntityTransaction;
+import java.util.List;
+import org.onap.policy.models.base.PfBatchWriter;
+
+/**
+ * Persists operations history records asynchronously, writing whatever has accumulated,
+ * up to a batch at a time, within a single transaction. See {@link PfBatchWriter} for
+ * how records are queued and drained on shutdown. Records are not held back to fill a
+ * batch, and are rejected immediately when the queue is full.
+ * <p/>
+ * Each record is added to the counters once its transaction has been committed, so
+ * frequency limits never count an operation that was rejected or that failed to reach
+ * the table.
+ */
+public class OperationsHistoryWriter extends PfBatchWriter<OperationsHistory> {
+    public static final int DEFAULT_BATCH_SIZE = 100;
+    public static final int DEFAULT_QUEUE_CAPACITY = 10000;
+
+    private final EntityManagerFactory emf;
+    private final OperationsHistoryCounters counters;
+
+
+    /**
+     * Constructs the object, using the default batch size and queue capacity.
+     *
+     * @param emf factory used to access the table
+     * @param counters counters to be updated as records are written
+     */
+    public OperationsHistoryWriter(EntityManagerFactory emf, OperationsHistoryCounters counters) {
+        this(emf, counters, DEFAULT_BATCH_SIZE, DEFAULT_QUEUE_CAPACITY);
+    }
+
+    /**
+     * Constructs the object.
+     *
+     * @param emf factory used to access the table
+     * @param counters counters to be updated as records are written
+     * @param batchSize maximum number of records written within a transaction
+     * @param capacity maximum number of records that may be waiting to be written
+     */
+    public OperationsHistoryWriter(EntityManagerFactory emf, OperationsHistoryCounters counters, int batchSize,
+                    int capacity) {
+        super("operations-history-writer", capacity, batchSize, 0, 0);
+
+        this.emf = emf;
+        this.counters = counters;
+    }
+
+    /**
+     * Writes a batch of records within a single transaction, and then counts them.
+     *
+     * @param batch records to be written
+     */
+    @Override
+    protected void write(List<OperationsHistory> batch) {
+        var em = emf.createEntityManager();
+        EntityTransaction trans = null;
+
+        try {
+            trans = em.getTransaction();
+
+            trans.begin();
+            for (var history : batch) {
+                em.persist(history);
+            }
+
+            trans.commit();
+
+        } catch (RuntimeException e) {
+            if (trans != null && trans.isActive()) {
+                trans.rollback();
+            }
+
+            throw e;
+
+        } finally {
+            em.close();
+        }
+
+        for (var history : batch) {
+            counters.record(history);
+        }
+    }
+}
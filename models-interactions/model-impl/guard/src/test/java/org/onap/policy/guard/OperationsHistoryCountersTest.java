@@ -0,0 +1,246 @@
+/*-
+ * ============LICENSE_START=======================================================
+ *  Copyright (C) 2026 Nordix Foundation.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.guard;
+
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.TypedQuery;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class OperationsHistoryCountersTest {
+    private static final String TARGET = "my-target";
+    private static final String ACTOR = "my-actor";
+    private static final String OPERATION = "my-operation";
+    private static final long BUCKET_MS = 1000;
+    private static final int NBUCKETS = 10;
+
+    private long timeMs;
+    private OperationsHistoryCounters counters;
+
+    /**
+     * Sets up.
+     */
+    @BeforeEach
+    void setUp() {
+        timeMs = 1_000_000;
+        counters = new MyCounters();
+    }
+
+    @Test
+    void testConstructor() {
+        assertEquals(OperationsHistoryCounters.DEFAULT_BUCKET_MS * OperationsHistoryCounters.DEFAULT_BUCKETS,
+                        new OperationsHistoryCounters().getHorizonMs());
+        assertEquals(BUCKET_MS * NBUCKETS, counters.getHorizonMs());
+
+        assertThatIllegalArgumentException().isThrownBy(() -> new OperationsHistoryCounters(0, NBUCKETS));
+        assertThatIllegalArgumentException().isThrownBy(() -> new OperationsHistoryCounters(BUCKET_MS, 0));
+    }
+
+    @Test
+    void testRecord() {
+        counters.record(makeHistory(timeMs));
+        counters.record(makeHistory(timeMs - 1000));
+        counters.record(makeHistory(timeMs - 4000));
+
+        // not counted
+        counters.record(makeHistory(null));
+        counters.record(makeHistory(timeMs, null));
+        counters.record(makeHistory(timeMs, OperationsHistoryCounters.FAILURE_GUARD));
+
+        // beyond the horizon
+        counters.record(makeHistory(timeMs - BUCKET_MS * NBUCKETS - 1));
+
+        assertEquals(1, counters.count(TARGET, ACTOR, OPERATION, 0));
+        assertEquals(2, counters.count(TARGET, ACTOR, OPERATION, 1000));
+        assertEquals(2, counters.count(TARGET, ACTOR, OPERATION, 3000));
+        assertEquals(3, counters.count(TARGET, ACTOR, OPERATION, 4000));
+        assertEquals(3, counters.count(TARGET, ACTOR, OPERATION, BUCKET_MS * NBUCKETS));
+
+        // window is too long
+        assertEquals(-1, counters.count(TARGET, ACTOR, OPERATION, BUCKET_MS * NBUCKETS + 1));
+
+        // different keys
+        assertEquals(0, counters.count("other-target", ACTOR, OPERATION, 4000));
+        assertEquals(0, counters.count(TARGET, "other-actor", OPERATION, 4000));
+        assertEquals(0, counters.count(TARGET, ACTOR, "other-operation", 4000));
+    }
+
+    @Test
+    void testSlidingWindow() {
+        counters.record(makeHistory(timeMs));
+        counters.record(makeHistory(timeMs));
+
+        timeMs += 5000;
+        counters.record(makeHistory(timeMs));
+
+        assertEquals(3, counters.count(TARGET, ACTOR, OPERATION, 5000));
+        assertEquals(1, counters.count(TARGET, ACTOR, OPERATION, 4000));
+
+        // first bucket falls off the end of the ring
+        timeMs += 5000;
+        assertEquals(1, counters.count(TARGET, ACTOR, OPERATION, BUCKET_MS * NBUCKETS));
+
+        // reuses the slot held by the first bucket
+        counters.record(makeHistory(timeMs));
+        assertEquals(2, counters.count(TARGET, ACTOR, OPERATION, BUCKET_MS * NBUCKETS));
+
+        // a late arrival that is beyond the horizon is ignored
+        counters.record(makeHistory(timeMs - BUCKET_MS * NBUCKETS + 1));
+        assertEquals(2, counters.count(TARGET, ACTOR, OPERATION, BUCKET_MS * NBUCKETS));
+
+        // a record from the future takes the slot, after which records for the bucket it
+        // displaced are ignored
+        counters.record(makeHistory(timeMs + BUCKET_MS * NBUCKETS));
+        counters.record(makeHistory(timeMs));
+        assertEquals(1, counters.count(TARGET, ACTOR, OPERATION, BUCKET_MS * NBUCKETS));
+    }
+
+    @Test
+    void testExpire() {
+        counters.record(makeHistory(timeMs));
+
+        timeMs += BUCKET_MS * NBUCKETS;
+
+        // recording for another key discards the expired ring
+        OperationsHistory other = makeHistory(timeMs);
+        other.setTarget("other-target");
+        counters.record(other);
+
+        assertEquals(0, counters.count(TARGET, ACTOR, OPERATION, BUCKET_MS * NBUCKETS));
+        assertEquals(1, counters.count("other-target", ACTOR, OPERATION, BUCKET_MS * NBUCKETS));
+    }
+
+    @Test
+    void testExpireWhileAdding() throws InterruptedException {
+        OperationsHistory other = makeHistory(timeMs);
+        other.setTarget("other-target");
+
+        for (var round = 0; round < 500; ++round) {
+            counters = new MyCounters();
+            counters.record(makeHistory(timeMs));
+
+            // the ring has expired, but is about to receive a new record
+            timeMs += BUCKET_MS * NBUCKETS;
+            final var history = makeHistory(timeMs);
+            other.setEndtime(new Date(timeMs));
+
+            var start = new CountDownLatch(1);
+            var adder = new Thread(() -> {
+                awaitQuietly(start);
+                counters.record(history);
+            });
+            var expirer = new Thread(() -> {
+                awaitQuietly(start);
+                counters.record(other);
+            });
+
+            adder.start();
+            expirer.start();
+            start.countDown();
+            adder.join();
+            expirer.join();
+
+            // the new record must not be discarded along with the expired ring
+            assertEquals(1, counters.count(TARGET, ACTOR, OPERATION, BUCKET_MS * NBUCKETS), "round " + round);
+        }
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testRebuild() {
+        counters.record(makeHistory(timeMs));
+
+        EntityManagerFactory emf = mock(EntityManagerFactory.class);
+        EntityManager em = mock(EntityManager.class);
+        TypedQuery<Object[]> query = mock(TypedQuery.class);
+
+        when(emf.createEntityManager()).thenReturn(em);
+        when(em.createQuery(anyString(), eq(Object[].class))).thenReturn(query);
+        when(query.setParameter(anyString(), any())).thenReturn(query);
+        when(query.getResultList()).thenReturn(List.of(
+                        new Object[] {TARGET, ACTOR, OPERATION, new Date(timeMs - 500)},
+                        new Object[] {TARGET, ACTOR, OPERATION, new Date(timeMs - 2500)},
+                        new Object[] {TARGET, "other-actor", OPERATION, new Date(timeMs)}));
+
+        counters.rebuild(emf);
+
+        verify(query).setParameter("since", new Date(timeMs - BUCKET_MS * NBUCKETS));
+        verify(query).setParameter("outcome", OperationsHistoryCounters.FAILURE_GUARD);
+        verify(em).close();
+
+        // the previous count was discarded
+        assertEquals(2, counters.count(TARGET, ACTOR, OPERATION, BUCKET_MS * NBUCKETS));
+        assertEquals(1, counters.count(TARGET, "other-actor", OPERATION, BUCKET_MS * NBUCKETS));
+
+        // closes the entity manager even if the query fails
+        when(query.getResultList()).thenThrow(new IllegalStateException("expected exception"));
+        assertThatIllegalStateException().isThrownBy(() -> counters.rebuild(emf));
+        verify(em, times(2)).close();
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private OperationsHistory makeHistory(Long endMs) {
+        return makeHistory(endMs, "Success");
+    }
+
+    private OperationsHistory makeHistory(Long endMs, String outcome) {
+        var history = new OperationsHistory();
+        history.setTarget(TARGET);
+        history.setActor(ACTOR);
+        history.setOperation(OPERATION);
+        history.setOutcome(outcome);
+        history.setEndtime(endMs == null ? null : new Date(endMs));
+        return history;
+    }
+
+    private class MyCounters extends OperationsHistoryCounters {
+        public MyCounters() {
+            super(BUCKET_MS, NBUCKETS);
+        }
+
+        @Override
+        protected long currentTimeMs() {
+            return timeMs;
+        }
+    }
+}
@@ -0,0 +1,203 @@
+/*-
+ * ============LICENSE_START=======================================================
+ *  Copyright (C) 2026 Nordix Foundation.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.guard;
+
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.EntityTransaction;
+import java.util.Date;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class OperationsHistoryWriterTest {
+    private static final String TARGET = "my-target";
+    private static final String ACTOR = "my-actor";
+    private static final String OPERATION = "my-operation";
+    private static final long WINDOW_MS = 60000;
+
+    private EntityManagerFactory emf;
+    private EntityManager em;
+    private EntityTransaction trans;
+    private OperationsHistoryCounters counters;
+    private OperationsHistoryWriter writer;
+
+    /**
+     * Sets up.
+     */
+    @BeforeEach
+    void setUp() {
+        emf = mock(EntityManagerFactory.class);
+        em = mock(EntityManager.class);
+        trans = mock(EntityTransaction.class);
+
+        when(emf.createEntityManager()).thenReturn(em);
+        when(em.getTransaction()).thenReturn(trans);
+
+        counters = new OperationsHistoryCounters();
+        writer = new IdleWriter(2, 5);
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        writer.stop();
+    }
+
+    @Test
+    void testConstructor() throws InterruptedException {
+        assertThatIllegalArgumentException().isThrownBy(() -> new OperationsHistoryWriter(emf, counters, 0, 5));
+        assertThatIllegalArgumentException().isThrownBy(() -> new OperationsHistoryWriter(emf, counters, 2, 0));
+
+        // default values
+        writer = new IdleWriter(OperationsHistoryWriter.DEFAULT_BATCH_SIZE,
+                        OperationsHistoryWriter.DEFAULT_QUEUE_CAPACITY);
+        writer.start();
+
+        for (var count = 0; count < OperationsHistoryWriter.DEFAULT_QUEUE_CAPACITY; ++count) {
+            assertTrue(writer.offer(makeHistory()));
+        }
+        assertFalse(writer.offer(makeHistory()));
+
+        writer.stop();
+        var nbatches = OperationsHistoryWriter.DEFAULT_QUEUE_CAPACITY / OperationsHistoryWriter.DEFAULT_BATCH_SIZE;
+        verify(trans, times(nbatches)).commit();
+    }
+
+    @Test
+    void testOffer() throws InterruptedException {
+        // rejected, and not counted, before the writer is started
+        assertFalse(writer.offer(makeHistory()));
+        assertEquals(1, writer.getRejectCount());
+
+        writer.start();
+
+        for (var count = 0; count < 5; ++count) {
+            assertTrue(writer.offer(makeHistory()));
+        }
+
+        // queue is full
+        assertFalse(writer.offer(makeHistory()));
+        assertEquals(2, writer.getRejectCount());
+
+        // nothing is counted until it has been written
+        assertEquals(0, counters.count(TARGET, ACTOR, OPERATION, WINDOW_MS));
+        verify(emf, never()).createEntityManager();
+
+        // stopping writes whatever is still queued
+        writer.stop();
+
+        assertEquals(5, writer.getWriteCount());
+        assertEquals(0, writer.getFailCount());
+        assertEquals(5, counters.count(TARGET, ACTOR, OPERATION, WINDOW_MS));
+        verify(em, times(5)).persist(any());
+
+        // batches of two, each in its own transaction
+        verify(trans, times(3)).begin();
+        verify(trans, times(3)).commit();
+        verify(em, times(3)).close();
+
+        // rejected, and not counted, once stopped
+        assertFalse(writer.offer(makeHistory()));
+        assertEquals(5, counters.count(TARGET, ACTOR, OPERATION, WINDOW_MS));
+    }
+
+    @Test
+    void testOfferWhileRunning() throws InterruptedException {
+        writer = new OperationsHistoryWriter(emf, counters, 2, 5);
+        writer.start();
+
+        assertTrue(writer.offer(makeHistory()));
+        writer.stop();
+
+        assertEquals(1, writer.getWriteCount());
+        assertEquals(1, counters.count(TARGET, ACTOR, OPERATION, WINDOW_MS));
+        verify(trans).commit();
+    }
+
+    @Test
+    void testWriteFailed() throws InterruptedException {
+        when(trans.isActive()).thenReturn(true);
+        doThrow(new IllegalStateException("expected exception")).when(trans).commit();
+
+        writer.start();
+        writer.offer(makeHistory());
+        writer.offer(makeHistory());
+        writer.offer(makeHistory());
+        writer.stop();
+
+        assertEquals(0, writer.getWriteCount());
+        assertEquals(3, writer.getFailCount());
+        verify(trans, times(2)).rollback();
+        verify(em, times(2)).close();
+
+        // records that failed are not counted
+        assertEquals(0, counters.count(TARGET, ACTOR, OPERATION, WINDOW_MS));
+    }
+
+    @Test
+    void testNoEntityManager() throws InterruptedException {
+        when(emf.createEntityManager()).thenThrow(new IllegalStateException("expected exception"));
+
+        writer.start();
+        writer.offer(makeHistory());
+        writer.stop();
+
+        assertEquals(1, writer.getFailCount());
+        verify(em, never()).close();
+    }
+
+    private OperationsHistory makeHistory() {
+        var history = new OperationsHistory();
+        history.setTarget(TARGET);
+        history.setActor(ACTOR);
+        history.setOperation(OPERATION);
+        history.setOutcome("Success");
+        history.setEndtime(new Date());
+        return history;
+    }
+
+    /**
+     * Writer whose thread never drains the queue, so that records are only written when
+     * the writer is stopped.
+     */
+    private class IdleWriter extends OperationsHistoryWriter {
+        IdleWriter(int batchSize, int capacity) {
+            super(emf, counters, batchSize, capacity);
+        }
+
+        @Override
+        protected Thread makeThread(Runnable runnable) {
+            return new Thread(() -> { });
+        }
+    }
+}
@@ -3,7 +3,7 @@
  * rest
  * ================================================================================
  * Copyright (C) 2017-2021 AT&T Intellectual Property. All rights reserved.
- * Modifications Copyright (C) 2019-2020, 2023-2025 Nordix Foundation.
+ * Modifications Copyright (C) 2019-2020, 2023-2026 Nordix Foundation.
  * ================================================================================
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -24,9 +24,11 @@
 package org.onap.policy.rest;
 
 import jakarta.xml.bind.DatatypeConverter;
+import java.io.Closeable;
 import java.nio.charset.StandardCharsets;
 import java.util.Map;
 import java.util.Map.Entry;
+import lombok.NonNull;
 import org.apache.commons.lang3.tuple.Pair;
 import org.apache.hc.client5.http.classic.methods.HttpDelete;
 import org.apache.hc.client5.http.classic.methods.HttpGet;
@@ -34,29 +36,77 @@ import org.apache.hc.client5.http.classic.methods.HttpPatch;
 import org.apache.hc.client5.http.classic.methods.HttpPost;
 import org.apache.hc.client5.http.classic.methods.HttpPut;
 import org.apache.hc.client5.http.classic.methods.HttpUriRequestBase;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
 import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
 import org.apache.hc.client5.http.impl.classic.HttpClientBuilder;
 import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
 import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
 import org.apache.hc.client5.http.ssl.DefaultClientTlsStrategy;
 import org.apache.hc.client5.http.ssl.NoopHostnameVerifier;
-import org.apache.hc.core5.http.ClassicHttpResponse;
 import org.apache.hc.core5.http.ContentType;
 import org.apache.hc.core5.http.HttpHeaders;
-import org.apache.hc.core5.http.HttpResponse;
 import org.apache.hc.core5.http.io.entity.EntityUtils;
 import org.apache.hc.core5.http.io.entity.StringEntity;
-import org.apache.hc.core5.http.message.StatusLine;
+import org.apache.hc.core5.io.CloseMode;
+import org.apache.hc.core5.pool.PoolStats;
 import org.apache.hc.core5.ssl.SSLContexts;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-public class RestManager {
+/**
+ * Sends REST requests over a pool of persistent HTTP connections. Managers created with the default constructor
+ * share a single pool, which is closed when the JVM shuts down; managers created with their own parameters own their
+ * pool, which is released by {@link #close()}.
+ */
+public class RestManager implements Closeable {
     private static final Logger logger = LoggerFactory.getLogger(RestManager.class);
 
     // Constants for string literals
     private static final String CONTENT_TYPE = "Content-Type";
 
+    private final ConnectionPool pool;
+    private final boolean ownsPool;
+
+    /**
+     * Constructs the object, using the connection pool that is shared by all managers built with default parameters.
+     */
+    public RestManager() {
+        this.pool = SharedPool.POOL;
+        this.ownsPool = false;
+    }
+
+    /**
+     * Constructs the object, with its own connection pool.
+     *
+     * @param params connection pool parameters
+     */
+    public RestManager(@NonNull RestManagerParams params) {
+        this.pool = new ConnectionPool(params);
+        this.ownsPool = true;
+    }
+
+    /**
+     * Gets the statistics of the connection pool used by this manager.
+     *
+     * @return the connection pool statistics
+     */
+    public PoolStats getPoolStats() {
+        return pool.connectionManager.getTotalStats();
+    }
+
+    /**
+     * Closes the connection pool, if it is owned by this manager. The shared pool is left open.
+     */
+    @Override
+    public void close() {
+        if (ownsPool) {
+            pool.close();
+        }
+    }
+
     /**
      * Perform REST PUT.
      *
@@ -209,28 +259,16 @@ public class RestManager {
             logger.debug("***** sendRequest to url {}:", request.getRequestUri());
         }
 
-        var sslContext = SSLContexts.createDefault();
-        PoolingHttpClientConnectionManager connectionManager =
-                PoolingHttpClientConnectionManagerBuilder.create()
-                        .setTlsSocketStrategy(new DefaultClientTlsStrategy(
-                                sslContext, NoopHostnameVerifier.INSTANCE))
-                        .build();
-        try (CloseableHttpClient client =
-                     HttpClientBuilder.create().setConnectionManager(connectionManager).build()) {
-            HttpResponse response = client.execute(request);
-            if (response != null) {
-                ClassicHttpResponse classicHttpResponse = (ClassicHttpResponse) response;
-                var returnBody = EntityUtils.toString(classicHttpResponse.getEntity(), "UTF-8");
+        try {
+            return pool.client.execute(request, response -> {
+                var returnBody = EntityUtils.toString(response.getEntity(), StandardCharsets.UTF_8);
 
-                logger.debug("HTTP Response Status Code: {}", new StatusLine(response).getStatusCode());
+                logger.debug("HTTP Response Status Code: {}", response.getCode());
                 logger.debug("HTTP Response Body:");
                 logger.debug(returnBody);
 
-                return Pair.of(new StatusLine(response).getStatusCode(), returnBody);
-            } else {
-                logger.error("Response from {} is null", request.getRequestUri());
-                return null;
-            }
+                return Pair.of(response.getCode(), returnBody);
+            });
         } catch (Exception e) {
             logger.error("Request failed to {}", request.getRequestUri(), e);
             return null;
@@ -265,4 +303,53 @@ public class RestManager {
         String auth = username + ":" + (password == null ? "" : password);
         return "Basic " + DatatypeConverter.printBase64Binary(auth.getBytes(StandardCharsets.ISO_8859_1));
     }
+
+    /**
+     * Pool of persistent connections, and the client that sends requests over them.
+     */
+    private static class ConnectionPool {
+        private final PoolingHttpClientConnectionManager connectionManager;
+        private final CloseableHttpClient client;
+
+        private ConnectionPool(RestManagerParams params) {
+            var connectionConfig = ConnectionConfig.custom()
+                    .setConnectTimeout(Timeout.ofMilliseconds(params.getConnectTimeoutMs()))
+                    .build();
+
+            connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+                    .setTlsSocketStrategy(new DefaultClientTlsStrategy(
+                            SSLContexts.createDefault(), NoopHostnameVerifier.INSTANCE))
+                    .setMaxConnTotal(params.getMaxConnections())
+                    .setMaxConnPerRoute(params.getMaxConnectionsPerRoute())
+                    .setDefaultConnectionConfig(connectionConfig)
+                    .build();
+
+            var requestConfig = RequestConfig.custom()
+                    .setResponseTimeout(Timeout.ofMilliseconds(params.getResponseTimeoutMs()))
+                    .setConnectionKeepAlive(TimeValue.ofMilliseconds(params.getKeepAliveMs()))
+                    .build();
+
+            client = HttpClientBuilder.create()
+                    .setConnectionManager(connectionManager)
+                    .setDefaultRequestConfig(requestConfig)
+                    .evictExpiredConnections()
+                    .evictIdleConnections(TimeValue.ofMilliseconds(params.getIdleTimeoutMs()))
+                    .build();
+        }
+
+        private void close() {
+            client.close(CloseMode.GRACEFUL);
+        }
+    }
+
+    /**
+     * Holds the shared pool, which is only created when a manager first needs it.
+     */
+    private static class SharedPool {
+        private static final ConnectionPool POOL = new ConnectionPool(RestManagerParams.builder().build());
+
+        static {
+            Runtime.getRuntime().addShutdownHook(new Thread(POOL::close, "RestManager-shutdown"));
+        }
+    }
 }
@@ -0,0 +1,73 @@
+/*-
+ * ============LICENSE_START=======================================================
+ *  Copyright (C) 2026 Nordix Foundation.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.rest;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Parameters of the HTTP connection pool used by a {@link RestManager}. A timeout of zero means "no timeout". The
+ * timeouts default to those of an HttpClient built without any configuration.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RestManagerParams {
+
+    /**
+     * Maximum number of connections in the pool, across all routes.
+     */
+    @Builder.Default
+    private int maxConnections = 100;
+
+    /**
+     * Maximum number of connections in the pool to a single host.
+     */
+    @Builder.Default
+    private int maxConnectionsPerRoute = 20;
+
+    /**
+     * Time, in milliseconds, to wait for a connection to be established.
+     */
+    @Builder.Default
+    private long connectTimeoutMs = 180000;
+
+    /**
+     * Time, in milliseconds, to wait for a response once a request has been sent.
+     */
+    @Builder.Default
+    private long responseTimeoutMs = 0;
+
+    /**
+     * Time, in milliseconds, that a connection is kept alive for reuse, when the server does not say.
+     */
+    @Builder.Default
+    private long keepAliveMs = 180000;
+
+    /**
+     * Time, in milliseconds, after which a connection that has not been used is closed.
+     */
+    @Builder.Default
+    private long idleTimeoutMs = 60000;
+}
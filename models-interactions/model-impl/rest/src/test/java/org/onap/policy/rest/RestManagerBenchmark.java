@@ -0,0 +1,109 @@
+/*-
+ * ============LICENSE_START=======================================================
+ *  Copyright (C) 2026 Nordix Foundation.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.rest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.onap.policy.common.endpoints.http.server.HttpServletServerFactoryInstance;
+import org.onap.policy.common.utils.network.NetworkUtil;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Measures the rate of GET requests that a {@link RestManager} sends to a local server, from a single thread and from
+ * several threads sharing the manager's connection pool. This is not a unit test, and is not run by the build; run
+ * its main() by hand when changing the connection pool.
+ */
+public class RestManagerBenchmark {
+    private static final Logger LOGGER = LoggerFactory.getLogger(RestManagerBenchmark.class);
+
+    private static final String LOCALHOST = "localhost";
+    private static final int REQUESTS = 2000;
+    private static final int THREADS = 8;
+
+    private RestManagerBenchmark() {
+        // main() only
+    }
+
+    /**
+     * Runs the benchmark.
+     *
+     * @param args ignored
+     * @throws Exception if the server cannot be started or a request fails
+     */
+    public static void main(String[] args) throws Exception {
+        var port = NetworkUtil.allocPort();
+        var getUri = "http://" + LOCALHOST + ":" + port + "/base/RestTest/GetHello/Bob?age=10";
+
+        var server = HttpServletServerFactoryInstance.getServerFactory()
+                        .build("RestManagerBenchmark", LOCALHOST, port, "/base", false, true);
+        server.addServletClass("/*", RestTest.class.getName());
+        server.waitedStart(5000);
+
+        try (var mgr = new RestManager(RestManagerParams.builder().build())) {
+            // warm up
+            sendRequests(mgr, getUri, REQUESTS);
+
+            long start = System.nanoTime();
+            sendRequests(mgr, getUri, REQUESTS);
+            report("1 thread", REQUESTS, System.nanoTime() - start, mgr);
+
+            var executor = Executors.newFixedThreadPool(THREADS);
+            try {
+                start = System.nanoTime();
+
+                List<Future<?>> futures = new ArrayList<>(THREADS);
+                for (var thread = 0; thread < THREADS; ++thread) {
+                    futures.add(executor.submit(() -> sendRequests(mgr, getUri, REQUESTS / THREADS)));
+                }
+
+                for (Future<?> future : futures) {
+                    future.get(5, TimeUnit.MINUTES);
+                }
+
+                report(THREADS + " threads", REQUESTS, System.nanoTime() - start, mgr);
+
+            } finally {
+                executor.shutdownNow();
+            }
+
+        } finally {
+            HttpServletServerFactoryInstance.getServerFactory().destroy();
+        }
+    }
+
+    private static void sendRequests(RestManager mgr, String uri, int count) {
+        for (var request = 0; request < count; ++request) {
+            var result = mgr.get(uri, "user", null, null);
+            if (result == null || result.getLeft() != 200) {
+                throw new IllegalStateException("request failed: " + result);
+            }
+        }
+    }
+
+    private static void report(String label, int count, long elapsedNs, RestManager mgr) {
+        LOGGER.info("{}: {} GET requests in {} ms, {} requests/sec, pool {}", label, count, elapsedNs / 1000000,
+                        count * 1000000000L / Math.max(1, elapsedNs), mgr.getPoolStats());
+    }
+}
@@ -3,7 +3,7 @@
  * rest
  * ================================================================================
  * Copyright (C) 2017-2021 AT&T Intellectual Property. All rights reserved.
- * Modifications Copyright (C) 2019-2020, 2023-2025 Nordix Foundation.
+ * Modifications Copyright (C) 2019-2020, 2023-2026 Nordix Foundation.
  * ================================================================================
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -26,6 +26,7 @@ package org.onap.policy.rest;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import jakarta.ws.rs.Consumes;
@@ -48,6 +49,8 @@ import java.lang.annotation.Target;
 import java.util.HashMap;
 import java.util.Map;
 import org.apache.commons.lang3.tuple.Pair;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
@@ -365,6 +368,47 @@ public class RestTest {   // NOSONAR - class needs to be public for Jersey to wo
         assertEquals((Integer) 400, result.getLeft());
     }
 
+    @Test
+    void testOwnPool() {
+        RestManager mgr = new RestManager(RestManagerParams.builder().maxConnections(5).maxConnectionsPerRoute(2)
+                .responseTimeoutMs(10000).build());
+
+        for (var count = 0; count < 10; ++count) {
+            checkResult(mgr.get(getUri, "user", null, null), "GOT: " + EXPECT_STRING);
+        }
+
+        // the connection is returned to the pool, to be reused
+        assertEquals(0, mgr.getPoolStats().getLeased());
+        assertEquals(1, mgr.getPoolStats().getAvailable());
+        assertEquals(5, mgr.getPoolStats().getMax());
+
+        mgr.close();
+        assertNull(mgr.get(getUri, "user", null, null));
+
+        assertThrows(NullPointerException.class, () -> new RestManager(null));
+    }
+
+    @Test
+    void testSharedPool() {
+        RestManager mgr = new RestManager();
+        checkResult(mgr.get(getUri, "user", null, null), "GOT: " + EXPECT_STRING);
+
+        // closing a manager does not close the shared pool
+        mgr.close();
+        checkResult(new RestManager().get(getUri, "user", null, null), "GOT: " + EXPECT_STRING);
+        assertEquals(0, new RestManager().getPoolStats().getLeased());
+    }
+
+    @Test
+    void testDefaultParams() {
+        // the defaults are those of an HttpClient that is built without any configuration
+        RestManagerParams params = RestManagerParams.builder().build();
+        assertEquals(ConnectionConfig.DEFAULT.getConnectTimeout().toMilliseconds(), params.getConnectTimeoutMs());
+        assertNull(RequestConfig.DEFAULT.getResponseTimeout());
+        assertEquals(0, params.getResponseTimeoutMs());
+        assertEquals(RequestConfig.DEFAULT.getConnectionKeepAlive().toMilliseconds(), params.getKeepAliveMs());
+    }
+
     @GET
     @Path("/GetHello/{name}")
     @Produces(MediaType.TEXT_PLAIN)
@@ -1,6 +1,6 @@
 /*-
  * ============LICENSE_START=======================================================
- *  Copyright (C) 2021, 2023 Nordix Foundation.
+ *  Copyright (C) 2021, 2023, 2026 Nordix Foundation.
  *  Modifications Copyright (C) 2021-2022 Bell Canada. All rights reserved.
  * ================================================================================
  * Licensed under the Apache License, Version 2.0 (the "License");
@@ -29,8 +29,8 @@ import jakarta.persistence.Id;
 import jakarta.persistence.Index;
 import jakarta.persistence.Inheritance;
 import jakarta.persistence.InheritanceType;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
-import jakarta.persistence.TableGenerator;
 import jakarta.persistence.Temporal;
 import jakarta.persistence.TemporalType;
 import jakarta.validation.constraints.NotNull;
@@ -60,12 +60,24 @@ import org.onap.policy.models.tosca.authorative.concepts.ToscaConceptIdentifier;
 /**
  * Entity to keep the records on policy actions for audit.
  *
+ * <p>Records are purged, and queried, by time stamp ranges, optionally narrowed by PDP group or by policy, which the
+ * indexes serve. Records are inserted in batches when the persistence unit enables JDBC batching, see
+ * {@code jdbcBatchSize} in {@code PolicyModelsProviderParameters}.
+ *
+ * <p>IDs are allocated from a pooled sequence, so concurrent inserts only reach the sequence once per allocation
+ * block rather than locking a sequence row for every record. The block size defaults to {@link #ID_ALLOCATION_SIZE},
+ * which matches the {@code INCREMENT BY} of the {@code audit_id_seq} sequence created by the database migrator. A
+ * deployment may override it in an {@code orm.xml} mapping file, by re-declaring the {@code generatedId} attribute
+ * with its own {@code sequence-generator}, provided that the increment of the database sequence is changed to match.
+ *
  * @author Adheli Tavares (adheli.tavares@est.tech)
  *
  */
 @Entity
 @Table(name = "JpaPolicyAudit", indexes = {
-    @Index(name = "JpaPolicyAuditIndex_timestamp", columnList = "timeStamp")
+    @Index(name = "JpaPolicyAuditIndex_timestamp", columnList = "timeStamp"),
+    @Index(name = "JpaPolicyAuditIndex_pdpGroup_timestamp", columnList = "pdpGroup, timeStamp"),
+    @Index(name = "JpaPolicyAuditIndex_policy_timestamp", columnList = "name, version, timeStamp")
 })
 @Inheritance(strategy = InheritanceType.TABLE_PER_CLASS)
 @Data
@@ -74,15 +86,16 @@ public class JpaPolicyAudit extends PfConcept implements PfAuthorative<PolicyAud
     @Serial
     private static final long serialVersionUID = -2935734300607322191L;
 
+    /**
+     * Default number of IDs allocated from the sequence at a time.
+     */
+    public static final int ID_ALLOCATION_SIZE = 50;
+
     @Id
     @Column(name = "ID")
-    @GeneratedValue(strategy = GenerationType.TABLE, generator = "auditIdGen")
-    @TableGenerator(
-        name = "auditIdGen",
-        table = "audit_sequence",
-        pkColumnName = "SEQ_NAME",
-        valueColumnName = "SEQ_COUNT",
-        pkColumnValue = "SEQ_GEN")
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "auditIdGen")
+    @SequenceGenerator(name = "auditIdGen", sequenceName = "audit_id_seq",
+            allocationSize = ID_ALLOCATION_SIZE)
     private Long generatedId;
 
     @Column(name = "name", length = 120)
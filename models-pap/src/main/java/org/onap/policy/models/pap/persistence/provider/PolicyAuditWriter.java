@@ -0,0 +1,59 @@
+/*-
+ * ============LICENSE_START=======================================================
+ *  Copyright (C) 2026 Nordix Foundation.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.models.pap.persistence.provider;
+
+import java.util.ArrayList;
+import java.util.List;
+import lombok.NonNull;
+import org.onap.policy.models.base.PfBatchWriter;
+import org.onap.policy.models.dao.PfDao;
+import org.onap.policy.models.pap.concepts.PolicyAudit;
+import org.onap.policy.models.pap.persistence.concepts.JpaPolicyAudit;
+
+/**
+ * Writes {@link PolicyAudit} records to the database in the background, so that callers do not wait for the
+ * database round-trip. See {@link PfBatchWriter} for how records are queued, batched and drained on shutdown.
+ */
+public class PolicyAuditWriter extends PfBatchWriter<PolicyAudit> {
+    private final PfDao dao;
+
+    /**
+     * Constructs the object.
+     *
+     * @param dao DAO used to write the records
+     * @param params writer parameters
+     */
+    public PolicyAuditWriter(@NonNull PfDao dao, @NonNull PolicyAuditWriterParameters params) {
+        super("policy-audit-writer", params.getMaxQueueSize(), params.getMaxBatchSize(), params.getFlushIntervalMs(),
+                        params.getOfferTimeoutMs());
+        this.dao = dao;
+    }
+
+    @Override
+    protected void write(List<PolicyAudit> batch) {
+        List<JpaPolicyAudit> jpas = new ArrayList<>(batch.size());
+        for (PolicyAudit audit : batch) {
+            jpas.add(new JpaPolicyAudit(audit));
+        }
+
+        dao.createCollection(jpas);
+    }
+}
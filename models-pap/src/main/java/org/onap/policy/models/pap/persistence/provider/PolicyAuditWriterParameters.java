@@ -0,0 +1,66 @@
+/*-
+ * ============LICENSE_START=======================================================
+ *  Copyright (C) 2026 Nordix Foundation.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.models.pap.persistence.provider;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.onap.policy.common.parameters.annotations.Min;
+
+/**
+ * Parameters for the {@link PolicyAuditWriter}.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PolicyAuditWriterParameters {
+
+    /**
+     * Maximum number of records waiting to be written.
+     */
+    @Min(1)
+    @Builder.Default
+    private int maxQueueSize = 10000;
+
+    /**
+     * Maximum number of records written in one transaction. A flush is triggered as soon as this many records are
+     * waiting.
+     */
+    @Min(1)
+    @Builder.Default
+    private int maxBatchSize = 100;
+
+    /**
+     * Maximum time, in milliseconds, that a record waits before it is flushed.
+     */
+    @Min(1)
+    @Builder.Default
+    private long flushIntervalMs = 1000;
+
+    /**
+     * Maximum time, in milliseconds, that a caller waits for space in a full queue before the record is rejected.
+     */
+    @Min(0)
+    @Builder.Default
+    private long offerTimeoutMs = 1000;
+}
@@ -0,0 +1,143 @@
+/*-
+ * ============LICENSE_START=======================================================
+ *  Copyright (C) 2026 Nordix Foundation.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.models.pap.persistence.concepts;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.onap.policy.models.dao.DaoParameters;
+import org.onap.policy.models.dao.PfDao;
+import org.onap.policy.models.dao.PfDaoFactory;
+import org.onap.policy.models.dao.impl.DefaultPfDao;
+import org.onap.policy.models.pap.concepts.PolicyAudit;
+import org.onap.policy.models.pap.concepts.PolicyAudit.AuditAction;
+import org.onap.policy.models.tosca.authorative.concepts.ToscaConceptIdentifier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Inserts audit records from several threads at once, with and without JDBC batching, and logs the insert
+ * throughput. This is not a unit test, and is not run by the build; run its main() by hand when changing the audit
+ * entity, its ID allocation or the batching settings.
+ *
+ * <p>By default, the records are inserted into an in-memory H2 database. To measure against Postgres, pass the JDBC
+ * URL, user and password as arguments. The tables are dropped and re-created, thus the database must be a scratch
+ * one.
+ */
+public class JpaPolicyAuditBenchmark {
+    private static final Logger LOGGER = LoggerFactory.getLogger(JpaPolicyAuditBenchmark.class);
+
+    private static final int THREADS = 8;
+    private static final int BATCHES_PER_THREAD = 10;
+    private static final int BATCH_SIZE = 25;
+    private static final int[] JDBC_BATCH_SIZES = {1, 50};
+
+    private JpaPolicyAuditBenchmark() {
+        // main() only
+    }
+
+    /**
+     * Runs the benchmark.
+     *
+     * @param args optional JDBC URL, user and password of a Postgres database
+     * @throws Exception if the records cannot be inserted
+     */
+    public static void main(String[] args) throws Exception {
+        var jdbcProperties = new Properties();
+        if (args.length >= 3) {
+            jdbcProperties.setProperty("jakarta.persistence.jdbc.driver", "org.postgresql.Driver");
+            jdbcProperties.setProperty("jakarta.persistence.jdbc.url", args[0]);
+            jdbcProperties.setProperty("jakarta.persistence.jdbc.user", args[1]);
+            jdbcProperties.setProperty("jakarta.persistence.jdbc.password", args[2]);
+
+        } else {
+            jdbcProperties.setProperty("jakarta.persistence.jdbc.driver", "org.h2.Driver");
+            jdbcProperties.setProperty("jakarta.persistence.jdbc.url", "jdbc:h2:mem:JpaPolicyAuditBenchmark");
+            jdbcProperties.setProperty("jakarta.persistence.jdbc.user", "policy");
+            jdbcProperties.setProperty("jakarta.persistence.jdbc.password", "P01icY");
+        }
+
+        for (int jdbcBatchSize : JDBC_BATCH_SIZES) {
+            jdbcProperties.setProperty("hibernate.jdbc.batch_size", String.valueOf(jdbcBatchSize));
+            jdbcProperties.setProperty("hibernate.order_inserts", String.valueOf(jdbcBatchSize > 1));
+
+            var daoParameters = new DaoParameters();
+            daoParameters.setPluginClass(DefaultPfDao.class.getName());
+            daoParameters.setPersistenceUnit("ToscaConceptTest");
+            daoParameters.setJdbcProperties(jdbcProperties);
+
+            PfDao pfDao = new PfDaoFactory().createPfDao(daoParameters);
+            pfDao.init(daoParameters);
+
+            try {
+                // warm up
+                insertBatches(pfDao, new ToscaConceptIdentifier("warmup", "1.0.0"));
+                pfDao.deleteAll(JpaPolicyAudit.class);
+
+                long elapsedMs = Math.max(1, insertConcurrently(pfDao));
+                int total = THREADS * BATCHES_PER_THREAD * BATCH_SIZE;
+                LOGGER.info("JDBC batch size {}: inserted {} audit records in {} ms ({} records/s)", jdbcBatchSize,
+                        total, elapsedMs, total * 1000L / elapsedMs);
+
+            } finally {
+                pfDao.close();
+            }
+        }
+    }
+
+    private static long insertConcurrently(PfDao pfDao) throws Exception {
+        var executor = Executors.newFixedThreadPool(THREADS);
+
+        try {
+            long start = System.nanoTime();
+
+            List<Future<?>> futures = new ArrayList<>(THREADS);
+            for (var thread = 0; thread < THREADS; ++thread) {
+                var policy = new ToscaConceptIdentifier("policy" + thread, "1.0.0");
+                futures.add(executor.submit(() -> insertBatches(pfDao, policy)));
+            }
+
+            for (Future<?> future : futures) {
+                future.get(5, TimeUnit.MINUTES);
+            }
+
+            return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static void insertBatches(PfDao pfDao, ToscaConceptIdentifier policy) {
+        for (var batch = 0; batch < BATCHES_PER_THREAD; ++batch) {
+            List<JpaPolicyAudit> audits = new ArrayList<>(BATCH_SIZE);
+            for (var count = 0; count < BATCH_SIZE; ++count) {
+                audits.add(new JpaPolicyAudit(PolicyAudit.builder().pdpGroup("pdpGroup").pdpType("pdpType")
+                                .policy(policy).action(AuditAction.DEPLOYMENT).timestamp(Instant.now()).build()));
+            }
+            pfDao.createCollection(audits);
+        }
+    }
+}
@@ -27,11 +27,20 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.sql.DriverManager;
+import java.sql.SQLException;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Properties;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.onap.policy.common.parameters.BeanValidationResult;
+import org.onap.policy.models.base.PfModelException;
+import org.onap.policy.models.dao.DaoParameters;
+import org.onap.policy.models.dao.PfDao;
+import org.onap.policy.models.dao.PfDaoFactory;
+import org.onap.policy.models.dao.impl.DefaultPfDao;
 import org.onap.policy.models.pap.concepts.PolicyAudit;
 import org.onap.policy.models.pap.concepts.PolicyAudit.AuditAction;
 import org.onap.policy.models.pdp.concepts.PdpPolicyStatus;
@@ -44,6 +53,8 @@ class JpaPolicyAuditTest {
     private static final ToscaConceptIdentifier MY_POLICY = new ToscaConceptIdentifier("MyPolicy", "1.2.3");
     private static final String PDP_GROUP = "pdpGroupxyz";
     private static final String USER = "user";
+    private static final String DB_USER = "policy";
+    private static final String DB_PASSWORD = "P01icY";
 
     PolicyAudit audit;
 
@@ -123,4 +134,53 @@ class JpaPolicyAuditTest {
         BeanValidationResult result = jpaAudit.validate("jpaAudit");
         assertFalse(result.isValid());
     }
+
+    @Test
+    void testIdAllocationSize() throws Exception {
+        assertEquals(JpaPolicyAudit.ID_ALLOCATION_SIZE, getSequenceIncrement("ToscaConceptTest"));
+
+        // the persistence unit's mapping file overrides the allocation size
+        assertEquals(10, getSequenceIncrement("AuditAllocationTest"));
+    }
+
+    /**
+     * Creates the audit table, and its sequence, using the given persistence unit, inserts a few records, and then
+     * gets the increment of the sequence, which Hibernate sets to the allocation size.
+     *
+     * @param persistenceUnit persistence unit to use
+     * @return the increment of the sequence
+     */
+    private long getSequenceIncrement(String persistenceUnit) throws PfModelException, SQLException {
+        var url = "jdbc:h2:mem:JpaPolicyAuditTest" + persistenceUnit;
+
+        var jdbcProperties = new Properties();
+        jdbcProperties.setProperty("jakarta.persistence.jdbc.driver", "org.h2.Driver");
+        jdbcProperties.setProperty("jakarta.persistence.jdbc.url", url);
+        jdbcProperties.setProperty("jakarta.persistence.jdbc.user", DB_USER);
+        jdbcProperties.setProperty("jakarta.persistence.jdbc.password", DB_PASSWORD);
+
+        var daoParameters = new DaoParameters();
+        daoParameters.setPluginClass(DefaultPfDao.class.getName());
+        daoParameters.setPersistenceUnit(persistenceUnit);
+        daoParameters.setJdbcProperties(jdbcProperties);
+
+        PfDao pfDao = new PfDaoFactory().createPfDao(daoParameters);
+        pfDao.init(daoParameters);
+
+        try (var conn = DriverManager.getConnection(url, DB_USER, DB_PASSWORD);
+                var stmt = conn.createStatement()) {
+
+            pfDao.createCollection(List.of(new JpaPolicyAudit(audit), new JpaPolicyAudit(audit)));
+            assertEquals(2, pfDao.size(JpaPolicyAudit.class));
+
+            try (var results = stmt.executeQuery(
+                    "SELECT INCREMENT FROM INFORMATION_SCHEMA.SEQUENCES WHERE SEQUENCE_NAME = 'AUDIT_ID_SEQ'")) {
+                assertTrue(results.next());
+                return results.getLong(1);
+            }
+
+        } finally {
+            pfDao.close();
+        }
+    }
 }
@@ -0,0 +1,224 @@
+/*-
+ * ============LICENSE_START=======================================================
+ *  Copyright (C) 2026 Nordix Foundation.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.models.pap.persistence.provider;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.onap.policy.models.dao.DaoParameters;
+import org.onap.policy.models.dao.PfDao;
+import org.onap.policy.models.dao.PfDaoFactory;
+import org.onap.policy.models.dao.impl.DefaultPfDao;
+import org.onap.policy.models.pap.concepts.PolicyAudit;
+import org.onap.policy.models.pap.concepts.PolicyAudit.AuditAction;
+import org.onap.policy.models.pap.persistence.concepts.JpaPolicyAudit;
+import org.onap.policy.models.tosca.authorative.concepts.ToscaConceptIdentifier;
+
+class PolicyAuditWriterTest {
+    private static final ToscaConceptIdentifier MY_POLICY = new ToscaConceptIdentifier("MyPolicy", "1.2.3");
+
+    private PfDao pfDao;
+    private PolicyAuditWriter writer;
+
+    /**
+     * Set up the DAO.
+     *
+     * @throws Exception on DAO creation errors
+     */
+    @BeforeEach
+    void setupDao() throws Exception {
+        final DaoParameters daoParameters = new DaoParameters();
+        daoParameters.setPluginClass(DefaultPfDao.class.getName());
+
+        daoParameters.setPersistenceUnit("ToscaConceptTest");
+
+        Properties jdbcProperties = new Properties();
+        jdbcProperties.setProperty("jakarta.persistence.jdbc.user", "policy");
+        jdbcProperties.setProperty("jakarta.persistence.jdbc.password", "P01icY");
+        jdbcProperties.setProperty("jakarta.persistence.jdbc.driver", "org.h2.Driver");
+        jdbcProperties.setProperty("jakarta.persistence.jdbc.url", "jdbc:h2:mem:PolicyAuditWriterTest");
+
+        daoParameters.setJdbcProperties(jdbcProperties);
+
+        pfDao = new PfDaoFactory().createPfDao(daoParameters);
+        pfDao.init(daoParameters);
+    }
+
+    @AfterEach
+    void teardown() throws InterruptedException {
+        if (writer != null) {
+            writer.stop();
+        }
+        pfDao.close();
+    }
+
+    @Test
+    void testConstructor() {
+        PolicyAuditWriterParameters params = PolicyAuditWriterParameters.builder().build();
+        assertThatThrownBy(() -> new PolicyAuditWriter(null, params)).isInstanceOf(NullPointerException.class);
+        assertThatThrownBy(() -> new PolicyAuditWriter(pfDao, null)).isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void testOfferNotRunning() throws InterruptedException {
+        writer = new PolicyAuditWriter(pfDao, PolicyAuditWriterParameters.builder().build());
+        assertFalse(writer.offer(makeAudit()));
+        assertEquals(1, writer.getRejectCount());
+
+        // stopping when not started is harmless
+        writer.stop();
+        assertEquals(0, pfDao.size(JpaPolicyAudit.class));
+    }
+
+    @Test
+    void testSizeTrigger() {
+        // interval is long enough that only the size trigger can flush
+        writer = new PolicyAuditWriter(pfDao,
+                        PolicyAuditWriterParameters.builder().maxBatchSize(5).flushIntervalMs(600000).build());
+        writer.start();
+        writer.start();
+
+        assertEquals(5, writer.offerAll(makeAudits(5)));
+        waitForWrites(5);
+        assertEquals(5, pfDao.size(JpaPolicyAudit.class));
+        assertEquals(0, writer.getQueueSize());
+    }
+
+    @Test
+    void testTimeTrigger() {
+        writer = new PolicyAuditWriter(pfDao,
+                        PolicyAuditWriterParameters.builder().maxBatchSize(100).flushIntervalMs(50).build());
+        writer.start();
+
+        assertEquals(3, writer.offerAll(makeAudits(3)));
+        waitForWrites(3);
+        assertEquals(3, pfDao.size(JpaPolicyAudit.class));
+    }
+
+    @Test
+    void testDrainOnStop() throws InterruptedException {
+        writer = new PolicyAuditWriter(pfDao, PolicyAuditWriterParameters.builder().maxBatchSize(1000)
+                        .flushIntervalMs(600000).build());
+        writer.start();
+
+        assertEquals(250, writer.offerAll(makeAudits(250)));
+        writer.stop();
+
+        assertEquals(250, writer.getWriteCount());
+        assertEquals(250, pfDao.size(JpaPolicyAudit.class));
+
+        // no longer accepted
+        assertFalse(writer.offer(makeAudit()));
+    }
+
+    @Test
+    void testOfferRacesStop() throws Exception {
+        final int nthreads = 4;
+
+        for (var round = 0; round < 5; ++round) {
+            writer = new PolicyAuditWriter(pfDao, PolicyAuditWriterParameters.builder().maxQueueSize(50)
+                            .maxBatchSize(20).flushIntervalMs(1).build());
+            writer.start();
+
+            long before = pfDao.size(JpaPolicyAudit.class);
+            var accepted = new AtomicLong();
+            var ready = new CountDownLatch(nthreads);
+            List<Thread> threads = new ArrayList<>(nthreads);
+
+            for (var count = 0; count < nthreads; ++count) {
+                var thread = new Thread(() -> {
+                    ready.countDown();
+                    while (writer.offer(makeAudit())) {
+                        accepted.incrementAndGet();
+                    }
+                });
+                thread.start();
+                threads.add(thread);
+            }
+
+            // stop while the callers are still offering records
+            ready.await();
+            writer.stop();
+
+            for (Thread thread : threads) {
+                thread.join();
+            }
+
+            // every record that was accepted was written
+            assertEquals(accepted.get(), writer.getWriteCount());
+            assertEquals(accepted.get(), pfDao.size(JpaPolicyAudit.class) - before);
+            assertEquals(0, writer.getQueueSize());
+        }
+    }
+
+    @Test
+    void testBackpressure() {
+        writer = new PolicyAuditWriter(pfDao, PolicyAuditWriterParameters.builder().maxQueueSize(2)
+                        .maxBatchSize(1000).flushIntervalMs(600000).offerTimeoutMs(0).build()) {
+            @Override
+            protected Thread makeThread(Runnable runnable) {
+                // never drains, so the queue stays full
+                return new Thread(() -> { });
+            }
+        };
+        writer.start();
+
+        assertTrue(writer.offer(makeAudit()));
+        assertTrue(writer.offer(makeAudit()));
+        assertFalse(writer.offer(makeAudit()));
+
+        assertEquals(2, writer.getQueueSize());
+        assertEquals(1, writer.getRejectCount());
+    }
+
+    private void waitForWrites(long count) {
+        long deadline = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(10);
+        while (writer.getWriteCount() < count && System.currentTimeMillis() < deadline) {
+            Thread.onSpinWait();
+        }
+        assertEquals(count, writer.getWriteCount());
+    }
+
+    private List<PolicyAudit> makeAudits(int count) {
+        List<PolicyAudit> audits = new ArrayList<>(count);
+        for (var index = 0; index < count; ++index) {
+            audits.add(makeAudit());
+        }
+        return audits;
+    }
+
+    private PolicyAudit makeAudit() {
+        return PolicyAudit.builder().pdpGroup("pdpGroup").pdpType("pdpType").policy(MY_POLICY)
+                        .action(AuditAction.DEPLOYMENT).timestamp(Instant.now()).build();
+    }
+}
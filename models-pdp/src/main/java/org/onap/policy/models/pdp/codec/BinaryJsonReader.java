@@ -0,0 +1,187 @@
+/*-
+ * ============LICENSE_START=======================================================
+ *  Copyright (C) 2026 Nordix Foundation.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.models.pdp.codec;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonNull;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonPrimitive;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Reads the binary encoding produced by {@link BinaryJsonWriter} into a JSON tree, from which Gson then builds the
+ * message. The tree is built straight from the binary tokens; no JSON text is produced. Strings that appear more than
+ * once are shared by the tree rather than copied.
+ *
+ * <p>A tree is used, rather than a {@link com.google.gson.stream.JsonReader} subclass, because Gson's map adapter
+ * relies on internals of its own readers, and thus cannot read maps from any other kind of reader.
+ */
+class BinaryJsonReader {
+    private final InputStream input;
+    private final List<String> table = new ArrayList<>();
+
+    /**
+     * Constructs the object.
+     *
+     * @param input stream from which to read the binary encoding
+     */
+    BinaryJsonReader(InputStream input) {
+        this.input = input;
+    }
+
+    /**
+     * Reads a binary encoded JSON document, which must be all that remains of the stream.
+     *
+     * @return the JSON tree
+     * @throws IOException if the encoding is invalid or cannot be read
+     */
+    JsonElement read() throws IOException {
+        var element = readValue(readTag());
+
+        if (input.read() >= 0) {
+            throw new IOException("unexpected data after binary JSON");
+        }
+
+        return element;
+    }
+
+    private JsonElement readValue(int tag) throws IOException {
+        return switch (tag) {
+            case BinaryJsonTag.BEGIN_OBJECT -> readObject();
+            case BinaryJsonTag.BEGIN_ARRAY -> readArray();
+            case BinaryJsonTag.STRING_NEW -> new JsonPrimitive(readNew());
+            case BinaryJsonTag.STRING_REF -> new JsonPrimitive(readRef());
+            case BinaryJsonTag.STRING_RAW -> new JsonPrimitive(readRaw());
+            case BinaryJsonTag.INTEGER -> {
+                long value = readVarLong();
+                yield new JsonPrimitive((value >>> 1) ^ -(value & 1));
+            }
+            case BinaryJsonTag.NUMBER -> new JsonPrimitive(readDecimal());
+            case BinaryJsonTag.TRUE -> new JsonPrimitive(true);
+            case BinaryJsonTag.FALSE -> new JsonPrimitive(false);
+            case BinaryJsonTag.NULL -> JsonNull.INSTANCE;
+            default -> throw new IOException("unexpected binary JSON tag " + tag);
+        };
+    }
+
+    private JsonObject readObject() throws IOException {
+        var object = new JsonObject();
+
+        for (;;) {
+            int tag = readTag();
+            if (tag == BinaryJsonTag.END_OBJECT) {
+                return object;
+            }
+
+            String name = switch (tag) {
+                case BinaryJsonTag.NAME_NEW -> readNew();
+                case BinaryJsonTag.NAME_REF -> readRef();
+                default -> throw new IOException("expected a name in binary JSON, but found tag " + tag);
+            };
+
+            object.add(name, readValue(readTag()));
+        }
+    }
+
+    private JsonArray readArray() throws IOException {
+        var array = new JsonArray();
+
+        int tag;
+        while ((tag = readTag()) != BinaryJsonTag.END_ARRAY) {
+            array.add(readValue(tag));
+        }
+
+        return array;
+    }
+
+    private int readTag() throws IOException {
+        int tag = input.read();
+        if (tag < 0) {
+            throw new EOFException("truncated binary JSON");
+        }
+
+        return tag;
+    }
+
+    private String readNew() throws IOException {
+        var text = readRaw();
+        table.add(text);
+        return text;
+    }
+
+    private String readRef() throws IOException {
+        long index = readVarLong();
+        if (index < 0 || index >= table.size()) {
+            throw new IOException("invalid binary JSON string reference " + index);
+        }
+
+        return table.get((int) index);
+    }
+
+    private BigDecimal readDecimal() throws IOException {
+        var text = readRaw();
+
+        try {
+            return new BigDecimal(text);
+
+        } catch (NumberFormatException e) {
+            throw new IOException("invalid binary JSON number " + text, e);
+        }
+    }
+
+    private String readRaw() throws IOException {
+        long length = readVarLong();
+        if (length < 0 || length > Integer.MAX_VALUE) {
+            throw new IOException("invalid binary JSON string length " + length);
+        }
+
+        var bytes = input.readNBytes((int) length);
+        if (bytes.length != length) {
+            throw new EOFException("truncated binary JSON");
+        }
+
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private long readVarLong() throws IOException {
+        long value = 0;
+        for (var shift = 0; shift < Long.SIZE; shift += 7) {
+            int octet = input.read();
+            if (octet < 0) {
+                throw new EOFException("truncated binary JSON");
+            }
+
+            value |= (long) (octet & 0x7F) << shift;
+            if ((octet & 0x80) == 0) {
+                return value;
+            }
+        }
+
+        throw new IOException("invalid binary JSON number");
+    }
+}
@@ -0,0 +1,72 @@
+/*-
+ * ============LICENSE_START=======================================================
+ *  Copyright (C) 2026 Nordix Foundation.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.models.pdp.codec;
+
+/**
+ * Tags of the tokens in the binary encoding of a JSON document. Each token starts with its tag byte.
+ */
+final class BinaryJsonTag {
+    static final int BEGIN_OBJECT = 1;
+    static final int END_OBJECT = 2;
+    static final int BEGIN_ARRAY = 3;
+    static final int END_ARRAY = 4;
+
+    /**
+     * Name or string sent for the first time; it is added to the string table. Followed by its length and UTF-8
+     * bytes.
+     */
+    static final int NAME_NEW = 5;
+    static final int STRING_NEW = 6;
+
+    /**
+     * Name or string that was sent before. Followed by its index in the string table.
+     */
+    static final int NAME_REF = 7;
+    static final int STRING_REF = 8;
+
+    /**
+     * String that is too long to be worth adding to the string table. Followed by its length and UTF-8 bytes.
+     */
+    static final int STRING_RAW = 9;
+
+    /**
+     * Integral number. Followed by its zig-zag encoded variable length value.
+     */
+    static final int INTEGER = 10;
+
+    /**
+     * Any other number. Followed by its JSON text, as a raw string.
+     */
+    static final int NUMBER = 11;
+
+    static final int TRUE = 12;
+    static final int FALSE = 13;
+    static final int NULL = 14;
+
+    /**
+     * Strings longer than this, in characters, are not added to the string table.
+     */
+    static final int MAX_TABLE_STRING = 128;
+
+    private BinaryJsonTag() {
+        // constants only
+    }
+}
@@ -0,0 +1,272 @@
+/*-
+ * ============LICENSE_START=======================================================
+ *  Copyright (C) 2026 Nordix Foundation.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.models.pdp.codec;
+
+import com.google.gson.stream.JsonWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * JSON writer that produces the binary encoding rather than JSON text, so that Gson can serialize an object straight
+ * into it. Names and short strings are written in full the first time they appear and as an index into the string
+ * table after that, which removes most of the repetition in messages that carry many policies.
+ */
+class BinaryJsonWriter extends JsonWriter {
+    private static final Writer UNWRITABLE_WRITER = new Writer() {
+        @Override
+        public void write(char[] buffer, int offset, int length) {
+            throw new AssertionError();
+        }
+
+        @Override
+        public void flush() {
+            throw new AssertionError();
+        }
+
+        @Override
+        public void close() {
+            throw new AssertionError();
+        }
+    };
+
+    private final OutputStream output;
+    private final Map<String, Integer> table = new HashMap<>();
+
+    /**
+     * Name that has been given but whose value has not been written yet. It is discarded, rather than written, if
+     * its value is null and nulls are not being serialized.
+     */
+    private String pendingName;
+
+    /**
+     * Constructs the object.
+     *
+     * @param output stream to which to write the binary encoding
+     */
+    BinaryJsonWriter(OutputStream output) {
+        super(UNWRITABLE_WRITER);
+        this.output = output;
+    }
+
+    @Override
+    public JsonWriter beginObject() throws IOException {
+        writePendingName();
+        output.write(BinaryJsonTag.BEGIN_OBJECT);
+        return this;
+    }
+
+    @Override
+    public JsonWriter endObject() throws IOException {
+        checkNoPendingName();
+        output.write(BinaryJsonTag.END_OBJECT);
+        return this;
+    }
+
+    @Override
+    public JsonWriter beginArray() throws IOException {
+        writePendingName();
+        output.write(BinaryJsonTag.BEGIN_ARRAY);
+        return this;
+    }
+
+    @Override
+    public JsonWriter endArray() throws IOException {
+        checkNoPendingName();
+        output.write(BinaryJsonTag.END_ARRAY);
+        return this;
+    }
+
+    @Override
+    public JsonWriter name(String name) {
+        Objects.requireNonNull(name, "name == null");
+        checkNoPendingName();
+        pendingName = name;
+        return this;
+    }
+
+    @Override
+    public JsonWriter value(String value) throws IOException {
+        if (value == null) {
+            return nullValue();
+        }
+
+        writePendingName();
+        writeString(value, BinaryJsonTag.STRING_NEW, BinaryJsonTag.STRING_REF);
+        return this;
+    }
+
+    @Override
+    public JsonWriter jsonValue(String value) {
+        throw new UnsupportedOperationException("raw JSON values cannot be binary encoded");
+    }
+
+    @Override
+    public JsonWriter nullValue() throws IOException {
+        if (pendingName != null && !getSerializeNulls()) {
+            // omit both the name and the value, as JSON text would
+            pendingName = null;
+            return this;
+        }
+
+        writePendingName();
+        output.write(BinaryJsonTag.NULL);
+        return this;
+    }
+
+    @Override
+    public JsonWriter value(boolean value) throws IOException {
+        writePendingName();
+        output.write(value ? BinaryJsonTag.TRUE : BinaryJsonTag.FALSE);
+        return this;
+    }
+
+    @Override
+    public JsonWriter value(Boolean value) throws IOException {
+        return (value == null ? nullValue() : value(value.booleanValue()));
+    }
+
+    @Override
+    public JsonWriter value(float value) throws IOException {
+        checkFinite(value);
+        writeNumber(Float.toString(value));
+        return this;
+    }
+
+    @Override
+    public JsonWriter value(double value) throws IOException {
+        checkFinite(value);
+        writeNumber(Double.toString(value));
+        return this;
+    }
+
+    @Override
+    public JsonWriter value(long value) throws IOException {
+        writePendingName();
+        output.write(BinaryJsonTag.INTEGER);
+        writeVarLong((value << 1) ^ (value >> 63));
+        return this;
+    }
+
+    @Override
+    public JsonWriter value(Number value) throws IOException {
+        if (value == null) {
+            return nullValue();
+        }
+
+        if (value instanceof Integer || value instanceof Long || value instanceof Short || value instanceof Byte) {
+            return value(value.longValue());
+        }
+
+        checkFinite(value.doubleValue());
+        writeNumber(value.toString());
+        return this;
+    }
+
+    @Override
+    public void flush() throws IOException {
+        output.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        checkNoPendingName();
+        output.close();
+    }
+
+    private void checkNoPendingName() {
+        if (pendingName != null) {
+            throw new IllegalStateException("no value given for " + pendingName);
+        }
+    }
+
+    private void checkFinite(double value) {
+        if (!isLenient() && (Double.isNaN(value) || Double.isInfinite(value))) {
+            throw new IllegalArgumentException("numeric values must be finite, but was " + value);
+        }
+    }
+
+    private void writePendingName() throws IOException {
+        if (pendingName != null) {
+            writeString(pendingName, BinaryJsonTag.NAME_NEW, BinaryJsonTag.NAME_REF);
+            pendingName = null;
+        }
+    }
+
+    private void writeString(String text, int newTag, int refTag) throws IOException {
+        var index = table.get(text);
+        if (index != null) {
+            output.write(refTag);
+            writeVarLong(index);
+            return;
+        }
+
+        if (newTag == BinaryJsonTag.STRING_NEW && text.length() > BinaryJsonTag.MAX_TABLE_STRING) {
+            output.write(BinaryJsonTag.STRING_RAW);
+            writeRaw(text);
+            return;
+        }
+
+        table.put(text, table.size());
+        output.write(newTag);
+        writeRaw(text);
+    }
+
+    private void writeNumber(String text) throws IOException {
+        writePendingName();
+
+        try {
+            long value = Long.parseLong(text);
+
+            // only use the integral form if it reproduces the same text
+            if (Long.toString(value).equals(text)) {
+                output.write(BinaryJsonTag.INTEGER);
+                writeVarLong((value << 1) ^ (value >> 63));
+                return;
+            }
+
+        } catch (NumberFormatException e) {
+            // not integral - fall through
+        }
+
+        output.write(BinaryJsonTag.NUMBER);
+        writeRaw(text);
+    }
+
+    private void writeRaw(String text) throws IOException {
+        var bytes = text.getBytes(StandardCharsets.UTF_8);
+        writeVarLong(bytes.length);
+        output.write(bytes);
+    }
+
+    private void writeVarLong(long value) throws IOException {
+        long remaining = value;
+        while ((remaining & ~0x7FL) != 0) {
+            output.write((int) ((remaining & 0x7F) | 0x80));
+            remaining >>>= 7;
+        }
+        output.write((int) remaining);
+    }
+}
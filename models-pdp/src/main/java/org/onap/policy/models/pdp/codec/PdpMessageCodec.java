@@ -0,0 +1,363 @@
+/*-
+ * ============LICENSE_START=======================================================
+ *  Copyright (C) 2026 Nordix Foundation.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.models.pdp.codec;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonParseException;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+import lombok.NonNull;
+import org.onap.policy.common.gson.GsonMessageBodyHandler;
+import org.onap.policy.common.utils.coder.CoderException;
+import org.onap.policy.models.pdp.concepts.PdpMessage;
+import org.onap.policy.models.pdp.concepts.PdpStateChange;
+import org.onap.policy.models.pdp.concepts.PdpStatus;
+import org.onap.policy.models.pdp.concepts.PdpTopicCheck;
+import org.onap.policy.models.pdp.concepts.PdpUpdate;
+import org.onap.policy.models.pdp.enums.PdpMessageEncoding;
+import org.onap.policy.models.pdp.enums.PdpMessageType;
+
+/**
+ * Encodes and decodes PDP messages in any of the {@link PdpMessageEncoding encodings}. JSON remains the default;
+ * the binary encodings are only used once the peer has advertised them in
+ * {@link PdpMessage#getSupportedEncodings()}.
+ *
+ * <p>A binary message starts with a four byte header: a zero byte (which JSON text can never start with), the
+ * format version, a flag byte and the code of the message type. The codes are fixed, rather than derived from the
+ * order of {@link PdpMessageType}, so that adding or reordering types does not change the meaning of messages sent
+ * by older peers. The body is the token stream of the JSON form of the message,
+ * in which each name and short string is sent once and then referred to by index (see {@link BinaryJsonWriter}),
+ * optionally compressed with DEFLATE. Gson writes the token stream directly, and reads the message from a tree that
+ * is built directly from the token stream, so JSON text is never produced or parsed for a binary message. A
+ * compressed body is rejected once it inflates beyond a maximum size, so that a small message cannot expand without
+ * bound.
+ */
+public class PdpMessageCodec {
+    private static final byte MAGIC = 0;
+    private static final byte VERSION = 1;
+    private static final byte FLAG_DEFLATE = 0x01;
+    private static final int HEADER_LENGTH = 4;
+    private static final byte NO_TYPE = -1;
+    private static final int INITIAL_BINARY_SIZE = 4096;
+
+    /**
+     * Default maximum size, in bytes, to which a compressed message body may inflate.
+     */
+    public static final int DEFAULT_MAX_INFLATED_SIZE = 32 * 1024 * 1024;
+
+    private static final String MESSAGE_NAME_FIELD = "messageName";
+
+    /**
+     * Encodings this codec is able to decode, most compact first.
+     */
+    public static final List<PdpMessageEncoding> SUPPORTED_ENCODINGS =
+            List.of(PdpMessageEncoding.BINARY_DEFLATE, PdpMessageEncoding.BINARY, PdpMessageEncoding.JSON);
+
+    private static final Map<PdpMessageType, Class<? extends PdpMessage>> TYPE2CLASS =
+            new EnumMap<>(PdpMessageType.class);
+
+    static {
+        TYPE2CLASS.put(PdpMessageType.PDP_STATUS, PdpStatus.class);
+        TYPE2CLASS.put(PdpMessageType.PDP_UPDATE, PdpUpdate.class);
+        TYPE2CLASS.put(PdpMessageType.PDP_STATE_CHANGE, PdpStateChange.class);
+        TYPE2CLASS.put(PdpMessageType.PDP_TOPIC_CHECK, PdpTopicCheck.class);
+    }
+
+    /**
+     * Codes of the message types within the binary header. These are part of the wire format, thus existing codes
+     * must never change, and new types must be given new codes.
+     */
+    private static final Map<PdpMessageType, Byte> TYPE2CODE = new EnumMap<>(PdpMessageType.class);
+    private static final Map<Byte, PdpMessageType> CODE2TYPE = new HashMap<>();
+
+    static {
+        TYPE2CODE.put(PdpMessageType.PDP_STATUS, (byte) 0);
+        TYPE2CODE.put(PdpMessageType.PDP_UPDATE, (byte) 1);
+        TYPE2CODE.put(PdpMessageType.PDP_STATE_CHANGE, (byte) 2);
+        TYPE2CODE.put(PdpMessageType.PDP_HEALTH_CHECK, (byte) 3);
+        TYPE2CODE.put(PdpMessageType.PDP_TOPIC_CHECK, (byte) 4);
+
+        TYPE2CODE.forEach((type, code) -> CODE2TYPE.put(code, type));
+    }
+
+    /**
+     * Gson object configured as the one used by the standard coder, so that the JSON form is unchanged.
+     */
+    private static final Gson GSON = GsonMessageBodyHandler.configBuilder(new GsonBuilder()).create();
+
+    private final Gson gson;
+    private final int maxInflatedSize;
+
+    /**
+     * Constructs the object, using the standard Gson configuration.
+     */
+    public PdpMessageCodec() {
+        this(GSON);
+    }
+
+    /**
+     * Constructs the object, using the {@link #DEFAULT_MAX_INFLATED_SIZE default} maximum inflated size.
+     *
+     * @param gson Gson object used to convert messages to and from their JSON form
+     */
+    public PdpMessageCodec(@NonNull Gson gson) {
+        this(gson, DEFAULT_MAX_INFLATED_SIZE);
+    }
+
+    /**
+     * Constructs the object.
+     *
+     * @param gson Gson object used to convert messages to and from their JSON form
+     * @param maxInflatedSize maximum size, in bytes, to which a compressed message body may inflate
+     */
+    public PdpMessageCodec(@NonNull Gson gson, int maxInflatedSize) {
+        if (maxInflatedSize <= 0) {
+            throw new IllegalArgumentException("maxInflatedSize must be positive");
+        }
+
+        this.gson = gson;
+        this.maxInflatedSize = maxInflatedSize;
+    }
+
+    /**
+     * Chooses the most compact encoding that both this codec and the peer support.
+     *
+     * @param peerEncodings encodings supported by the peer, or {@code null} if the peer did not advertise any
+     * @return the encoding to use when sending messages to the peer
+     */
+    public static PdpMessageEncoding negotiate(Collection<PdpMessageEncoding> peerEncodings) {
+        if (peerEncodings == null) {
+            return PdpMessageEncoding.JSON;
+        }
+
+        return SUPPORTED_ENCODINGS.stream().filter(peerEncodings::contains).findFirst()
+                .orElse(PdpMessageEncoding.JSON);
+    }
+
+    /**
+     * Encodes a message.
+     *
+     * @param message message to be encoded
+     * @param encoding encoding to use
+     * @return the encoded message
+     * @throws CoderException if the message cannot be encoded
+     */
+    public byte[] encode(@NonNull PdpMessage message, @NonNull PdpMessageEncoding encoding) throws CoderException {
+        try {
+            if (encoding == PdpMessageEncoding.JSON) {
+                return gson.toJson(message).getBytes(StandardCharsets.UTF_8);
+            }
+
+            var bytes = new ByteArrayOutputStream(INITIAL_BINARY_SIZE);
+            bytes.write(MAGIC);
+            bytes.write(VERSION);
+            bytes.write(encoding == PdpMessageEncoding.BINARY_DEFLATE ? FLAG_DEFLATE : 0);
+            bytes.write(getCode(message.getMessageName()));
+
+            OutputStream body =
+                    (encoding == PdpMessageEncoding.BINARY_DEFLATE ? new DeflaterOutputStream(bytes) : bytes);
+            try (var writer = new BinaryJsonWriter(body)) {
+                gson.toJson(message, message.getClass(), writer);
+            }
+
+            return bytes.toByteArray();
+
+        } catch (IOException | RuntimeException e) {
+            throw new CoderException("cannot encode " + message.getMessageName(), e);
+        }
+    }
+
+    /**
+     * Decodes a message, in any encoding, into the class associated with its message type.
+     *
+     * @param data encoded message
+     * @return the decoded message
+     * @throws CoderException if the message cannot be decoded
+     */
+    public PdpMessage decode(@NonNull byte[] data) throws CoderException {
+        if (isBinary(data)) {
+            var tree = readBinary(data);
+
+            // fall back on the message name if the type has no code
+            var type = CODE2TYPE.get(data[3]);
+            return fromTree(tree, getClass(type != null ? type : getType(tree)));
+        }
+
+        // parse the text once, into a tree, from which the message name is taken
+        JsonElement tree;
+        try {
+            tree = gson.fromJson(new InputStreamReader(new ByteArrayInputStream(data), StandardCharsets.UTF_8),
+                    JsonElement.class);
+
+        } catch (JsonParseException e) {
+            throw new CoderException("cannot decode PDP message", e);
+        }
+
+        return fromTree(tree, getClass(getType(tree)));
+    }
+
+    /**
+     * Decodes a message, in any encoding.
+     *
+     * @param <T> type of message
+     * @param data encoded message
+     * @param clazz class of message
+     * @return the decoded message
+     * @throws CoderException if the message cannot be decoded
+     */
+    public <T extends PdpMessage> T decode(@NonNull byte[] data, @NonNull Class<T> clazz) throws CoderException {
+        if (!isBinary(data)) {
+            try {
+                return gson.fromJson(new InputStreamReader(new ByteArrayInputStream(data), StandardCharsets.UTF_8),
+                        clazz);
+
+            } catch (JsonParseException e) {
+                throw new CoderException("cannot decode PDP message", e);
+            }
+        }
+
+        return fromTree(readBinary(data), clazz);
+    }
+
+    /**
+     * Reads the body of a binary message into a tree.
+     *
+     * @param data encoded message
+     * @return the body of the message
+     * @throws CoderException if the header is invalid, or the body cannot be read
+     */
+    private JsonElement readBinary(byte[] data) throws CoderException {
+        if (data.length < HEADER_LENGTH || data[1] != VERSION) {
+            throw new CoderException("unsupported binary PDP message format");
+        }
+
+        InputStream body = new ByteArrayInputStream(data, HEADER_LENGTH, data.length - HEADER_LENGTH);
+        if ((data[2] & FLAG_DEFLATE) != 0) {
+            body = new LimitedInputStream(new InflaterInputStream(body), maxInflatedSize);
+        }
+
+        try (InputStream input = body) {
+            return new BinaryJsonReader(input).read();
+
+        } catch (IOException | RuntimeException e) {
+            throw new CoderException("cannot decode binary PDP message", e);
+        }
+    }
+
+    private <T extends PdpMessage> T fromTree(JsonElement tree, Class<T> clazz) throws CoderException {
+        try {
+            return gson.fromJson(tree, clazz);
+
+        } catch (RuntimeException e) {
+            throw new CoderException("cannot decode PDP message", e);
+        }
+    }
+
+    private static Class<? extends PdpMessage> getClass(PdpMessageType type) {
+        return (type == null ? PdpMessage.class : TYPE2CLASS.getOrDefault(type, PdpMessage.class));
+    }
+
+    private static boolean isBinary(byte[] data) {
+        return data.length > 0 && data[0] == MAGIC;
+    }
+
+    private static byte getCode(PdpMessageType type) {
+        return (type == null ? NO_TYPE : TYPE2CODE.getOrDefault(type, NO_TYPE));
+    }
+
+    private static PdpMessageType getType(JsonElement tree) {
+        if (tree == null || !tree.isJsonObject()) {
+            return null;
+        }
+
+        var name = tree.getAsJsonObject().get(MESSAGE_NAME_FIELD);
+        if (name == null || !name.isJsonPrimitive()) {
+            return null;
+        }
+
+        try {
+            return PdpMessageType.valueOf(name.getAsString());
+
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Stream that fails once more than a given number of bytes have been read from it.
+     */
+    private static class LimitedInputStream extends FilterInputStream {
+        private final long limit;
+        private long count = 0;
+
+        LimitedInputStream(InputStream in, long limit) {
+            super(in);
+            this.limit = limit;
+        }
+
+        @Override
+        public int read() throws IOException {
+            var value = super.read();
+            if (value >= 0) {
+                count(1);
+            }
+            return value;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+            var nread = super.read(buffer, offset, length);
+            if (nread > 0) {
+                count(nread);
+            }
+            return nread;
+        }
+
+        @Override
+        public long skip(long length) throws IOException {
+            var nskipped = super.skip(length);
+            count(nskipped);
+            return nskipped;
+        }
+
+        private void count(long nbytes) throws IOException {
+            count += nbytes;
+            if (count > limit) {
+                throw new IOException("inflated PDP message exceeds " + limit + " bytes");
+            }
+        }
+    }
+}
@@ -21,6 +21,8 @@
 
 package org.onap.policy.models.pdp.concepts;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.UUID;
 import lombok.AccessLevel;
 import lombok.EqualsAndHashCode;
@@ -28,6 +30,7 @@ import lombok.Getter;
 import lombok.NonNull;
 import lombok.Setter;
 import lombok.ToString;
+import org.onap.policy.models.pdp.enums.PdpMessageEncoding;
 import org.onap.policy.models.pdp.enums.PdpMessageType;
 
 /**
@@ -70,6 +73,12 @@ public class PdpMessage {
      */
     private String pdpSubgroup;
 
+    /**
+     * Encodings that the sender is able to decode, or {@code null} if it only supports
+     * {@link PdpMessageEncoding#JSON}. Used by the receiver to choose the encoding of the
+     * messages it sends back.
+     */
+    private List<PdpMessageEncoding> supportedEncodings;
 
     /**
      * Constructor for instantiating PdpMessage class with message name.
@@ -91,6 +100,8 @@ public class PdpMessage {
         this.name = source.name;
         this.pdpGroup = source.pdpGroup;
         this.pdpSubgroup = source.pdpSubgroup;
+        this.supportedEncodings = (source.supportedEncodings == null ? null
+                : new ArrayList<>(source.supportedEncodings));
     }
 
     /**
@@ -0,0 +1,54 @@
+/*-
+ * ============LICENSE_START=======================================================
+ *  Copyright (C) 2026 Nordix Foundation.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.models.pdp.concepts;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.NonNull;
+import org.onap.policy.models.tosca.authorative.concepts.ToscaConceptIdentifier;
+
+/**
+ * Reference to a policy that a PDP already holds, sent in place of the policy body. The hash allows the PDP to verify
+ * that its copy is the one that PAP expects.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PdpPolicyReference {
+
+    private ToscaConceptIdentifier policy;
+
+    /**
+     * Hash of the policy content, as computed by {@code PdpUpdateDelta.hash()}.
+     */
+    private String hash;
+
+    /**
+     * Constructs the object, making a deep copy.
+     *
+     * @param source source from which to copy
+     */
+    public PdpPolicyReference(@NonNull PdpPolicyReference source) {
+        this.policy = (source.policy == null ? null : new ToscaConceptIdentifier(source.policy));
+        this.hash = source.hash;
+    }
+}
@@ -55,6 +55,12 @@ public class PdpStatus extends PdpMessage {
     private String description;
 
     private List<ToscaConceptIdentifier> policies;
+
+    /**
+     * Hash of the complete set of policies that the PDP has deployed, or {@code null} if
+     * the PDP does not compute it.
+     */
+    private String policiesHash;
     private String deploymentInstanceInfo;
     private String properties;
     private PdpResponseDetails response;
@@ -80,6 +86,7 @@ public class PdpStatus extends PdpMessage {
         this.healthy = source.healthy;
         this.description = source.description;
         this.policies = PfUtils.mapList(source.policies, ToscaConceptIdentifier::new, new ArrayList<>(0));
+        this.policiesHash = source.policiesHash;
         this.deploymentInstanceInfo = source.deploymentInstanceInfo;
         this.properties = source.properties;
         this.response = (source.response == null ? null : new PdpResponseDetails(source.response));
@@ -67,6 +67,18 @@ public class PdpUpdate extends PdpMessage {
      */
     private List<ToscaConceptIdentifier> policiesToBeUndeployed = new LinkedList<>();
 
+    /**
+     * Policies that the PDP already holds and should keep deployed, sent by reference
+     * rather than in full. {@code null} if the update was not computed as a delta.
+     */
+    private List<PdpPolicyReference> policiesToBeRetained;
+
+    /**
+     * Hash of the complete set of policies that the PDP should have deployed once this
+     * update has been applied, or {@code null} if not provided.
+     */
+    private String policiesHash;
+
     /**
      * Constructor for instantiating PdpUpdate class with message name.
      *
@@ -90,5 +102,8 @@ public class PdpUpdate extends PdpMessage {
                 : source.policiesToBeDeployed.stream().map(ToscaPolicy::new).toList());
         this.policiesToBeUndeployed = (source.policiesToBeUndeployed == null ? null
                 : source.policiesToBeUndeployed.stream().map(ToscaConceptIdentifier::new).toList());
+        this.policiesToBeRetained = (source.policiesToBeRetained == null ? null
+                : source.policiesToBeRetained.stream().map(PdpPolicyReference::new).toList());
+        this.policiesHash = source.policiesHash;
     }
 }
@@ -0,0 +1,258 @@
+/*-
+ * ============LICENSE_START=======================================================
+ *  Copyright (C) 2026 Nordix Foundation.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.models.pdp.delta;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonParseException;
+import com.google.gson.stream.JsonWriter;
+import jakarta.ws.rs.core.Response;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import lombok.NonNull;
+import org.onap.policy.common.gson.GsonMessageBodyHandler;
+import org.onap.policy.models.base.PfModelRuntimeException;
+import org.onap.policy.models.pdp.concepts.PdpPolicyReference;
+import org.onap.policy.models.pdp.concepts.PdpStatus;
+import org.onap.policy.models.pdp.concepts.PdpUpdate;
+import org.onap.policy.models.tosca.authorative.concepts.ToscaConceptIdentifier;
+import org.onap.policy.models.tosca.authorative.concepts.ToscaPolicy;
+
+/**
+ * Computes the policy content of a {@link PdpUpdate} as a delta against the policies that a PDP reported in its last
+ * acknowledged {@link PdpStatus}. Only policies that the PDP does not yet have are sent in full; the ones it already
+ * has are sent as {@link PdpPolicyReference references}, and the ones it should no longer have are undeployed.
+ *
+ * <p>The update also carries the hash of the complete policy set that the PDP should end up with, so that a PDP can
+ * tell whether an update has already been applied by comparing a single value.
+ *
+ * <p>Policy hashes are SHA-256 digests of a canonical JSON encoding of a policy, in which object members are sorted
+ * by name, null members are omitted and numbers are written in their shortest plain form, so that equal content gives
+ * equal hashes regardless of map ordering or of how a number was decoded. As a policy of a given name and version is
+ * not modified once created, a PDP that reports a policy identifier is taken to hold its current content.
+ */
+public class PdpUpdateDelta {
+    private static final String HASH_ALGORITHM = "SHA-256";
+
+    private static final Gson GSON = GsonMessageBodyHandler.configBuilder(new GsonBuilder()).create();
+
+    private final Gson gson;
+
+    /**
+     * Constructs the object, using the same Gson configuration as the {@code StandardCoder}.
+     */
+    public PdpUpdateDelta() {
+        this(GSON);
+    }
+
+    /**
+     * Constructs the object.
+     *
+     * @param gson Gson used to convert policies to JSON before hashing them
+     */
+    public PdpUpdateDelta(@NonNull Gson gson) {
+        this.gson = gson;
+    }
+
+    /**
+     * Populates the policy fields of an update, as a delta against the last acknowledged status of the PDP.
+     *
+     * @param update update to be populated; its other fields are left unchanged
+     * @param desired complete set of policies that the PDP should have deployed
+     * @param lastAcked last status acknowledged by the PDP, or {@code null} if none is known, in which case every
+     *        policy is sent in full
+     */
+    public void populate(@NonNull PdpUpdate update, @NonNull Collection<ToscaPolicy> desired, PdpStatus lastAcked) {
+        Set<ToscaConceptIdentifier> held = (lastAcked == null || lastAcked.getPolicies() == null ? Set.of()
+                : new HashSet<>(lastAcked.getPolicies()));
+
+        List<ToscaPolicy> deploy = new LinkedList<>();
+        List<PdpPolicyReference> retain = new ArrayList<>();
+        Map<ToscaConceptIdentifier, String> wanted = new LinkedHashMap<>();
+
+        for (ToscaPolicy policy : desired) {
+            var ident = policy.getIdentifier();
+            var policyHash = hash(policy);
+            wanted.put(ident, policyHash);
+
+            if (held.contains(ident)) {
+                retain.add(new PdpPolicyReference(ident, policyHash));
+            } else {
+                deploy.add(policy);
+            }
+        }
+
+        List<ToscaConceptIdentifier> undeploy = new LinkedList<>();
+        for (ToscaConceptIdentifier ident : held) {
+            if (!wanted.containsKey(ident)) {
+                undeploy.add(ident);
+            }
+        }
+
+        update.setPoliciesToBeDeployed(deploy);
+        update.setPoliciesToBeUndeployed(undeploy);
+        update.setPoliciesToBeRetained(retain);
+        update.setPoliciesHash(combineHashes(wanted));
+    }
+
+    /**
+     * Determines if a PDP has already applied an update, by comparing the policy set hash of the update with the one
+     * reported by the PDP.
+     *
+     * @param update update of interest
+     * @param status status reported by the PDP
+     * @return {@code true} if both hashes are known and equal, {@code false} otherwise
+     */
+    public static boolean isApplied(@NonNull PdpUpdate update, @NonNull PdpStatus status) {
+        return update.getPoliciesHash() != null && update.getPoliciesHash().equals(status.getPoliciesHash());
+    }
+
+    /**
+     * Computes the hash of a policy's content.
+     *
+     * @param policy policy of interest
+     * @return the hash of the policy, as a hex string
+     */
+    public String hash(@NonNull ToscaPolicy policy) {
+        var text = new StringWriter();
+
+        try (var writer = new JsonWriter(text)) {
+            writeCanonical(writer, gson.toJsonTree(policy));
+
+        } catch (IOException | JsonParseException | NumberFormatException e) {
+            throw new PfModelRuntimeException(Response.Status.INTERNAL_SERVER_ERROR,
+                            "cannot encode policy " + policy.getIdentifier(), e);
+        }
+
+        return HexFormat.of().formatHex(newDigest().digest(text.toString().getBytes(StandardCharsets.UTF_8)));
+    }
+
+    /**
+     * Computes the hash of a set of policies. The result does not depend on the order of the policies, and policies
+     * having the same identifier are only counted once.
+     *
+     * @param policies policies of interest
+     * @return the hash of the set, as a hex string
+     */
+    public String hashSet(@NonNull Collection<ToscaPolicy> policies) {
+        Map<ToscaConceptIdentifier, String> hashes = new LinkedHashMap<>();
+        for (ToscaPolicy policy : policies) {
+            hashes.put(policy.getIdentifier(), hash(policy));
+        }
+
+        return combineHashes(hashes);
+    }
+
+    /**
+     * Computes the hash of a set of policies whose hashes are already known, as would
+     * {@link #hashSet(Collection)}.
+     *
+     * @param policyHashes hash of each policy, as returned by {@link #hash(ToscaPolicy)}, keyed by policy identifier
+     * @return the hash of the set, as a hex string
+     */
+    public static String combineHashes(@NonNull Map<ToscaConceptIdentifier, String> policyHashes) {
+        List<String> entries = new ArrayList<>(policyHashes.size());
+        for (Map.Entry<ToscaConceptIdentifier, String> ent : policyHashes.entrySet()) {
+            var ident = ent.getKey();
+            entries.add(ident.getName() + ":" + ident.getVersion() + ":" + ent.getValue());
+        }
+
+        entries.sort(null);
+
+        var digest = newDigest();
+        for (String entry : entries) {
+            digest.update(entry.getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) '\n');
+        }
+
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    /**
+     * Writes a JSON tree in canonical form: object members sorted by name, null members omitted, and numbers in their
+     * shortest plain form.
+     *
+     * @param writer where to write the tree
+     * @param element tree to be written
+     * @throws IOException if the tree cannot be written
+     */
+    private static void writeCanonical(JsonWriter writer, JsonElement element) throws IOException {
+        if (element.isJsonObject()) {
+            var object = element.getAsJsonObject();
+            List<String> names = new ArrayList<>(object.keySet());
+            names.sort(null);
+
+            writer.beginObject();
+            for (String name : names) {
+                var value = object.get(name);
+                if (!value.isJsonNull()) {
+                    writer.name(name);
+                    writeCanonical(writer, value);
+                }
+            }
+            writer.endObject();
+
+        } else if (element.isJsonArray()) {
+            writer.beginArray();
+            for (JsonElement item : element.getAsJsonArray()) {
+                writeCanonical(writer, item);
+            }
+            writer.endArray();
+
+        } else if (element.isJsonNull()) {
+            writer.nullValue();
+
+        } else if (element.getAsJsonPrimitive().isNumber()) {
+            var number = new BigDecimal(element.getAsString());
+            writer.jsonValue(number.signum() == 0 ? "0" : number.stripTrailingZeros().toPlainString());
+
+        } else if (element.getAsJsonPrimitive().isBoolean()) {
+            writer.value(element.getAsBoolean());
+
+        } else {
+            writer.value(element.getAsString());
+        }
+    }
+
+    private static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance(HASH_ALGORITHM);
+
+        } catch (NoSuchAlgorithmException e) {
+            // every JVM is required to support SHA-256
+            throw new IllegalStateException(HASH_ALGORITHM + " is not supported", e);
+        }
+    }
+}
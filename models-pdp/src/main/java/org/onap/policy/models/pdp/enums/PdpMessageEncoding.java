@@ -0,0 +1,42 @@
+/*-
+ * ============LICENSE_START=======================================================
+ *  Copyright (C) 2026 Nordix Foundation.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.models.pdp.enums;
+
+/**
+ * Class to hold the possible wire encodings of PDP messages, in increasing order of compactness.
+ */
+public enum PdpMessageEncoding {
+
+    /**
+     * Plain JSON text. Supported by every PDP and PAP, and used when no other encoding has been negotiated.
+     */
+    JSON,
+
+    /**
+     * Compact binary encoding of the JSON structure, with repeated names and strings sent once.
+     */
+    BINARY,
+
+    /**
+     * Compact binary encoding, compressed with DEFLATE.
+     */
+    BINARY_DEFLATE
+}
@@ -0,0 +1,76 @@
+/*-
+ * ============LICENSE_START=======================================================
+ *  Copyright (C) 2026 Nordix Foundation.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.models.pdp.codec;
+
+import org.onap.policy.common.utils.coder.CoderException;
+import org.onap.policy.models.pdp.concepts.PdpUpdate;
+import org.onap.policy.models.pdp.enums.PdpMessageEncoding;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Compares the encoded size and the encode/decode time of a realistic update in each encoding. This is not a unit
+ * test, and is not run by the build; run its main() by hand when changing the codec.
+ */
+public class PdpMessageCodecBenchmark {
+    private static final Logger LOGGER = LoggerFactory.getLogger(PdpMessageCodecBenchmark.class);
+
+    private static final int POLICIES = 150;
+    private static final int ITERATIONS = 200;
+
+    private PdpMessageCodecBenchmark() {
+        // main() only
+    }
+
+    /**
+     * Runs the benchmark.
+     *
+     * @param args ignored
+     * @throws CoderException if a message cannot be encoded or decoded
+     */
+    public static void main(String[] args) throws CoderException {
+        var codec = new PdpMessageCodec();
+        PdpUpdate update = PdpMessageCodecTest.makeUpdate(POLICIES);
+
+        for (PdpMessageEncoding encoding : PdpMessageEncoding.values()) {
+            // warm up
+            for (var count = 0; count < ITERATIONS; ++count) {
+                codec.decode(codec.encode(update, encoding));
+            }
+
+            byte[] bytes = null;
+            long start = System.nanoTime();
+            for (var count = 0; count < ITERATIONS; ++count) {
+                bytes = codec.encode(update, encoding);
+            }
+            long encodeNs = (System.nanoTime() - start) / ITERATIONS;
+
+            start = System.nanoTime();
+            for (var count = 0; count < ITERATIONS; ++count) {
+                codec.decode(bytes);
+            }
+            long decodeNs = (System.nanoTime() - start) / ITERATIONS;
+
+            LOGGER.info("{} policies as {}: {} bytes, encode {} us, decode {} us", POLICIES, encoding, bytes.length,
+                    encodeNs / 1000, decodeNs / 1000);
+        }
+    }
+}
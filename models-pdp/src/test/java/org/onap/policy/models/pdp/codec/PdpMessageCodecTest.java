@@ -0,0 +1,291 @@
+/*-
+ * ============LICENSE_START=======================================================
+ *  Copyright (C) 2026 Nordix Foundation.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.models.pdp.codec;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonParser;
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.onap.policy.common.gson.GsonMessageBodyHandler;
+import org.onap.policy.common.utils.coder.CoderException;
+import org.onap.policy.models.pdp.concepts.PdpMessage;
+import org.onap.policy.models.pdp.concepts.PdpResponseDetails;
+import org.onap.policy.models.pdp.concepts.PdpStateChange;
+import org.onap.policy.models.pdp.concepts.PdpStatus;
+import org.onap.policy.models.pdp.concepts.PdpTopicCheck;
+import org.onap.policy.models.pdp.concepts.PdpUpdate;
+import org.onap.policy.models.pdp.enums.PdpHealthStatus;
+import org.onap.policy.models.pdp.enums.PdpMessageEncoding;
+import org.onap.policy.models.pdp.enums.PdpMessageType;
+import org.onap.policy.models.pdp.enums.PdpResponseStatus;
+import org.onap.policy.models.pdp.enums.PdpState;
+import org.onap.policy.models.tosca.authorative.concepts.ToscaConceptIdentifier;
+import org.onap.policy.models.tosca.authorative.concepts.ToscaPolicy;
+
+class PdpMessageCodecTest {
+    private final PdpMessageCodec codec = new PdpMessageCodec();
+
+    @Test
+    void testNegotiate() {
+        assertEquals(PdpMessageEncoding.JSON, PdpMessageCodec.negotiate(null));
+        assertEquals(PdpMessageEncoding.JSON, PdpMessageCodec.negotiate(List.of()));
+        assertEquals(PdpMessageEncoding.JSON, PdpMessageCodec.negotiate(List.of(PdpMessageEncoding.JSON)));
+        assertEquals(PdpMessageEncoding.BINARY,
+                PdpMessageCodec.negotiate(List.of(PdpMessageEncoding.JSON, PdpMessageEncoding.BINARY)));
+        assertEquals(PdpMessageEncoding.BINARY_DEFLATE,
+                PdpMessageCodec.negotiate(PdpMessageCodec.SUPPORTED_ENCODINGS));
+    }
+
+    @Test
+    void testJsonIsDefault() throws CoderException {
+        PdpStateChange change = makeStateChange();
+        byte[] bytes = codec.encode(change, PdpMessageEncoding.JSON);
+
+        assertThat(new String(bytes, StandardCharsets.UTF_8)).startsWith("{");
+        assertEquals(change, codec.decode(bytes));
+    }
+
+    @Test
+    void testRoundTripAllTypes() throws CoderException {
+        for (PdpMessageEncoding encoding : PdpMessageEncoding.values()) {
+            checkRoundTrip(makeUpdate(3), encoding);
+            checkRoundTrip(makeStatus(), encoding);
+            checkRoundTrip(makeStateChange(), encoding);
+            checkRoundTrip(new PdpTopicCheck(), encoding);
+
+            // empty and null lists
+            PdpUpdate update = makeUpdate(0);
+            update.setPoliciesToBeUndeployed(null);
+            checkRoundTrip(update, encoding);
+        }
+    }
+
+    @Test
+    void testDecodeWithClass() throws CoderException {
+        PdpStatus status = makeStatus();
+        byte[] bytes = codec.encode(status, PdpMessageEncoding.BINARY);
+        assertEquals(status, codec.decode(bytes, PdpStatus.class));
+    }
+
+    @Test
+    void testDecodeInvalid() {
+        assertThatThrownBy(() -> codec.decode(new byte[] {0, 99, 0, 0})).isInstanceOf(CoderException.class)
+                .hasMessage("unsupported binary PDP message format");
+        assertThatThrownBy(() -> codec.decode(new byte[] {0})).isInstanceOf(CoderException.class);
+        assertThatThrownBy(() -> codec.decode(new byte[] {0, 1, 0, 0, 99})).isInstanceOf(CoderException.class)
+                .hasMessage("cannot decode binary PDP message");
+        assertThatThrownBy(() -> codec.decode(new byte[] {0, 1, 0, 0, 7, 5})).isInstanceOf(CoderException.class);
+        assertThatThrownBy(() -> codec.decode(new byte[] {0, 1, 0, 0, 6, 10, 'a'}))
+                .isInstanceOf(CoderException.class);
+
+        // trailing data
+        assertThatThrownBy(() -> codec.decode(new byte[] {0, 1, 0, 0, 14, 14}))
+                .isInstanceOf(CoderException.class).hasMessage("cannot decode binary PDP message");
+
+        // valid encoding, but not a message
+        assertThatThrownBy(() -> codec.decode(new byte[] {0, 1, 0, 0, 3, 4}))
+                .isInstanceOf(CoderException.class).hasMessage("cannot decode PDP message");
+        assertThatThrownBy(() -> codec.decode("[]".getBytes(StandardCharsets.UTF_8)))
+                .isInstanceOf(CoderException.class).hasMessage("cannot decode PDP message");
+        assertThatThrownBy(() -> codec.decode("{".getBytes(StandardCharsets.UTF_8), PdpStatus.class))
+                .isInstanceOf(CoderException.class).hasMessage("cannot decode PDP message");
+    }
+
+    @Test
+    void testTypeCodes() throws CoderException {
+        // these are part of the wire format, thus they must never change
+        Map<PdpMessageType, Integer> expected = Map.of(PdpMessageType.PDP_STATUS, 0, PdpMessageType.PDP_UPDATE, 1,
+                PdpMessageType.PDP_STATE_CHANGE, 2, PdpMessageType.PDP_HEALTH_CHECK, 3,
+                PdpMessageType.PDP_TOPIC_CHECK, 4);
+
+        for (PdpMessageType type : PdpMessageType.values()) {
+            assertNotNull(expected.get(type), "no code for " + type);
+
+            byte[] bytes = codec.encode(new PdpMessage(type), PdpMessageEncoding.BINARY);
+            assertEquals(expected.get(type).byteValue(), bytes[3], type.name());
+            assertEquals(type, codec.decode(bytes).getMessageName());
+        }
+
+        // no type
+        byte[] bytes = codec.encode(new PdpMessage((PdpMessageType) null), PdpMessageEncoding.BINARY);
+        assertEquals(-1, bytes[3]);
+        assertInstanceOf(PdpMessage.class, codec.decode(bytes));
+
+        // unknown code, falls back on the message name
+        bytes = codec.encode(makeStatus(), PdpMessageEncoding.BINARY);
+        bytes[3] = 99;
+        assertInstanceOf(PdpStatus.class, codec.decode(bytes));
+    }
+
+    @Test
+    void testMaxInflatedSize() throws CoderException {
+        byte[] bytes = codec.encode(makeUpdate(10), PdpMessageEncoding.BINARY_DEFLATE);
+        int inflatedSize = codec.encode(makeUpdate(10), PdpMessageEncoding.BINARY).length - 4;
+
+        Gson gson = GsonMessageBodyHandler.configBuilder(new GsonBuilder()).create();
+        assertInstanceOf(PdpUpdate.class, new PdpMessageCodec(gson, inflatedSize).decode(bytes));
+
+        PdpMessageCodec small = new PdpMessageCodec(gson, inflatedSize - 1);
+        assertThatThrownBy(() -> small.decode(bytes)).isInstanceOf(CoderException.class)
+                .hasMessage("cannot decode binary PDP message")
+                .hasRootCauseMessage("inflated PDP message exceeds " + (inflatedSize - 1) + " bytes");
+
+        // the limit does not apply to uncompressed messages
+        assertInstanceOf(PdpUpdate.class, small.decode(codec.encode(makeUpdate(10), PdpMessageEncoding.BINARY)));
+
+        assertThatIllegalArgumentException().isThrownBy(() -> new PdpMessageCodec(gson, 0))
+                .withMessage("maxInflatedSize must be positive");
+    }
+
+    @Test
+    void testBinaryIsSmaller() throws CoderException {
+        PdpUpdate update = makeUpdate(100);
+
+        int jsonSize = codec.encode(update, PdpMessageEncoding.JSON).length;
+        int binarySize = codec.encode(update, PdpMessageEncoding.BINARY).length;
+        int deflateSize = codec.encode(update, PdpMessageEncoding.BINARY_DEFLATE).length;
+
+        assertThat(binarySize).isLessThan(jsonSize);
+        assertThat(deflateSize).isLessThan(binarySize);
+    }
+
+    @Test
+    void testBinaryMatchesJson() throws Exception {
+        Map<String, Object> props = new LinkedHashMap<>();
+        props.put("null", null);
+        props.put("negative", -12345678901L);
+        props.put("double", 1.5e300);
+        props.put("list", Arrays.asList("x".repeat(200), null, false, "x".repeat(200)));
+
+        PdpUpdate update = makeUpdate(2);
+        update.getPoliciesToBeDeployed().get(0).setProperties(props);
+
+        byte[] bytes = codec.encode(update, PdpMessageEncoding.BINARY);
+        var body = new ByteArrayInputStream(bytes, 4, bytes.length - 4);
+
+        assertEquals(JsonParser.parseString(new String(codec.encode(update, PdpMessageEncoding.JSON),
+                StandardCharsets.UTF_8)), new BinaryJsonReader(body).read());
+    }
+
+    private void checkRoundTrip(PdpMessage message, PdpMessageEncoding encoding) throws CoderException {
+        byte[] bytes = codec.encode(message, encoding);
+        PdpMessage decoded = codec.decode(bytes);
+
+        assertInstanceOf(message.getClass(), decoded);
+
+        // compare against the JSON form, which is decoded the same way
+        assertEquals(codec.decode(codec.encode(message, PdpMessageEncoding.JSON)), decoded, encoding.name());
+    }
+
+    static PdpUpdate makeUpdate(int npolicies) {
+        PdpUpdate update = new PdpUpdate();
+        update.setName("pdp-1");
+        update.setPdpGroup("defaultGroup");
+        update.setPdpSubgroup("xacml");
+        update.setSource("pap-1");
+        update.setDescription("the default group");
+        update.setPdpHeartbeatIntervalMs(120000L);
+        update.setSupportedEncodings(PdpMessageCodec.SUPPORTED_ENCODINGS);
+
+        List<ToscaPolicy> policies = new ArrayList<>(npolicies);
+        List<ToscaConceptIdentifier> undeploy = new ArrayList<>();
+        for (var count = 0; count < npolicies; ++count) {
+            policies.add(makePolicy(count));
+            undeploy.add(new ToscaConceptIdentifier("old.policy." + count, "1.0.0"));
+        }
+
+        update.setPoliciesToBeDeployed(policies);
+        update.setPoliciesToBeUndeployed(undeploy);
+
+        return update;
+    }
+
+    private static ToscaPolicy makePolicy(int count) {
+        ToscaPolicy policy = new ToscaPolicy();
+        policy.setName("onap.restart.tca." + count);
+        policy.setVersion("1.0." + count);
+        policy.setType("onap.policies.monitoring.tcagen2");
+        policy.setTypeVersion("1.0.0");
+        policy.setMetadata(Map.of("policy-id", policy.getName(), "policy-version", policy.getVersion()));
+
+        Map<String, Object> threshold = new LinkedHashMap<>();
+        threshold.put("closedLoopControlName", "ControlLoop-vDNS-" + count);
+        threshold.put("closedLoopEventStatus", "ONSET");
+        threshold.put("direction", "LESS_OR_EQUAL");
+        threshold.put("fieldPath", "$.event.measurementsForVfScalingFields.vNicPerformanceArray[*].receivedBroadcast");
+        threshold.put("severity", "MAJOR");
+        threshold.put("thresholdValue", 500 + count);
+        threshold.put("ratio", 0.25);
+        threshold.put("enabled", true);
+
+        Map<String, Object> props = new LinkedHashMap<>();
+        props.put("domain", "measurementsForVfScaling");
+        props.put("eventName", "vFirewallBroadcastPackets");
+        props.put("controlLoopSchemaType", "VM");
+        props.put("policyScope", "DCAE");
+        props.put("thresholds", List.of(threshold, new LinkedHashMap<>(threshold)));
+        policy.setProperties(Map.of("tca.policy", props));
+
+        return policy;
+    }
+
+    private PdpStatus makeStatus() {
+        PdpStatus status = new PdpStatus();
+        status.setName("pdp-1");
+        status.setPdpType("xacml");
+        status.setState(PdpState.ACTIVE);
+        status.setHealthy(PdpHealthStatus.HEALTHY);
+        status.setDescription("xacml PDP");
+        status.setPolicies(List.of(new ToscaConceptIdentifier("policy-a", "1.0.0"),
+                new ToscaConceptIdentifier("policy-b", "2.0.0")));
+        status.setSupportedEncodings(List.of(PdpMessageEncoding.JSON, PdpMessageEncoding.BINARY));
+
+        PdpResponseDetails response = new PdpResponseDetails();
+        response.setResponseTo("request-1");
+        response.setResponseStatus(PdpResponseStatus.SUCCESS);
+        response.setResponseMessage("deployed");
+        status.setResponse(response);
+
+        return status;
+    }
+
+    private PdpStateChange makeStateChange() {
+        PdpStateChange change = new PdpStateChange();
+        change.setName("pdp-1");
+        change.setSource("pap-1");
+        change.setState(PdpState.PASSIVE);
+        return change;
+    }
+}
@@ -27,8 +27,10 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.List;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.onap.policy.models.pdp.enums.PdpMessageEncoding;
 import org.onap.policy.models.pdp.enums.PdpMessageType;
 
 class PdpMessageTest {
@@ -142,6 +144,7 @@ class PdpMessageTest {
         msg.setName(pdpName);
         msg.setPdpGroup(pdpGroup);
         msg.setPdpSubgroup(pdpSubgroup);
+        msg.setSupportedEncodings(List.of(PdpMessageEncoding.JSON, PdpMessageEncoding.BINARY));
         return msg;
     }
 }
@@ -54,6 +54,7 @@ class PdpStatusTest {
         orig.setPdpSubgroup("my-subgroup");
         orig.setPdpType("my-type");
         orig.setPolicies(Arrays.asList(new ToscaConceptIdentifier("policy-A", "1.0.0")));
+        orig.setPoliciesHash("my-hash");
         orig.setProperties("my-properties");
 
         final PdpResponseDetails resp = new PdpResponseDetails();
@@ -67,6 +67,8 @@ class PdpUpdateTest {
         List<ToscaPolicy> policies = Arrays.asList(policy1, policy2);
         orig.setPoliciesToBeDeployed(policies);
         orig.setPoliciesToBeUndeployed(policies.stream().map(ToscaPolicy::getIdentifier).collect(Collectors.toList()));
+        orig.setPoliciesToBeRetained(List.of(new PdpPolicyReference(policy1.getIdentifier(), "hash-a")));
+        orig.setPoliciesHash("my-hash");
 
         PdpUpdate other = new PdpUpdate(orig);
 
@@ -77,5 +79,7 @@ class PdpUpdateTest {
         assertNotSame(other.getPoliciesToBeDeployed().get(0), policies.get(0));
         assertNotSame(other.getPoliciesToBeUndeployed(), policies);
         assertNotSame(other.getPoliciesToBeUndeployed().get(0), policies.get(0));
+        assertNotSame(other.getPoliciesToBeRetained().get(0), orig.getPoliciesToBeRetained().get(0));
+        assertEquals(orig.getPoliciesToBeRetained(), other.getPoliciesToBeRetained());
     }
 }
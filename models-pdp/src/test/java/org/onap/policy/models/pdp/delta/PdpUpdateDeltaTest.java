@@ -0,0 +1,177 @@
+/*-
+ * ============LICENSE_START=======================================================
+ *  Copyright (C) 2026 Nordix Foundation.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.models.pdp.delta;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import org.junit.jupiter.api.Test;
+import org.onap.policy.models.pdp.concepts.PdpPolicyReference;
+import org.onap.policy.models.pdp.concepts.PdpStatus;
+import org.onap.policy.models.pdp.concepts.PdpUpdate;
+import org.onap.policy.models.tosca.authorative.concepts.ToscaConceptIdentifier;
+import org.onap.policy.models.tosca.authorative.concepts.ToscaPolicy;
+
+class PdpUpdateDeltaTest {
+    private final PdpUpdateDelta delta = new PdpUpdateDelta();
+
+    private final ToscaPolicy policyA = makePolicy("policy-a", "1.0.0");
+    private final ToscaPolicy policyB = makePolicy("policy-b", "1.0.0");
+    private final ToscaPolicy policyC = makePolicy("policy-c", "2.0.0");
+
+    @Test
+    void testPopulateNoStatus() {
+        PdpUpdate update = new PdpUpdate();
+        delta.populate(update, List.of(policyA, policyB), null);
+
+        assertEquals(List.of(policyA, policyB), update.getPoliciesToBeDeployed());
+        assertThat(update.getPoliciesToBeUndeployed()).isEmpty();
+        assertThat(update.getPoliciesToBeRetained()).isEmpty();
+        assertEquals(delta.hashSet(List.of(policyA, policyB)), update.getPoliciesHash());
+
+        // status without any policies is treated the same way
+        PdpUpdate update2 = new PdpUpdate();
+        delta.populate(update2, List.of(policyA, policyB), new PdpStatus());
+        assertEquals(update, update2);
+
+        assertThatThrownBy(() -> delta.populate(null, List.of(), null)).isInstanceOf(NullPointerException.class);
+        assertThatThrownBy(() -> delta.populate(update, null, null)).isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void testPopulateDelta() {
+        PdpStatus status = new PdpStatus();
+        status.setPolicies(List.of(policyA.getIdentifier(), new ToscaConceptIdentifier("old-policy", "1.0.0")));
+
+        PdpUpdate update = new PdpUpdate();
+        delta.populate(update, List.of(policyA, policyC), status);
+
+        assertEquals(List.of(policyC), update.getPoliciesToBeDeployed());
+        assertEquals(List.of(new ToscaConceptIdentifier("old-policy", "1.0.0")), update.getPoliciesToBeUndeployed());
+        assertEquals(List.of(new PdpPolicyReference(policyA.getIdentifier(), delta.hash(policyA))),
+                update.getPoliciesToBeRetained());
+        assertEquals(delta.hashSet(List.of(policyA, policyC)), update.getPoliciesHash());
+    }
+
+    @Test
+    void testHash() {
+        assertEquals(delta.hash(policyA), delta.hash(makePolicy("policy-a", "1.0.0")));
+        assertNotEquals(delta.hash(policyA), delta.hash(policyB));
+
+        // content changes are detected, too
+        ToscaPolicy changed = makePolicy("policy-a", "1.0.0");
+        changed.setProperties(Map.of("threshold", 20));
+        assertNotEquals(delta.hash(policyA), delta.hash(changed));
+
+        assertThatThrownBy(() -> delta.hash(null)).isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void testHashCanonical() {
+        Map<String, Object> props1 = new LinkedHashMap<>();
+        props1.put("threshold", 10);
+        props1.put("limits", Map.of("max", 2.50, "min", 0));
+        props1.put("unset", null);
+
+        Map<String, Object> props2 = new LinkedHashMap<>();
+        props2.put("limits", new TreeMap<>(Map.of("min", 0.0, "max", 2.5)));
+        props2.put("threshold", 10.0);
+
+        ToscaPolicy policy1 = makePolicy("policy-a", "1.0.0");
+        policy1.setProperties(props1);
+        ToscaPolicy policy2 = makePolicy("policy-a", "1.0.0");
+        policy2.setProperties(props2);
+
+        // member order, number form and null members do not matter
+        assertEquals(delta.hash(policy1), delta.hash(policy2));
+
+        // but array order does
+        props1.put("list", List.of(1, 2));
+        props2.put("list", List.of(2, 1));
+        assertNotEquals(delta.hash(policy1), delta.hash(policy2));
+    }
+
+    @Test
+    void testHashSet() {
+        String hash = delta.hashSet(List.of(policyA, policyB, policyC));
+
+        // independent of order
+        assertEquals(hash, delta.hashSet(List.of(policyC, policyA, policyB)));
+
+        assertNotEquals(hash, delta.hashSet(List.of(policyA, policyB)));
+        assertNotEquals(hash, delta.hashSet(List.of()));
+
+        // duplicates are only counted once
+        assertEquals(hash, delta.hashSet(List.of(policyA, policyB, policyC, policyA)));
+
+        assertThatThrownBy(() -> delta.hashSet(null)).isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void testCombineHashes() {
+        Map<ToscaConceptIdentifier, String> hashes = new LinkedHashMap<>();
+        hashes.put(policyC.getIdentifier(), delta.hash(policyC));
+        hashes.put(policyA.getIdentifier(), delta.hash(policyA));
+
+        assertEquals(delta.hashSet(List.of(policyA, policyC)), PdpUpdateDelta.combineHashes(hashes));
+
+        assertThatThrownBy(() -> PdpUpdateDelta.combineHashes(null)).isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void testIsApplied() {
+        PdpUpdate update = new PdpUpdate();
+        PdpStatus status = new PdpStatus();
+
+        // no hashes
+        assertFalse(PdpUpdateDelta.isApplied(update, status));
+
+        delta.populate(update, List.of(policyA, policyB), null);
+        assertFalse(PdpUpdateDelta.isApplied(update, status));
+
+        status.setPoliciesHash(delta.hashSet(List.of(policyB, policyA)));
+        assertTrue(PdpUpdateDelta.isApplied(update, status));
+
+        status.setPoliciesHash(delta.hashSet(List.of(policyA)));
+        assertFalse(PdpUpdateDelta.isApplied(update, status));
+
+        assertThatThrownBy(() -> PdpUpdateDelta.isApplied(null, status)).isInstanceOf(NullPointerException.class);
+        assertThatThrownBy(() -> PdpUpdateDelta.isApplied(update, null)).isInstanceOf(NullPointerException.class);
+    }
+
+    private ToscaPolicy makePolicy(String name, String version) {
+        ToscaPolicy policy = new ToscaPolicy();
+        policy.setName(name);
+        policy.setVersion(version);
+        policy.setType("onap.policies.Monitoring");
+        policy.setTypeVersion("1.0.0");
+        policy.setProperties(Map.of("threshold", 10));
+        return policy;
+    }
+}
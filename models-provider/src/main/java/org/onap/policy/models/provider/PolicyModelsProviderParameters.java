@@ -1,6 +1,6 @@
 /*-
  * ============LICENSE_START=======================================================
- *  Copyright (C) 2019 Nordix Foundation.
+ *  Copyright (C) 2019, 2026 Nordix Foundation.
  *  Modifications Copyright (C) 2019, 2021 AT&T Intellectual Property. All rights reserved.
  *  Modifications Copyright (C) 2020 Bell Canada. All rights reserved.
  * ================================================================================
@@ -26,6 +26,7 @@ import lombok.Data;
 import org.onap.policy.common.parameters.BeanValidationResult;
 import org.onap.policy.common.parameters.BeanValidator;
 import org.onap.policy.common.parameters.ParameterGroup;
+import org.onap.policy.common.parameters.annotations.Min;
 import org.onap.policy.common.parameters.annotations.NotBlank;
 import org.onap.policy.common.parameters.annotations.NotNull;
 import org.onap.policy.models.provider.impl.DatabasePolicyModelsProviderImpl;
@@ -45,6 +46,10 @@ import org.onap.policy.models.provider.impl.DatabasePolicyModelsProviderImpl;
  * defaults to null.
  * <li>persistenceUnit: The persistence unit refined in META-INF/persistence.xml to use for connecting
  * to the database, mandatory.
+ * <li>jdbcBatchSize: The number of statements that Hibernate sends to the database in one JDBC batch, with
+ * inserts ordered by entity so that records of the same kind, such as audit records, are batched together,
+ * optional, defaults to 50, zero disables batching. This sets the "hibernate.jdbc.batch_size" and
+ * "hibernate.order_inserts" properties of the persistence unit.
  * </ol>
  *
  * @author Liam Fallon (liam.fallon@est.tech)
@@ -54,6 +59,7 @@ import org.onap.policy.models.provider.impl.DatabasePolicyModelsProviderImpl;
 @Data
 public class PolicyModelsProviderParameters implements ParameterGroup {
     private static final String DEFAULT_IMPLEMENTATION = DatabasePolicyModelsProviderImpl.class.getName();
+    public static final int DEFAULT_JDBC_BATCH_SIZE = 50;
 
     private String name;
     @NotNull @NotBlank
@@ -67,6 +73,8 @@ public class PolicyModelsProviderParameters implements ParameterGroup {
     private String databasePassword;
     @NotNull @NotBlank
     private String persistenceUnit;
+    @Min(0)
+    private int jdbcBatchSize = DEFAULT_JDBC_BATCH_SIZE;
 
     /**
      * Validate the model provider parameters.
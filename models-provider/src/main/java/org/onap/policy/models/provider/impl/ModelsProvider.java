@@ -1,6 +1,6 @@
 /*-
  * ============LICENSE_START=======================================================
- *  Copyright (C) 2021, 2023-2024 Nordix Foundation.
+ *  Copyright (C) 2021, 2023-2024, 2026 Nordix Foundation.
  * ================================================================================
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -51,6 +51,11 @@ public final class ModelsProvider {
         jdbcProperties.setProperty("jakarta.persistence.jdbc.user",     parameters.getDatabaseUser());
         jdbcProperties.setProperty("jakarta.persistence.jdbc.password", parameters.getDatabasePassword());
 
+        // batch inserts, ordering them by entity so that records of the same kind end up in the same batch
+        var batchSize = parameters.getJdbcBatchSize();
+        jdbcProperties.setProperty("hibernate.jdbc.batch_size", String.valueOf(batchSize));
+        jdbcProperties.setProperty("hibernate.order_inserts",   String.valueOf(batchSize > 0));
+
         daoParameters.setJdbcProperties(jdbcProperties);
 
         PfDao pfDao = null;
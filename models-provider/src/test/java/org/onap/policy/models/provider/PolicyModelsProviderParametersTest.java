@@ -1,6 +1,6 @@
 /*-
  * ============LICENSE_START=======================================================
- *  Copyright (C) 2019-2024 Nordix Foundation.
+ *  Copyright (C) 2019-2024, 2026 Nordix Foundation.
  *  Modifications Copyright (C) 2021 AT&T Intellectual Property. All rights reserved.
  * ================================================================================
  * Licensed under the Apache License, Version 2.0 (the "License");
@@ -21,6 +21,7 @@
 
 package org.onap.policy.models.provider;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -71,5 +72,13 @@ class PolicyModelsProviderParametersTest {
         pars.setDatabaseDriver("MichaelsShumacher");
         result = pars.validate();
         assertTrue(result.isValid());
+
+        assertEquals(PolicyModelsProviderParameters.DEFAULT_JDBC_BATCH_SIZE, pars.getJdbcBatchSize());
+        pars.setJdbcBatchSize(-1);
+        result = pars.validate();
+        assertFalse(result.isValid());
+        pars.setJdbcBatchSize(0);
+        result = pars.validate();
+        assertTrue(result.isValid());
     }
 }
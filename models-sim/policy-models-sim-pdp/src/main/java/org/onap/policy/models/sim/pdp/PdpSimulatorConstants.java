@@ -1,6 +1,6 @@
 /*-
  * ============LICENSE_START=======================================================
- *  Copyright (C) 2019 Nordix Foundation.
+ *  Copyright (C) 2019, 2026 Nordix Foundation.
  *  Modifications Copyright (C) 2021 AT&T Intellectual Property. All rights reserved.
  * ================================================================================
  * Licensed under the Apache License, Version 2.0 (the "License");
@@ -33,6 +33,7 @@ public final class PdpSimulatorConstants {
     public static final String REG_PDP_SIMULATOR_ACTIVATOR = "object:activator/pdp_simulator";
     public static final String REG_PDP_STATUS_OBJECT = "object:pdp/status";
     public static final String REG_PDP_TOSCA_POLICY_LIST = "object:pdp/tosca/policy/list";
+    public static final String REG_PDP_POLICY_HASHES = "object:pdp/policy/hashes";
     public static final String REG_PDP_STATUS_PUBLISHER = "object:pdp/status/publisher";
     public static final String REG_PDP_TOPIC_SINKS = "object:pdp/topic/sinks";
 }
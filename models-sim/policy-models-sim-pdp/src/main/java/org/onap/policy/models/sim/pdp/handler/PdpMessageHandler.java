@@ -75,6 +75,7 @@ public class PdpMessageHandler {
         pdpStatus.setHealthy(pdpStatusContext.getHealthy());
         pdpStatus.setDescription(pdpStatusContext.getDescription());
         pdpStatus.setPolicies(pdpStatusContext.getPolicies());
+        pdpStatus.setPoliciesHash(pdpStatusContext.getPoliciesHash());
         pdpStatus.setPdpGroup(pdpStatusContext.getPdpGroup());
         pdpStatus.setPdpSubgroup(pdpStatusContext.getPdpSubgroup());
         return pdpStatus;
@@ -1,6 +1,6 @@
 /*-
  * ============LICENSE_START=======================================================
- *  Copyright (C) 2019-2021, 2024 Nordix Foundation.
+ *  Copyright (C) 2019-2021, 2024, 2026 Nordix Foundation.
  *  Modifications Copyright (C) 2019, 2021 AT&T Intellectual Property. All rights reserved.
  * ================================================================================
  * Licensed under the Apache License, Version 2.0 (the "License");
@@ -22,17 +22,24 @@
 package org.onap.policy.models.sim.pdp.handler;
 
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Map;
+import java.util.Set;
 import org.onap.policy.common.message.bus.event.TopicSink;
 import org.onap.policy.common.utils.services.Registry;
+import org.onap.policy.models.pdp.concepts.PdpPolicyReference;
 import org.onap.policy.models.pdp.concepts.PdpResponseDetails;
 import org.onap.policy.models.pdp.concepts.PdpStatus;
 import org.onap.policy.models.pdp.concepts.PdpUpdate;
+import org.onap.policy.models.pdp.delta.PdpUpdateDelta;
 import org.onap.policy.models.pdp.enums.PdpResponseStatus;
 import org.onap.policy.models.pdp.enums.PdpState;
 import org.onap.policy.models.sim.pdp.PdpSimulatorConstants;
 import org.onap.policy.models.sim.pdp.comm.PdpStatusPublisher;
+import org.onap.policy.models.tosca.authorative.concepts.ToscaConceptIdentifier;
 import org.onap.policy.models.tosca.authorative.concepts.ToscaPolicy;
 
 /**
@@ -41,6 +48,7 @@ import org.onap.policy.models.tosca.authorative.concepts.ToscaPolicy;
  * @author Ajith Sreekumar (ajith.sreekumar@est.tech)
  */
 public class PdpUpdateMessageHandler {
+    private static final PdpUpdateDelta POLICY_DELTA = new PdpUpdateDelta();
 
     /**
      * Method which handles a pdp update event from PAP.
@@ -65,23 +73,7 @@ public class PdpUpdateMessageHandler {
                 }
                 pdpStatusContext.setPdpGroup(pdpUpdateMsg.getPdpGroup());
                 pdpStatusContext.setPdpSubgroup(pdpUpdateMsg.getPdpSubgroup());
-                @SuppressWarnings("unchecked")
-                List<ToscaPolicy> policies = Registry.getOrDefault(PdpSimulatorConstants.REG_PDP_TOSCA_POLICY_LIST,
-                        List.class, new ArrayList<>());
-                policies.addAll(pdpUpdateMsg.getPoliciesToBeDeployed());
-                policies.removeIf(policy -> pdpUpdateMsg.getPoliciesToBeUndeployed().contains(policy.getIdentifier()));
-                pdpStatusContext.setPolicies(policies.stream().map(ToscaPolicy::getIdentifier)
-                        .collect(Collectors.toList()));
-                if (pdpStatusContext.getState().equals(PdpState.ACTIVE)
-                        && !pdpUpdateMsg.getPoliciesToBeDeployed().isEmpty()) {
-                    pdpResponseDetails = pdpMessageHandler.createPdpResponseDetails(pdpUpdateMsg.getRequestId(),
-                            PdpResponseStatus.SUCCESS, "Pdp engine started and policies are running.");
-                }
-                Registry.registerOrReplace(PdpSimulatorConstants.REG_PDP_TOSCA_POLICY_LIST, policies);
-                if (null == pdpResponseDetails) {
-                    pdpResponseDetails = pdpMessageHandler.createPdpResponseDetails(pdpUpdateMsg.getRequestId(),
-                            PdpResponseStatus.SUCCESS, "Pdp update successful.");
-                }
+                pdpResponseDetails = updatePolicies(pdpUpdateMsg, pdpStatusContext);
             }
             final var pdpStatusPublisherTemp =
                     Registry.get(PdpSimulatorConstants.REG_PDP_STATUS_PUBLISHER, PdpStatusPublisher.class);
@@ -93,6 +85,75 @@ public class PdpUpdateMessageHandler {
     }
 
 
+    /**
+     * Applies the policy changes of a pdp update message. Policies are held once per identifier, and the hash of each
+     * policy is kept, so that only the policies carried by the message need to be hashed. When the message lists the
+     * policies to be retained, those, plus the ones to be deployed, become the complete set of policies.
+     *
+     * @param pdpUpdateMsg pdp update message
+     * @param pdpStatusContext values saved in context memory
+     * @return the response to the message
+     */
+    private PdpResponseDetails updatePolicies(final PdpUpdate pdpUpdateMsg, final PdpStatus pdpStatusContext) {
+        final var pdpMessageHandler = new PdpMessageHandler();
+        @SuppressWarnings("unchecked")
+        final List<ToscaPolicy> held = Registry.getOrDefault(PdpSimulatorConstants.REG_PDP_TOSCA_POLICY_LIST,
+                List.class, new ArrayList<>());
+        @SuppressWarnings("unchecked")
+        final Map<ToscaConceptIdentifier, String> hashes = new HashMap<>(Registry.getOrDefault(
+                PdpSimulatorConstants.REG_PDP_POLICY_HASHES, Map.class, Map.of()));
+
+        final Map<ToscaConceptIdentifier, ToscaPolicy> policies = new LinkedHashMap<>();
+        held.forEach(policy -> policies.put(policy.getIdentifier(), policy));
+
+        if (pdpUpdateMsg.getPoliciesToBeRetained() != null) {
+            final Set<ToscaConceptIdentifier> retained = new HashSet<>();
+            for (PdpPolicyReference reference : pdpUpdateMsg.getPoliciesToBeRetained()) {
+                final var ident = reference.getPolicy();
+                if (!policies.containsKey(ident) || !getHash(hashes, policies.get(ident)).equals(reference.getHash())) {
+                    return pdpMessageHandler.createPdpResponseDetails(pdpUpdateMsg.getRequestId(),
+                            PdpResponseStatus.FAIL, "Pdp does not have retained policy " + ident);
+                }
+                retained.add(ident);
+            }
+            policies.keySet().retainAll(retained);
+        }
+
+        for (ToscaPolicy policy : pdpUpdateMsg.getPoliciesToBeDeployed()) {
+            policies.put(policy.getIdentifier(), policy);
+            hashes.put(policy.getIdentifier(), POLICY_DELTA.hash(policy));
+        }
+        policies.keySet().removeAll(pdpUpdateMsg.getPoliciesToBeUndeployed());
+
+        hashes.keySet().retainAll(policies.keySet());
+        policies.values().forEach(policy -> getHash(hashes, policy));
+
+        pdpStatusContext.setPolicies(new ArrayList<>(policies.keySet()));
+        pdpStatusContext.setPoliciesHash(PdpUpdateDelta.combineHashes(hashes));
+        Registry.registerOrReplace(PdpSimulatorConstants.REG_PDP_TOSCA_POLICY_LIST,
+                new ArrayList<>(policies.values()));
+        Registry.registerOrReplace(PdpSimulatorConstants.REG_PDP_POLICY_HASHES, hashes);
+
+        if (pdpStatusContext.getState().equals(PdpState.ACTIVE)
+                && !pdpUpdateMsg.getPoliciesToBeDeployed().isEmpty()) {
+            return pdpMessageHandler.createPdpResponseDetails(pdpUpdateMsg.getRequestId(),
+                    PdpResponseStatus.SUCCESS, "Pdp engine started and policies are running.");
+        }
+        return pdpMessageHandler.createPdpResponseDetails(pdpUpdateMsg.getRequestId(),
+                PdpResponseStatus.SUCCESS, "Pdp update successful.");
+    }
+
+    /**
+     * Gets the hash of a policy, computing it only if it is not already known.
+     *
+     * @param hashes known policy hashes, to which the hash is added
+     * @param policy policy of interest
+     * @return the hash of the policy
+     */
+    private String getHash(final Map<ToscaConceptIdentifier, String> hashes, final ToscaPolicy policy) {
+        return hashes.computeIfAbsent(policy.getIdentifier(), ident -> POLICY_DELTA.hash(policy));
+    }
+
     /**
      * Method checks if the Pdp update message is already handled by checking the values in the context.
      *
@@ -111,6 +172,10 @@ public class PdpUpdateMessageHandler {
             return false;
         }
 
+        if (pdpUpdateMsg.getPoliciesHash() != null) {
+            return PdpUpdateDelta.isApplied(pdpUpdateMsg, pdpStatusContext);
+        }
+
         return null != pdpStatusContext.getPolicies() && (pdpStatusContext.getPolicies()
                 .containsAll(new PdpMessageHandler().getToscaPolicyIdentifiers(
                         pdpUpdateMsg.getPoliciesToBeDeployed()))) && pdpStatusContext.getPolicies()
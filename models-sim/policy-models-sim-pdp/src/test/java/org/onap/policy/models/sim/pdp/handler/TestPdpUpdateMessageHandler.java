@@ -0,0 +1,215 @@
+/*-
+ * ============LICENSE_START=======================================================
+ *  Copyright (C) 2026 Nordix Foundation.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.models.sim.pdp.handler;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.onap.policy.common.message.bus.event.TopicSink;
+import org.onap.policy.common.utils.services.Registry;
+import org.onap.policy.models.pdp.concepts.PdpPolicyReference;
+import org.onap.policy.models.pdp.concepts.PdpResponseDetails;
+import org.onap.policy.models.pdp.concepts.PdpStatus;
+import org.onap.policy.models.pdp.concepts.PdpUpdate;
+import org.onap.policy.models.pdp.delta.PdpUpdateDelta;
+import org.onap.policy.models.pdp.enums.PdpResponseStatus;
+import org.onap.policy.models.sim.pdp.PdpSimulatorActivator;
+import org.onap.policy.models.sim.pdp.PdpSimulatorCommandLineArguments;
+import org.onap.policy.models.sim.pdp.PdpSimulatorConstants;
+import org.onap.policy.models.sim.pdp.comm.PdpStatusPublisher;
+import org.onap.policy.models.sim.pdp.parameters.PdpSimulatorParameterHandler;
+import org.onap.policy.models.tosca.authorative.concepts.ToscaPolicy;
+
+/**
+ * Class to perform unit test of {@link PdpUpdateMessageHandler}.
+ */
+class TestPdpUpdateMessageHandler {
+    private static final String GROUP = "pdpGroup";
+    private static final String SUBGROUP = "pdpSubgroup";
+
+    private final PdpUpdateDelta delta = new PdpUpdateDelta();
+    private final ToscaPolicy policyA = makePolicy("policy-a");
+    private final ToscaPolicy policyB = makePolicy("policy-b");
+    private final ToscaPolicy policyC = makePolicy("policy-c");
+
+    private final List<PdpStatus> sent = new ArrayList<>();
+    private PdpSimulatorActivator activator;
+    private PdpStatusPublisher publisher;
+    private PdpStatus context;
+    private PdpUpdateMessageHandler handler;
+
+    /**
+     * Method for setup before each test.
+     *
+     * @throws Exception if an error occurs
+     */
+    @BeforeEach
+    void setUp() throws Exception {
+        Registry.newRegistry();
+        final PdpSimulatorCommandLineArguments arguments = new PdpSimulatorCommandLineArguments();
+        arguments.parse(new String[] {"-c", "src/test/resources/PdpSimulatorConfigParameters.json"});
+        arguments.validate();
+
+        activator = new PdpSimulatorActivator(new PdpSimulatorParameterHandler().getParameters(arguments));
+        Registry.register(PdpSimulatorConstants.REG_PDP_SIMULATOR_ACTIVATOR, activator);
+        activator.initialize();
+
+        // capture the responses instead of publishing them
+        Registry.get(PdpSimulatorConstants.REG_PDP_STATUS_PUBLISHER, PdpStatusPublisher.class).terminate();
+        final List<TopicSink> topicSinks = Registry.get(PdpSimulatorConstants.REG_PDP_TOPIC_SINKS);
+        publisher = new PdpStatusPublisher(topicSinks, 600000L) {
+            @Override
+            public void send(final PdpStatus pdpStatus) {
+                sent.add(pdpStatus);
+            }
+        };
+        Registry.registerOrReplace(PdpSimulatorConstants.REG_PDP_STATUS_PUBLISHER, publisher);
+
+        context = Registry.get(PdpSimulatorConstants.REG_PDP_STATUS_OBJECT);
+        handler = new PdpUpdateMessageHandler();
+    }
+
+    /**
+     * Method for cleanup after each test.
+     *
+     * @throws Exception if an error occurs
+     */
+    @AfterEach
+    void teardown() throws Exception {
+        publisher.terminate();
+
+        if (activator != null && activator.isAlive()) {
+            activator.terminate();
+        }
+    }
+
+    @Test
+    void testAlreadyHandled() {
+        final PdpUpdate update = makeUpdate();
+        delta.populate(update, List.of(policyA, policyB), null);
+
+        handler.handlePdpUpdateEvent(update);
+        assertEquals("Pdp update successful.", getResponse().getResponseMessage());
+        assertEquals(update.getPoliciesHash(), context.getPoliciesHash());
+
+        // the same update again is recognized by its hash alone
+        final PdpUpdate update2 = new PdpUpdate(update);
+        update2.setRequestId("request-2");
+        handler.handlePdpUpdateEvent(update2);
+        final PdpResponseDetails response = getResponse();
+        assertEquals("request-2", response.getResponseTo());
+        assertEquals(PdpResponseStatus.SUCCESS, response.getResponseStatus());
+        assertEquals("Pdp already updated", response.getResponseMessage());
+
+        // a different set of policies is not
+        delta.populate(update2, List.of(policyA), context);
+        handler.handlePdpUpdateEvent(update2);
+        assertEquals("Pdp update successful.", getResponse().getResponseMessage());
+        assertEquals(List.of(policyA.getIdentifier()), context.getPolicies());
+    }
+
+    @Test
+    void testDuplicates() {
+        final PdpUpdate update = makeUpdate();
+        update.setPoliciesToBeDeployed(List.of(policyA, policyB));
+        handler.handlePdpUpdateEvent(update);
+
+        // deploying a policy again replaces it
+        update.setPoliciesToBeDeployed(List.of(policyA, policyC));
+        handler.handlePdpUpdateEvent(update);
+
+        assertEquals(List.of(policyA.getIdentifier(), policyB.getIdentifier(), policyC.getIdentifier()),
+                context.getPolicies());
+        assertEquals(delta.hashSet(List.of(policyA, policyB, policyC)), context.getPoliciesHash());
+        assertEquals(3, Registry.get(PdpSimulatorConstants.REG_PDP_TOSCA_POLICY_LIST, List.class).size());
+    }
+
+    @Test
+    void testRetained() {
+        final PdpUpdate update = makeUpdate();
+        delta.populate(update, List.of(policyA, policyB), null);
+        handler.handlePdpUpdateEvent(update);
+
+        // keeps A, deploys C, and drops B, which is neither retained nor deployed
+        final PdpUpdate update2 = makeUpdate();
+        delta.populate(update2, List.of(policyA, policyC), null);
+        update2.setPoliciesToBeDeployed(List.of(policyC));
+        update2.setPoliciesToBeRetained(List.of(new PdpPolicyReference(policyA.getIdentifier(), delta.hash(policyA))));
+        handler.handlePdpUpdateEvent(update2);
+
+        assertEquals(PdpResponseStatus.SUCCESS, getResponse().getResponseStatus());
+        assertEquals(List.of(policyA.getIdentifier(), policyC.getIdentifier()), context.getPolicies());
+        assertEquals(update2.getPoliciesHash(), context.getPoliciesHash());
+    }
+
+    @Test
+    void testRetainedMismatch() {
+        final PdpUpdate update = makeUpdate();
+        delta.populate(update, List.of(policyA), null);
+        handler.handlePdpUpdateEvent(update);
+        final String hash = context.getPoliciesHash();
+
+        // retained policy that the PDP does not have
+        final PdpUpdate update2 = makeUpdate();
+        delta.populate(update2, List.of(policyB), null);
+        update2.setPoliciesToBeDeployed(List.of());
+        update2.setPoliciesToBeRetained(List.of(new PdpPolicyReference(policyB.getIdentifier(), delta.hash(policyB))));
+        handler.handlePdpUpdateEvent(update2);
+        assertEquals(PdpResponseStatus.FAIL, getResponse().getResponseStatus());
+
+        // retained policy whose content differs
+        update2.setPoliciesToBeRetained(List.of(new PdpPolicyReference(policyA.getIdentifier(), delta.hash(policyB))));
+        handler.handlePdpUpdateEvent(update2);
+        assertEquals(PdpResponseStatus.FAIL, getResponse().getResponseStatus());
+
+        // nothing changed
+        assertEquals(List.of(policyA.getIdentifier()), context.getPolicies());
+        assertEquals(hash, context.getPoliciesHash());
+    }
+
+    private PdpResponseDetails getResponse() {
+        return sent.get(sent.size() - 1).getResponse();
+    }
+
+    private PdpUpdate makeUpdate() {
+        final PdpUpdate update = new PdpUpdate();
+        update.setName(context.getName());
+        update.setPdpGroup(GROUP);
+        update.setPdpSubgroup(SUBGROUP);
+        update.setRequestId("request-1");
+        return update;
+    }
+
+    private static ToscaPolicy makePolicy(final String name) {
+        final ToscaPolicy policy = new ToscaPolicy();
+        policy.setName(name);
+        policy.setVersion("1.0.0");
+        policy.setType("apexpolicytype");
+        policy.setTypeVersion("1.0.0");
+        policy.setProperties(Map.of("content", name));
+        return policy;
+    }
+}